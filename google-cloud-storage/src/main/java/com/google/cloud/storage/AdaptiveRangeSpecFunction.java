@@ -0,0 +1,352 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.api.core.BetaApi;
+import com.google.common.base.MoreObjects;
+import com.google.common.math.DoubleMath;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.OptionalLong;
+import javax.annotation.concurrent.Immutable;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Produce a new {@link RangeSpec} sized from what has been observed of previous ranges read by the
+ * same channel, rather than from a fixed scalar.
+ *
+ * <p>When used with {@link ReadAsSeekableChannel} each channel receives its own view of this
+ * function which tracks:
+ *
+ * <ol>
+ *   <li>the throughput and time-to-first-byte of completed ranges. A sequential read is sized so
+ *       that the time spent waiting for the first byte is at most {@code 1 / }{@link
+ *       #getTtfbMultiplier()} of the time spent receiving bytes.
+ *   <li>how many bytes of each range were actually consumed before the channel was repositioned. A
+ *       non-sequential read is sized to the number of bytes recently consumed by such reads instead
+ *       of {@link #getInitialMaxLength()}.
+ *   <li>the distance between the beginning of consecutive ranges. When a read begins at the same
+ *       stride from the previous range as that range was from its predecessor (for example reading
+ *       the same column chunk from consecutive row groups) the next range is sized to exactly what
+ *       was consumed from the previous range.
+ * </ol>
+ *
+ * <p>All sizes are bounded by {@link #getMinMaxLength()} and {@link #getMaxMaxLength()}.
+ *
+ * <p>Instances of this class are immutable and thread safe.
+ *
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@Immutable
+public final class AdaptiveRangeSpecFunction extends RangeSpecFunction {
+
+  static final AdaptiveRangeSpecFunction INSTANCE =
+      new AdaptiveRangeSpecFunction(
+          ByteSizeConstants._2MiB,
+          64 * ByteSizeConstants._1KiB,
+          128L * ByteSizeConstants._1MiB,
+          8.0d);
+
+  /** Weight given to the most recent sample when updating a moving average. */
+  private static final double ALPHA = 0.5d;
+
+  private final long initialMaxLength;
+  private final long minMaxLength;
+  private final long maxMaxLength;
+  private final double ttfbMultiplier;
+
+  private AdaptiveRangeSpecFunction(
+      long initialMaxLength, long minMaxLength, long maxMaxLength, double ttfbMultiplier) {
+    this.initialMaxLength = initialMaxLength;
+    this.minMaxLength = minMaxLength;
+    this.maxMaxLength = maxMaxLength;
+    this.ttfbMultiplier = ttfbMultiplier;
+  }
+
+  /**
+   * The maxLength used for the first range of a channel, or for a non-sequential range before
+   * anything has been learned about the access pattern.
+   *
+   * <p><i>Default:</i> {@code 2097152 (2 MiB)}
+   *
+   * @see #withInitialMaxLength(long)
+   * @see RangeSpec#maxLength()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  public long getInitialMaxLength() {
+    return initialMaxLength;
+  }
+
+  /**
+   * Return an instance with the {@code initialMaxLength} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 2097152 (2 MiB)}
+   *
+   * @param initialMaxLength Must be &gt; {@code 0}.
+   * @see #getInitialMaxLength()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  public AdaptiveRangeSpecFunction withInitialMaxLength(long initialMaxLength) {
+    checkArgument(initialMaxLength > 0, "initialMaxLength > 0 (%s > 0)", initialMaxLength);
+    return new AdaptiveRangeSpecFunction(
+        initialMaxLength, minMaxLength, maxMaxLength, ttfbMultiplier);
+  }
+
+  /**
+   * The smallest maxLength produced for a non-sequential, non-strided range.
+   *
+   * <p><i>Default:</i> {@code 65536 (64 KiB)}
+   *
+   * @see #withMinMaxLength(long)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  public long getMinMaxLength() {
+    return minMaxLength;
+  }
+
+  /**
+   * Return an instance with the {@code minMaxLength} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 65536 (64 KiB)}
+   *
+   * @param minMaxLength Must be &gt; {@code 0} and &lt;= {@link #getMaxMaxLength()}.
+   * @see #getMinMaxLength()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  public AdaptiveRangeSpecFunction withMinMaxLength(long minMaxLength) {
+    checkArgument(minMaxLength > 0, "minMaxLength > 0 (%s > 0)", minMaxLength);
+    checkArgument(
+        minMaxLength <= maxMaxLength,
+        "minMaxLength <= maxMaxLength (%s <= %s)",
+        minMaxLength,
+        maxMaxLength);
+    return new AdaptiveRangeSpecFunction(
+        initialMaxLength, minMaxLength, maxMaxLength, ttfbMultiplier);
+  }
+
+  /**
+   * The largest maxLength produced for any range.
+   *
+   * <p><i>Default:</i> {@code 134217728 (128 MiB)}
+   *
+   * @see #withMaxMaxLength(long)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  public long getMaxMaxLength() {
+    return maxMaxLength;
+  }
+
+  /**
+   * Return an instance with the {@code maxMaxLength} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 134217728 (128 MiB)}
+   *
+   * @param maxMaxLength Must be &gt;= {@link #getMinMaxLength()}.
+   * @see #getMaxMaxLength()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  public AdaptiveRangeSpecFunction withMaxMaxLength(long maxMaxLength) {
+    checkArgument(
+        maxMaxLength >= minMaxLength,
+        "maxMaxLength >= minMaxLength (%s >= %s)",
+        maxMaxLength,
+        minMaxLength);
+    return new AdaptiveRangeSpecFunction(
+        initialMaxLength, minMaxLength, maxMaxLength, ttfbMultiplier);
+  }
+
+  /**
+   * The ratio between the time a sequential range should spend transferring bytes and the observed
+   * time-to-first-byte. The next sequential range is sized to at least {@code throughput * ttfb *
+   * ttfbMultiplier} bytes.
+   *
+   * <p><i>Default:</i> {@code 8.0}
+   *
+   * @see #withTtfbMultiplier(double)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  public double getTtfbMultiplier() {
+    return ttfbMultiplier;
+  }
+
+  /**
+   * Return an instance with the {@code ttfbMultiplier} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 8.0}
+   *
+   * @param ttfbMultiplier Must be &gt;= {@code 1.0}.
+   * @see #getTtfbMultiplier()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  public AdaptiveRangeSpecFunction withTtfbMultiplier(double ttfbMultiplier) {
+    checkArgument(ttfbMultiplier >= 1.0, "ttfbMultiplier >= 1.0 (%s >= 1.0)", ttfbMultiplier);
+    return new AdaptiveRangeSpecFunction(
+        initialMaxLength, minMaxLength, maxMaxLength, ttfbMultiplier);
+  }
+
+  /**
+   * Without any observations a sequential range doubles the previous maxLength, and any other range
+   * uses {@link #getInitialMaxLength()}.
+   */
+  @Override
+  RangeSpec apply(long offset, @Nullable RangeSpec prev) {
+    return new ChannelState(this).apply(offset, prev);
+  }
+
+  @Override
+  RangeSpecFunction forChannel() {
+    return new ChannelState(this);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof AdaptiveRangeSpecFunction)) {
+      return false;
+    }
+    AdaptiveRangeSpecFunction that = (AdaptiveRangeSpecFunction) o;
+    return initialMaxLength == that.initialMaxLength
+        && minMaxLength == that.minMaxLength
+        && maxMaxLength == that.maxMaxLength
+        && Double.compare(ttfbMultiplier, that.ttfbMultiplier) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(initialMaxLength, minMaxLength, maxMaxLength, ttfbMultiplier);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("initialMaxLength", initialMaxLength)
+        .add("minMaxLength", minMaxLength)
+        .add("maxMaxLength", maxMaxLength)
+        .add("ttfbMultiplier", ttfbMultiplier)
+        .toString();
+  }
+
+  private long clamp(long maxLength) {
+    return Math.max(minMaxLength, Math.min(maxMaxLength, maxLength));
+  }
+
+  private static double ewma(double avg, double sample) {
+    return Double.isNaN(avg) ? sample : ALPHA * sample + (1 - ALPHA) * avg;
+  }
+
+  /**
+   * The observations of a single channel. Channels are not safe for concurrent use, and neither is
+   * this.
+   */
+  @SuppressWarnings("Immutable")
+  private static final class ChannelState extends RangeSpecFunction {
+    private final AdaptiveRangeSpecFunction config;
+
+    /** moving average of bytes received per nanosecond, once the first byte has arrived */
+    private double bytesPerNano = Double.NaN;
+
+    /** moving average of time-to-first-byte in nanoseconds */
+    private double ttfbNanos = Double.NaN;
+
+    /** moving average of bytes consumed from ranges which were abandoned before their end */
+    private double partialConsumed = Double.NaN;
+
+    private long lastBegin = -1;
+    private long lastStride = 0;
+    private long lastConsumed = 0;
+
+    private ChannelState(AdaptiveRangeSpecFunction config) {
+      this.config = config;
+    }
+
+    @Override
+    RangeSpec apply(long offset, @Nullable RangeSpec prev) {
+      if (prev == null) {
+        return RangeSpec.of(offset, config.initialMaxLength);
+      }
+
+      OptionalLong prevMaxLength = prev.maxLength();
+      if (prevMaxLength.isPresent() && offset == prev.begin() + prevMaxLength.getAsLong()) {
+        long grown = saturatedMultiply(prevMaxLength.getAsLong(), 2.0);
+        if (!Double.isNaN(bytesPerNano) && !Double.isNaN(ttfbNanos)) {
+          long target = saturatedMultiply(bytesPerNano * ttfbNanos, config.ttfbMultiplier);
+          grown = Math.max(grown, target);
+        }
+        return RangeSpec.of(offset, config.clamp(grown));
+      }
+
+      if (lastBegin >= 0 && lastStride != 0 && lastConsumed > 0) {
+        if (offset - lastBegin == lastStride) {
+          return RangeSpec.of(offset, Math.min(lastConsumed, config.maxMaxLength));
+        }
+      }
+
+      if (!Double.isNaN(partialConsumed)) {
+        return RangeSpec.of(
+            offset, config.clamp(DoubleMath.roundToLong(partialConsumed, RoundingMode.CEILING)));
+      }
+      return RangeSpec.of(offset, config.initialMaxLength);
+    }
+
+    @Override
+    void onRangeComplete(RangeSpec range, long bytesConsumed, long ttfbNanos, long elapsedNanos) {
+      if (bytesConsumed <= 0) {
+        return;
+      }
+      if (ttfbNanos >= 0) {
+        this.ttfbNanos = ewma(this.ttfbNanos, ttfbNanos);
+        long transferNanos = elapsedNanos - ttfbNanos;
+        if (transferNanos > 0) {
+          bytesPerNano = ewma(bytesPerNano, (double) bytesConsumed / transferNanos);
+        }
+      }
+      OptionalLong maxLength = range.maxLength();
+      if (!maxLength.isPresent() || bytesConsumed < maxLength.getAsLong()) {
+        partialConsumed = ewma(partialConsumed, bytesConsumed);
+      }
+      lastStride = lastBegin >= 0 ? range.begin() - lastBegin : 0;
+      lastBegin = range.begin();
+      lastConsumed = bytesConsumed;
+    }
+
+    private static long saturatedMultiply(double value, double scalar) {
+      double scaled = value * scalar;
+      if (scaled >= Long.MAX_VALUE) {
+        return Long.MAX_VALUE;
+      }
+      return DoubleMath.roundToLong(scaled, RoundingMode.HALF_EVEN);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("config", config)
+          .add("bytesPerNano", bytesPerNano)
+          .add("ttfbNanos", ttfbNanos)
+          .add("partialConsumed", partialConsumed)
+          .add("lastBegin", lastBegin)
+          .add("lastStride", lastStride)
+          .add("lastConsumed", lastConsumed)
+          .toString();
+    }
+  }
+}
@@ -35,6 +35,22 @@ final class AndThenRangeSpecFunction extends RangeSpecFunction {
     return second.apply(offset, first.apply(offset, prev));
   }
 
+  @Override
+  RangeSpecFunction forChannel() {
+    RangeSpecFunction f = first.forChannel();
+    RangeSpecFunction s = second.forChannel();
+    if (f == first && s == second) {
+      return this;
+    }
+    return new AndThenRangeSpecFunction(f, s);
+  }
+
+  @Override
+  void onRangeComplete(RangeSpec range, long bytesConsumed, long ttfbNanos, long elapsedNanos) {
+    first.onRangeComplete(range, bytesConsumed, ttfbNanos, elapsedNanos);
+    second.onRangeComplete(range, bytesConsumed, ttfbNanos, elapsedNanos);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -49,9 +49,7 @@ import java.io.Serializable;
 import java.io.StringReader;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
 import java.nio.channels.ClosedChannelException;
-import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.ScatteringByteChannel;
 import java.util.List;
 import java.util.Locale;
@@ -214,8 +212,9 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
         }
       }
 
-      ReadableByteChannel rbc = Channels.newChannel(content);
-      return StorageByteChannels.readable().asScatteringByteChannel(rbc);
+      // read straight from the response body into the callers buffers where possible, rather than
+      // through the intermediate array of Channels.newChannel
+      return StorageByteChannels.readable().asScatteringByteChannel(content);
     } catch (HttpResponseException e) {
       if (xGoogGeneration != null) {
         int statusCode = e.getStatusCode();
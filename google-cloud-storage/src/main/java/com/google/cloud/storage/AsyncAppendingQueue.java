@@ -29,12 +29,11 @@ import com.google.api.gax.rpc.ApiExceptions;
 import com.google.cloud.storage.ApiFutureUtils.OnFailureApiFutureCallback;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.PriorityQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -43,8 +42,12 @@ import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
- * Define a queue where enqueued items are async tasks. When a limit is reached, compact all values
- * into a new value.
+ * Define a queue where enqueued items are async tasks. Values are compacted as a balanced tree:
+ * when {@code maxElementsPerCompact} values have accumulated at a level they are compacted into a
+ * single value one level higher. Compactions at the same level do not depend on one another, and
+ * run concurrently on the provided executor.
+ *
+ * <p>On close, whatever remains at every level is compacted in order into the final value.
  */
 final class AsyncAppendingQueue<@NonNull T> implements AutoCloseable {
 
@@ -60,10 +63,16 @@ final class AsyncAppendingQueue<@NonNull T> implements AutoCloseable {
 
   private final Executor exec;
   private final int maxElementsPerCompact;
-  private final ApiFunction<ImmutableList<T>, T> compactFunction;
+  private final Compactor<T> compactFunction;
   private final AtomicInteger orderSequence;
   private final SettableApiFuture<T> finalResult;
-  private final PriorityQueue<Element<T>> queue;
+
+  /**
+   * Pending elements of each level of the tree. Level {@code 0} is appended values; every element
+   * of level {@code n + 1} precedes every element of level {@code n}.
+   */
+  private final List<ArrayList<Element<T>>> levels;
+
   private final AtomicReference<Throwable> shortCircuitFailure;
   private final ApiFutureCallback<T> shortCircuitRegistrationCallback;
 
@@ -71,13 +80,14 @@ final class AsyncAppendingQueue<@NonNull T> implements AutoCloseable {
   private volatile State state;
 
   private AsyncAppendingQueue(
-      Executor exec, int maxElementsPerCompact, ApiFunction<ImmutableList<T>, T> compactFunction) {
+      Executor exec, int maxElementsPerCompact, Compactor<T> compactFunction) {
     this.exec = exec;
     this.maxElementsPerCompact = maxElementsPerCompact;
     this.compactFunction = compactFunction;
     this.orderSequence = new AtomicInteger(0);
     this.finalResult = SettableApiFuture.create();
-    this.queue = new PriorityQueue<>(maxElementsPerCompact, Element.COMP);
+    this.levels = new ArrayList<>();
+    this.levels.add(new ArrayList<>(maxElementsPerCompact));
     this.state = State.OPEN;
     this.shortCircuitFailure = new AtomicReference<>(null);
     this.shortCircuitRegistrationCallback =
@@ -103,11 +113,18 @@ final class AsyncAppendingQueue<@NonNull T> implements AutoCloseable {
       checkNotNull(value, "value must not be null");
 
       Element<T> newElement = newElement(value);
-      queue.offer(newElement);
-      boolean isFull = queue.size() == maxElementsPerCompact;
-      if (isFull) {
-        Element<T> compact = compact(exec);
-        queue.offer(compact);
+      levels.get(0).add(newElement);
+      for (int i = 0; i < levels.size(); i++) {
+        ArrayList<Element<T>> level = levels.get(i);
+        if (level.size() < maxElementsPerCompact) {
+          break;
+        }
+        Element<T> compact = compact(level, false);
+        level.clear();
+        if (i + 1 == levels.size()) {
+          levels.add(new ArrayList<>(maxElementsPerCompact));
+        }
+        levels.get(i + 1).add(compact);
       }
       return this;
     } finally {
@@ -132,12 +149,25 @@ final class AsyncAppendingQueue<@NonNull T> implements AutoCloseable {
       }
       state = State.CLOSING;
 
-      if (queue.isEmpty()) {
+      List<Element<T>> remaining = new ArrayList<>();
+      for (int i = levels.size() - 1; i >= 0; i--) {
+        remaining.addAll(levels.get(i));
+        levels.get(i).clear();
+      }
+      if (remaining.isEmpty()) {
         NoSuchElementException neverAppendedTo = new NoSuchElementException("Never appended to");
         finalResult.setException(neverAppendedTo);
         throw neverAppendedTo;
       } else {
-        Element<T> transform = compact(exec);
+        while (remaining.size() > maxElementsPerCompact) {
+          List<Element<T>> next = new ArrayList<>();
+          for (List<Element<T>> group : Lists.partition(remaining, maxElementsPerCompact)) {
+            // a lone element has nothing to be compacted with, carry it to the next round as is
+            next.add(group.size() == 1 ? group.get(0) : compact(group, false));
+          }
+          remaining = next;
+        }
+        Element<T> transform = compact(remaining, true);
 
         ApiFutures.addCallback(
             transform.getValue(),
@@ -167,23 +197,16 @@ final class AsyncAppendingQueue<@NonNull T> implements AutoCloseable {
   }
 
   @NonNull
-  private Element<T> compact(Executor executor) {
-    ArrayList<Element<T>> elements = new ArrayList<>();
-    Element<T> peek = queue.peek();
-    checkState(peek != null, "attempt to compact empty queue");
-    int order = peek.getOrder();
-
-    Element<T> curr;
-    while ((curr = queue.poll()) != null) {
-      elements.add(curr);
-    }
+  private Element<T> compact(List<Element<T>> elements, boolean isFinal) {
+    checkState(!elements.isEmpty(), "attempt to compact empty queue");
+    int order = elements.get(0).getOrder();
 
     List<ApiFuture<T>> pending =
         elements.stream().map(Element::getValue).collect(Collectors.toList());
     ApiFuture<List<T>> futureTs = ApiFutureUtils.quietAllAsList(pending);
     ApiFuture<T> transform =
         ApiFutures.transform(
-            futureTs, ts -> compactFunction.apply(ImmutableList.copyOf(ts)), executor);
+            futureTs, ts -> compactFunction.compact(ImmutableList.copyOf(ts), isFinal), exec);
     return new Element<>(order, transform);
   }
 
@@ -192,7 +215,29 @@ final class AsyncAppendingQueue<@NonNull T> implements AutoCloseable {
     checkNotNull(exec, "exec must be non-null");
     checkArgument(maxElementsPerCompact > 1, "maxElementsPerCompact must be > 1");
     checkNotNull(compactFunction, "compactFunction must be non-null");
-    return new AsyncAppendingQueue<>(exec, maxElementsPerCompact, compactFunction);
+    return new AsyncAppendingQueue<>(
+        exec, maxElementsPerCompact, (ts, isFinal) -> compactFunction.apply(ts));
+  }
+
+  /**
+   * Like {@link #of(Executor, int, ApiFunction)}, but {@code compactor} is told whether the
+   * compaction it is performing is the final one.
+   */
+  public static <T> AsyncAppendingQueue<T> create(
+      Executor exec, int maxElementsPerCompact, Compactor<T> compactor) {
+    checkNotNull(exec, "exec must be non-null");
+    checkArgument(maxElementsPerCompact > 1, "maxElementsPerCompact must be > 1");
+    checkNotNull(compactor, "compactor must be non-null");
+    return new AsyncAppendingQueue<>(exec, maxElementsPerCompact, compactor);
+  }
+
+  @FunctionalInterface
+  interface Compactor<T> {
+    /**
+     * Compact {@code elements} into a single value. {@code isFinal} is {@code true} only for the
+     * compaction producing the result of the queue.
+     */
+    T compact(ImmutableList<T> elements, boolean isFinal);
   }
 
   static final class ShortCircuitException extends RuntimeException {
@@ -202,11 +247,10 @@ final class AsyncAppendingQueue<@NonNull T> implements AutoCloseable {
   }
 
   /**
-   * The order in which elements are compacted is important. Define a class that allows defining an
-   * order property for use by the {@link PriorityQueue}
+   * The order in which elements are compacted is important. Define a class that carries the order
+   * of the first value it contains.
    */
   private static final class Element<T> {
-    private static final Comparator<Element<?>> COMP = Comparator.comparing(Element::getOrder);
     private final int order;
     private final ApiFuture<T> value;
 
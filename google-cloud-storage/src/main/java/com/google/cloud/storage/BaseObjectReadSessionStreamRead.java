@@ -34,8 +34,11 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.ScatteringByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -59,6 +62,7 @@ abstract class BaseObjectReadSessionStreamRead<Projection>
   protected boolean closed;
   protected boolean tombstoned;
   protected IOAutoCloseable onCloseCallback;
+  protected ReadPriority priority;
 
   BaseObjectReadSessionStreamRead(
       RangeSpec rangeSpec, RetryContext retryContext, IOAutoCloseable onCloseCallback) {
@@ -77,6 +81,7 @@ abstract class BaseObjectReadSessionStreamRead<Projection>
     this.closed = closed;
     this.tombstoned = false;
     this.onCloseCallback = onCloseCallback;
+    this.priority = ReadPriority.NORMAL;
   }
 
   abstract long readId();
@@ -120,6 +125,15 @@ abstract class BaseObjectReadSessionStreamRead<Projection>
     return this.getClass() == other.getClass();
   }
 
+  @Override
+  public ReadPriority priority() {
+    return priority;
+  }
+
+  void setPriority(ReadPriority priority) {
+    this.priority = priority;
+  }
+
   @Override
   public final void close() throws IOException {
     try {
@@ -560,16 +574,19 @@ abstract class BaseObjectReadSessionStreamRead<Projection>
     @Override
     public ByteArrayAccumulatingRead withNewReadId(long newReadId) {
       this.tombstoned = true;
-      return new ByteArrayAccumulatingRead(
-          newReadId,
-          rangeSpec,
-          hasher,
-          childRefs,
-          retryContext,
-          readOffset,
-          closed,
-          complete,
-          onCloseCallback);
+      ByteArrayAccumulatingRead read =
+          new ByteArrayAccumulatingRead(
+              newReadId,
+              rangeSpec,
+              hasher,
+              childRefs,
+              retryContext,
+              readOffset,
+              closed,
+              complete,
+              onCloseCallback);
+      read.setPriority(priority);
+      return read;
     }
   }
 
@@ -635,17 +652,181 @@ abstract class BaseObjectReadSessionStreamRead<Projection>
     @Override
     public ZeroCopyByteStringAccumulatingRead withNewReadId(long newReadId) {
       this.tombstoned = true;
-      return new ZeroCopyByteStringAccumulatingRead(
-          newReadId,
-          rangeSpec,
-          hasher,
-          childRefs,
-          readOffset,
-          retryContext,
-          closed,
-          complete,
-          byteString,
-          onCloseCallback);
+      ZeroCopyByteStringAccumulatingRead read =
+          new ZeroCopyByteStringAccumulatingRead(
+              newReadId,
+              rangeSpec,
+              hasher,
+              childRefs,
+              readOffset,
+              retryContext,
+              closed,
+              complete,
+              byteString,
+              onCloseCallback);
+      read.setPriority(priority);
+      return read;
+    }
+  }
+
+  /**
+   * A read which writes each message directly into a file at the offset its bytes belong to.
+   *
+   * <p>Each {@link ChildRef} is released as soon as its buffers have been written, meaning at most
+   * one message worth of bytes is retained by this read at any point in time.
+   */
+  static final class FileWritingRead extends BaseObjectReadSessionStreamRead<ApiFuture<Long>>
+      implements ApiFuture<Long> {
+
+    private final AtomicLong readId;
+    private final Hasher hasher;
+    private final Path path;
+    private final long position;
+    private final SettableApiFuture<Long> complete;
+
+    @Nullable private FileChannel channel;
+
+    FileWritingRead(
+        long readId,
+        RangeSpec rangeSpec,
+        Hasher hasher,
+        RetryContext retryContext,
+        Path path,
+        long position,
+        IOAutoCloseable onCloseCallback) {
+      super(rangeSpec, retryContext, onCloseCallback);
+      this.readId = new AtomicLong(readId);
+      this.hasher = hasher;
+      this.path = path;
+      this.position = position;
+      this.complete = SettableApiFuture.create();
+      this.channel = null;
+    }
+
+    @Override
+    long readId() {
+      return readId.get();
+    }
+
+    @Override
+    public Hasher hasher() {
+      return hasher;
+    }
+
+    @Override
+    public ApiFuture<Long> project() {
+      return this;
+    }
+
+    @Override
+    public boolean acceptingBytes() {
+      return !complete.isDone() && !tombstoned;
+    }
+
+    @Override
+    public synchronized void accept(ChildRef childRef) throws IOException {
+      try (ChildRef ref = childRef) {
+        if (closed) {
+          return;
+        }
+        retryContext.reset();
+        ByteString byteString = ref.byteString();
+        int size = byteString.size();
+        if (channel == null) {
+          channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        }
+        long offset = readOffset.get();
+        channel.position(position + (offset - rangeSpec.begin()));
+        ByteBuffer[] buffers = byteString.asReadOnlyByteBufferList().toArray(new ByteBuffer[0]);
+        long remaining = size;
+        while (remaining > 0) {
+          remaining -= channel.write(buffers);
+        }
+        readOffset.addAndGet(size);
+      }
+    }
+
+    @Override
+    public void eof() throws IOException {
+      retryContext.reset();
+      try {
+        close();
+      } finally {
+        complete.set(readOffset.get() - rangeSpec.begin());
+      }
+    }
+
+    @Override
+    public ApiFuture<?> fail(Throwable t) {
+      try {
+        tombstoned = true;
+        close();
+      } catch (IOException e) {
+        t.addSuppressed(e);
+      } finally {
+        complete.setException(t);
+      }
+      return complete;
+    }
+
+    @Override
+    public FileWritingRead withNewReadId(long newReadId) {
+      readId.set(newReadId);
+      return this;
+    }
+
+    @Override
+    public boolean canShareStreamWith(ObjectReadSessionStreamRead<?> other) {
+      return other instanceof FileWritingRead;
+    }
+
+    @Override
+    public synchronized void internalClose() throws IOException {
+      if (!closed) {
+        retryContext.reset();
+        closed = true;
+        if (channel != null) {
+          try {
+            channel.close();
+          } finally {
+            channel = null;
+          }
+        }
+      }
+    }
+
+    @Override
+    public void addListener(Runnable listener, Executor executor) {
+      complete.addListener(listener, executor);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      if (!complete.isCancelled()) {
+        fail(new CancellationException());
+      }
+      return complete.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public Long get() throws InterruptedException, ExecutionException {
+      return complete.get();
+    }
+
+    @Override
+    public Long get(long timeout, TimeUnit unit)
+        throws InterruptedException, ExecutionException, TimeoutException {
+      return complete.get(timeout, unit);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return complete.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return complete.isDone();
     }
   }
 }
@@ -83,6 +83,8 @@ abstract class BaseStorageReadChannel<T> implements StorageReadChannel {
         StorageException.wrapIOException(channel::close);
       }
     } finally {
+      SharedBufferPool.Lease.releaseIfLeased(bufferHandle);
+      bufferHandle = null;
       lock.unlock();
     }
   }
@@ -159,7 +161,7 @@ abstract class BaseStorageReadChannel<T> implements StorageReadChannel {
 
   protected final BufferHandle getBufferHandle() {
     if (bufferHandle == null) {
-      bufferHandle = BufferHandle.allocate(chunkSize);
+      bufferHandle = SharedBufferPool.leaseOrAllocate(chunkSize);
     }
     return bufferHandle;
   }
@@ -181,15 +183,19 @@ abstract class BaseStorageReadChannel<T> implements StorageReadChannel {
 
   private void maybeResetChannel(boolean freeBuffer) throws IOException {
     if (lazyReadChannel != null) {
-      if (lazyReadChannel.isOpen()) {
-        lazyReadChannel.getChannel().close();
-      }
-      if (bufferHandle != null && !freeBuffer) {
-        bufferHandle.get().clear();
-      } else if (freeBuffer) {
-        bufferHandle = null;
+      try {
+        if (lazyReadChannel.isOpen()) {
+          lazyReadChannel.getChannel().close();
+        }
+      } finally {
+        if (bufferHandle != null && !freeBuffer) {
+          bufferHandle.get().clear();
+        } else if (freeBuffer) {
+          SharedBufferPool.Lease.releaseIfLeased(bufferHandle);
+          bufferHandle = null;
+        }
+        lazyReadChannel = null;
       }
-      lazyReadChannel = null;
     }
   }
 
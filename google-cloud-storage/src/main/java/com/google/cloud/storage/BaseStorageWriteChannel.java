@@ -99,6 +99,7 @@ abstract class BaseStorageWriteChannel<T> implements StorageWriteChannel {
       }
     } finally {
       open = false;
+      SharedBufferPool.Lease.releaseIfLeased(bufferHandle);
       lock.unlock();
     }
   }
@@ -137,7 +138,7 @@ abstract class BaseStorageWriteChannel<T> implements StorageWriteChannel {
 
   protected final BufferHandle getBufferHandle() {
     if (bufferHandle == null) {
-      bufferHandle = BufferHandle.allocate(Buffers.alignSize(getChunkSize(), _256KiB));
+      bufferHandle = SharedBufferPool.leaseOrAllocate(Buffers.alignSize(getChunkSize(), _256KiB));
     }
     return bufferHandle;
   }
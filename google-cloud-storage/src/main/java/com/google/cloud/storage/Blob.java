@@ -18,6 +18,7 @@ package com.google.cloud.storage;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.api.core.BetaApi;
 import com.google.auth.ServiceAccountSigner;
 import com.google.auth.ServiceAccountSigner.SigningException;
 import com.google.cloud.ReadChannel;
@@ -163,6 +164,30 @@ public class Blob extends BlobInfo {
       return new BlobSourceOption(UnifiedOpts.returnRawInputStream(shouldReturnRawInputStream));
     }
 
+    /**
+     * Returns an option to download an object to a file as concurrent ranged reads, rather than as
+     * a single stream.
+     *
+     * <p>The object is split into ranges of {@code rangeSize} bytes, up to {@code parallelism} of
+     * which are read at once and written to their position in the destination file. A range which
+     * fails is retried on its own, resuming from the last byte it received. Once every range has
+     * been read, the CRC32C of each range is combined and validated against the CRC32C of the
+     * object.
+     *
+     * <p>This option only applies to {@link Blob#downloadTo(Path, BlobSourceOption...)} on the JSON
+     * transport. Objects no larger than {@code rangeSize}, and objects which would be decompressed
+     * while downloading, are downloaded as a single stream.
+     *
+     * @param parallelism the maximum number of ranges to read concurrently
+     * @param rangeSize the number of bytes in each range
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    @TransportCompatibility({Transport.HTTP})
+    public static BlobSourceOption parallelDownload(int parallelism, long rangeSize) {
+      return new BlobSourceOption(UnifiedOpts.parallelDownload(parallelism, rangeSize));
+    }
+
     /**
      * Deduplicate any options which are the same parameter. The value which comes last in {@code
      * os} will be the value included in the return.
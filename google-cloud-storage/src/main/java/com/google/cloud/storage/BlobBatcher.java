@@ -0,0 +1,496 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.BetaApi;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.retrying.ResultRetryAlgorithm;
+import com.google.cloud.BaseServiceException;
+import com.google.cloud.BatchResult;
+import com.google.cloud.storage.Backoff.Jitterer;
+import com.google.cloud.storage.Storage.BlobGetOption;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Accepts an unbounded stream of get, update and delete operations and executes them efficiently
+ * for the transport in use, providing a future for the outcome of each individual operation.
+ *
+ * <p>When used with an {@link HttpStorageOptions HTTP} based {@link Storage} instance, operations
+ * are accumulated into {@link StorageBatch batches} of up to {@link Builder#setMaxBatchSize(int)
+ * maxBatchSize} operations. A batch is submitted as soon as it is full, or shortly after its first
+ * operation was added if no more operations arrive. Operations which fail with a retryable error
+ * are retried individually, with backoff, as part of a later batch; the remainder of the batch they
+ * were part of is not retried.
+ *
+ * <p>For all other transports, each operation is executed as its own unary call, which will be
+ * retried according to the {@link StorageOptions#getRetrySettings() retry settings} of the
+ * instance.
+ *
+ * <p>In both cases at most {@link Builder#setMaxConcurrency(int) maxConcurrency} batches or calls
+ * are in flight at a time. Once {@link Builder#setMaxOutstandingOperations(int)
+ * maxOutstandingOperations} operations have been added but not yet completed, adding another
+ * operation will block until one completes.
+ *
+ * <pre>{@code
+ * try (BlobBatcher batcher = BlobBatcher.newBuilder(storage).build()) {
+ *   List<ApiFuture<Boolean>> deletes = new ArrayList<>();
+ *   for (Blob b : storage.list("my-bucket").iterateAll()) {
+ *     deletes.add(batcher.delete(b.getBlobId()));
+ *   }
+ * }
+ * }</pre>
+ *
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@TransportCompatibility({Transport.HTTP, Transport.GRPC})
+public final class BlobBatcher implements AutoCloseable {
+
+  /**
+   * The maximum number of operations which can be included in a single batch request. Larger
+   * batches are split by the underlying rpc and then executed sequentially.
+   */
+  static final int MAX_BATCH_SIZE = 100;
+
+  /** How long a partially full batch will wait for more operations before it is submitted. */
+  static final Duration LINGER = Duration.ofMillis(10);
+
+  private final Storage storage;
+  private final @Nullable HttpStorageOptions httpOptions;
+  private final int maxBatchSize;
+  private final int maxOutstandingOperations;
+  private final ScheduledExecutorService executor;
+  private final Semaphore outstanding;
+
+  private final Object lock = new Object();
+  private List<Op<?>> pending;
+  private boolean closed;
+
+  private BlobBatcher(
+      Storage storage, int maxBatchSize, int maxConcurrency, int maxOutstandingOperations) {
+    this.storage = storage;
+    StorageOptions options = storage.getOptions();
+    this.httpOptions = options instanceof HttpStorageOptions ? (HttpStorageOptions) options : null;
+    this.maxBatchSize = maxBatchSize;
+    this.maxOutstandingOperations = maxOutstandingOperations;
+    this.executor =
+        Executors.newScheduledThreadPool(
+            maxConcurrency,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("blob-batcher-%d").build());
+    this.outstanding = new Semaphore(maxOutstandingOperations);
+    this.pending = new ArrayList<>(maxBatchSize);
+  }
+
+  /**
+   * Create a new builder for a batcher which will execute its operations using {@code storage}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static Builder newBuilder(@NonNull Storage storage) {
+    return new Builder(requireNonNull(storage, "storage must be non null"));
+  }
+
+  /**
+   * Add an operation to get the specified blob. The returned future resolves to {@code null} if the
+   * blob does not exist.
+   *
+   * @see Storage#get(BlobId, BlobGetOption...)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ApiFuture<@Nullable Blob> get(@NonNull BlobId blobId, BlobGetOption... options) {
+    requireNonNull(blobId, "blobId must be non null");
+    return add(
+        new Op<Blob>() {
+          @Override
+          BatchResult<Blob, StorageException> queue(StorageBatch batch) {
+            return batch.get(blobId, options);
+          }
+
+          @Override
+          Blob call() {
+            return storage.get(blobId, options);
+          }
+
+          @Override
+          ResultRetryAlgorithm<?> retryAlgorithm(HttpRetryAlgorithmManager m) {
+            return m.getForObjectsGet(
+                Conversions.json().blobId().encode(blobId),
+                Opts.unwrap(options).resolveFrom(blobId).getRpcOptions());
+          }
+        });
+  }
+
+  /**
+   * Add an operation to update the specified blob.
+   *
+   * @see StorageBatch#update(BlobInfo, BlobTargetOption...)
+   * @see Storage#update(BlobInfo, BlobTargetOption...)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ApiFuture<Blob> update(@NonNull BlobInfo blobInfo, BlobTargetOption... options) {
+    requireNonNull(blobInfo, "blobInfo must be non null");
+    return add(
+        new Op<Blob>() {
+          @Override
+          BatchResult<Blob, StorageException> queue(StorageBatch batch) {
+            return batch.update(blobInfo, options);
+          }
+
+          @Override
+          Blob call() {
+            return storage.update(blobInfo, options);
+          }
+
+          @Override
+          ResultRetryAlgorithm<?> retryAlgorithm(HttpRetryAlgorithmManager m) {
+            return m.getForObjectsUpdate(
+                Conversions.json().blobInfo().encode(blobInfo),
+                Opts.unwrap(options).resolveFrom(blobInfo).getRpcOptions());
+          }
+        });
+  }
+
+  /**
+   * Add an operation to delete the specified blob. The returned future resolves to {@code false} if
+   * the blob does not exist.
+   *
+   * @see Storage#delete(BlobId, BlobSourceOption...)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ApiFuture<Boolean> delete(@NonNull BlobId blobId, BlobSourceOption... options) {
+    requireNonNull(blobId, "blobId must be non null");
+    return add(
+        new Op<Boolean>() {
+          @Override
+          BatchResult<Boolean, StorageException> queue(StorageBatch batch) {
+            return batch.delete(blobId, options);
+          }
+
+          @Override
+          Boolean call() {
+            return storage.delete(blobId, options);
+          }
+
+          @Override
+          ResultRetryAlgorithm<?> retryAlgorithm(HttpRetryAlgorithmManager m) {
+            return m.getForObjectsDelete(
+                Conversions.json().blobId().encode(blobId),
+                Opts.unwrap(options).resolveFrom(blobId).getRpcOptions());
+          }
+        });
+  }
+
+  /**
+   * Submit any operations which are waiting for a batch to fill up, without waiting for them to
+   * complete.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public void flush() {
+    List<Op<?>> toSubmit;
+    synchronized (lock) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      toSubmit = pending;
+      pending = new ArrayList<>(maxBatchSize);
+    }
+    submitBatch(toSubmit);
+  }
+
+  /**
+   * Stop accepting new operations, and wait for all previously added operations to complete.
+   *
+   * <p>An operation which is still blocked waiting for another to complete when this method is
+   * called will not be executed, its future will fail with an {@link IllegalStateException}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @Override
+  public void close() throws InterruptedException {
+    synchronized (lock) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    try {
+      flush();
+      outstanding.acquire(maxOutstandingOperations);
+      outstanding.release(maxOutstandingOperations);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("transport", httpOptions != null ? Transport.HTTP : Transport.GRPC)
+        .add("maxBatchSize", maxBatchSize)
+        .add("maxOutstandingOperations", maxOutstandingOperations)
+        .toString();
+  }
+
+  @VisibleForTesting
+  boolean isClosed() {
+    synchronized (lock) {
+      return closed;
+    }
+  }
+
+  /** Whether any thread is blocked adding an operation, waiting for another to complete */
+  @VisibleForTesting
+  boolean hasQueuedAdds() {
+    return outstanding.hasQueuedThreads();
+  }
+
+  private <T> ApiFuture<T> add(Op<T> op) {
+    synchronized (lock) {
+      checkState(!closed, "BlobBatcher is closed");
+    }
+    try {
+      outstanding.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return ApiFutures.immediateFailedFuture(StorageException.coalesce(e));
+    }
+    op.result.addListener(outstanding::release, MoreExecutors.directExecutor());
+    // dispatch under the same lock close() takes, so close() either rejects the operation here or
+    // waits for it to complete
+    synchronized (lock) {
+      if (closed) {
+        // close() started while this operation was waiting for a permit
+        op.result.setException(new IllegalStateException("BlobBatcher is closed"));
+      } else if (httpOptions != null) {
+        enqueue(op);
+      } else {
+        executor.execute(op::runUnary);
+      }
+    }
+    return op.result;
+  }
+
+  private void enqueue(Op<?> op) {
+    List<Op<?>> toSubmit = null;
+    synchronized (lock) {
+      pending.add(op);
+      if (pending.size() >= maxBatchSize) {
+        toSubmit = pending;
+        pending = new ArrayList<>(maxBatchSize);
+      } else if (pending.size() == 1) {
+        executor.schedule(this::flush, LINGER.toNanos(), TimeUnit.NANOSECONDS);
+      }
+    }
+    if (toSubmit != null) {
+      submitBatch(toSubmit);
+    }
+  }
+
+  private void submitBatch(List<Op<?>> ops) {
+    executor.execute(() -> runBatch(ops));
+  }
+
+  private void runBatch(List<Op<?>> ops) {
+    StorageBatch batch = new StorageBatch(httpOptions);
+    List<BatchResult<?, StorageException>> results = new ArrayList<>(ops.size());
+    for (Op<?> op : ops) {
+      results.add(op.queueIn(batch));
+    }
+    try {
+      batch.submit();
+    } catch (Throwable t) {
+      // the whole request failed, any operation which did not receive an individual response
+      // needs to be attempted again
+      BaseServiceException e = StorageException.coalesce(t);
+      for (int i = 0; i < ops.size(); i++) {
+        if (!results.get(i).completed()) {
+          ops.get(i).onError(e);
+        }
+      }
+    }
+  }
+
+  /** A single operation, along with the state necessary to retry it on its own. */
+  private abstract class Op<T> {
+    private final SettableApiFuture<T> result = SettableApiFuture.create();
+    private @MonotonicNonNull RetryContext retryContext;
+
+    abstract BatchResult<T, StorageException> queue(StorageBatch batch);
+
+    abstract T call();
+
+    abstract ResultRetryAlgorithm<?> retryAlgorithm(HttpRetryAlgorithmManager m);
+
+    private BatchResult<T, StorageException> queueIn(StorageBatch batch) {
+      BatchResult<T, StorageException> r = queue(batch);
+      r.notify(
+          new BatchResult.Callback<T, StorageException>() {
+            @Override
+            public void success(T t) {
+              result.set(t);
+            }
+
+            @Override
+            public void error(StorageException e) {
+              onError(e);
+            }
+          });
+      return r;
+    }
+
+    private void onError(BaseServiceException e) {
+      if (retryContext == null) {
+        retryContext =
+            RetryContext.of(
+                executor,
+                httpOptions.asRetryDependencies(),
+                retryAlgorithm(httpOptions.getRetryAlgorithmManager()),
+                Jitterer.threadLocalRandom());
+      }
+      retryContext.recordError(e, () -> enqueue(this), result::setException);
+    }
+
+    private void runUnary() {
+      try {
+        result.set(call());
+      } catch (Throwable t) {
+        result.setException(t);
+      }
+    }
+  }
+
+  /**
+   * Builder for {@link BlobBatcher}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static final class Builder {
+    private final Storage storage;
+    private int maxBatchSize;
+    private int maxConcurrency;
+    private int maxOutstandingOperations;
+
+    private Builder(Storage storage) {
+      this.storage = storage;
+      this.maxBatchSize = MAX_BATCH_SIZE;
+      this.maxConcurrency = 8;
+      this.maxOutstandingOperations = -1;
+    }
+
+    /**
+     * The maximum number of operations to include in a single batch request. Only applicable to
+     * HTTP.
+     *
+     * <p><i>Default:</i> {@code 100}
+     *
+     * @param maxBatchSize must be &gt;= 1 and &lt;= 100
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setMaxBatchSize(int maxBatchSize) {
+      checkArgument(
+          0 < maxBatchSize && maxBatchSize <= MAX_BATCH_SIZE,
+          "0 < maxBatchSize <= %s (0 < %s <= %s)",
+          MAX_BATCH_SIZE,
+          maxBatchSize,
+          MAX_BATCH_SIZE);
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    /**
+     * The maximum number of batch requests (for HTTP) or unary calls (for all other transports)
+     * which will be in flight at the same time.
+     *
+     * <p><i>Default:</i> {@code 8}
+     *
+     * @param maxConcurrency must be &gt;= 1
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setMaxConcurrency(int maxConcurrency) {
+      checkArgument(maxConcurrency >= 1, "maxConcurrency >= 1 (%s >= 1)", maxConcurrency);
+      this.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * The maximum number of operations which may be added but not yet completed. Once reached,
+     * adding another operation will block until an outstanding operation completes.
+     *
+     * <p><i>Default:</i> {@code 2 * maxBatchSize * maxConcurrency}
+     *
+     * @param maxOutstandingOperations must be &gt;= 1
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setMaxOutstandingOperations(int maxOutstandingOperations) {
+      checkArgument(
+          maxOutstandingOperations >= 1,
+          "maxOutstandingOperations >= 1 (%s >= 1)",
+          maxOutstandingOperations);
+      this.maxOutstandingOperations = maxOutstandingOperations;
+      return this;
+    }
+
+    /**
+     * Create a new {@link BlobBatcher}. The returned instance must be {@link BlobBatcher#close()
+     * closed} to release its threads.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public BlobBatcher build() {
+      int outstanding =
+          maxOutstandingOperations > 0
+              ? maxOutstandingOperations
+              : Math.multiplyExact(2 * maxBatchSize, maxConcurrency);
+      return new BlobBatcher(storage, maxBatchSize, maxConcurrency, outstanding);
+    }
+  }
+}
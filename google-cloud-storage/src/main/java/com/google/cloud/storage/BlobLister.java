@@ -0,0 +1,474 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.core.BetaApi;
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.cloud.storage.UnifiedOpts.EndOffset;
+import com.google.cloud.storage.UnifiedOpts.Opt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.cloud.storage.UnifiedOpts.PageToken;
+import com.google.cloud.storage.UnifiedOpts.StartOffset;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.storage.v2.ListObjectsRequest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A listing facility which keeps the next pages of a {@link Storage#list(String, BlobListOption...)
+ * blob listing} in flight while the current page is being consumed.
+ *
+ * <p>Two techniques are available, and can be combined:
+ *
+ * <ol>
+ *   <li><b>Prefetching</b>: each listing is driven by a background producer which fetches up to
+ *       {@link #withPrefetchPages(int) N} pages ahead of the consumer. Once N pages are buffered
+ *       the producer waits until the consumer has taken one before issuing the next request,
+ *       bounding memory to N pages per listing.
+ *   <li><b>Sharding</b>: the key space selected by the provided options is split into disjoint
+ *       lexicographic ranges (using {@link BlobListOption#startOffset(String)} and {@link
+ *       BlobListOption#endOffset(String)}) and each range is listed concurrently. Blobs are emitted
+ *       shard by shard, so the resulting order is the same as an unsharded listing.
+ * </ol>
+ *
+ * <p>Instances of this class are immutable and thread safe.
+ *
+ * <pre>{@code
+ * BlobLister lister = BlobLister.of(storage).withPrefetchPages(4).withShardCount(8);
+ * try (Stream<Blob> blobs = lister.list("my-bucket", BlobListOption.prefix("logs/"))) {
+ *   blobs.forEach(b -> process(b));
+ * }
+ * }</pre>
+ *
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@TransportCompatibility({Transport.HTTP, Transport.GRPC})
+public final class BlobLister {
+
+  /**
+   * The range of characters even shards are spread across. Object names are UTF-8, and the vast
+   * majority of names use printable ascii at the position following the prefix.
+   */
+  private static final char SPLIT_LOW = ' ';
+
+  private static final char SPLIT_HIGH = '~';
+
+  private static final long PRODUCER_POLL_MILLIS = 50;
+
+  /** Marker enqueued by a shard producer once its last page has been enqueued. */
+  private static final Object END = new Object();
+
+  private final Storage storage;
+  private final int prefetchPages;
+  private final int shardCount;
+  private final @Nullable ImmutableList<String> splitPoints;
+  private final @Nullable Executor executor;
+
+  private BlobLister(
+      Storage storage,
+      int prefetchPages,
+      int shardCount,
+      @Nullable ImmutableList<String> splitPoints,
+      @Nullable Executor executor) {
+    this.storage = storage;
+    this.prefetchPages = prefetchPages;
+    this.shardCount = shardCount;
+    this.splitPoints = splitPoints;
+    this.executor = executor;
+  }
+
+  /**
+   * Create a new lister which will prefetch one page ahead without sharding.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static BlobLister of(@NonNull Storage storage) {
+    return new BlobLister(requireNonNull(storage, "storage must be non null"), 1, 1, null, null);
+  }
+
+  /**
+   * The maximum number of pages each listing will buffer ahead of the consumer.
+   *
+   * <p><i>Default:</i> {@code 1}
+   *
+   * @see #withPrefetchPages(int)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getPrefetchPages() {
+    return prefetchPages;
+  }
+
+  /**
+   * Return an instance with the maximum number of buffered pages per listing set to the specified
+   * value.
+   *
+   * <p>Memory used by a listing is bounded to {@code prefetchPages * pageSize} blobs per shard.
+   *
+   * @param prefetchPages The number of pages to buffer, must be &gt;= 1
+   * @see #getPrefetchPages()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BlobLister withPrefetchPages(int prefetchPages) {
+    checkArgument(prefetchPages >= 1, "prefetchPages >= 1 (%s >= 1)", prefetchPages);
+    return new BlobLister(storage, prefetchPages, shardCount, splitPoints, executor);
+  }
+
+  /**
+   * The number of evenly spread shards the listing will be split into, unless explicit split points
+   * have been provided.
+   *
+   * <p><i>Default:</i> {@code 1}
+   *
+   * @see #withShardCount(int)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getShardCount() {
+    return shardCount;
+  }
+
+  /**
+   * Return an instance which will split each listing into {@code shardCount} shards.
+   *
+   * <p>Shards are spread evenly across the printable ascii range of the character immediately
+   * following the listing prefix. Listings whose names are not well distributed across that range
+   * should provide {@link #withSplitPoints(List) explicit split points} instead.
+   *
+   * <p>Calling this method clears any previously configured split points.
+   *
+   * @param shardCount The number of shards, must be &gt;= 1
+   * @see #getShardCount()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BlobLister withShardCount(int shardCount) {
+    checkArgument(shardCount >= 1, "shardCount >= 1 (%s >= 1)", shardCount);
+    return new BlobLister(storage, prefetchPages, shardCount, null, executor);
+  }
+
+  /**
+   * Explicit lexicographic split points, if configured.
+   *
+   * @see #withSplitPoints(List)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable List<String> getSplitPoints() {
+    return splitPoints;
+  }
+
+  /**
+   * Return an instance which will split each listing at the specified object names.
+   *
+   * <p>{@code n} split points produce {@code n + 1} shards; each split point is the inclusive start
+   * of one shard and the exclusive end of the preceding one. Split points which fall outside the
+   * range selected by the listing options are ignored.
+   *
+   * <p>When listing with a {@link BlobListOption#delimiter(String) delimiter} split points should
+   * not fall inside a synthetic directory, otherwise the directory will be reported by both shards
+   * it spans.
+   *
+   * @param splitPoints strictly increasing object names
+   * @see #getSplitPoints()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BlobLister withSplitPoints(@NonNull List<String> splitPoints) {
+    requireNonNull(splitPoints, "splitPoints must be non null");
+    ImmutableList<String> copy = ImmutableList.copyOf(splitPoints);
+    for (int i = 1; i < copy.size(); i++) {
+      checkArgument(
+          copy.get(i - 1).compareTo(copy.get(i)) < 0,
+          "splitPoints must be strictly increasing (%s < %s)",
+          copy.get(i - 1),
+          copy.get(i));
+    }
+    return new BlobLister(storage, prefetchPages, copy.size() + 1, copy, executor);
+  }
+
+  /**
+   * Return an instance which will run page producers on the specified executor. The executor must
+   * be able to run one task per shard concurrently, otherwise the listing may stall.
+   *
+   * <p><i>Default:</i> a new daemon thread per shard, per listing
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BlobLister withExecutor(@NonNull Executor executor) {
+    requireNonNull(executor, "executor must be non null");
+    return new BlobLister(storage, prefetchPages, shardCount, splitPoints, executor);
+  }
+
+  /**
+   * List the blobs in {@code bucket}, honoring all provided {@code options}.
+   *
+   * <p>Background requests are started immediately. The returned stream should be {@link
+   * Stream#close() closed} if it is not fully consumed in order to stop any outstanding producers.
+   * Any failure of an underlying list request is thrown to the consumer when the stream reaches the
+   * point where the failed page would have been emitted.
+   *
+   * @throws IllegalArgumentException if {@link BlobListOption#pageToken(String)} is provided
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public Stream<Blob> list(@NonNull String bucket, BlobListOption... options) {
+    requireNonNull(bucket, "bucket must be non null");
+    for (BlobListOption o : options) {
+      checkArgument(!(o.getOpt() instanceof PageToken), "pageToken is not supported by BlobLister");
+    }
+    ListObjectsRequest req =
+        Opts.unwrap(options).listObjectsRequest().apply(ListObjectsRequest.newBuilder()).build();
+    String start = req.getLexicographicStart();
+    String end = req.getLexicographicEnd();
+    List<String> points =
+        splitPoints != null ? splitPoints : evenSplitPoints(req.getPrefix(), shardCount);
+
+    List<BlobListOption> baseOptions = new ArrayList<>();
+    for (BlobListOption o : options) {
+      Opt opt = o.getOpt();
+      if (!(opt instanceof StartOffset) && !(opt instanceof EndOffset)) {
+        baseOptions.add(o);
+      }
+    }
+
+    Listing listing = new Listing();
+    String shardStart = start;
+    for (String point : points) {
+      if (point.compareTo(shardStart) <= 0 || (!end.isEmpty() && point.compareTo(end) >= 0)) {
+        continue;
+      }
+      listing.add(shardOptions(baseOptions, shardStart, point));
+      shardStart = point;
+    }
+    listing.add(shardOptions(baseOptions, shardStart, end));
+    listing.start(bucket);
+
+    Spliterator<Blob> spliterator =
+        Spliterators.spliteratorUnknownSize(
+            listing, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    return StreamSupport.stream(spliterator, false).onClose(listing::close);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("prefetchPages", prefetchPages)
+        .add("shardCount", shardCount)
+        .add("splitPoints", splitPoints)
+        .add("executor", executor)
+        .toString();
+  }
+
+  /**
+   * Compute {@code shardCount - 1} split points spread evenly across the printable ascii range of
+   * the character following {@code prefix}.
+   */
+  static ImmutableList<String> evenSplitPoints(String prefix, int shardCount) {
+    ImmutableList.Builder<String> b = ImmutableList.builder();
+    int range = SPLIT_HIGH - SPLIT_LOW + 1;
+    int prev = SPLIT_LOW;
+    for (int i = 1; i < shardCount; i++) {
+      int c = SPLIT_LOW + (int) ((long) i * range / shardCount);
+      if (c > prev && c <= SPLIT_HIGH) {
+        b.add(prefix + (char) c);
+        prev = c;
+      }
+    }
+    return b.build();
+  }
+
+  private static BlobListOption[] shardOptions(
+      List<BlobListOption> baseOptions, String start, String end) {
+    List<BlobListOption> l = new ArrayList<>(baseOptions);
+    if (!start.isEmpty()) {
+      l.add(BlobListOption.startOffset(start));
+    }
+    if (!end.isEmpty()) {
+      l.add(BlobListOption.endOffset(end));
+    }
+    return l.toArray(new BlobListOption[0]);
+  }
+
+  /** Consumer side of a listing, draining each shard in order. */
+  private final class Listing implements Iterator<Blob>, AutoCloseable {
+    private final List<Shard> shards = new ArrayList<>();
+    private int shardIdx = 0;
+    private Iterator<Blob> current = ImmutableList.<Blob>of().iterator();
+
+    private void add(BlobListOption[] opts) {
+      shards.add(new Shard(opts, prefetchPages));
+    }
+
+    private void start(String bucket) {
+      Executor e = executor;
+      if (e == null) {
+        ThreadFactory tf =
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("blob-lister-%d").build();
+        e = r -> tf.newThread(r).start();
+      }
+      for (Shard shard : shards) {
+        e.execute(() -> shard.produce(bucket));
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!current.hasNext()) {
+        if (shardIdx >= shards.size()) {
+          return false;
+        }
+        List<Blob> page;
+        try {
+          page = shards.get(shardIdx).take();
+        } catch (RuntimeException e) {
+          close();
+          throw e;
+        }
+        if (page == null) {
+          shardIdx++;
+        } else {
+          current = page.iterator();
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public Blob next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return current.next();
+    }
+
+    @Override
+    public void close() {
+      for (Shard shard : shards) {
+        shard.close();
+      }
+    }
+  }
+
+  /**
+   * Producer side of a single shard. Pages are handed to the consumer through a bounded queue; the
+   * end of the shard is signaled by {@link #END} and a failure by enqueuing the {@link Throwable}
+   * itself.
+   */
+  private final class Shard {
+    private final BlobListOption[] opts;
+    private final BlockingQueue<Object> queue;
+    private volatile boolean closed = false;
+
+    private Shard(BlobListOption[] opts, int capacity) {
+      this.opts = opts;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    private void produce(String bucket) {
+      try {
+        Page<Blob> page = storage.list(bucket, opts);
+        while (page != null && !closed) {
+          List<Blob> values = ImmutableList.copyOf(page.getValues());
+          if (!values.isEmpty()) {
+            offer(values);
+          }
+          page = page.hasNextPage() ? page.getNextPage() : null;
+        }
+        offer(END);
+      } catch (Throwable t) {
+        offer(t);
+      }
+    }
+
+    private void offer(Object o) {
+      try {
+        while (!closed) {
+          if (queue.offer(o, PRODUCER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            return;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        // the consumer may be blocked waiting for the next element, make sure it is woken with a
+        // terminal element rather than left waiting for one which will never arrive
+        terminate(o instanceof Throwable ? (Throwable) o : e);
+      }
+    }
+
+    /**
+     * Stop producing and replace anything not yet consumed with {@code t}. Only the producer adds
+     * to the queue, so once it has been cleared there is always room for the terminal element.
+     */
+    private void terminate(Throwable t) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      queue.clear();
+      queue.offer(t);
+    }
+
+    /** Returns the next page of this shard, or {@code null} if the shard is complete. */
+    @SuppressWarnings("unchecked")
+    private @Nullable List<Blob> take() {
+      Object o;
+      try {
+        o = queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw StorageException.coalesce(e);
+      }
+      if (o == END) {
+        return null;
+      } else if (o instanceof Throwable) {
+        throw StorageException.coalesce((Throwable) o);
+      } else {
+        return (List<Blob>) o;
+      }
+    }
+
+    private void close() {
+      closed = true;
+      queue.clear();
+    }
+  }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.common.base.MoreObjects;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A bounded, least-recently-used cache of object bytes shared by all {@link BlobReadSession}s of a
+ * {@link Storage} instance.
+ *
+ * <p>Objects are divided into aligned blocks of {@link Builder#setBlockSize(int) blockSize} bytes,
+ * keyed by bucket, object name, generation and block index. Before a {@link BlobReadSession} issues
+ * a read for a range of at most {@link Builder#setMaxCacheableRangeLength(long)
+ * maxCacheableRangeLength} bytes, the blocks covering the range are looked up in this cache and
+ * only those which are missing are read from Google Cloud Storage. Larger or unbounded reads bypass
+ * the cache.
+ *
+ * <p>Because the generation is part of the key, a cached block can never be served for a different
+ * version of an object.
+ *
+ * <p>Instances of this class are thread safe.
+ *
+ * @see GrpcStorageOptions.Builder#setBlobReadSessionBlockCache(BlobReadSessionBlockCache)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@TransportCompatibility({Transport.GRPC})
+public final class BlobReadSessionBlockCache {
+
+  private final int blockSize;
+  private final long maxBytes;
+  private final long maxCacheableRangeLength;
+  private final boolean direct;
+
+  private final ReentrantLock lock;
+  private final LinkedHashMap<BlockKey, ByteBuffer> blocks;
+  private final AtomicLong hits;
+  private final AtomicLong misses;
+  private final AtomicLong evictions;
+  private long cachedBytes;
+
+  private BlobReadSessionBlockCache(
+      int blockSize, long maxBytes, long maxCacheableRangeLength, boolean direct) {
+    this.blockSize = blockSize;
+    this.maxBytes = maxBytes;
+    this.maxCacheableRangeLength = maxCacheableRangeLength;
+    this.direct = direct;
+    this.lock = new ReentrantLock();
+    this.blocks = new LinkedHashMap<>(16, 0.75f, true);
+    this.hits = new AtomicLong();
+    this.misses = new AtomicLong();
+    this.evictions = new AtomicLong();
+    this.cachedBytes = 0;
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getBlockSize() {
+    return blockSize;
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getMaxCacheableRangeLength() {
+    return maxCacheableRangeLength;
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isDirect() {
+    return direct;
+  }
+
+  /**
+   * Take a point in time snapshot of the statistics of this cache.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public Stats getStats() {
+    lock.lock();
+    try {
+      return new Stats(hits.get(), misses.get(), evictions.get(), cachedBytes, blocks.size());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Discard all cached blocks. Statistics are not reset.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public void invalidateAll() {
+    lock.lock();
+    try {
+      blocks.clear();
+      cachedBytes = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Return a read-only view of the block, or {@code null} if it is not cached. Every call counts
+   * toward either {@link Stats#getHits()} or {@link Stats#getMisses()}.
+   */
+  @Nullable ByteBuffer get(BlockKey key) {
+    ByteBuffer block;
+    lock.lock();
+    try {
+      block = blocks.get(key);
+    } finally {
+      lock.unlock();
+    }
+    if (block == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+    hits.incrementAndGet();
+    return block.duplicate();
+  }
+
+  /**
+   * Copy {@code content} into a new block and insert it, evicting the least recently used blocks as
+   * necessary.
+   */
+  void put(BlockKey key, ByteBuffer content) {
+    int size = content.remaining();
+    if (size > maxBytes) {
+      return;
+    }
+    ByteBuffer block = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    block.put(content);
+    Buffers.flip(block);
+    block = block.asReadOnlyBuffer();
+
+    lock.lock();
+    try {
+      ByteBuffer prev = blocks.put(key, block);
+      if (prev != null) {
+        cachedBytes -= prev.capacity();
+      }
+      cachedBytes += size;
+      Iterator<Map.Entry<BlockKey, ByteBuffer>> iter = blocks.entrySet().iterator();
+      while (cachedBytes > maxBytes && iter.hasNext()) {
+        Map.Entry<BlockKey, ByteBuffer> eldest = iter.next();
+        cachedBytes -= eldest.getValue().capacity();
+        iter.remove();
+        evictions.incrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("blockSize", blockSize)
+        .add("maxBytes", maxBytes)
+        .add("maxCacheableRangeLength", maxCacheableRangeLength)
+        .add("direct", direct)
+        .add("stats", getStats())
+        .toString();
+  }
+
+  /**
+   * Point in time statistics of a {@link BlobReadSessionBlockCache}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static final class Stats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long cachedBytes;
+    private final int cachedBlocks;
+
+    private Stats(long hits, long misses, long evictions, long cachedBytes, int cachedBlocks) {
+      this.hits = hits;
+      this.misses = misses;
+      this.evictions = evictions;
+      this.cachedBytes = cachedBytes;
+      this.cachedBlocks = cachedBlocks;
+    }
+
+    /** Number of block lookups served from the cache */
+    public long getHits() {
+      return hits;
+    }
+
+    /** Number of block lookups which had to be read from Google Cloud Storage */
+    public long getMisses() {
+      return misses;
+    }
+
+    /** Fraction of block lookups served from the cache, or {@code 0.0} if none have happened */
+    public double getHitRate() {
+      long total = hits + misses;
+      return total == 0 ? 0.0d : (double) hits / total;
+    }
+
+    /** Number of blocks evicted to make room for newer blocks */
+    public long getEvictions() {
+      return evictions;
+    }
+
+    public long getCachedBytes() {
+      return cachedBytes;
+    }
+
+    public int getCachedBlocks() {
+      return cachedBlocks;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("hits", hits)
+          .add("misses", misses)
+          .add("hitRate", getHitRate())
+          .add("evictions", evictions)
+          .add("cachedBytes", cachedBytes)
+          .add("cachedBlocks", cachedBlocks)
+          .toString();
+    }
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static final class Builder {
+    private int blockSize;
+    private long maxBytes;
+    private long maxCacheableRangeLength;
+    private boolean direct;
+
+    private Builder() {
+      this.blockSize = ByteSizeConstants._1MiB;
+      this.maxBytes = 256L * ByteSizeConstants._1MiB;
+      this.maxCacheableRangeLength = ByteSizeConstants._16MiB;
+      this.direct = false;
+    }
+
+    /**
+     * The size of each cached block. Reads are widened to whole blocks when they are fetched.
+     *
+     * <p><i>Default:</i> {@code 1048576 (1 MiB)}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setBlockSize(int blockSize) {
+      checkArgument(blockSize > 0, "blockSize > 0 (%s > 0)", blockSize);
+      this.blockSize = blockSize;
+      return this;
+    }
+
+    /**
+     * The maximum number of bytes held by the cache across all objects.
+     *
+     * <p><i>Default:</i> {@code 268435456 (256 MiB)}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setMaxBytes(long maxBytes) {
+      checkArgument(maxBytes > 0, "maxBytes > 0 (%s > 0)", maxBytes);
+      this.maxBytes = maxBytes;
+      return this;
+    }
+
+    /**
+     * The length of the longest read which will be served by the cache. Longer or unbounded reads
+     * are sent directly to Google Cloud Storage and their bytes are not cached.
+     *
+     * <p><i>Default:</i> {@code 16777216 (16 MiB)}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setMaxCacheableRangeLength(long maxCacheableRangeLength) {
+      checkArgument(
+          maxCacheableRangeLength > 0,
+          "maxCacheableRangeLength > 0 (%s > 0)",
+          maxCacheableRangeLength);
+      this.maxCacheableRangeLength = maxCacheableRangeLength;
+      return this;
+    }
+
+    /**
+     * Whether blocks should be held in direct (off-heap) {@link ByteBuffer}s rather than on the
+     * java heap.
+     *
+     * <p><i>Default:</i> {@code false}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setDirect(boolean direct) {
+      this.direct = direct;
+      return this;
+    }
+
+    /**
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public BlobReadSessionBlockCache build() {
+      return new BlobReadSessionBlockCache(blockSize, maxBytes, maxCacheableRangeLength, direct);
+    }
+  }
+
+  static final class BlockKey {
+    private final String bucket;
+    private final String name;
+    private final long generation;
+    private final long index;
+
+    BlockKey(String bucket, String name, long generation, long index) {
+      this.bucket = bucket;
+      this.name = name;
+      this.generation = generation;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BlockKey)) {
+        return false;
+      }
+      BlockKey that = (BlockKey) o;
+      return generation == that.generation
+          && index == that.index
+          && bucket.equals(that.bucket)
+          && name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(bucket, name, generation, index);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("bucket", bucket)
+          .add("name", name)
+          .add("generation", generation)
+          .add("index", index)
+          .toString();
+    }
+  }
+}
@@ -0,0 +1,838 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A pool of {@link BlobReadSession}s, shared by any number of threads reading the same objects.
+ *
+ * <p>Sessions are keyed by {@link BlobId} and the {@link BlobSourceOption}s they were opened with.
+ * {@link #acquire(BlobId, BlobSourceOption...)} returns a lightweight lease on the pooled sessions
+ * for an object; closing the lease does not close the underlying sessions.
+ *
+ * <p>A {@link BlobId} without a generation resolves to the latest generation of the object when its
+ * first session is opened. New leases of that {@link BlobId} share the resolved generation for at
+ * most {@link Builder#setLatestGenerationTtl(Duration) latestGenerationTtl}, after which the next
+ * lease opens a new session, resolving the latest generation again. Leases of the previous
+ * generation keep reading it until they are closed, at which point its sessions are closed.
+ *
+ * <p>A single {@link BlobReadSession} is backed by a single bidirectional stream, which bounds the
+ * throughput available to a single object. For objects which are at least {@link
+ * Builder#setLargeObjectSize(long) largeObjectSize} bytes, or whose sessions each have more than
+ * {@link Builder#setTargetReadsPerSession(int) targetReadsPerSession} reads in flight, additional
+ * sessions are opened up to {@link Builder#setMaxSessionsPerObject(int) maxSessionsPerObject}.
+ * Additional sessions are pinned to the generation resolved by the first, so every read of a lease
+ * observes the same version of the object. Each call to {@link
+ * BlobReadSession#readAs(ReadProjectionConfig)} on a lease is sent to the session with the fewest
+ * reads in flight.
+ *
+ * <p>Sessions which have had no leases and no reads in flight for {@link
+ * Builder#setIdleTimeout(Duration) idleTimeout} are closed.
+ *
+ * <pre>{@code
+ * try (BlobReadSessionPool pool = BlobReadSessionPool.newBuilder(storage).build()) {
+ *   try (BlobReadSession session = pool.acquire(blobId).get(30, TimeUnit.SECONDS)) {
+ *     ApiFuture<byte[]> bytes =
+ *         session.readAs(ReadProjectionConfigs.asFutureBytes().withRangeSpec(range));
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Instances of this class are thread safe.
+ *
+ * @see Storage#blobReadSession(BlobId, BlobSourceOption...)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@TransportCompatibility({Transport.GRPC})
+public final class BlobReadSessionPool implements AutoCloseable {
+
+  private final Storage storage;
+  private final int maxSessionsPerObject;
+  private final int targetReadsPerSession;
+  private final long largeObjectSize;
+  private final Duration idleTimeout;
+  private final Duration latestGenerationTtl;
+  private final ScheduledExecutorService executor;
+
+  private final ReentrantLock lock;
+  private final Map<Key, Entry> entries;
+
+  /**
+   * Entries of a {@link BlobId} without a generation which have been replaced by a newer resolution
+   * but still have leases or reads in flight. guarded by {@link #lock}
+   */
+  private final List<Entry> retiredEntries;
+
+  private boolean closed;
+
+  private BlobReadSessionPool(
+      Storage storage,
+      int maxSessionsPerObject,
+      int targetReadsPerSession,
+      long largeObjectSize,
+      Duration idleTimeout,
+      Duration latestGenerationTtl) {
+    this.storage = storage;
+    this.maxSessionsPerObject = maxSessionsPerObject;
+    this.targetReadsPerSession = targetReadsPerSession;
+    this.largeObjectSize = largeObjectSize;
+    this.idleTimeout = idleTimeout;
+    this.latestGenerationTtl = latestGenerationTtl;
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("blob-read-session-pool-%d")
+                .build());
+    this.lock = new ReentrantLock();
+    this.entries = new HashMap<>();
+    this.retiredEntries = new ArrayList<>();
+    this.closed = false;
+    long sweepMillis = Math.max(1, idleTimeout.toMillis() / 2);
+    executor.scheduleWithFixedDelay(
+        () -> closeIdle(System.nanoTime()), sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static Builder newBuilder(@NonNull Storage storage) {
+    return new Builder(requireNonNull(storage, "storage must be non null"));
+  }
+
+  /**
+   * Lease the pooled sessions for {@code id}, opening the first session if none is currently open.
+   *
+   * <p>The returned {@link BlobReadSession} MUST be {@link BlobReadSession#close() close()}d once
+   * no more reads will be issued through it. Closing the lease does not affect any projection
+   * already returned from it, nor any other lease of the same object.
+   *
+   * <p>If {@code id} does not specify a generation, the lease reads the generation resolved by the
+   * pooled sessions, which is at most {@link Builder#setLatestGenerationTtl(Duration)
+   * latestGenerationTtl} old.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ApiFuture<BlobReadSession> acquire(@NonNull BlobId id, BlobSourceOption... options) {
+    return acquire(id, System.nanoTime(), options);
+  }
+
+  @VisibleForTesting
+  ApiFuture<BlobReadSession> acquire(
+      @NonNull BlobId id, long nowNanos, BlobSourceOption... options) {
+    requireNonNull(id, "id must be non null");
+    Key key = new Key(id, ImmutableList.copyOf(options));
+    Entry entry;
+    lock.lock();
+    try {
+      checkState(!closed, "BlobReadSessionPool is closed");
+      entry = entries.get(key);
+      if (entry != null
+          && id.getGeneration() == null
+          && nowNanos - entry.openedNanos >= latestGenerationTtl.toNanos()) {
+        // the resolved generation may no longer be the latest, leave the entry to drain
+        entries.remove(key);
+        entry.retired = true;
+        retiredEntries.add(entry);
+        entry = null;
+      }
+      if (entry == null) {
+        entry = new Entry(key, nowNanos);
+        entries.put(key, entry);
+        entry.open();
+      }
+      entry.leases++;
+    } finally {
+      lock.unlock();
+    }
+    Entry e = entry;
+    ApiFuture<BlobReadSession> lease =
+        ApiFutures.transform(e.first, ignore -> new Lease(e), MoreExecutors.directExecutor());
+    ApiFutures.addCallback(
+        lease,
+        new ApiFutureCallback<BlobReadSession>() {
+          @Override
+          public void onFailure(Throwable t) {
+            e.release();
+          }
+
+          @Override
+          public void onSuccess(BlobReadSession result) {}
+        },
+        MoreExecutors.directExecutor());
+    return lease;
+  }
+
+  /**
+   * Close all pooled sessions. Leases which have not yet been closed will fail any further reads.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @Override
+  public void close() throws IOException {
+    List<Entry> toClose;
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      toClose = new ArrayList<>(entries.values());
+      toClose.addAll(retiredEntries);
+      entries.clear();
+      retiredEntries.clear();
+    } finally {
+      lock.unlock();
+    }
+    executor.shutdownNow();
+    closeAll(toClose);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("maxSessionsPerObject", maxSessionsPerObject)
+        .add("targetReadsPerSession", targetReadsPerSession)
+        .add("largeObjectSize", largeObjectSize)
+        .add("idleTimeout", idleTimeout)
+        .add("latestGenerationTtl", latestGenerationTtl)
+        .toString();
+  }
+
+  /** The number of sessions currently open for {@code id}, or {@code 0} if it is not pooled */
+  @VisibleForTesting
+  int sessionCount(BlobId id, BlobSourceOption... options) {
+    lock.lock();
+    try {
+      Entry entry = entries.get(new Key(id, ImmutableList.copyOf(options)));
+      return entry == null ? 0 : entry.shards.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Close every pooled object which has been idle since before {@code nowNanos - idleTimeout}, and
+   * every retired object which is no longer in use
+   */
+  @VisibleForTesting
+  void closeIdle(long nowNanos) {
+    long idleNanos = idleTimeout.toNanos();
+    List<Entry> toClose = new ArrayList<>();
+    lock.lock();
+    try {
+      Iterator<Entry> iter = entries.values().iterator();
+      while (iter.hasNext()) {
+        Entry entry = iter.next();
+        if (entry.leases == 0
+            && entry.inFlight() == 0
+            && nowNanos - entry.lastUsedNanos.get() >= idleNanos) {
+          iter.remove();
+          toClose.add(entry);
+        }
+      }
+      Iterator<Entry> retiredIter = retiredEntries.iterator();
+      while (retiredIter.hasNext()) {
+        Entry entry = retiredIter.next();
+        if (entry.leases == 0 && entry.inFlight() == 0 && entry.opening.get() == 0) {
+          retiredIter.remove();
+          toClose.add(entry);
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+    try {
+      closeAll(toClose);
+    } catch (IOException ignore) {
+      // the sessions are being discarded, there is nobody to report the failure to
+    }
+  }
+
+  private static void closeAll(List<Entry> entries) throws IOException {
+    IOException failure = null;
+    for (Entry entry : entries) {
+      for (Shard shard : entry.shards) {
+        try {
+          shard.session.close();
+        } catch (IOException e) {
+          if (failure == null) {
+            failure = e;
+          } else {
+            failure.addSuppressed(e);
+          }
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private final class Entry {
+    private final Key key;
+    private final long openedNanos;
+    private final CopyOnWriteArrayList<Shard> shards;
+    private final AtomicInteger opening;
+    private final AtomicLong lastUsedNanos;
+    private final AtomicInteger roundRobin;
+
+    /** guarded by {@link BlobReadSessionPool#lock} */
+    private int leases;
+
+    /** written under {@link BlobReadSessionPool#lock} */
+    private volatile boolean retired;
+
+    private ApiFuture<BlobReadSession> first;
+
+    private Entry(Key key, long openedNanos) {
+      this.key = key;
+      this.openedNanos = openedNanos;
+      this.shards = new CopyOnWriteArrayList<>();
+      this.opening = new AtomicInteger();
+      this.lastUsedNanos = new AtomicLong(System.nanoTime());
+      this.roundRobin = new AtomicInteger();
+      this.leases = 0;
+      this.retired = false;
+    }
+
+    private void open() {
+      opening.incrementAndGet();
+      first = storage.blobReadSession(key.id, key.options);
+      ApiFutures.addCallback(
+          first,
+          new ApiFutureCallback<BlobReadSession>() {
+            @Override
+            public void onFailure(Throwable t) {
+              opening.decrementAndGet();
+              // don't pool a failure, allow the next acquire to try again
+              lock.lock();
+              try {
+                entries.remove(key, Entry.this);
+                retiredEntries.remove(Entry.this);
+              } finally {
+                lock.unlock();
+              }
+            }
+
+            @Override
+            public void onSuccess(BlobReadSession session) {
+              boolean added = addShard(session);
+              opening.decrementAndGet();
+              if (added && session.getBlobInfo().getSize() >= largeObjectSize) {
+                while (openAdditional()) {}
+              }
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Open another session pinned to the generation of the first, returning {@code false} if the
+     * maximum number of sessions are already open or opening.
+     */
+    private boolean openAdditional() {
+      if (retired) {
+        // a retired entry only serves the leases it already has
+        return false;
+      }
+      int current;
+      do {
+        current = opening.get();
+        if (current + shards.size() >= maxSessionsPerObject) {
+          return false;
+        }
+      } while (!opening.compareAndSet(current, current + 1));
+
+      BlobInfo info = shards.get(0).session.getBlobInfo();
+      BlobId pinned = BlobId.of(info.getBucket(), info.getName(), info.getGeneration());
+      ApiFuture<BlobReadSession> f = storage.blobReadSession(pinned, key.options);
+      ApiFutures.addCallback(
+          f,
+          new ApiFutureCallback<BlobReadSession>() {
+            @Override
+            public void onFailure(Throwable t) {
+              // the existing sessions are still usable, a later read will try again
+              opening.decrementAndGet();
+            }
+
+            @Override
+            public void onSuccess(BlobReadSession session) {
+              addShard(session);
+              opening.decrementAndGet();
+            }
+          },
+          MoreExecutors.directExecutor());
+      return true;
+    }
+
+    /**
+     * Add {@code session} to this entry, unless the entry has since been closed in which case the
+     * session is closed instead.
+     */
+    private boolean addShard(BlobReadSession session) {
+      lock.lock();
+      try {
+        boolean pooled =
+            entries.get(key) == Entry.this || (retired && retiredEntries.contains(Entry.this));
+        if (!closed && pooled) {
+          shards.add(new Shard(session));
+          return true;
+        }
+      } finally {
+        lock.unlock();
+      }
+      try {
+        session.close();
+      } catch (IOException ignore) {
+        // the session was never used
+      }
+      return false;
+    }
+
+    private Shard pick() {
+      lastUsedNanos.set(System.nanoTime());
+      Shard best = null;
+      int bestLoad = Integer.MAX_VALUE;
+      int size = shards.size();
+      int offset = roundRobin.getAndIncrement();
+      for (int i = 0; i < size; i++) {
+        // start from a rotating offset so sessions with equal load take turns
+        Shard shard = shards.get(Math.floorMod(offset + i, size));
+        int load = shard.inFlight.get();
+        if (load < bestLoad) {
+          best = shard;
+          bestLoad = load;
+        }
+      }
+      checkState(best != null, "no open session");
+      if (bestLoad >= targetReadsPerSession) {
+        openAdditional();
+      }
+      return best;
+    }
+
+    private int inFlight() {
+      int sum = 0;
+      for (Shard shard : shards) {
+        sum += shard.inFlight.get();
+      }
+      return sum;
+    }
+
+    private void release() {
+      lastUsedNanos.set(System.nanoTime());
+      lock.lock();
+      try {
+        leases--;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private static final class Shard {
+    private final BlobReadSession session;
+    private final AtomicInteger inFlight;
+
+    private Shard(BlobReadSession session) {
+      this.session = session;
+      this.inFlight = new AtomicInteger();
+    }
+  }
+
+  private final class Lease implements BlobReadSession {
+    private final Entry entry;
+    private volatile boolean open;
+
+    private Lease(Entry entry) {
+      this.entry = entry;
+      this.open = true;
+    }
+
+    @Override
+    public BlobInfo getBlobInfo() {
+      return entry.shards.get(0).session.getBlobInfo();
+    }
+
+    /**
+     * Each projection counts toward the load of its session, and keeps the session from being
+     * closed as idle, until it is done with: a future until it resolves, a list of futures until
+     * all of them resolve, and a channel until it is closed.
+     */
+    @Override
+    public <Projection> Projection readAs(ReadProjectionConfig<Projection> config) {
+      checkState(open, "Session already closed");
+      Shard shard = entry.pick();
+      InFlight inFlight = new InFlight(entry, shard);
+      Projection projection;
+      try {
+        projection = shard.session.readAs(config);
+      } catch (RuntimeException e) {
+        inFlight.done();
+        throw e;
+      }
+      return track(config, projection, inFlight);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Projection> Projection track(
+        ReadProjectionConfig<Projection> config, Projection projection, InFlight inFlight) {
+      if (projection instanceof ApiFuture) {
+        ((ApiFuture<?>) projection).addListener(inFlight::done, MoreExecutors.directExecutor());
+        return projection;
+      } else if (config instanceof ReadAsVectoredByteStrings) {
+        ApiFutures.successfulAsList((List<? extends ApiFuture<?>>) projection)
+            .addListener(inFlight::done, MoreExecutors.directExecutor());
+        return projection;
+      } else if (config instanceof ReadAsChannel) {
+        return (Projection)
+            new InFlightScatteringByteChannel((ScatteringByteChannel) projection, inFlight);
+      } else if (config instanceof ReadAsSeekableChannel) {
+        return (Projection)
+            new InFlightSeekableByteChannel((SeekableByteChannel) projection, inFlight);
+      } else {
+        // not a projection we know how to observe, rely on rotation among sessions alone
+        inFlight.done();
+        return projection;
+      }
+    }
+
+    @Override
+    public void close() {
+      if (open) {
+        open = false;
+        entry.release();
+      }
+    }
+  }
+
+  /** A single projection counted against the load of its session until {@link #done()} */
+  private static final class InFlight {
+    private final Entry entry;
+    private final Shard shard;
+    private final AtomicBoolean done;
+
+    private InFlight(Entry entry, Shard shard) {
+      this.entry = entry;
+      this.shard = shard;
+      this.done = new AtomicBoolean(false);
+      shard.inFlight.incrementAndGet();
+    }
+
+    private void done() {
+      if (done.compareAndSet(false, true)) {
+        shard.inFlight.decrementAndGet();
+        entry.lastUsedNanos.set(System.nanoTime());
+      }
+    }
+  }
+
+  private static final class InFlightScatteringByteChannel implements ScatteringByteChannel {
+    private final ScatteringByteChannel delegate;
+    private final InFlight inFlight;
+
+    private InFlightScatteringByteChannel(ScatteringByteChannel delegate, InFlight inFlight) {
+      this.delegate = delegate;
+      this.inFlight = inFlight;
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+      return delegate.read(dsts, offset, length);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts) throws IOException {
+      return delegate.read(dsts);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return delegate.read(dst);
+    }
+
+    @Override
+    public boolean isOpen() {
+      return delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        delegate.close();
+      } finally {
+        inFlight.done();
+      }
+    }
+  }
+
+  private static final class InFlightSeekableByteChannel implements SeekableByteChannel {
+    private final SeekableByteChannel delegate;
+    private final InFlight inFlight;
+
+    private InFlightSeekableByteChannel(SeekableByteChannel delegate, InFlight inFlight) {
+      this.delegate = delegate;
+      this.inFlight = inFlight;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return delegate.read(dst);
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      return delegate.write(src);
+    }
+
+    @Override
+    public long position() throws IOException {
+      return delegate.position();
+    }
+
+    @Override
+    public SeekableByteChannel position(long newPosition) throws IOException {
+      delegate.position(newPosition);
+      return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+      return delegate.size();
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) throws IOException {
+      delegate.truncate(size);
+      return this;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        delegate.close();
+      } finally {
+        inFlight.done();
+      }
+    }
+  }
+
+  private static final class Key {
+    private final BlobId id;
+    private final ImmutableList<BlobSourceOption> optionList;
+    private final BlobSourceOption[] options;
+
+    private Key(BlobId id, ImmutableList<BlobSourceOption> options) {
+      this.id = id;
+      this.optionList = options;
+      this.options = options.toArray(new BlobSourceOption[0]);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return id.equals(that.id) && optionList.equals(that.optionList);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, optionList);
+    }
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static final class Builder {
+    private final Storage storage;
+    private int maxSessionsPerObject;
+    private int targetReadsPerSession;
+    private long largeObjectSize;
+    private Duration idleTimeout;
+    private Duration latestGenerationTtl;
+
+    private Builder(Storage storage) {
+      this.storage = storage;
+      this.maxSessionsPerObject = 4;
+      this.targetReadsPerSession = 16;
+      this.largeObjectSize = 128L * ByteSizeConstants._1MiB;
+      this.idleTimeout = Duration.ofSeconds(60);
+      this.latestGenerationTtl = Duration.ofSeconds(60);
+    }
+
+    /**
+     * The maximum number of sessions, and therefore streams, which will be opened for a single
+     * object.
+     *
+     * <p><i>Default:</i> {@code 4}
+     *
+     * @param maxSessionsPerObject must be &gt;= 1
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setMaxSessionsPerObject(int maxSessionsPerObject) {
+      checkArgument(
+          maxSessionsPerObject >= 1, "maxSessionsPerObject >= 1 (%s >= 1)", maxSessionsPerObject);
+      this.maxSessionsPerObject = maxSessionsPerObject;
+      return this;
+    }
+
+    /**
+     * The number of reads in flight on every session of an object beyond which another session will
+     * be opened for it.
+     *
+     * <p><i>Default:</i> {@code 16}
+     *
+     * @param targetReadsPerSession must be &gt;= 1
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setTargetReadsPerSession(int targetReadsPerSession) {
+      checkArgument(
+          targetReadsPerSession >= 1,
+          "targetReadsPerSession >= 1 (%s >= 1)",
+          targetReadsPerSession);
+      this.targetReadsPerSession = targetReadsPerSession;
+      return this;
+    }
+
+    /**
+     * The size at or above which an object will have {@link #setMaxSessionsPerObject(int)
+     * maxSessionsPerObject} sessions opened as soon as it is first acquired.
+     *
+     * <p><i>Default:</i> {@code 134217728 (128 MiB)}
+     *
+     * @param largeObjectSize must be &gt;= 0
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setLargeObjectSize(long largeObjectSize) {
+      checkArgument(largeObjectSize >= 0, "largeObjectSize >= 0 (%s >= 0)", largeObjectSize);
+      this.largeObjectSize = largeObjectSize;
+      return this;
+    }
+
+    /**
+     * How long the sessions of an object will be kept open once it has no leases and no reads in
+     * flight.
+     *
+     * <p><i>Default:</i> {@code PT60S}
+     *
+     * @param idleTimeout must be positive
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setIdleTimeout(@NonNull Duration idleTimeout) {
+      requireNonNull(idleTimeout, "idleTimeout must be non null");
+      checkArgument(
+          !idleTimeout.isNegative() && !idleTimeout.isZero(),
+          "idleTimeout must be positive (%s)",
+          idleTimeout);
+      this.idleTimeout = idleTimeout;
+      return this;
+    }
+
+    /**
+     * How long the generation resolved for a {@link BlobId} without a generation will be used for
+     * new leases of it. Once elapsed, the next lease opens a new session which resolves the latest
+     * generation again.
+     *
+     * <p>Has no effect on a {@link BlobId} which specifies a generation.
+     *
+     * <p><i>Default:</i> {@code PT60S}
+     *
+     * @param latestGenerationTtl must be positive
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setLatestGenerationTtl(@NonNull Duration latestGenerationTtl) {
+      requireNonNull(latestGenerationTtl, "latestGenerationTtl must be non null");
+      checkArgument(
+          !latestGenerationTtl.isNegative() && !latestGenerationTtl.isZero(),
+          "latestGenerationTtl must be positive (%s)",
+          latestGenerationTtl);
+      this.latestGenerationTtl = latestGenerationTtl;
+      return this;
+    }
+
+    /**
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public BlobReadSessionPool build() {
+      return new BlobReadSessionPool(
+          storage,
+          maxSessionsPerObject,
+          targetReadsPerSession,
+          largeObjectSize,
+          idleTimeout,
+          latestGenerationTtl);
+    }
+  }
+}
@@ -219,6 +219,41 @@ import java.util.Collection;
  *       </ul>
  *     </td>
  *   </tr>
+ *   <tr>
+ *     <td>Multipart Upload</td>
+ *     <td>{@link #multipartUpload()}</td>
+ *     <td>
+ *       Break the stream of bytes into parts uploading each part in parallel. Then complete the
+ *       multipart upload to assemble the parts into the ultimate object.
+ *     </td>
+ *     <td>HTTP</td>
+ *     <td>
+ *       <ol>
+ *         <li>No temporary objects are created, parts are discarded once the upload is completed
+ *         or aborted.</li>
+ *         <li>
+ *           A failed upload will be aborted. However if the program were to crash the incomplete
+ *           upload will count as storage usage until it is aborted. An
+ *           <a href="https://cloud.google.com/storage/docs/lifecycle">Object Lifecycle Management</a>
+ *           rule with an {@code AbortIncompleteMultipartUpload} action can be setup to abort
+ *           incomplete uploads automatically.
+ *         </li>
+ *         <li>Every part other than the last must be at least 5MiB, and at most 10,000 parts may
+ *         be uploaded.</li>
+ *         <li>Preconditions are not supported.</li>
+ *       </ol>
+ *     </td>
+ *     <td>
+ *       Automatic retries will be applied for the following:
+ *       <ol>
+ *         <li>Creating the multipart upload</li>
+ *         <li>Uploading each individual part</li>
+ *         <li>Completing the multipart upload</li>
+ *       </ol>
+ *       <p>Each operation will be retried up to the limitations specified in {@link StorageOptions#getRetrySettings()}
+ *     </td>
+ *     <td><a href="https://cloud.google.com/storage/docs/multipart-uploads">Multipart uploads</a></td>
+ *   </tr>
  * </table>
  *
  * @see BlobWriteSessionConfig
@@ -346,4 +381,20 @@ public final class BlobWriteSessionConfigs {
   public static ParallelCompositeUploadBlobWriteSessionConfig parallelCompositeUpload() {
     return ParallelCompositeUploadBlobWriteSessionConfig.withDefaults();
   }
+
+  /**
+   * Create a new {@link BlobWriteSessionConfig} which will perform an <a
+   * href="https://cloud.google.com/storage/docs/multipart-uploads">XML API multipart upload</a> by
+   * breaking the stream into parts, uploading the parts in parallel and completing the upload to
+   * assemble the ultimate object.
+   *
+   * @see Storage#blobWriteSession(BlobInfo, BlobWriteOption...)
+   * @see HttpStorageOptions.Builder#setBlobWriteSessionConfig(BlobWriteSessionConfig)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility(Transport.HTTP)
+  public static MultipartUploadBlobWriteSessionConfig multipartUpload() {
+    return MultipartUploadBlobWriteSessionConfig.withDefaults();
+  }
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.storage.BlobReadSessionBlockCache.BlockKey;
+import com.google.cloud.storage.ReadProjectionConfig.ProjectionType;
+import com.google.cloud.storage.ZeroCopySupport.DisposableByteString;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.storage.v2.Object;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ScatteringByteChannel;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Decorate an {@link ObjectReadSession} such that bounded reads consult a {@link
+ * BlobReadSessionBlockCache} before being sent to Google Cloud Storage.
+ *
+ * <p>For a cacheable read, the blocks covering the requested range are looked up. If any are
+ * missing, a single read spanning the first through last missing block is issued, and the blocks it
+ * returns are inserted into the cache. The projection is then produced from the assembled bytes.
+ *
+ * <p>Only bytes whose crc32c has been validated are inserted into the cache. A read with crc32c
+ * validation disabled is still served from blocks already in the cache, but the blocks it fetches
+ * are used for that read alone.
+ */
+final class BlockCachingObjectReadSession implements ObjectReadSession {
+
+  private final ObjectReadSession delegate;
+  private final BlobReadSessionBlockCache cache;
+
+  BlockCachingObjectReadSession(ObjectReadSession delegate, BlobReadSessionBlockCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public Object getResource() {
+    return delegate.getResource();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <Projection> Projection readAs(ReadProjectionConfig<Projection> config) {
+    if (config instanceof ReadAsFutureBytes) {
+      ReadAsFutureBytes c = (ReadAsFutureBytes) config;
+      ApiFuture<byte[]> bytes = read(c.getRange(), c.getCrc32cValidationEnabled(), c.getPriority());
+      if (bytes != null) {
+        return (Projection) bytes;
+      }
+    } else if (config instanceof ReadAsFutureByteString) {
+      ReadAsFutureByteString c = (ReadAsFutureByteString) config;
+      ApiFuture<byte[]> bytes = read(c.getRange(), c.getCrc32cValidationEnabled(), c.getPriority());
+      if (bytes != null) {
+        return (Projection)
+            ApiFutures.transform(bytes, CachedByteString::new, MoreExecutors.directExecutor());
+      }
+    } else if (config instanceof ReadAsChannel) {
+      ReadAsChannel c = (ReadAsChannel) config;
+      ApiFuture<byte[]> bytes = read(c.getRange(), c.getCrc32cValidationEnabled(), c.getPriority());
+      if (bytes != null) {
+        return (Projection) new FutureBytesChannel(bytes);
+      }
+    } else if (config.getType() == ProjectionType.SESSION_USER) {
+      // route the reads of composite projections back through this session
+      return config.project(this, IOAutoCloseable.noOp());
+    }
+    return delegate.readAs(config);
+  }
+
+  @Override
+  public void close() throws IOException {
+    delegate.close();
+  }
+
+  /**
+   * Resolve the bytes of {@code range} by way of the cache, or return {@code null} if the range is
+   * not cacheable and should be read directly. Any missing blocks are fetched with {@code
+   * priority}.
+   */
+  @Nullable
+  private ApiFuture<byte[]> read(
+      RangeSpec range, boolean crc32cValidationEnabled, ReadPriority priority) {
+    Object resource = delegate.getResource();
+    long size = resource.getSize();
+    long begin = range.begin();
+    OptionalLong maxLength = range.maxLength();
+    if (!maxLength.isPresent() || begin >= size) {
+      return null;
+    }
+    long end = Math.min(size, begin + maxLength.getAsLong());
+    if (end - begin > cache.getMaxCacheableRangeLength()) {
+      return null;
+    }
+
+    int blockSize = cache.getBlockSize();
+    long firstBlock = begin / blockSize;
+    long lastBlock = (end - 1) / blockSize;
+    int blockCount = Math.toIntExact(lastBlock - firstBlock + 1);
+    ByteBuffer[] blocks = new ByteBuffer[blockCount];
+    int firstMissing = -1;
+    int lastMissing = -1;
+    for (int i = 0; i < blockCount; i++) {
+      blocks[i] = cache.get(key(resource, firstBlock + i));
+      if (blocks[i] == null) {
+        if (firstMissing < 0) {
+          firstMissing = i;
+        }
+        lastMissing = i;
+      }
+    }
+
+    if (firstMissing < 0) {
+      return ApiFutures.immediateFuture(assemble(blocks, firstBlock, begin, end));
+    }
+
+    long fetchBegin = (firstBlock + firstMissing) * blockSize;
+    long fetchEnd = Math.min(size, (firstBlock + lastMissing + 1) * blockSize);
+    ApiFuture<byte[]> fetch =
+        delegate.readAs(
+            ReadProjectionConfigs.asFutureBytes()
+                .withRangeSpec(RangeSpec.of(fetchBegin, fetchEnd - fetchBegin))
+                .withCrc32cValidationEnabled(crc32cValidationEnabled)
+                .withPriority(priority));
+    int fm = firstMissing;
+    int lm = lastMissing;
+    return ApiFutures.transform(
+        fetch,
+        fetched -> {
+          for (int i = fm; i <= lm; i++) {
+            long blockBegin = (firstBlock + i) * blockSize;
+            // if the object ended before its reported size, the trailing blocks will be short or
+            // empty
+            int offset = Math.min(fetched.length, Math.toIntExact(blockBegin - fetchBegin));
+            int length = Math.max(0, Math.min(blockSize, fetched.length - offset));
+            ByteBuffer block = ByteBuffer.wrap(fetched, offset, length).slice();
+            long expected = Math.min(blockSize, size - blockBegin);
+            // never let unvalidated bytes be served to reads which asked for validation
+            if (crc32cValidationEnabled && length == expected) {
+              cache.put(key(resource, firstBlock + i), block.duplicate());
+            }
+            blocks[i] = block;
+          }
+          return assemble(blocks, firstBlock, begin, end);
+        },
+        MoreExecutors.directExecutor());
+  }
+
+  private BlockKey key(Object resource, long index) {
+    return new BlockKey(resource.getBucket(), resource.getName(), resource.getGeneration(), index);
+  }
+
+  private byte[] assemble(ByteBuffer[] blocks, long firstBlock, long begin, long end) {
+    int blockSize = cache.getBlockSize();
+    byte[] out = new byte[Math.toIntExact(end - begin)];
+    int written = 0;
+    for (int i = 0; i < blocks.length; i++) {
+      ByteBuffer block = blocks[i].duplicate();
+      long blockBegin = (firstBlock + i) * blockSize;
+      int skip = Math.toIntExact(Math.max(0, begin - blockBegin));
+      int take = Math.max(0, Math.min(block.remaining() - skip, out.length - written));
+      if (take == 0) {
+        // a short block means the object ended early, nothing after it can be read either
+        break;
+      }
+      block.position(block.position() + skip);
+      block.get(out, written, take);
+      written += take;
+    }
+    return written == out.length ? out : Arrays.copyOf(out, written);
+  }
+
+  private static final class CachedByteString implements DisposableByteString {
+    private final ByteString byteString;
+
+    private CachedByteString(byte[] bytes) {
+      this.byteString = UnsafeByteOperations.unsafeWrap(bytes);
+    }
+
+    @Override
+    public ByteString byteString() {
+      return byteString;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  /**
+   * Non-blocking channel over the eventual result of a cache read, mirroring the semantics of a
+   * streaming read: {@code 0} is returned until bytes are available.
+   */
+  private static final class FutureBytesChannel implements ScatteringByteChannel {
+    private final ApiFuture<byte[]> future;
+    @Nullable private ByteBuffer content;
+    private boolean open;
+
+    private FutureBytesChannel(ApiFuture<byte[]> future) {
+      this.future = future;
+      this.open = true;
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+      if (!open) {
+        throw new ClosedChannelException();
+      }
+      if (content == null) {
+        if (!future.isDone()) {
+          return 0;
+        }
+        try {
+          content = ByteBuffer.wrap(future.get());
+        } catch (ExecutionException e) {
+          throw new IOException(StorageException.coalesce(e.getCause()));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+      if (!content.hasRemaining()) {
+        return -1;
+      }
+      return Buffers.copy(content, dsts, offset, length);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts) throws IOException {
+      return read(dsts, 0, dsts.length);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return Math.toIntExact(read(new ByteBuffer[] {dst}, 0, 1));
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+      future.cancel(true);
+    }
+  }
+}
@@ -21,8 +21,20 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.locks.Condition;
@@ -43,6 +55,12 @@ interface BufferHandlePool {
     return FixedBufferHandlePool.of(bufferCount, bufferCapacity);
   }
 
+  static BufferHandlePool spillToDisk(
+      int heapBufferCount, int spillBufferCount, int bufferCapacity, List<Path> spillVolumes) {
+    return new SpillingBufferHandlePool(
+        heapBufferCount, spillBufferCount, bufferCapacity, spillVolumes);
+  }
+
   final class SimpleBufferHandlePool implements BufferHandlePool {
     private final int capacity;
 
@@ -137,6 +155,157 @@ interface BufferHandlePool {
     }
   }
 
+  /**
+   * A pool which prefers up to {@code heapBufferCount} heap buffers, and once all of those are in
+   * use hands out up to {@code spillBufferCount} buffers backed by memory-mapped temp files created
+   * round-robin across {@code spillVolumes}. Only once both are exhausted does {@link #getBuffer()}
+   * block.
+   *
+   * <p>Heap buffers are lazily allocated and reused once returned. Spill buffers are not reused,
+   * when one is returned its file is truncated and deleted, releasing the disk space it occupied
+   * immediately rather than once the mapping is garbage collected. Accessing a spill buffer after
+   * it has been returned faults, a buffer must only be returned once nothing can read from it.
+   */
+  final class SpillingBufferHandlePool implements BufferHandlePool {
+    private final int heapBufferCount;
+    private final int spillBufferCount;
+    private final int bufferCapacity;
+    private final ImmutableList<Path> spillVolumes;
+
+    private final ReentrantLock lock;
+    private final Condition returned;
+    private final ArrayDeque<PooledBuffer> heap;
+    private final IdentityHashMap<PooledBuffer, FileChannel> spilled;
+    private final Set<PooledBuffer> available;
+
+    private int heapAllocated;
+    private int spillAllocated;
+    private int nextVolume;
+
+    @VisibleForTesting
+    SpillingBufferHandlePool(
+        int heapBufferCount, int spillBufferCount, int bufferCapacity, List<Path> spillVolumes) {
+      checkArgument(heapBufferCount >= 0, "heapBufferCount >= 0 (%s >= 0)", heapBufferCount);
+      checkArgument(spillBufferCount >= 0, "spillBufferCount >= 0 (%s >= 0)", spillBufferCount);
+      checkArgument(
+          heapBufferCount + spillBufferCount > 0, "at least one heap or spill buffer is required");
+      checkArgument(bufferCapacity > 0, "bufferCapacity > 0 (%s > 0)", bufferCapacity);
+      checkArgument(
+          spillBufferCount == 0 || !spillVolumes.isEmpty(),
+          "at least one spill volume is required when spillBufferCount > 0");
+      this.heapBufferCount = heapBufferCount;
+      this.spillBufferCount = spillBufferCount;
+      this.bufferCapacity = bufferCapacity;
+      this.spillVolumes = ImmutableList.copyOf(spillVolumes);
+
+      this.lock = new ReentrantLock();
+      this.returned = lock.newCondition();
+      this.heap = new ArrayDeque<>();
+      this.spilled = new IdentityHashMap<>();
+      this.available = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    public PooledBuffer getBuffer() {
+      Path volume;
+      try (AcquiredLock ignore = AcquiredLock.lock(this.lock)) {
+        while (true) {
+          if (!heap.isEmpty()) {
+            PooledBuffer buffer = heap.removeFirst();
+            available.remove(buffer);
+            return buffer;
+          } else if (heapAllocated < heapBufferCount) {
+            heapAllocated++;
+            return PooledBuffer.of(BufferHandle.allocate(bufferCapacity));
+          } else if (spillAllocated < spillBufferCount) {
+            spillAllocated++;
+            volume = spillVolumes.get(nextVolume++ % spillVolumes.size());
+            break;
+          }
+          returned.awaitUninterruptibly();
+        }
+      }
+
+      // create and map the file outside the lock, so other producers aren't blocked on io
+      FileChannel channel = null;
+      try {
+        channel = open(volume);
+        // the mapping remains valid until the channel is truncated
+        MappedByteBuffer mapped = channel.map(MapMode.READ_WRITE, 0, bufferCapacity);
+        PooledBuffer buffer = PooledBuffer.of(BufferHandle.handleOf(mapped));
+        try (AcquiredLock ignore = AcquiredLock.lock(this.lock)) {
+          spilled.put(buffer, channel);
+        }
+        return buffer;
+      } catch (IOException | RuntimeException e) {
+        if (channel != null) {
+          release(channel);
+        }
+        try (AcquiredLock ignore = AcquiredLock.lock(this.lock)) {
+          spillAllocated--;
+          returned.signal();
+        }
+        throw StorageException.coalesce(e);
+      }
+    }
+
+    @Override
+    public void returnBuffer(PooledBuffer handle) {
+      checkNotNull(handle, "handle must be non null");
+      FileChannel channel;
+      try (AcquiredLock ignore = AcquiredLock.lock(this.lock)) {
+        channel = spilled.remove(handle);
+        if (channel == null) {
+          if (!available.add(handle)) {
+            return;
+          }
+          handle.getBufferHandle().get().clear();
+          heap.addLast(handle);
+        } else {
+          spillAllocated--;
+        }
+        returned.signal();
+      }
+      if (channel != null) {
+        release(channel);
+      }
+    }
+
+    @VisibleForTesting
+    boolean isSpilled(PooledBuffer buffer) {
+      try (AcquiredLock ignore = AcquiredLock.lock(this.lock)) {
+        return spilled.containsKey(buffer);
+      }
+    }
+
+    private FileChannel open(Path volume) throws IOException {
+      Files.createDirectories(volume);
+      Path file = Files.createTempFile(volume, "pcu-spill-", ".part");
+      return FileChannel.open(
+          file,
+          StandardOpenOption.READ,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    /**
+     * Truncate the file so its blocks are freed even though the mapping is still reachable, then
+     * close the channel which deletes the file.
+     */
+    private static void release(FileChannel channel) {
+      try {
+        channel.truncate(0);
+      } catch (IOException ignore) {
+        // some platforms refuse to truncate a mapped file, the file will still be deleted on close
+      }
+      try {
+        channel.close();
+      } catch (IOException ignore) {
+        // best effort
+      }
+    }
+  }
+
   final class PooledBuffer {
     private final BufferHandle bufferHandle;
 
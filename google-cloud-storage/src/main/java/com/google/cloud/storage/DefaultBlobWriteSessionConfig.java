@@ -24,6 +24,7 @@ import com.google.api.gax.grpc.GrpcCallContext;
 import com.google.api.services.storage.model.StorageObject;
 import com.google.cloud.storage.BufferedWritableByteChannelSession.BufferedWritableByteChannel;
 import com.google.cloud.storage.Conversions.Decoder;
+import com.google.cloud.storage.HttpWritableByteChannelSessionBuilder.ResumableUploadBuilder;
 import com.google.cloud.storage.TransportCompatibility.Transport;
 import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
 import com.google.cloud.storage.UnifiedOpts.Opts;
@@ -47,7 +48,9 @@ import javax.annotation.concurrent.Immutable;
  * <p>Perform a resumable upload, uploading at most {@code chunkSize} bytes each PUT.
  *
  * <p>Configuration of chunk size can be performed via {@link
- * DefaultBlobWriteSessionConfig#withChunkSize(int)}.
+ * DefaultBlobWriteSessionConfig#withChunkSize(int)}. When using the JSON API, chunks can be sent
+ * without waiting for the previous chunk to be acknowledged via {@link
+ * DefaultBlobWriteSessionConfig#withPipelining(boolean)}.
  *
  * <p>An instance of this class will provide a {@link BlobWriteSession} is logically equivalent to
  * the following:
@@ -68,10 +71,16 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
   private static final long serialVersionUID = -6873740918589930633L;
 
   private final int chunkSize;
+  private final boolean pipelining;
 
   @InternalApi
   DefaultBlobWriteSessionConfig(int chunkSize) {
+    this(chunkSize, false);
+  }
+
+  private DefaultBlobWriteSessionConfig(int chunkSize, boolean pipelining) {
     this.chunkSize = chunkSize;
+    this.pipelining = pipelining;
   }
 
   /**
@@ -103,7 +112,46 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
         chunkSize >= ByteSizeConstants._256KiB,
         "chunkSize must be >= %d",
         ByteSizeConstants._256KiB);
-    return new DefaultBlobWriteSessionConfig(chunkSize);
+    return new DefaultBlobWriteSessionConfig(chunkSize, pipelining);
+  }
+
+  /**
+   * Whether chunks are sent without waiting for the previous chunk to be acknowledged.
+   *
+   * <p><i>Default:</i> {@code false}
+   *
+   * @see #withPipelining(boolean)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isPipelining() {
+    return pipelining;
+  }
+
+  /**
+   * Create a new instance with {@code pipelining} set to the specified value.
+   *
+   * <p>When enabled, each chunk is sent from a background thread and the next chunk is buffered and
+   * hashed while the previous one is in flight, rather than after it has been acknowledged. Chunks
+   * are still sent one at a time and in order. If a chunk fails, the persisted size of the upload
+   * is queried and sending resumes from there. This can improve throughput over links with high
+   * latency, at the cost of up to two additional buffers of {@link #getChunkSize() chunkSize}.
+   *
+   * <p>Only applies to the JSON API, uploads via gRPC already stream without waiting for each chunk
+   * to be acknowledged.
+   *
+   * <p><i>Default:</i> {@code false}
+   *
+   * @param pipelining Whether chunks should be sent without waiting for the previous chunk to be
+   *     acknowledged
+   * @return The new instance
+   * @see #isPipelining()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility(Transport.HTTP)
+  public DefaultBlobWriteSessionConfig withPipelining(boolean pipelining) {
+    return new DefaultBlobWriteSessionConfig(chunkSize, pipelining);
   }
 
   @Override
@@ -115,27 +163,29 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
       return false;
     }
     DefaultBlobWriteSessionConfig that = (DefaultBlobWriteSessionConfig) o;
-    return chunkSize == that.chunkSize;
+    return chunkSize == that.chunkSize && pipelining == that.pipelining;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(chunkSize);
+    return Objects.hash(chunkSize, pipelining);
   }
 
   @Override
   @InternalApi
   WriterFactory createFactory(Clock clock) {
-    return new Factory(chunkSize);
+    return new Factory(chunkSize, pipelining);
   }
 
   @InternalApi
   private static final class Factory implements WriterFactory {
 
     private final int chunkSize;
+    private final boolean pipelining;
 
-    private Factory(int chunkSize) {
+    private Factory(int chunkSize, boolean pipelining) {
       this.chunkSize = chunkSize;
+      this.pipelining = pipelining;
     }
 
     @InternalApi
@@ -165,7 +215,7 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
                           .resumable()
                           .withRetryConfig(
                               grpc.retrier.withAlg(grpc.retryAlgorithmManager.idempotent()))
-                          .buffered(BufferHandle.allocate(chunkSize))
+                          .buffered(SharedBufferPool.leaseOrAllocate(chunkSize))
                           .setStartAsync(startResumableWrite)
                           .build();
                     })),
@@ -200,11 +250,21 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
                                   opts.getHasher(),
                                   opts.getHasher().initialValue()));
 
-                      return ResumableMedia.http()
-                          .write()
-                          .byteChannel(HttpClientContext.from(json.storageRpc))
-                          .resumable()
-                          .buffered(BufferHandle.allocate(chunkSize))
+                      ResumableUploadBuilder resumable =
+                          ResumableMedia.http()
+                              .write()
+                              .byteChannel(HttpClientContext.from(json.storageRpc))
+                              .resumable();
+                      if (pipelining) {
+                        // a chunk is acknowledged after the call which provided it has returned,
+                        // it must be retried and resumed from the persisted size if it fails
+                        resumable
+                            .setPipelined(true)
+                            .withRetryConfig(
+                                json.retrier.withAlg(json.retryAlgorithmManager.idempotent()));
+                      }
+                      return resumable
+                          .buffered(SharedBufferPool.leaseOrAllocate(chunkSize))
                           .setStartAsync(startAsync)
                           .build();
                     })),
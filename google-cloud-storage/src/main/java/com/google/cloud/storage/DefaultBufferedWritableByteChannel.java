@@ -184,17 +184,22 @@ final class DefaultBufferedWritableByteChannel implements BufferedWritableByteCh
 
   @Override
   public void close() throws IOException {
-    if (enqueuedBytes()) {
-      ByteBuffer buffer = handle.get();
-      Buffers.flip(buffer);
-      channel.writeAndClose(buffer);
-      if (buffer.hasRemaining()) {
-        buffer.compact();
+    try {
+      if (enqueuedBytes()) {
+        ByteBuffer buffer = handle.get();
+        Buffers.flip(buffer);
+        channel.writeAndClose(buffer);
+        if (buffer.hasRemaining()) {
+          buffer.compact();
+        } else {
+          Buffers.clear(buffer);
+        }
       } else {
-        Buffers.clear(buffer);
+        channel.close();
       }
-    } else {
-      channel.close();
+    } finally {
+      // whether or not the close succeeded, a buffer leased from a shared pool must be returned
+      SharedBufferPool.Lease.releaseIfLeased(handle);
     }
   }
 
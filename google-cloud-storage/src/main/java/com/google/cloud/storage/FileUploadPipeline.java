@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.Hasher.Crc32cHasher;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Stages used to upload a file, each run on its own thread so that reading the file, hashing it and
+ * sending it over the network overlap rather than run one after another.
+ *
+ * <ol>
+ *   <li>The CRC32C of the file is computed from memory mapped regions of the file, and can be
+ *       started in the background while the upload session is being created.
+ *   <li>The file is read into a small ring of buffers by a reader thread, while the calling thread
+ *       writes each filled buffer to the request body.
+ * </ol>
+ */
+final class FileUploadPipeline {
+  @VisibleForTesting static final int BUFFER_SIZE = 2 * 1024 * 1024;
+  private static final int BUFFER_COUNT = 3;
+  private static final long MAP_WINDOW_SIZE = 64L * 1024 * 1024;
+
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("c.g.c:g-c-s:fup-%d").build());
+
+  private static final Chunk END = new Chunk(new byte[0], 0, null);
+
+  private FileUploadPipeline() {}
+
+  /**
+   * Start computing {@code crc32c} in the background. The value is expected to be memoized by the
+   * supplier, any failure is ignored here and surfaces when the value is next requested.
+   */
+  static void hashInBackground(Supplier<?> crc32c) {
+    CompletableFuture.runAsync(crc32c::get, EXECUTOR);
+  }
+
+  /** Compute the CRC32C of the entire file, hashing memory mapped regions of it. */
+  static Crc32cLengthKnown crc32c(Path path, Crc32cHasher hasher) throws IOException {
+    try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = fc.size();
+      Crc32cLengthKnown cumulative = Crc32cValue.zero();
+      for (long position = 0; position < size; position += MAP_WINDOW_SIZE) {
+        long length = Math.min(MAP_WINDOW_SIZE, size - position);
+        cumulative = cumulative.concat(hasher.hash(fc.map(MapMode.READ_ONLY, position, length)));
+      }
+      return cumulative;
+    }
+  }
+
+  /**
+   * Copy the bytes of the file starting at {@code position} to {@code out}.
+   *
+   * <p>The file is read by a reader thread into at most {@link #BUFFER_COUNT} buffers while the
+   * calling thread writes each filled buffer to {@code out}, allowing the next buffer to be read
+   * from disk while the previous one is being sent.
+   */
+  static long copy(Path path, long position, OutputStream out) throws IOException {
+    try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+      long end = fc.size();
+      if (end - position <= BUFFER_SIZE) {
+        // a single buffer, there is nothing to overlap
+        byte[] buf = new byte[(int) Math.max(0, end - position)];
+        int length = readFully(fc, buf, position);
+        out.write(buf, 0, length);
+        return length;
+      }
+
+      BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(BUFFER_COUNT);
+      for (int i = 0; i < BUFFER_COUNT; i++) {
+        free.add(new byte[BUFFER_SIZE]);
+      }
+      // every buffer plus the terminal chunk, the reader never blocks putting a chunk
+      BlockingQueue<Chunk> filled = new ArrayBlockingQueue<>(BUFFER_COUNT + 1);
+      Future<?> reader = EXECUTOR.submit(() -> read(fc, position, end, free, filled));
+      try {
+        long copied = 0;
+        while (true) {
+          Chunk chunk = filled.take();
+          if (chunk.failure != null) {
+            Throwables.throwIfInstanceOf(chunk.failure, IOException.class);
+            Throwables.throwIfUnchecked(chunk.failure);
+            throw new IOException(chunk.failure);
+          } else if (chunk == END) {
+            return copied;
+          }
+          out.write(chunk.buf, 0, chunk.length);
+          copied += chunk.length;
+          free.add(chunk.buf);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        InterruptedIOException ioe = new InterruptedIOException();
+        ioe.initCause(e);
+        throw ioe;
+      } finally {
+        // if sending failed, stop the reader rather than leaving it blocked waiting for a buffer
+        reader.cancel(true);
+      }
+    }
+  }
+
+  private static void read(
+      FileChannel fc,
+      long position,
+      long end,
+      BlockingQueue<byte[]> free,
+      BlockingQueue<Chunk> filled) {
+    try {
+      while (position < end) {
+        byte[] buf = free.take();
+        int length = readFully(fc, buf, position);
+        filled.add(new Chunk(buf, length, null));
+        if (length < buf.length) {
+          // either the last buffer, or the file was truncated since its size was read
+          break;
+        }
+        position += length;
+      }
+      filled.add(END);
+    } catch (Throwable t) {
+      filled.offer(new Chunk(new byte[0], 0, t));
+    }
+  }
+
+  private static int readFully(FileChannel fc, byte[] buf, long position) throws IOException {
+    long remaining = fc.size() - position;
+    ByteBuffer bb = ByteBuffer.wrap(buf, 0, (int) Math.max(0, Math.min(buf.length, remaining)));
+    while (bb.hasRemaining()) {
+      if (fc.read(bb, position + bb.position()) < 0) {
+        break;
+      }
+    }
+    return bb.position();
+  }
+
+  private static final class Chunk {
+    private final byte[] buf;
+    private final int length;
+    private final @Nullable Throwable failure;
+
+    private Chunk(byte[] buf, int length, @Nullable Throwable failure) {
+      this.buf = buf;
+      this.length = length;
+      this.failure = failure;
+    }
+  }
+}
@@ -46,6 +46,7 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ScatteringByteChannel;
 import java.util.List;
 import java.util.Locale;
@@ -143,6 +144,74 @@ final class GapicUnbufferedReadableByteChannel
         continue;
       }
 
+      ReadObjectResponseChildRef ref = next();
+      if (ref == null) {
+        complete = true;
+        break;
+      }
+
+      ref.copy(c, dsts, offset, length);
+      if (ref.hasRemaining()) {
+        leftovers = ref;
+      } else {
+        ref.close();
+      }
+    }
+    long read = c.read();
+
+    blobOffset += read;
+
+    return read;
+  }
+
+  /**
+   * Transfer all remaining bytes of the object to {@code dst}.
+   *
+   * <p>Rather than copying the content of each response message into an intermediary buffer, the
+   * buffers backing each message are handed directly to {@link
+   * GatheringByteChannel#write(ByteBuffer[]) dst.write(ByteBuffer[])}, after which the message is
+   * released.
+   *
+   * @return the number of bytes written to {@code dst}
+   */
+  long transferTo(GatheringByteChannel dst) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    long total = 0;
+    while (true) {
+      ReadObjectResponseChildRef ref;
+      if (leftovers != null) {
+        ref = leftovers;
+        leftovers = null;
+      } else if (complete) {
+        break;
+      } else {
+        ref = next();
+        if (ref == null) {
+          complete = true;
+          break;
+        }
+      }
+
+      try {
+        long written = ref.writeTo(dst);
+        total += written;
+        blobOffset += written;
+      } finally {
+        ref.close();
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Take the next response message from the stream, (re)opening the stream if necessary.
+   *
+   * @return the next message or {@code null} if the end of the stream has been reached
+   */
+  private @Nullable ReadObjectResponseChildRef next() throws IOException {
+    while (true) {
       ensureStreamOpen();
       java.lang.Object take;
       try {
@@ -173,23 +242,10 @@ final class GapicUnbufferedReadableByteChannel
         }
       }
       if (take == EOF_MARKER) {
-        complete = true;
-        break;
-      }
-
-      ReadObjectResponseChildRef ref = (ReadObjectResponseChildRef) take;
-      ref.copy(c, dsts, offset, length);
-      if (ref.hasRemaining()) {
-        leftovers = ref;
-      } else {
-        ref.close();
+        return null;
       }
+      return (ReadObjectResponseChildRef) take;
     }
-    long read = c.read();
-
-    blobOffset += read;
-
-    return read;
   }
 
   @Override
@@ -470,6 +526,16 @@ final class GapicUnbufferedReadableByteChannel
       }
     }
 
+    long writeTo(GatheringByteChannel dst) throws IOException {
+      List<ByteBuffer> buffers = lazyBuffers.get();
+      ByteBuffer[] srcs = buffers.toArray(new ByteBuffer[0]);
+      long total = 0;
+      while (Buffers.totalRemaining(srcs, 0, srcs.length) > 0) {
+        total += dst.write(srcs);
+      }
+      return total;
+    }
+
     boolean hasRemaining() {
       List<ByteBuffer> buffers = lazyBuffers.get();
       for (ByteBuffer b : buffers) {
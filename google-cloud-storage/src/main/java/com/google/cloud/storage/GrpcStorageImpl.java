@@ -120,6 +120,7 @@ import java.io.OutputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
@@ -764,8 +765,14 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
     UnbufferedReadableByteChannelSession<Object> session = unbufferedReadSession(blob, options);
 
     try (UnbufferedReadableByteChannel r = session.open();
-        WritableByteChannel w = Files.newByteChannel(path, WRITE_OPS)) {
-      ByteStreams.copy(r, w);
+        FileChannel w = FileChannel.open(path, WRITE_OPS)) {
+      if (r instanceof GapicUnbufferedReadableByteChannel) {
+        // hand the buffers of each response message directly to the file rather than copying
+        // them through an intermediary buffer
+        ((GapicUnbufferedReadableByteChannel) r).transferTo(w);
+      } else {
+        ByteStreams.copy(r, w);
+      }
     } catch (ApiException | IOException e) {
       throw StorageException.coalesce(e);
     }
@@ -1482,6 +1489,14 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
 
     GrpcCallContext context = opts.grpcMetadataMapper().apply(GrpcCallContext.createDefault());
     ApiFuture<ObjectReadSession> session = storageDataClient.readSession(req, context);
+    BlobReadSessionBlockCache cache = getOptions().getBlobReadSessionBlockCache();
+    if (cache != null) {
+      session =
+          ApiFutures.transform(
+              session,
+              s -> new BlockCachingObjectReadSession(s, cache),
+              MoreExecutors.directExecutor());
+    }
 
     return BlobReadSessionAdapter.wrap(session);
   }
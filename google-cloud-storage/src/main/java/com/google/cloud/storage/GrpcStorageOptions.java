@@ -122,6 +122,7 @@ import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * @since 2.14.0
@@ -148,6 +149,7 @@ public final class GrpcStorageOptions extends StorageOptions
   private final GrpcInterceptorProvider grpcInterceptorProvider;
   private final BlobWriteSessionConfig blobWriteSessionConfig;
   private transient OpenTelemetry openTelemetry;
+  @Nullable private transient BlobReadSessionBlockCache blobReadSessionBlockCache;
 
   private GrpcStorageOptions(Builder builder, GrpcStorageDefaults serviceDefaults) {
     super(builder, serviceDefaults);
@@ -165,6 +167,7 @@ public final class GrpcStorageOptions extends StorageOptions
     this.grpcInterceptorProvider = builder.grpcInterceptorProvider;
     this.blobWriteSessionConfig = builder.blobWriteSessionConfig;
     this.openTelemetry = builder.openTelemetry;
+    this.blobReadSessionBlockCache = builder.blobReadSessionBlockCache;
   }
 
   @Override
@@ -414,6 +417,17 @@ public final class GrpcStorageOptions extends StorageOptions
     return openTelemetry;
   }
 
+  /**
+   * The block cache consulted by {@link BlobReadSession}s of this instance, if any.
+   *
+   * @see Builder#setBlobReadSessionBlockCache(BlobReadSessionBlockCache)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable BlobReadSessionBlockCache getBlobReadSessionBlockCache() {
+    return blobReadSessionBlockCache;
+  }
+
   /**
    * @since 2.14.0
    */
@@ -432,6 +446,7 @@ public final class GrpcStorageOptions extends StorageOptions
         grpcInterceptorProvider,
         blobWriteSessionConfig,
         openTelemetry,
+        blobReadSessionBlockCache,
         baseHashCode());
   }
 
@@ -451,6 +466,7 @@ public final class GrpcStorageOptions extends StorageOptions
         && Objects.equals(grpcInterceptorProvider, that.grpcInterceptorProvider)
         && Objects.equals(blobWriteSessionConfig, that.blobWriteSessionConfig)
         && Objects.equals(openTelemetry, that.openTelemetry)
+        && Objects.equals(blobReadSessionBlockCache, that.blobReadSessionBlockCache)
         && this.baseEquals(that);
   }
 
@@ -501,6 +517,7 @@ public final class GrpcStorageOptions extends StorageOptions
     private BlobWriteSessionConfig blobWriteSessionConfig =
         GrpcStorageDefaults.INSTANCE.getDefaultStorageWriterConfig();
     private OpenTelemetry openTelemetry = GrpcStorageDefaults.INSTANCE.getDefaultOpenTelemetry();
+    @Nullable private BlobReadSessionBlockCache blobReadSessionBlockCache;
 
     private boolean grpcMetricsManuallyEnabled = false;
 
@@ -516,6 +533,7 @@ public final class GrpcStorageOptions extends StorageOptions
       this.grpcInterceptorProvider = gso.grpcInterceptorProvider;
       this.blobWriteSessionConfig = gso.blobWriteSessionConfig;
       this.openTelemetry = gso.openTelemetry;
+      this.blobReadSessionBlockCache = gso.blobReadSessionBlockCache;
     }
 
     /**
@@ -750,6 +768,25 @@ public final class GrpcStorageOptions extends StorageOptions
       return this;
     }
 
+    /**
+     * Provide a {@link BlobReadSessionBlockCache} which all {@link BlobReadSession}s created by the
+     * resulting {@link Storage} instance will consult before reading bytes from Google Cloud
+     * Storage. The same cache may be shared by multiple {@code Storage} instances.
+     *
+     * <p>Like {@link #setOpenTelemetry(OpenTelemetry)}, the cache is not serialized along with the
+     * options.
+     *
+     * <p><i>Default:</i> {@code null} -- no cache
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public GrpcStorageOptions.Builder setBlobReadSessionBlockCache(
+        @Nullable BlobReadSessionBlockCache blobReadSessionBlockCache) {
+      this.blobReadSessionBlockCache = blobReadSessionBlockCache;
+      return this;
+    }
+
     /**
      * @since 2.14.0
      */
@@ -25,7 +25,6 @@ import java.io.InputStream;
 import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.ScatteringByteChannel;
 import java.util.concurrent.ExecutionException;
 import java.util.zip.GZIPInputStream;
@@ -76,10 +75,8 @@ final class GzipReadableByteChannel implements UnbufferedReadableByteChannel {
           // add gzip decompression
           GZIPInputStream decompress =
               new GZIPInputStream(new OptimisticAvailabilityInputStream(first4AndSource));
-          // create a channel from our GZIPInputStream
-          ReadableByteChannel decompressedChannel = Channels.newChannel(decompress);
-          // turn our ReadableByteChannel into a ScatteringByteChannel
-          delegate = StorageByteChannels.readable().asScatteringByteChannel(decompressedChannel);
+          // create a channel from our GZIPInputStream which inflates directly into dsts
+          delegate = StorageByteChannels.readable().asScatteringByteChannel(decompress);
         } else {
           // if content encoding isn't gzip, copy the bytes we read into the dsts and set delegate
           // to source
@@ -16,6 +16,10 @@
 
 package com.google.cloud.storage;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.util.Objects.requireNonNull;
+
 import com.google.api.gax.grpc.GrpcStatusCode;
 import com.google.api.gax.rpc.DataLossException;
 import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
@@ -23,11 +27,19 @@ import com.google.common.hash.Hashing;
 import com.google.protobuf.ByteString;
 import io.grpc.Status.Code;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.zip.Checksum;
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.annotation.concurrent.Immutable;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -40,19 +52,30 @@ interface Hasher {
     private static final Logger LOGGER = Logger.getLogger(Hasher.class.getName());
     private static final String PROPERTY_NAME = "com.google.cloud.storage.Hasher.default";
     private static final String PROPERTY_VALUE = System.getProperty(PROPERTY_NAME, "enabled");
+    static final Crc32cHasher ENABLED_HASHER;
     static final Hasher DEFAULT_HASHER;
 
     static {
       LOGGER.fine(String.format(Locale.US, "-D%s=%s", PROPERTY_NAME, PROPERTY_VALUE));
+      Crc32cHasher fastest;
+      if (JdkCrc32cHasher.isAvailable()) {
+        fastest = JdkCrc32cHasher.INSTANCE;
+      } else {
+        LOGGER.fine("Fast CRC32C implementation (Java 9+) is not available.");
+        fastest = GuavaHasher.INSTANCE;
+      }
+      if ("guava".equalsIgnoreCase(PROPERTY_VALUE)) {
+        ENABLED_HASHER = GuavaHasher.INSTANCE;
+      } else if ("parallel".equalsIgnoreCase(PROPERTY_VALUE)) {
+        ENABLED_HASHER = fastest.parallel(ForkJoinPool.commonPool());
+      } else {
+        ENABLED_HASHER = fastest;
+      }
+
       if ("disabled".equalsIgnoreCase(PROPERTY_VALUE)) {
         DEFAULT_HASHER = noop();
       } else {
-        try {
-          Class.forName("java.util.zip.CRC32C");
-        } catch (ClassNotFoundException e) {
-          LOGGER.fine("Fast CRC32C implementation (Java 9+) is not available.");
-        }
-        DEFAULT_HASHER = enabled();
+        DEFAULT_HASHER = ENABLED_HASHER;
       }
     }
   }
@@ -89,8 +112,22 @@ interface Hasher {
     return NoOpHasher.INSTANCE;
   }
 
-  static GuavaHasher enabled() {
-    return GuavaHasher.INSTANCE;
+  /**
+   * The CRC32C hasher selected by the {@code com.google.cloud.storage.Hasher.default} system
+   * property.
+   *
+   * <ul>
+   *   <li>{@code enabled} (default) &mdash; {@code java.util.zip.CRC32C} when running on Java 9+,
+   *       otherwise Guava
+   *   <li>{@code parallel} &mdash; same as {@code enabled}, but large buffers are hashed in
+   *       parallel slices which are then combined
+   *   <li>{@code guava} &mdash; always Guava
+   *   <li>{@code disabled} &mdash; same as {@code enabled}, however {@link #defaultHasher()} will
+   *       be {@link #noop()}
+   * </ul>
+   */
+  static Crc32cHasher enabled() {
+    return DefaultInstanceHolder.ENABLED_HASHER;
   }
 
   static Hasher defaultHasher() {
@@ -134,11 +171,27 @@ interface Hasher {
     }
   }
 
+  /**
+   * Base class for all hashers which compute a real CRC32C value. Subclasses only need to provide
+   * the raw checksum computation, everything else is shared.
+   */
   @Immutable
-  class GuavaHasher implements Hasher {
-    private static final GuavaHasher INSTANCE = new GuavaHasher();
+  abstract class Crc32cHasher implements Hasher {
 
-    private GuavaHasher() {}
+    /** Compute the crc32c of the remaining bytes of {@code b}, consuming them. */
+    abstract int crc32c(ByteBuffer b);
+
+    /** Compute the crc32c of the remaining bytes of all {@code buffers}, consuming them. */
+    abstract int crc32c(List<ByteBuffer> buffers);
+
+    /**
+     * Create a new hasher which will split any buffer of at least {@link
+     * ParallelCrc32cHasher#DEFAULT_SLICE_SIZE 2 slices} into slices hashed concurrently on {@code
+     * executor}. The individual values are then combined via {@link Crc32cValue#concat}.
+     */
+    Crc32cHasher parallel(Executor executor) {
+      return new ParallelCrc32cHasher(this, executor, ParallelCrc32cHasher.DEFAULT_SLICE_SIZE);
+    }
 
     @Override
     public @NonNull Crc32cLengthKnown hash(Supplier<ByteBuffer> b) {
@@ -148,18 +201,13 @@ interface Hasher {
     @Override
     public @NonNull Crc32cLengthKnown hash(ByteBuffer b) {
       int remaining = b.remaining();
-      return Crc32cValue.of(Hashing.crc32c().hashBytes(b).asInt(), remaining);
+      return Crc32cValue.of(crc32c(b), remaining);
     }
 
-    @SuppressWarnings({"UnstableApiUsage"})
     @Override
     public @NonNull Crc32cLengthKnown hash(ByteString byteString) {
       List<ByteBuffer> buffers = byteString.asReadOnlyByteBufferList();
-      com.google.common.hash.Hasher crc32c = Hashing.crc32c().newHasher();
-      for (ByteBuffer b : buffers) {
-        crc32c.putBytes(b);
-      }
-      return Crc32cValue.of(crc32c.hash().asInt(), byteString.size());
+      return Crc32cValue.of(crc32c(buffers), byteString.size());
     }
 
     @Override
@@ -208,11 +256,187 @@ interface Hasher {
     }
   }
 
+  @Immutable
+  final class GuavaHasher extends Crc32cHasher {
+    static final GuavaHasher INSTANCE = new GuavaHasher();
+
+    private GuavaHasher() {}
+
+    @Override
+    int crc32c(ByteBuffer b) {
+      return Hashing.crc32c().hashBytes(b).asInt();
+    }
+
+    @SuppressWarnings({"UnstableApiUsage"})
+    @Override
+    int crc32c(List<ByteBuffer> buffers) {
+      com.google.common.hash.Hasher crc32c = Hashing.crc32c().newHasher();
+      for (ByteBuffer b : buffers) {
+        crc32c.putBytes(b);
+      }
+      return crc32c.hash().asInt();
+    }
+  }
+
+  /**
+   * Hasher backed by {@code java.util.zip.CRC32C} which is available in Java 9+ and is intrinsified
+   * by the JVM on most platforms.
+   *
+   * <p>This library targets Java 8, so the class and its {@code update(ByteBuffer)} method are
+   * resolved reflectively once and invoked via {@link MethodHandle}s.
+   */
+  @Immutable
+  final class JdkCrc32cHasher extends Crc32cHasher {
+    private static final @Nullable MethodHandle NEW_CRC32C;
+    private static final @Nullable MethodHandle UPDATE;
+    static final JdkCrc32cHasher INSTANCE = new JdkCrc32cHasher();
+
+    static {
+      MethodHandle newCrc32c = null;
+      MethodHandle update = null;
+      try {
+        Class<?> clazz = Class.forName("java.util.zip.CRC32C");
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        newCrc32c =
+            lookup
+                .findConstructor(clazz, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Checksum.class));
+        update =
+            lookup.findVirtual(
+                Checksum.class, "update", MethodType.methodType(void.class, ByteBuffer.class));
+      } catch (ReflectiveOperationException e) {
+        newCrc32c = null;
+        update = null;
+      }
+      NEW_CRC32C = newCrc32c;
+      UPDATE = update;
+    }
+
+    private JdkCrc32cHasher() {}
+
+    static boolean isAvailable() {
+      return NEW_CRC32C != null && UPDATE != null;
+    }
+
+    @Override
+    int crc32c(ByteBuffer b) {
+      Checksum checksum = newChecksum();
+      update(checksum, b);
+      return (int) checksum.getValue();
+    }
+
+    @Override
+    int crc32c(List<ByteBuffer> buffers) {
+      Checksum checksum = newChecksum();
+      for (ByteBuffer b : buffers) {
+        update(checksum, b);
+      }
+      return (int) checksum.getValue();
+    }
+
+    private static Checksum newChecksum() {
+      try {
+        return (Checksum) requireNonNull(NEW_CRC32C, "NEW_CRC32C must be non null").invokeExact();
+      } catch (Throwable t) {
+        throw new IllegalStateException("Unable to construct java.util.zip.CRC32C", t);
+      }
+    }
+
+    private static void update(Checksum checksum, ByteBuffer b) {
+      try {
+        requireNonNull(UPDATE, "UPDATE must be non null").invokeExact(checksum, b);
+      } catch (Throwable t) {
+        throwIfUnchecked(t);
+        throw new IllegalStateException(t);
+      }
+    }
+  }
+
+  /**
+   * Hash large buffers by splitting them into slices which are hashed concurrently by {@code
+   * delegate}, then combine the values of each slice via {@link Crc32cValue#concat} (which uses
+   * {@link Crc32cUtility#concatCrc32c(int, int, long)}).
+   *
+   * <p>Buffers smaller than two slices are hashed directly on the calling thread.
+   */
+  @Immutable
+  final class ParallelCrc32cHasher extends Crc32cHasher {
+    static final int DEFAULT_SLICE_SIZE = 4 * 1024 * 1024;
+
+    private final Crc32cHasher delegate;
+    private final Executor executor;
+    private final int sliceSize;
+
+    ParallelCrc32cHasher(Crc32cHasher delegate, Executor executor, int sliceSize) {
+      checkArgument(sliceSize > 0, "sliceSize > 0 (%s > 0)", sliceSize);
+      this.delegate = delegate;
+      this.executor = executor;
+      this.sliceSize = sliceSize;
+    }
+
+    @Override
+    Crc32cHasher parallel(Executor executor) {
+      return new ParallelCrc32cHasher(delegate, executor, sliceSize);
+    }
+
+    @Override
+    int crc32c(ByteBuffer b) {
+      return hash(b).getValue();
+    }
+
+    @Override
+    int crc32c(List<ByteBuffer> buffers) {
+      Crc32cLengthKnown cumulative = Crc32cValue.zero();
+      for (ByteBuffer b : buffers) {
+        cumulative = cumulative.concat(hash(b));
+      }
+      return cumulative.getValue();
+    }
+
+    @Override
+    public @NonNull Crc32cLengthKnown hash(ByteBuffer b) {
+      int remaining = b.remaining();
+      if (remaining < sliceSize * 2L) {
+        return delegate.hash(b);
+      }
+
+      int sliceCount = (remaining + sliceSize - 1) / sliceSize;
+      List<CompletableFuture<Crc32cLengthKnown>> futures = new ArrayList<>(sliceCount - 1);
+      int position = b.position();
+      // fork all but the last slice, which is hashed on the calling thread
+      for (int i = 0; i < sliceCount - 1; i++) {
+        ByteBuffer slice = b.duplicate();
+        Buffers.position(slice, position + i * sliceSize);
+        Buffers.limit(slice, position + (i + 1) * sliceSize);
+        futures.add(CompletableFuture.supplyAsync(() -> delegate.hash(slice), executor));
+      }
+      ByteBuffer last = b.duplicate();
+      Buffers.position(last, position + (sliceCount - 1) * sliceSize);
+      Crc32cLengthKnown tail = delegate.hash(last);
+
+      Crc32cLengthKnown cumulative = Crc32cValue.zero();
+      for (CompletableFuture<Crc32cLengthKnown> f : futures) {
+        cumulative = cumulative.concat(f.join());
+      }
+      cumulative = cumulative.concat(tail);
+      Buffers.position(b, b.limit());
+      return cumulative;
+    }
+
+    @Override
+    public @NonNull Crc32cLengthKnown hash(ByteString byteString) {
+      if (byteString.size() < sliceSize * 2L) {
+        return delegate.hash(byteString);
+      }
+      return Crc32cValue.of(crc32c(byteString.asReadOnlyByteBufferList()), byteString.size());
+    }
+  }
+
   final class ChecksumMismatchException extends IOException {
     private final Crc32cValue<?> expected;
     private final Crc32cLengthKnown actual;
 
-    private ChecksumMismatchException(Crc32cValue<?> expected, Crc32cLengthKnown actual) {
+    ChecksumMismatchException(Crc32cValue<?> expected, Crc32cLengthKnown actual) {
       super(
           String.format(
               Locale.US,
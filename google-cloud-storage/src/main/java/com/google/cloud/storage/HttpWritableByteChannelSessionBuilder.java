@@ -58,12 +58,14 @@ final class HttpWritableByteChannelSessionBuilder {
     private RetrierWithAlg retrier;
     private LongConsumer committedBytesCallback;
     private Hasher hasher;
+    private boolean pipelined;
 
     ResumableUploadBuilder(@NonNull HttpClientContext httpClientContext) {
       this.httpClientContext = httpClientContext;
       this.retrier = RetrierWithAlg.attemptOnce();
       this.committedBytesCallback = l -> {};
       this.hasher = Hasher.defaultHasher();
+      this.pipelined = false;
     }
 
     ResumableUploadBuilder setCommittedBytesCallback(@NonNull LongConsumer committedBytesCallback) {
@@ -82,6 +84,17 @@ final class HttpWritableByteChannelSessionBuilder {
       return this;
     }
 
+    /**
+     * When {@code true}, send each chunk from a background thread and accept the next chunk without
+     * waiting for the previous one to be acknowledged.
+     *
+     * @see PipelinedApiaryUnbufferedWritableByteChannel
+     */
+    ResumableUploadBuilder setPipelined(boolean pipelined) {
+      this.pipelined = pipelined;
+      return this;
+    }
+
     /**
      * Do not apply any intermediate buffering. Any call to {@link
      * java.nio.channels.WritableByteChannel#write(ByteBuffer)} will be segmented as is and sent to
@@ -124,9 +137,15 @@ final class HttpWritableByteChannelSessionBuilder {
       // function read them into local variables which will be closed over rather than the class
       // fields.
       RetrierWithAlg boundRetrier = retrier;
+      LongConsumer boundCommittedBytesCallback = committedBytesCallback;
+      if (pipelined) {
+        return (start, resultFuture) ->
+            new PipelinedApiaryUnbufferedWritableByteChannel(
+                httpClientContext, boundRetrier, start, resultFuture, boundCommittedBytesCallback);
+      }
       return (start, resultFuture) ->
           new ApiaryUnbufferedWritableByteChannel(
-              httpClientContext, boundRetrier, start, resultFuture, committedBytesCallback);
+              httpClientContext, boundRetrier, start, resultFuture, boundCommittedBytesCallback);
     }
 
     final class UnbufferedResumableUploadBuilder {
@@ -78,22 +78,28 @@ import com.google.cloud.storage.BucketInfo.ObjectRetention;
 import com.google.cloud.storage.BucketInfo.PublicAccessPrevention;
 import com.google.cloud.storage.BucketInfo.SoftDeletePolicy;
 import com.google.cloud.storage.Conversions.Codec;
+import com.google.cloud.storage.Conversions.Decoder;
 import com.google.cloud.storage.Cors.Origin;
 import com.google.cloud.storage.HmacKey.HmacKeyMetadata;
 import com.google.cloud.storage.HmacKey.HmacKeyState;
 import com.google.cloud.storage.NotificationInfo.EventType;
 import com.google.cloud.storage.NotificationInfo.PayloadFormat;
+import com.google.cloud.storage.Storage.BlobField;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.math.BigInteger;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -264,6 +270,150 @@ final class JsonConversions {
           Codec.of(this::objectCustomContextPayloadEncode, this::objectCustomContextPayloadDecode)
               .nullable();
 
+  /**
+   * Each of the steps necessary to decode a {@link StorageObject} into a {@link BlobInfo}, keyed by
+   * the json name of the field it decodes.
+   */
+  private final ImmutableMap<String, BiConsumer<StorageObject, BlobInfo.Builder>>
+      blobInfoFieldDecoders =
+          ImmutableMap.<String, BiConsumer<StorageObject, BlobInfo.Builder>>builder()
+              .put(
+                  BlobField.CACHE_CONTROL.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getCacheControl(), to::setCacheControl))
+              .put(
+                  BlobField.CONTENT_ENCODING.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getContentEncoding(), to::setContentEncoding))
+              .put(
+                  BlobField.CRC32C.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getCrc32c(), to::setCrc32c))
+              .put(
+                  BlobField.CONTENT_TYPE.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getContentType(), to::setContentType))
+              .put(
+                  BlobField.MD5HASH.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getMd5Hash(), to::setMd5))
+              .put(
+                  BlobField.MEDIA_LINK.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getMediaLink(), to::setMediaLink))
+              .put(
+                  BlobField.METAGENERATION.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getMetageneration(), to::setMetageneration))
+              .put(
+                  BlobField.CONTENT_DISPOSITION.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getContentDisposition(), to::setContentDisposition))
+              .put(
+                  BlobField.COMPONENT_COUNT.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getComponentCount(), to::setComponentCount))
+              .put(
+                  BlobField.CONTENT_LANGUAGE.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getContentLanguage(), to::setContentLanguage))
+              .put(
+                  BlobField.ETAG.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getEtag(), to::setEtag))
+              .put(
+                  BlobField.ID.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getId(), to::setGeneratedId))
+              .put(
+                  BlobField.SELF_LINK.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getSelfLink(), to::setSelfLink))
+              .put(
+                  BlobField.METADATA.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getMetadata(), to::setMetadata))
+              .put(
+                  BlobField.TIME_DELETED.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getTimeDeleted(),
+                          dateTimeCodec::decode,
+                          to::setDeleteTimeOffsetDateTime))
+              .put(
+                  BlobField.UPDATED.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getUpdated(),
+                          dateTimeCodec::decode,
+                          to::setUpdateTimeOffsetDateTime))
+              .put(
+                  BlobField.TIME_CREATED.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getTimeCreated(),
+                          dateTimeCodec::decode,
+                          to::setCreateTimeOffsetDateTime))
+              .put(
+                  BlobField.CUSTOM_TIME.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getCustomTime(),
+                          dateTimeCodec::decode,
+                          to::setCustomTimeOffsetDateTime))
+              .put(
+                  BlobField.SIZE.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getSize(), BigInteger::longValue, to::setSize))
+              .put(
+                  BlobField.OWNER.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getOwner(),
+                          lift(Owner::getEntity).andThen(this::entityDecode),
+                          to::setOwner))
+              .put(
+                  BlobField.ACL.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getAcl(), toListOf(objectAcl()::decode), to::setAcl))
+              .put(
+                  BlobField.CUSTOMER_ENCRYPTION.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getCustomerEncryption(),
+                          this::customerEncryptionDecode,
+                          to::setCustomerEncryption))
+              .put(
+                  BlobField.STORAGE_CLASS.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(from.getStorageClass(), StorageClass::valueOf, to::setStorageClass))
+              .put(
+                  BlobField.TIME_STORAGE_CLASS_UPDATED.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getTimeStorageClassUpdated(),
+                          dateTimeCodec::decode,
+                          to::setTimeStorageClassUpdatedOffsetDateTime))
+              .put(
+                  BlobField.KMS_KEY_NAME.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getKmsKeyName(), to::setKmsKeyName))
+              .put(
+                  BlobField.EVENT_BASED_HOLD.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getEventBasedHold(), to::setEventBasedHold))
+              .put(
+                  BlobField.TEMPORARY_HOLD.getApiaryName(),
+                  (from, to) -> ifNonNull(from.getTemporaryHold(), to::setTemporaryHold))
+              .put(
+                  BlobField.RETENTION_EXPIRATION_TIME.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getRetentionExpirationTime(),
+                          dateTimeCodec::decode,
+                          to::setRetentionExpirationTimeOffsetDateTime))
+              .put(
+                  BlobField.RETENTION.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(from.getRetention(), this::retentionDecode, to::setRetention))
+              .put(
+                  BlobField.SOFT_DELETE_TIME.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getSoftDeleteTime(), dateTimeCodec::decode, to::setSoftDeleteTime))
+              .put(
+                  BlobField.HARD_DELETE_TIME.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(
+                          from.getHardDeleteTime(), dateTimeCodec::decode, to::setHardDeleteTime))
+              .put(
+                  BlobField.OBJECT_CONTEXTS.getApiaryName(),
+                  (from, to) ->
+                      ifNonNull(from.getContexts(), objectContextsCodec::decode, to::setContexts))
+              .build();
+
   private JsonConversions() {}
 
   Codec<Entity, String> entity() {
@@ -407,52 +557,38 @@ final class JsonConversions {
   }
 
   private BlobInfo blobInfoDecode(StorageObject from) {
+    return blobInfoDecode(from, blobInfoFieldDecoders.values());
+  }
+
+  private BlobInfo blobInfoDecode(
+      StorageObject from, Collection<BiConsumer<StorageObject, BlobInfo.Builder>> fieldDecoders) {
     BlobInfo.Builder to = BlobInfo.newBuilder(blobIdDecode(from));
-    ifNonNull(from.getCacheControl(), to::setCacheControl);
-    ifNonNull(from.getContentEncoding(), to::setContentEncoding);
-    ifNonNull(from.getCrc32c(), to::setCrc32c);
-    ifNonNull(from.getContentType(), to::setContentType);
-    ifNonNull(from.getMd5Hash(), to::setMd5);
-    ifNonNull(from.getMediaLink(), to::setMediaLink);
-    ifNonNull(from.getMetageneration(), to::setMetageneration);
-    ifNonNull(from.getContentDisposition(), to::setContentDisposition);
-    ifNonNull(from.getComponentCount(), to::setComponentCount);
-    ifNonNull(from.getContentLanguage(), to::setContentLanguage);
-    ifNonNull(from.getEtag(), to::setEtag);
-    ifNonNull(from.getId(), to::setGeneratedId);
-    ifNonNull(from.getSelfLink(), to::setSelfLink);
-    ifNonNull(from.getMetadata(), to::setMetadata);
-    ifNonNull(from.getTimeDeleted(), dateTimeCodec::decode, to::setDeleteTimeOffsetDateTime);
-    ifNonNull(from.getUpdated(), dateTimeCodec::decode, to::setUpdateTimeOffsetDateTime);
-    ifNonNull(from.getTimeCreated(), dateTimeCodec::decode, to::setCreateTimeOffsetDateTime);
-    ifNonNull(from.getCustomTime(), dateTimeCodec::decode, to::setCustomTimeOffsetDateTime);
-    ifNonNull(from.getSize(), BigInteger::longValue, to::setSize);
-    ifNonNull(from.getOwner(), lift(Owner::getEntity).andThen(this::entityDecode), to::setOwner);
-    ifNonNull(from.getAcl(), toListOf(objectAcl()::decode), to::setAcl);
+    for (BiConsumer<StorageObject, BlobInfo.Builder> fieldDecoder : fieldDecoders) {
+      fieldDecoder.accept(from, to);
+    }
     if (from.containsKey("isDirectory")) {
       to.setIsDirectory(Boolean.TRUE);
     }
-    ifNonNull(
-        from.getCustomerEncryption(), this::customerEncryptionDecode, to::setCustomerEncryption);
-    ifNonNull(from.getStorageClass(), StorageClass::valueOf, to::setStorageClass);
-    ifNonNull(
-        from.getTimeStorageClassUpdated(),
-        dateTimeCodec::decode,
-        to::setTimeStorageClassUpdatedOffsetDateTime);
-    ifNonNull(from.getKmsKeyName(), to::setKmsKeyName);
-    ifNonNull(from.getEventBasedHold(), to::setEventBasedHold);
-    ifNonNull(from.getTemporaryHold(), to::setTemporaryHold);
-    ifNonNull(
-        from.getRetentionExpirationTime(),
-        dateTimeCodec::decode,
-        to::setRetentionExpirationTimeOffsetDateTime);
-    ifNonNull(from.getRetention(), this::retentionDecode, to::setRetention);
-    ifNonNull(from.getSoftDeleteTime(), dateTimeCodec::decode, to::setSoftDeleteTime);
-    ifNonNull(from.getHardDeleteTime(), dateTimeCodec::decode, to::setHardDeleteTime);
-    ifNonNull(from.getContexts(), objectContextsCodec::decode, to::setContexts);
     return to.build();
   }
 
+  /**
+   * Define a decoder which only materializes the fields named in {@code selectors}, as they would
+   * be named in a {@code fields} query parameter relative to the object (i.e. {@code size} not
+   * {@code items/size}). The blob id and directory marker are always decoded.
+   *
+   * <p>Intended for bulk decoding of list results where the caller has restricted the set of fields
+   * it is interested in, and decoding every other field of every object would be wasted.
+   */
+  Decoder<StorageObject, BlobInfo> blobInfoProjection(Set<String> selectors) {
+    ImmutableList<BiConsumer<StorageObject, BlobInfo.Builder>> fieldDecoders =
+        blobInfoFieldDecoders.entrySet().stream()
+            .filter(e -> selectors.contains(e.getKey()))
+            .map(Entry::getValue)
+            .collect(ImmutableList.toImmutableList());
+    return from -> blobInfoDecode(from, fieldDecoders);
+  }
+
   private StorageObject blobIdEncode(BlobId from) {
     StorageObject to = new StorageObject();
     to.setBucket(from.getBucket());
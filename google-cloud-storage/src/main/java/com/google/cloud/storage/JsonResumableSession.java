@@ -58,9 +58,20 @@ final class JsonResumableSession {
 
   ResumableOperationResult<@Nullable StorageObject> put(
       RewindableContent content, HttpContentRange contentRange) {
+    return put(content, contentRange, content.getCrc32c());
+  }
+
+  /**
+   * Like {@link #put(RewindableContent, HttpContentRange)}, but with the crc32c of {@code content}
+   * already computed by the caller.
+   */
+  ResumableOperationResult<@Nullable StorageObject> put(
+      RewindableContent content,
+      HttpContentRange contentRange,
+      @Nullable Crc32cLengthKnown contentCrc32c) {
     Crc32cValue<?> crc32cSoFar = resumableWrite.getCumulativeCrc32c();
     @Nullable Crc32cValue<?> nextCumulativeCrc32c =
-        resumableWrite.getHasher().nullSafeConcat(crc32cSoFar, content.getCrc32c());
+        resumableWrite.getHasher().nullSafeConcat(crc32cSoFar, contentCrc32c);
     @Nullable Crc32cValue<?> finalChecksum =
         contentRange.isFinalizing() ? nextCumulativeCrc32c : null;
     JsonResumableSessionPutTask task =
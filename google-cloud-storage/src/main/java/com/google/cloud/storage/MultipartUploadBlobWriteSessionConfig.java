@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.BetaApi;
+import com.google.api.core.InternalApi;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.BufferedWritableByteChannelSession.BufferedWritableByteChannel;
+import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.BufferAllocationStrategy;
+import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.ExecutorSupplier;
+import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.cloud.storage.spi.v1.StorageRpc;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import javax.annotation.concurrent.Immutable;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Immutable config builder to configure BlobWriteSession instances to perform a <a
+ * href="https://cloud.google.com/storage/docs/multipart-uploads">XML API multipart upload</a>.
+ *
+ * <p>The stream of bytes is broken into parts, each the size of a buffer from the configured {@link
+ * BufferAllocationStrategy}. Parts are uploaded in parallel while the next part is being filled,
+ * and once the stream is closed, a single request assembles the parts into the ultimate object.
+ *
+ * <p>Compared to {@link ParallelCompositeUploadBlobWriteSessionConfig parallel composite uploads}:
+ *
+ * <ol>
+ *   <li>No temporary objects are created, and no compose or delete operations are performed. Parts
+ *       are not visible as objects, and are discarded by Cloud Storage when the upload is completed
+ *       or aborted.
+ *   <li>If an upload fails, an attempt to abort the multipart upload will be made unless {@link
+ *       #withJournaling(Collection) journaling} is enabled. If the program were to crash, the
+ *       incomplete upload will continue to be billed as storage until it is aborted. An Object
+ *       Lifecycle Management rule with an {@code AbortIncompleteMultipartUpload} action can be
+ *       setup on your bucket to automatically abort such uploads.
+ *   <li>Every part other than the last must be at least 5MiB, and an upload may have at most 10,000
+ *       parts. The buffer capacity must be chosen accordingly.
+ *   <li>Preconditions ({@code generationMatch}, {@code metagenerationMatch} and their negations)
+ *       are not supported by multipart uploads and will be rejected.
+ * </ol>
+ *
+ * <p>Each part is hashed with CRC32C on the executor, and the value is validated by Cloud Storage.
+ * Creating, uploading each part, and completing the upload will each be retried up to the
+ * limitations specified in {@link StorageOptions#getRetrySettings()}.
+ *
+ * <p>If {@link #withJournaling(Collection) journaling} is enabled, the progress of each upload is
+ * recorded to local disk, allowing an upload interrupted by a failure or restart to be resumed
+ * rather than started over.
+ *
+ * @see HttpStorageOptions.Builder#setBlobWriteSessionConfig(BlobWriteSessionConfig)
+ * @see BlobWriteSessionConfigs#multipartUpload()
+ * @see Storage#blobWriteSession(BlobInfo, BlobWriteOption...)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@Immutable
+@BetaApi
+@TransportCompatibility(Transport.HTTP)
+public final class MultipartUploadBlobWriteSessionConfig extends BlobWriteSessionConfig
+    implements BlobWriteSessionConfig.HttpCompatible {
+  private final ExecutorSupplier executorSupplier;
+  private final BufferAllocationStrategy bufferAllocationStrategy;
+  private final @Nullable ImmutableList<String> journalVolumes;
+
+  private MultipartUploadBlobWriteSessionConfig(
+      ExecutorSupplier executorSupplier,
+      BufferAllocationStrategy bufferAllocationStrategy,
+      @Nullable ImmutableList<String> journalVolumes) {
+    this.executorSupplier = executorSupplier;
+    this.bufferAllocationStrategy = bufferAllocationStrategy;
+    this.journalVolumes = journalVolumes;
+  }
+
+  /**
+   * Specify a specific executor supplier where parts will be uploaded.
+   *
+   * <p><i>Default: </i> {@link ExecutorSupplier#cachedPool()}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public MultipartUploadBlobWriteSessionConfig withExecutorSupplier(
+      ExecutorSupplier executorSupplier) {
+    checkNotNull(executorSupplier, "executorSupplier must be non null");
+    return new MultipartUploadBlobWriteSessionConfig(
+        executorSupplier, bufferAllocationStrategy, journalVolumes);
+  }
+
+  /**
+   * Specify a specific buffering strategy which will dictate how buffers are allocated for parts.
+   * The capacity of each buffer is the size of each part, and the number of buffers bounds the
+   * number of parts which may be in flight at once.
+   *
+   * <p><i>Default: </i> {@link BufferAllocationStrategy#fixedPool(int, int)
+   * BufferAllocationStrategy#fixedPool(8, 16MiB)}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public MultipartUploadBlobWriteSessionConfig withBufferAllocationStrategy(
+      BufferAllocationStrategy bufferAllocationStrategy) {
+    checkNotNull(bufferAllocationStrategy, "bufferAllocationStrategy must be non null");
+    return new MultipartUploadBlobWriteSessionConfig(
+        executorSupplier, bufferAllocationStrategy, journalVolumes);
+  }
+
+  /**
+   * Record the progress of each upload in a journal file on one of the provided volumes, allowing
+   * an interrupted upload to be resumed.
+   *
+   * <p>The {@code uploadId} of the multipart upload and each successfully uploaded part are
+   * appended to a journal file which is forced to disk after each record. The journal for an object
+   * is always placed on the same volume, chosen from the object's bucket and name.
+   *
+   * <p>If an upload fails while journaling, the multipart upload is not aborted. The next write
+   * session for the same object resumes the journaled upload instead of creating a new one. The
+   * parts journaled contiguously from the first part are reused, and the channel of the new session
+   * must be written the bytes of the object starting at {@link #getResumeOffset(BlobInfo)}, i.e.
+   * the source should be positioned at that offset rather than at the start of the object. Once the
+   * upload completes, the journal is deleted.
+   *
+   * <p>A journal whose parts are contiguous is trusted without contacting the service; if the
+   * journaled upload no longer exists the session fails, the journal is deleted, and the next
+   * session starts a new upload from offset {@code 0}. Only if parts were journaled beyond the
+   * first missing part are the parts of the upload listed before it is resumed. In that case, any
+   * such later part whose CRC32C and length match a journaled part the service reports with the
+   * same etag and size is not uploaded again, and the session fails if a part before the resume
+   * offset is not reported.
+   *
+   * <p>Concurrent write sessions for the same object while journaling are not supported.
+   *
+   * <p><i>Default: </i> journaling disabled
+   *
+   * @param volumes The directories in which journals will be created, each will be created if it
+   *     does not already exist
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public MultipartUploadBlobWriteSessionConfig withJournaling(Collection<Path> volumes) {
+    checkNotNull(volumes, "volumes must be non null");
+    checkArgument(!volumes.isEmpty(), "At least one volume must be specified");
+    return new MultipartUploadBlobWriteSessionConfig(
+        executorSupplier,
+        bufferAllocationStrategy,
+        volumes.stream()
+            .map(p -> p.toAbsolutePath().toString())
+            .collect(ImmutableList.toImmutableList()));
+  }
+
+  /**
+   * The offset of the first byte of {@code info} which has not been uploaded by a previous,
+   * journaled, write session for the same object. The channel of the next write session for the
+   * object must be written the bytes of the object starting at this offset.
+   *
+   * <p>Always {@code 0} if journaling is not enabled, or no journaled upload exists for the object.
+   *
+   * @see #withJournaling(Collection)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getResumeOffset(BlobInfo info) throws IOException {
+    checkNotNull(info, "info must be non null");
+    if (journalVolumes == null) {
+      return 0;
+    }
+    ImmutableList<Path> volumes =
+        journalVolumes.stream().map(Paths::get).collect(ImmutableList.toImmutableList());
+    try (MultipartUploadJournal journal =
+        MultipartUploadJournal.open(volumes, info.getBucket(), info.getName())) {
+      return journal.getResumeOffset();
+    }
+  }
+
+  @BetaApi
+  static MultipartUploadBlobWriteSessionConfig withDefaults() {
+    return new MultipartUploadBlobWriteSessionConfig(
+        ExecutorSupplier.cachedPool(),
+        BufferAllocationStrategy.fixedPool(8, ByteSizeConstants._16MiB),
+        null);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof MultipartUploadBlobWriteSessionConfig)) {
+      return false;
+    }
+    MultipartUploadBlobWriteSessionConfig that = (MultipartUploadBlobWriteSessionConfig) o;
+    return Objects.equals(executorSupplier, that.executorSupplier)
+        && Objects.equals(bufferAllocationStrategy, that.bufferAllocationStrategy)
+        && Objects.equals(journalVolumes, that.journalVolumes);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(executorSupplier, bufferAllocationStrategy, journalVolumes);
+  }
+
+  @InternalApi
+  @Override
+  WriterFactory createFactory(Clock clock) throws IOException {
+    ImmutableList<Path> volumes =
+        journalVolumes == null
+            ? null
+            : journalVolumes.stream().map(Paths::get).collect(ImmutableList.toImmutableList());
+    return new MultipartUploadWriterFactory(
+        executorSupplier.get(), bufferAllocationStrategy.get(), volumes);
+  }
+
+  private static final class MultipartUploadWriterFactory implements WriterFactory {
+
+    private final Executor executor;
+    private final BufferHandlePool bufferHandlePool;
+    private final @Nullable ImmutableList<Path> journalVolumes;
+
+    private MultipartUploadWriterFactory(
+        Executor executor,
+        BufferHandlePool bufferHandlePool,
+        @Nullable ImmutableList<Path> journalVolumes) {
+      this.executor = executor;
+      this.bufferHandlePool = bufferHandlePool;
+      this.journalVolumes = journalVolumes;
+    }
+
+    @Override
+    public WritableByteChannelSession<?, BlobInfo> writeSession(
+        StorageInternal s, BlobInfo info, Opts<ObjectTargetOpt> opts) {
+      ImmutableMap<StorageRpc.Option, ?> rpcOptions = opts.getRpcOptions();
+      checkArgument(
+          !rpcOptions.containsKey(StorageRpc.Option.IF_GENERATION_MATCH)
+              && !rpcOptions.containsKey(StorageRpc.Option.IF_GENERATION_NOT_MATCH)
+              && !rpcOptions.containsKey(StorageRpc.Option.IF_METAGENERATION_MATCH)
+              && !rpcOptions.containsKey(StorageRpc.Option.IF_METAGENERATION_NOT_MATCH),
+          "Preconditions are not supported by multipart uploads");
+      MultipartUploadJournal journal = null;
+      if (journalVolumes != null) {
+        try {
+          journal = MultipartUploadJournal.open(journalVolumes, info.getBucket(), info.getName());
+        } catch (IOException e) {
+          throw StorageException.coalesce(e);
+        }
+      }
+      return new MultipartUploadSession(s, info, opts, journal);
+    }
+
+    private final class MultipartUploadSession
+        implements WritableByteChannelSession<BufferedWritableByteChannel, BlobInfo> {
+
+      private final SettableApiFuture<BlobInfo> result;
+      private final StorageInternal storageInternal;
+      private final BlobInfo info;
+      private final Opts<ObjectTargetOpt> opts;
+      private final @Nullable MultipartUploadJournal journal;
+
+      private MultipartUploadSession(
+          StorageInternal storageInternal,
+          BlobInfo info,
+          Opts<ObjectTargetOpt> opts,
+          @Nullable MultipartUploadJournal journal) {
+        this.storageInternal = storageInternal;
+        this.info = info;
+        this.opts = opts;
+        this.journal = journal;
+        this.result = SettableApiFuture.create();
+      }
+
+      @Override
+      public ApiFuture<BufferedWritableByteChannel> openAsync() {
+        MultipartUploadWritableByteChannel channel =
+            new MultipartUploadWritableByteChannel(
+                bufferHandlePool,
+                executor,
+                storageInternal.internalMultipartUploadClient(),
+                result,
+                storageInternal,
+                info,
+                opts,
+                journal);
+        return ApiFutures.immediateFuture(
+            StorageByteChannels.writable().createSynchronized(channel));
+      }
+
+      @Override
+      public ApiFuture<BlobInfo> getResult() {
+        return result;
+      }
+    }
+  }
+}
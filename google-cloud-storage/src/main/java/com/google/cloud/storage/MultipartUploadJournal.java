@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.cloud.storage.multipartupload.model.Part;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An append-only record of the progress of a single multipart upload.
+ *
+ * <p>The journal records the {@code uploadId} of the multipart upload along with the object it
+ * targets, followed by one line per successfully uploaded part. Each part record is keyed by the
+ * {@code uploadId} it was uploaded to. Each record is forced to disk before the operation it
+ * records is considered complete, allowing a restarted process to resume an upload from the first
+ * part which was not recorded.
+ *
+ * <p>The parts recorded contiguously from part 1 determine the {@link #getResumeOffset() offset} an
+ * upload is resumed from. If parts were recorded beyond the first missing part the journal is not
+ * {@link #isContiguous() contiguous}, and its parts should be {@link #retainParts(Map) validated}
+ * against the parts the service reports for the upload before it is resumed.
+ *
+ * <p>A record which was only partially written before a crash is ignored when the journal is read,
+ * as is any record for a different object or upload.
+ */
+final class MultipartUploadJournal implements AutoCloseable {
+
+  private static final String UPLOAD_ID = "uploadId";
+  private static final String PART = "part";
+
+  private final Path path;
+  // the encoded bucket and name of the object, never contains a space
+  private final String object;
+  private final Map<Integer, JournaledPart> parts;
+  private volatile @Nullable String uploadId;
+  private @Nullable FileChannel channel;
+
+  private MultipartUploadJournal(
+      Path path, String object, @Nullable String uploadId, Map<Integer, JournaledPart> parts) {
+    this.path = path;
+    this.object = object;
+    this.uploadId = uploadId;
+    this.parts = parts;
+  }
+
+  @Nullable String getUploadId() {
+    return uploadId;
+  }
+
+  /**
+   * Return the part previously recorded with {@code partNumber}, or {@code null} if no such part
+   * was recorded.
+   */
+  @Nullable JournaledPart getPart(int partNumber) {
+    return parts.get(partNumber);
+  }
+
+  /**
+   * The parts recorded contiguously from part 1. The sequence ends before the first part which was
+   * not recorded, or after the first part shorter than the part before it, as such a part was the
+   * final part of the upload.
+   */
+  synchronized ImmutableList<JournaledPart> getContiguousParts() {
+    ImmutableList.Builder<JournaledPart> b = ImmutableList.builder();
+    JournaledPart previous = null;
+    JournaledPart part;
+    for (int i = 1; (part = parts.get(i)) != null; i++) {
+      b.add(part);
+      if (previous != null && part.length < previous.length) {
+        break;
+      }
+      previous = part;
+    }
+    return b.build();
+  }
+
+  /**
+   * The number of bytes of the object covered by the {@link #getContiguousParts() contiguous} parts
+   */
+  long getResumeOffset() {
+    return getContiguousParts().stream().mapToLong(JournaledPart::getLength).sum();
+  }
+
+  /** Whether every recorded part is one of the {@link #getContiguousParts() contiguous} parts */
+  synchronized boolean isContiguous() {
+    return parts.size() == getContiguousParts().size();
+  }
+
+  synchronized void recordUploadId(String uploadId) throws IOException {
+    append(String.format(Locale.US, "%s %s %s\n", UPLOAD_ID, uploadId, object));
+    this.uploadId = uploadId;
+    parts.clear();
+  }
+
+  synchronized void recordPart(JournaledPart part) throws IOException {
+    checkState(uploadId != null, "uploadId must be recorded before any part");
+    append(
+        String.format(
+            Locale.US,
+            "%s %s %d %s %s %d\n",
+            PART,
+            uploadId,
+            part.partNumber,
+            part.eTag,
+            part.crc32c,
+            part.length));
+    parts.put(part.partNumber, part);
+  }
+
+  /**
+   * Forget any recorded part which is not present in {@code listed}, keyed by part number, with the
+   * same etag and length. Such a part will be uploaded again.
+   */
+  void retainParts(Map<Integer, Part> listed) {
+    parts
+        .values()
+        .removeIf(
+            journaled -> {
+              Part part = listed.get(journaled.partNumber);
+              return part == null
+                  || part.size() != journaled.length
+                  || !journaled.eTag.equals(part.eTag());
+            });
+  }
+
+  /**
+   * Delete the journal, the upload it records has either completed, been aborted or can no longer
+   * be resumed. A following record starts a new journal.
+   */
+  synchronized void delete() throws IOException {
+    close();
+    Files.deleteIfExists(path);
+    uploadId = null;
+    parts.clear();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+  }
+
+  @VisibleForTesting
+  Path getPath() {
+    return path;
+  }
+
+  private void append(String record) throws IOException {
+    if (channel == null) {
+      channel =
+          FileChannel.open(
+              path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+    ByteBuffer buf = ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8));
+    while (buf.hasRemaining()) {
+      channel.write(buf);
+    }
+    channel.force(false);
+  }
+
+  /**
+   * Open the journal for the object identified by {@code bucket} and {@code name}, reading any
+   * records left by a previous attempt.
+   *
+   * <p>The journal for an object is always assigned to the same volume, allowing it to be found
+   * again after a restart without scanning every volume.
+   */
+  static MultipartUploadJournal open(List<Path> volumes, String bucket, String name)
+      throws IOException {
+    checkArgument(!volumes.isEmpty(), "At least one volume must be specified");
+    HashCode hash = Hashing.sha256().hashString(bucket + "/" + name, StandardCharsets.UTF_8);
+    Path volume = volumes.get(Math.floorMod(hash.asInt(), volumes.size()));
+    Files.createDirectories(volume);
+    String fileName = Base64.getUrlEncoder().withoutPadding().encodeToString(hash.asBytes());
+    return open(volume.resolve(fileName + ".mpu"), bucket, name);
+  }
+
+  @VisibleForTesting
+  static MultipartUploadJournal open(Path path, String bucket, String name) throws IOException {
+    String object =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((bucket + "/" + name).getBytes(StandardCharsets.UTF_8));
+    String uploadId = null;
+    Map<Integer, JournaledPart> parts = new ConcurrentHashMap<>();
+    if (Files.exists(path)) {
+      String content = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+      // anything after the last line terminator was interrupted while being written
+      String complete = content.substring(0, content.lastIndexOf('\n') + 1);
+      for (String line : complete.split("\n")) {
+        String[] fields = line.split(" ");
+        if (fields.length == 3 && UPLOAD_ID.equals(fields[0])) {
+          // a new upload was started, any parts recorded before it belong to the old upload. An
+          // upload for a different object is never resumed.
+          parts.clear();
+          uploadId = object.equals(fields[2]) ? fields[1] : null;
+        } else if (fields.length == 6 && PART.equals(fields[0]) && fields[1].equals(uploadId)) {
+          try {
+            JournaledPart part =
+                new JournaledPart(
+                    Integer.parseInt(fields[2]), fields[3], fields[4], Long.parseLong(fields[5]));
+            parts.put(part.partNumber, part);
+          } catch (NumberFormatException ignore) {
+            // malformed record, the part will be uploaded again
+          }
+        }
+      }
+    }
+    return new MultipartUploadJournal(path, object, uploadId, parts);
+  }
+
+  @VisibleForTesting
+  ImmutableList<JournaledPart> getParts() {
+    return ImmutableList.copyOf(parts.values());
+  }
+
+  static final class JournaledPart {
+    private final int partNumber;
+    private final String eTag;
+    private final String crc32c;
+    private final long length;
+
+    JournaledPart(int partNumber, String eTag, String crc32c, long length) {
+      this.partNumber = partNumber;
+      this.eTag = eTag;
+      this.crc32c = crc32c;
+      this.length = length;
+    }
+
+    int getPartNumber() {
+      return partNumber;
+    }
+
+    String getETag() {
+      return eTag;
+    }
+
+    long getLength() {
+      return length;
+    }
+
+    /** Whether this part recorded the same content as {@code crc32c} and {@code length} */
+    boolean matches(String crc32c, long length) {
+      return this.length == length && this.crc32c.equals(crc32c);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof JournaledPart)) {
+        return false;
+      }
+      JournaledPart that = (JournaledPart) o;
+      return partNumber == that.partNumber
+          && length == that.length
+          && Objects.equals(eTag, that.eTag)
+          && Objects.equals(crc32c, that.crc32c);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(partNumber, eTag, crc32c, length);
+    }
+  }
+}
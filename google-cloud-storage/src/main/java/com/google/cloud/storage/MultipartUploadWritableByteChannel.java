@@ -0,0 +1,531 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.BaseServiceException;
+import com.google.cloud.storage.ApiFutureUtils.OnFailureApiFutureCallback;
+import com.google.cloud.storage.BufferHandlePool.PooledBuffer;
+import com.google.cloud.storage.BufferedWritableByteChannelSession.BufferedWritableByteChannel;
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.MultipartUploadJournal.JournaledPart;
+import com.google.cloud.storage.ParallelCompositeUploadWritableByteChannel.BufferHandleReleaser;
+import com.google.cloud.storage.Storage.PredefinedAcl;
+import com.google.cloud.storage.UnifiedOpts.ObjectSourceOpt;
+import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.cloud.storage.UnifiedOpts.UserProject;
+import com.google.cloud.storage.multipartupload.model.AbortMultipartUploadRequest;
+import com.google.cloud.storage.multipartupload.model.CompleteMultipartUploadRequest;
+import com.google.cloud.storage.multipartupload.model.CompletedMultipartUpload;
+import com.google.cloud.storage.multipartupload.model.CompletedPart;
+import com.google.cloud.storage.multipartupload.model.CreateMultipartUploadRequest;
+import com.google.cloud.storage.multipartupload.model.ListPartsRequest;
+import com.google.cloud.storage.multipartupload.model.ListPartsResponse;
+import com.google.cloud.storage.multipartupload.model.Part;
+import com.google.cloud.storage.multipartupload.model.UploadPartRequest;
+import com.google.cloud.storage.multipartupload.model.UploadPartResponse;
+import com.google.cloud.storage.spi.v1.StorageRpc;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+import io.opentelemetry.context.Context;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link BufferedWritableByteChannel} which uploads each filled buffer as a part of an XML API
+ * multipart upload. Parts are hashed and uploaded concurrently on {@code exec}, and assembled into
+ * the final object by a single complete request when the channel is closed.
+ *
+ * <p>Unlike a parallel composite upload, no temporary objects are created. If any part fails to
+ * upload, or the upload fails to complete, the multipart upload is aborted which discards every
+ * part uploaded so far.
+ *
+ * <p>If a {@link MultipartUploadJournal} is provided, the upload and each uploaded part are
+ * recorded in it, and a failed upload is left in place rather than aborted. When the same object is
+ * written again the recorded upload is resumed. The parts recorded contiguously from part 1 are
+ * reused as is, and the bytes written to the channel are the bytes of the object starting at the
+ * journal's {@link MultipartUploadJournal#getResumeOffset() resume offset}. Only if parts were
+ * recorded beyond that offset is the journal validated against the parts listed for the upload;
+ * such a part whose content matches a recorded and listed part is not uploaded again.
+ */
+final class MultipartUploadWritableByteChannel implements BufferedWritableByteChannel {
+
+  // https://cloud.google.com/storage/quotas#requests
+  static final int MAX_PART_COUNT = 10_000;
+
+  // immutable provided values
+  private final BufferHandlePool bufferPool;
+  private final Executor exec;
+  private final MultipartUploadClient client;
+  private final StorageInternal storage;
+  private final SettableApiFuture<BlobInfo> finalObject;
+  private final BlobInfo ultimateObject;
+  private final Opts<ObjectTargetOpt> opts;
+  private final @Nullable MultipartUploadJournal journal;
+
+  // immutable bootstrapped state
+  private final ImmutableMap<StorageRpc.Option, ?> rpcOptions;
+  private final @Nullable String userProject;
+  // the journaled parts the upload is resumed from, the first byte written belongs to the next part
+  private final ImmutableList<JournaledPart> resumedParts;
+  // mutable running state
+  private final List<ApiFuture<CompletedPart>> pendingParts;
+  // the first failure of any part, observed by the writing thread on its next write
+  private final AtomicReference<Throwable> partFailure;
+  private @Nullable ApiFuture<String> uploadId;
+  private @Nullable PooledBuffer current;
+  private boolean open;
+
+  MultipartUploadWritableByteChannel(
+      BufferHandlePool bufferPool,
+      Executor exec,
+      MultipartUploadClient client,
+      SettableApiFuture<BlobInfo> finalObject,
+      StorageInternal storage,
+      BlobInfo ultimateObject,
+      Opts<ObjectTargetOpt> opts,
+      @Nullable MultipartUploadJournal journal) {
+    this.bufferPool = bufferPool;
+    this.exec = Context.current().wrap(exec);
+    this.client = client;
+    this.finalObject = finalObject;
+    this.storage = storage;
+    this.ultimateObject = ultimateObject;
+    this.opts = opts;
+    this.journal = journal;
+    this.rpcOptions = opts.getRpcOptions();
+    this.userProject = (String) rpcOptions.get(StorageRpc.Option.USER_PROJECT);
+    this.pendingParts = new ArrayList<>();
+    this.partFailure = new AtomicReference<>();
+    this.open = true;
+    this.resumedParts = journal != null ? journal.getContiguousParts() : ImmutableList.of();
+    for (JournaledPart part : resumedParts) {
+      pendingParts.add(
+          ApiFutures.immediateFuture(
+              CompletedPart.builder()
+                  .partNumber(part.getPartNumber())
+                  .eTag(part.getETag())
+                  .build()));
+    }
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    checkPartFailure();
+
+    int remaining = src.remaining();
+    while (src.hasRemaining()) {
+      if (current == null) {
+        current = bufferPool.getBuffer();
+      }
+
+      ByteBuffer buf = current.getBufferHandle().get();
+      Buffers.copy(src, buf);
+
+      if (!buf.hasRemaining()) {
+        internalFlush();
+      }
+    }
+
+    return remaining;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open;
+  }
+
+  /**
+   * Block until every full part has been uploaded.
+   *
+   * <p>Every part other than the last must meet the minimum part size of the multipart upload, a
+   * partially filled buffer is therefore retained until it is filled or the channel is closed.
+   */
+  @Override
+  public void flush() throws IOException {
+    try {
+      ApiFutureUtils.await(ApiFutureUtils.quietAllAsList(pendingParts));
+    } catch (Throwable ignore) {
+      // reported by checkPartFailure
+    }
+    checkPartFailure();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!open) {
+      return;
+    }
+    open = false;
+
+    if (current != null && current.getBufferHandle().position() > 0) {
+      internalFlush();
+    } else if (current != null) {
+      bufferPool.returnBuffer(current);
+      current = null;
+    }
+
+    if (pendingParts.isEmpty()) {
+      // A multipart upload must have at least one part, create an empty object directly instead
+      try {
+        BlobInfo blobInfo = storage.internalDirectUpload(ultimateObject, opts, Buffers.allocate(0));
+        deleteJournal();
+        finalObject.set(blobInfo);
+        return;
+      } catch (StorageException se) {
+        finalObject.setException(se);
+        throw se;
+      }
+    }
+
+    // every part may have been resumed from the journal, make sure the upload is known
+    uploadId();
+    ApiFuture<BlobInfo> completed =
+        ApiFutures.transform(
+            ApiFutureUtils.quietAllAsList(pendingParts), this::completeMultipartUpload, exec);
+    ApiFuture<BlobInfo> aborting =
+        ApiFutures.catchingAsync(
+            completed,
+            Throwable.class,
+            t -> ApiFutures.immediateFailedFuture(handleFailure(t)),
+            exec);
+    ApiFutures.addCallback(aborting, new FailureForwarder(), exec);
+
+    try {
+      ApiFutureUtils.await(aborting);
+    } catch (Throwable t) {
+      AsynchronousCloseException e = new AsynchronousCloseException();
+      e.initCause(t);
+      throw e;
+    }
+  }
+
+  private void internalFlush() {
+    PooledBuffer pooled = current;
+    current = null;
+    ByteBuffer buf = pooled.getBufferHandle().get();
+    Buffers.flip(buf);
+
+    int partNumber = pendingParts.size() + 1;
+    if (partNumber > MAX_PART_COUNT) {
+      bufferPool.returnBuffer(pooled);
+      fail(
+          new IllegalStateException(
+              String.format(
+                  Locale.US,
+                  "Multipart upload exceeded the maximum of %d parts, a larger buffer is required",
+                  MAX_PART_COUNT)));
+    }
+
+    ApiFuture<String> uploadId = uploadId();
+    BufferHandleReleaser<CompletedPart> releaser =
+        new BufferHandleReleaser<>(
+            bufferPool,
+            pooled,
+            (OnFailureApiFutureCallback<CompletedPart>) t -> partFailure.compareAndSet(null, t));
+    ApiFuture<CompletedPart> partFuture =
+        ApiFutures.transform(uploadId, releaser.guard(id -> uploadPart(id, partNumber, buf)), exec);
+    ApiFutures.addCallback(partFuture, releaser, exec);
+    pendingParts.add(partFuture);
+  }
+
+  private ApiFuture<String> uploadId() {
+    if (uploadId == null) {
+      uploadId =
+          ApiFutures.transform(
+              ApiFutures.immediateFuture(ultimateObject), this::createMultipartUpload, exec);
+    }
+    return uploadId;
+  }
+
+  private String createMultipartUpload(BlobInfo info) {
+    if (journal != null && journal.getUploadId() != null) {
+      String journaled = journal.getUploadId();
+      // a contiguous journal is trusted as is, the parts of anything else are listed first
+      if (journal.isContiguous() || resume(journaled)) {
+        return journaled;
+      }
+    }
+    CreateMultipartUploadRequest.Builder b =
+        CreateMultipartUploadRequest.builder()
+            .bucket(info.getBucket())
+            .key(info.getName())
+            .contentType(info.getContentType())
+            .contentDisposition(info.getContentDisposition())
+            .contentEncoding(info.getContentEncoding())
+            .contentLanguage(info.getContentLanguage())
+            .cacheControl(info.getCacheControl())
+            .storageClass(info.getStorageClass())
+            .customTime(info.getCustomTimeOffsetDateTime())
+            .userProject(userProject);
+    Map<String, String> metadata = info.getMetadata();
+    if (metadata != null) {
+      b.metadata(Maps.filterValues(metadata, Objects::nonNull));
+    }
+    String kmsKeyName = (String) rpcOptions.get(StorageRpc.Option.KMS_KEY_NAME);
+    b.kmsKeyName(kmsKeyName != null ? kmsKeyName : info.getKmsKeyName());
+    String predefinedAcl = (String) rpcOptions.get(StorageRpc.Option.PREDEFINED_ACL);
+    if (predefinedAcl != null) {
+      for (PredefinedAcl acl : PredefinedAcl.values()) {
+        if (acl.getEntry().equals(predefinedAcl)) {
+          b.cannedAcl(acl);
+        }
+      }
+    }
+    String id = client.createMultipartUpload(b.build()).uploadId();
+    if (journal != null) {
+      try {
+        journal.recordUploadId(id);
+      } catch (IOException e) {
+        throw StorageException.coalesce(e);
+      }
+    }
+    return id;
+  }
+
+  /**
+   * Validate the journaled upload {@code id} against the parts listed for it, forgetting any
+   * journaled part which the service doesn't report with the same etag and size. If the upload no
+   * longer exists, the journal is deleted and {@code false} returned so that a new upload is
+   * created.
+   *
+   * <p>The bytes of the {@link #resumedParts} are never written to this channel, if any of them is
+   * forgotten, or the upload no longer exists, the upload can't be resumed and fails instead.
+   */
+  private boolean resume(String id) {
+    Map<Integer, Part> listed = new HashMap<>();
+    try {
+      ListPartsResponse response;
+      Integer marker = null;
+      do {
+        ListPartsRequest.Builder b =
+            ListPartsRequest.builder()
+                .bucket(ultimateObject.getBucket())
+                .key(ultimateObject.getName())
+                .uploadId(id)
+                .userProject(userProject);
+        if (marker != null) {
+          b.partNumberMarker(marker);
+        }
+        response = client.listParts(b.build());
+        if (response.parts() != null) {
+          response.parts().forEach(p -> listed.put(p.partNumber(), p));
+        }
+        marker = response.nextPartNumberMarker();
+      } while (response.truncated());
+    } catch (Exception e) {
+      BaseServiceException storageException = StorageException.coalesce(e);
+      if (storageException.getCode() != 404) {
+        throw storageException;
+      }
+      deleteJournalOrThrow();
+      if (!resumedParts.isEmpty()) {
+        throw new StorageException(
+            404,
+            String.format(
+                Locale.US,
+                "Journaled multipart upload %s no longer exists, it can not be resumed from offset"
+                    + " %d",
+                id,
+                resumeOffset()),
+            storageException);
+      }
+      return false;
+    }
+    journal.retainParts(listed);
+    for (JournaledPart part : resumedParts) {
+      if (!part.equals(journal.getPart(part.getPartNumber()))) {
+        deleteJournalOrThrow();
+        throw new StorageException(
+            0,
+            String.format(
+                Locale.US,
+                "Part %d of journaled multipart upload %s was not found, it can not be resumed from"
+                    + " offset %d",
+                part.getPartNumber(),
+                id,
+                resumeOffset()));
+      }
+    }
+    return true;
+  }
+
+  private long resumeOffset() {
+    return resumedParts.stream().mapToLong(JournaledPart::getLength).sum();
+  }
+
+  private void deleteJournalOrThrow() {
+    try {
+      journal.delete();
+    } catch (IOException ioe) {
+      throw StorageException.coalesce(ioe);
+    }
+  }
+
+  private CompletedPart uploadPart(String uploadId, int partNumber, ByteBuffer buf) {
+    // hash on the executor rather than the writing thread, the server validates the value.
+    // When journaling, the value is always needed to identify parts uploaded by a previous attempt
+    Hasher hasher = journal != null ? Hasher.enabled() : Hasher.defaultHasher();
+    Crc32cLengthKnown crc32c = hasher.hash(buf.duplicate());
+    String encodedCrc32c = crc32c != null ? Utils.crc32cCodec.encode(crc32c.getValue()) : null;
+    int length = buf.remaining();
+    if (journal != null) {
+      JournaledPart journaled = journal.getPart(partNumber);
+      if (journaled != null && journaled.matches(encodedCrc32c, length)) {
+        // uploaded by a previous attempt
+        return CompletedPart.builder().partNumber(partNumber).eTag(journaled.getETag()).build();
+      }
+    }
+    UploadPartRequest.Builder b =
+        UploadPartRequest.builder()
+            .bucket(ultimateObject.getBucket())
+            .key(ultimateObject.getName())
+            .partNumber(partNumber)
+            .uploadId(uploadId)
+            .userProject(userProject);
+    if (encodedCrc32c != null) {
+      b.crc32c(encodedCrc32c);
+    }
+    // individual parts are retried by the client, rewinding the buffer for each attempt
+    UploadPartResponse response = client.uploadPart(b.build(), RequestBody.of(buf));
+    if (journal != null) {
+      try {
+        journal.recordPart(new JournaledPart(partNumber, response.eTag(), encodedCrc32c, length));
+      } catch (IOException e) {
+        throw StorageException.coalesce(e);
+      }
+    }
+    return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+  }
+
+  private BlobInfo completeMultipartUpload(List<CompletedPart> parts) {
+    CompleteMultipartUploadRequest request =
+        CompleteMultipartUploadRequest.builder()
+            .bucket(ultimateObject.getBucket())
+            .key(ultimateObject.getName())
+            .uploadId(ApiFutureUtils.await(uploadId))
+            .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+            .userProject(userProject)
+            .build();
+    client.completeMultipartUpload(request);
+    deleteJournal();
+    Opts<ObjectSourceOpt> srcOpts =
+        opts.filter(o -> o instanceof UserProject).constrainTo(ObjectSourceOpt.class);
+    return storage.internalObjectGet(
+        BlobId.of(ultimateObject.getBucket(), ultimateObject.getName()), srcOpts);
+  }
+
+  /**
+   * Cancel any parts which haven't started yet, then either abort the multipart upload discarding
+   * all parts uploaded so far, or if journaling leave the upload in place so that it can be
+   * resumed.
+   */
+  private BaseServiceException handleFailure(Throwable cause) {
+    for (ApiFuture<CompletedPart> pendingPart : pendingParts) {
+      pendingPart.cancel(false);
+    }
+    BaseServiceException storageException = StorageException.coalesce(cause);
+    if (journal != null) {
+      try {
+        if (storageException.getCode() == 404) {
+          // the recorded upload no longer exists, it can't be resumed
+          journal.delete();
+        } else {
+          journal.close();
+        }
+      } catch (IOException e) {
+        storageException.addSuppressed(e);
+      }
+    } else if (uploadId != null && uploadId.isDone()) {
+      try {
+        AbortMultipartUploadRequest request =
+            AbortMultipartUploadRequest.builder()
+                .bucket(ultimateObject.getBucket())
+                .key(ultimateObject.getName())
+                .uploadId(ApiFutureUtils.await(uploadId))
+                .userProject(userProject)
+                .build();
+        client.abortMultipartUpload(request);
+      } catch (Throwable t) {
+        if (t != cause) {
+          storageException.addSuppressed(t);
+        }
+      }
+    }
+    return storageException;
+  }
+
+  private void checkPartFailure() {
+    Throwable t = partFailure.get();
+    if (t != null) {
+      fail(t);
+    }
+  }
+
+  private void fail(Throwable t) {
+    open = false;
+    if (current != null) {
+      bufferPool.returnBuffer(current);
+      current = null;
+    }
+    BaseServiceException e = handleFailure(t);
+    finalObject.setException(e);
+    throw e;
+  }
+
+  private void deleteJournal() {
+    if (journal != null) {
+      try {
+        journal.delete();
+      } catch (IOException ignore) {
+        // the upload is complete, a stale journal will fail to resume and be deleted then
+      }
+    }
+  }
+
+  private class FailureForwarder implements ApiFutureCallback<BlobInfo> {
+
+    @Override
+    public void onFailure(Throwable t) {
+      finalObject.setException(t);
+    }
+
+    @Override
+    public void onSuccess(BlobInfo result) {
+      finalObject.set(result);
+    }
+  }
+}
@@ -19,6 +19,8 @@ package com.google.cloud.storage;
 import com.google.api.core.InternalApi;
 import com.google.api.core.InternalExtensionOnly;
 import com.google.storage.v2.Object;
+import java.util.ArrayList;
+import java.util.List;
 
 @InternalApi
 @InternalExtensionOnly
@@ -27,4 +29,17 @@ interface ObjectReadSession extends IOAutoCloseable {
   Object getResource();
 
   <Projection> Projection readAs(ReadProjectionConfig<Projection> config);
+
+  /**
+   * Equivalent to calling {@link #readAs(ReadProjectionConfig)} for each of {@code configs} in
+   * order, but allows an implementation to issue the resulting reads together.
+   */
+  default <Projection> List<Projection> readAllAs(
+      List<? extends ReadProjectionConfig<Projection>> configs) {
+    List<Projection> projections = new ArrayList<>(configs.size());
+    for (ReadProjectionConfig<Projection> config : configs) {
+      projections.add(readAs(config));
+    }
+    return projections;
+  }
 }
@@ -24,9 +24,11 @@ import com.google.cloud.storage.GrpcUtils.ZeroCopyBidiStreamingCallable;
 import com.google.cloud.storage.ReadProjectionConfig.ProjectionType;
 import com.google.cloud.storage.RetryContext.RetryContextProvider;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import com.google.storage.v2.BidiReadObjectRequest;
 import com.google.storage.v2.BidiReadObjectResponse;
 import com.google.storage.v2.Object;
+import com.google.storage.v2.ReadRange;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.util.ArrayList;
@@ -42,6 +44,9 @@ import java.util.function.BiFunction;
 
 final class ObjectReadSessionImpl implements ObjectReadSession {
 
+  /** The service accepts at most this many {@link ReadRange}s in a single request */
+  private static final int MAX_READ_RANGES_PER_REQUEST = 100;
+
   private final ScheduledExecutorService executor;
   private final ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse>
       callable;
@@ -97,6 +102,40 @@ final class ObjectReadSessionImpl implements ObjectReadSession {
     }
   }
 
+  /**
+   * Register each stream read, and send all of those which can share the primary stream in as few
+   * requests as possible rather than one request per read.
+   */
+  @Override
+  public <Projection> List<Projection> readAllAs(
+      List<? extends ReadProjectionConfig<Projection>> configs) {
+    checkState(open, "Session already closed");
+    List<Projection> projections = new ArrayList<>(configs.size());
+    List<ReadRange> batch = new ArrayList<>();
+    for (ReadProjectionConfig<Projection> config : configs) {
+      if (config.getType() != ProjectionType.STREAM_READ) {
+        projections.add(readAs(config));
+        continue;
+      }
+      long readId = state.newReadId();
+      ObjectReadSessionStreamRead<Projection> read =
+          config.cast().newRead(readId, retryContextProvider.create());
+      if (state.canHandleNewRead(read)) {
+        read.setOnCloseCallback(releaseOnClose());
+        if (state.scheduleRead(readId, read)) {
+          batch.add(read.makeReadRange());
+        }
+      } else {
+        registerReadInState(readId, read);
+      }
+      projections.add(read.project());
+    }
+    for (List<ReadRange> ranges : Lists.partition(batch, MAX_READ_RANGES_PER_REQUEST)) {
+      stream.send(BidiReadObjectRequest.newBuilder().addAllReadRanges(ranges).build());
+    }
+    return projections;
+  }
+
   @Override
   public void close() throws IOException {
     try {
@@ -116,12 +155,23 @@ final class ObjectReadSessionImpl implements ObjectReadSession {
     }
   }
 
+  /**
+   * A read on the primary stream which is closed or cancelled before it completes must release the
+   * capacity charged against its {@link ReadPriority}, otherwise reads held behind it would never
+   * be sent.
+   */
+  private IOAutoCloseable releaseOnClose() {
+    return stream::releaseClosedReads;
+  }
+
   private void registerReadInState(long readId, ObjectReadSessionStreamRead<?> read) {
     BidiReadObjectRequest request =
         BidiReadObjectRequest.newBuilder().addReadRanges(read.makeReadRange()).build();
     if (state.canHandleNewRead(read)) {
-      state.putOutstandingRead(readId, read);
-      stream.send(request);
+      read.setOnCloseCallback(releaseOnClose());
+      if (state.scheduleRead(readId, read)) {
+        stream.send(request);
+      }
     } else {
       ObjectReadSessionState child = state.forkChild();
       ObjectReadSessionStream newStream =
@@ -24,6 +24,8 @@ import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayDeque;
+import java.util.OptionalLong;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class ObjectReadSessionSeekableByteChannel implements SeekableByteChannel, IOAutoCloseable {
@@ -32,9 +34,14 @@ final class ObjectReadSessionSeekableByteChannel implements SeekableByteChannel,
   private final ReadAsSeekableChannel config;
   private final long size;
   private final ReadAsChannel channelConfig;
+  private final RangeSpecFunction rangeSpecFunction;
   private final IOAutoCloseable closeAlongWithThis;
 
-  private ReadableByteChannel rbc;
+  /**
+   * Ranges which have been requested from the session. The head is the range currently being read,
+   * any others have been requested ahead of being needed.
+   */
+  private final ArrayDeque<OpenRange> ranges;
 
   private long position;
   private boolean open = true;
@@ -51,6 +58,8 @@ final class ObjectReadSessionSeekableByteChannel implements SeekableByteChannel,
     this.channelConfig =
         ReadProjectionConfigs.asChannel()
             .withCrc32cValidationEnabled(config.getCrc32cValidationEnabled());
+    this.rangeSpecFunction = config.getRangeSpecFunction().forChannel();
+    this.ranges = new ArrayDeque<>();
   }
 
   @Override
@@ -63,29 +72,83 @@ final class ObjectReadSessionSeekableByteChannel implements SeekableByteChannel,
     }
 
     int totalRead = 0;
-    if (rbc == null) {
-      RangeSpec apply = config.getRangeSpecFunction().apply(position, lastRangeSpec);
+    OpenRange current = ranges.peekFirst();
+    if (current == null) {
+      RangeSpec apply = rangeSpecFunction.apply(position, lastRangeSpec);
       checkState(
           apply.begin() == position,
           "RangeSpec does not begin at provided position. expected = %s, actual = %s",
           position,
           apply.begin());
-      rbc = session.readAs(channelConfig.withRangeSpec(apply));
-      lastRangeSpec = apply;
+      current = open(apply);
     }
 
-    int read = rbc.read(dst);
+    int read = current.rbc.read(dst);
     if (read < 0) {
-      rbc.close();
-      rbc = null;
+      ranges.pollFirst();
+      current.complete();
+      current.rbc.close();
+      OpenRange next = ranges.peekFirst();
+      if (next != null && next.rangeSpec.begin() != position) {
+        // the range ended somewhere other than expected, anything read ahead is not usable
+        closeRanges();
+      }
     } else {
+      current.consumed(read);
       totalRead += read;
       position += read;
+      if (current.isHalfConsumed()) {
+        readAhead();
+      }
     }
 
     return totalRead;
   }
 
+  private OpenRange open(RangeSpec rangeSpec) {
+    OpenRange range =
+        new OpenRange(rangeSpec, session.readAs(channelConfig.withRangeSpec(rangeSpec)));
+    ranges.addLast(range);
+    lastRangeSpec = rangeSpec;
+    return range;
+  }
+
+  /**
+   * Request up to {@link ReadAsSeekableChannel#getReadAheadRanges()} ranges following the last
+   * requested range, bounded by {@link ReadAsSeekableChannel#getReadAheadMaxBytes()}.
+   */
+  private void readAhead() {
+    if (ranges.size() > config.getReadAheadRanges()) {
+      return;
+    }
+    long outstanding = 0;
+    for (OpenRange range : ranges) {
+      if (range != ranges.peekFirst()) {
+        outstanding += range.rangeSpec.maxLength().orElse(0);
+      }
+    }
+    while (ranges.size() <= config.getReadAheadRanges()) {
+      OptionalLong lastMaxLength = lastRangeSpec.maxLength();
+      if (!lastMaxLength.isPresent()) {
+        return;
+      }
+      long begin = lastRangeSpec.begin() + lastMaxLength.getAsLong();
+      long budget = config.getReadAheadMaxBytes() - outstanding;
+      if (begin >= size || budget <= 0) {
+        return;
+      }
+      RangeSpec next = rangeSpecFunction.apply(begin, lastRangeSpec);
+      OptionalLong nextMaxLength = next.maxLength();
+      if (next.begin() != begin) {
+        return;
+      }
+      long maxLength = Math.min(nextMaxLength.orElse(Long.MAX_VALUE), budget);
+      maxLength = Math.min(maxLength, size - begin);
+      open(RangeSpec.of(begin, maxLength));
+      outstanding += maxLength;
+    }
+  }
+
   private long remaining() {
     return size - position;
   }
@@ -107,9 +170,12 @@ final class ObjectReadSessionSeekableByteChannel implements SeekableByteChannel,
       return this;
     }
     position = newPosition;
-    try (ReadableByteChannel ignore = rbc) {
-      rbc = null;
+    OpenRange current = ranges.peekFirst();
+    if (current != null) {
+      current.complete();
     }
+    // the current range and anything read ahead of it are no longer useful, cancel them
+    closeRanges();
     return this;
   }
 
@@ -133,10 +199,63 @@ final class ObjectReadSessionSeekableByteChannel implements SeekableByteChannel,
     if (!open) {
       return;
     }
-    try (IOAutoCloseable ignore1 = closeAlongWithThis;
-        ReadableByteChannel ignore2 = rbc) {
+    try (IOAutoCloseable ignore1 = closeAlongWithThis) {
       open = false;
-      rbc = null;
+      closeRanges();
+    }
+  }
+
+  private void closeRanges() throws IOException {
+    IOException suppressed = null;
+    OpenRange range;
+    while ((range = ranges.pollFirst()) != null) {
+      try {
+        range.rbc.close();
+      } catch (IOException e) {
+        if (suppressed == null) {
+          suppressed = e;
+        } else {
+          suppressed.addSuppressed(e);
+        }
+      }
+    }
+    if (suppressed != null) {
+      throw suppressed;
+    }
+  }
+
+  private final class OpenRange {
+    private final RangeSpec rangeSpec;
+    private final ReadableByteChannel rbc;
+    private final long openNanos;
+    private long ttfbNanos;
+    private long consumed;
+
+    private OpenRange(RangeSpec rangeSpec, ReadableByteChannel rbc) {
+      this.rangeSpec = rangeSpec;
+      this.rbc = rbc;
+      this.openNanos = System.nanoTime();
+      this.ttfbNanos = -1;
+      this.consumed = 0;
+    }
+
+    private void consumed(int read) {
+      if (read > 0 && ttfbNanos < 0) {
+        ttfbNanos = System.nanoTime() - openNanos;
+      }
+      consumed += read;
+    }
+
+    private boolean isHalfConsumed() {
+      OptionalLong maxLength = rangeSpec.maxLength();
+      return config.getReadAheadRanges() > 0
+          && maxLength.isPresent()
+          && consumed >= maxLength.getAsLong() / 2;
+    }
+
+    private void complete() {
+      rangeSpecFunction.onRangeComplete(
+          rangeSpec, consumed, ttfbNanos, System.nanoTime() - openNanos);
     }
   }
 }
@@ -16,25 +16,28 @@
 
 package com.google.cloud.storage;
 
-import static com.google.common.base.Preconditions.checkState;
-
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutures;
 import com.google.api.gax.grpc.GrpcCallContext;
-import com.google.cloud.storage.RetryContext.OnFailure;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.storage.v2.BidiReadHandle;
 import com.google.storage.v2.BidiReadObjectRequest;
 import com.google.storage.v2.BidiReadObjectSpec;
 import com.google.storage.v2.Object;
+import com.google.storage.v2.ReadRange;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -56,8 +59,23 @@ final class ObjectReadSessionState {
   private final AtomicReference<@MonotonicNonNull Object> metadata;
   private final AtomicLong readIdSeq;
 
-  @GuardedBy("this.lock") // https://errorprone.info/bugpattern/GuardedBy
-  private final Map<Long, ObjectReadSessionStreamRead<?>> outstandingReads;
+  /**
+   * Reads which have been sent, or are to be sent, on the stream. Lookups happen for every range of
+   * every response and are lock-free, any compound mutation must hold {@link #lock}.
+   */
+  private final ConcurrentHashMap<Long, ObjectReadSessionStreamRead<?>> outstandingReads;
+
+  /** Reads held back because their {@link ReadPriority} is at its outstanding byte cap */
+  @GuardedBy("this.lock")
+  private final EnumMap<ReadPriority, ArrayDeque<ObjectReadSessionStreamRead<?>>> heldReads;
+
+  /** The number of bytes charged against the cap of each {@link ReadPriority}, by ordinal */
+  @GuardedBy("this.lock")
+  private final long[] outstandingBytes;
+
+  /** The number of bytes charged by each outstanding read, keyed by read id */
+  @GuardedBy("this.lock")
+  private final Map<Long, Long> charges;
 
   private final ReentrantLock lock;
 
@@ -85,7 +103,13 @@ final class ObjectReadSessionState {
     this.routingToken = routingToken;
     this.metadata = metadata;
     this.readIdSeq = readIdSeq;
-    this.outstandingReads = new HashMap<>();
+    this.outstandingReads = new ConcurrentHashMap<>();
+    this.heldReads = new EnumMap<>(ReadPriority.class);
+    for (ReadPriority p : ReadPriority.values()) {
+      this.heldReads.put(p, new ArrayDeque<>());
+    }
+    this.outstandingBytes = new long[ReadPriority.values().length];
+    this.charges = new HashMap<>();
     this.lock = new ReentrantLock();
   }
 
@@ -103,7 +127,10 @@ final class ObjectReadSessionState {
     lock.lock();
     try {
       // when the map is empty this will also return true, see #allMatch docs
-      return outstandingReads.values().stream().allMatch(r -> r.canShareStreamWith(newRead));
+      return Stream.concat(
+              outstandingReads.values().stream(),
+              heldReads.values().stream().flatMap(ArrayDeque::stream))
+          .allMatch(r -> r.canShareStreamWith(newRead));
     } finally {
       lock.unlock();
     }
@@ -132,6 +159,7 @@ final class ObjectReadSessionState {
 
       outstandingReads.values().stream()
           .filter(ObjectReadSessionStreamRead::readyToSend)
+          .sorted(Comparator.comparing(ObjectReadSessionStreamRead::priority))
           .map(ObjectReadSessionStreamRead::makeReadRange)
           .forEach(b::addReadRanges);
 
@@ -167,51 +195,106 @@ final class ObjectReadSessionState {
   }
 
   @Nullable ObjectReadSessionStreamRead<?> getOutstandingRead(long key) {
+    return outstandingReads.get(key);
+  }
+
+  /**
+   * Add {@code value} as an outstanding read regardless of whether its {@link ReadPriority} is at
+   * its cap.
+   */
+  void putOutstandingRead(long key, ObjectReadSessionStreamRead<?> value) {
     lock.lock();
     try {
-      return outstandingReads.get(key);
+      admit(key, value);
     } finally {
       lock.unlock();
     }
   }
 
-  void putOutstandingRead(long key, ObjectReadSessionStreamRead<?> value) {
+  /**
+   * Add {@code value} as an outstanding read if its {@link ReadPriority} has capacity for it,
+   * returning {@code true} if the read should now be sent. Otherwise, the read is held and will be
+   * returned from {@link #removeOutstandingRead(long)} once capacity frees up.
+   */
+  boolean scheduleRead(long key, ObjectReadSessionStreamRead<?> value) {
     lock.lock();
     try {
-      outstandingReads.put(key, value);
+      ReadPriority priority = value.priority();
+      // a closed read at the head of the queue must not hold back the new read
+      heldReads.get(priority).removeIf(r -> !r.acceptingBytes());
+      if (heldReads.get(priority).isEmpty() && hasCapacityFor(value)) {
+        admit(key, value);
+        return true;
+      }
+      heldReads.get(priority).addLast(value);
+      return false;
     } finally {
       lock.unlock();
     }
   }
 
-  void removeOutstandingRead(long key) {
+  /**
+   * Remove the outstanding read identified by {@code key}, returning the ranges of any held reads
+   * which have been admitted in its place. The returned ranges must be sent by the caller.
+   */
+  List<ReadRange> removeOutstandingRead(long key) {
     lock.lock();
     try {
-      outstandingReads.remove(key);
+      ObjectReadSessionStreamRead<?> removed = outstandingReads.remove(key);
+      if (removed == null || !release(key, removed)) {
+        return ImmutableList.of();
+      }
+      return admitHeldReads();
     } finally {
       lock.unlock();
     }
   }
 
-  <T extends Throwable> OnFailure<T> removeOutstandingReadOnFailure(long key, OnFailure<T> onFail) {
-    return t -> {
-      removeOutstandingRead(key);
-      onFail.onFailure(t);
-    };
+  /**
+   * Remove every read, outstanding or held, which is no longer accepting bytes because it has been
+   * closed or cancelled, releasing the capacity charged for it. Returns the ranges of any held
+   * reads which have been admitted in their place. The returned ranges must be sent by the caller.
+   */
+  List<ReadRange> releaseClosedReads() {
+    lock.lock();
+    try {
+      Iterator<Entry<Long, ObjectReadSessionStreamRead<?>>> iter =
+          outstandingReads.entrySet().iterator();
+      while (iter.hasNext()) {
+        Entry<Long, ObjectReadSessionStreamRead<?>> entry = iter.next();
+        if (!entry.getValue().acceptingBytes()) {
+          iter.remove();
+          release(entry.getKey(), entry.getValue());
+        }
+      }
+      return admitHeldReads();
+    } finally {
+      lock.unlock();
+    }
   }
 
   void setRoutingToken(String routingToken) {
     this.routingToken.set(routingToken);
   }
 
-  ObjectReadSessionStreamRead<?> assignNewReadId(long oldReadId) {
+  /**
+   * Re-register the outstanding read identified by {@code oldReadId} under a new read id, returning
+   * the re-registered read, or {@code null} if the read has since been closed and released.
+   */
+  @Nullable ObjectReadSessionStreamRead<?> assignNewReadId(long oldReadId) {
     lock.lock();
     try {
       ObjectReadSessionStreamRead<?> remove = outstandingReads.remove(oldReadId);
-      checkState(remove != null, "unable to locate old read");
+      if (remove == null) {
+        return null;
+      }
       long newReadId = newReadId();
       ObjectReadSessionStreamRead<?> withNewReadId = remove.withNewReadId(newReadId);
       outstandingReads.put(newReadId, withNewReadId);
+      Long charge = charges.remove(oldReadId);
+      if (charge != null) {
+        charges.put(newReadId, charge);
+      }
       return withNewReadId;
     } finally {
       lock.unlock();
@@ -223,11 +306,20 @@ final class ObjectReadSessionState {
     try {
       Iterator<Entry<Long, ObjectReadSessionStreamRead<?>>> iter =
           outstandingReads.entrySet().iterator();
-      ArrayList<ApiFuture<?>> futures = new ArrayList<>();
+      ArrayList<ObjectReadSessionStreamRead<?>> reads = new ArrayList<>();
       while (iter.hasNext()) {
         Entry<Long, ObjectReadSessionStreamRead<?>> entry = iter.next();
         iter.remove();
-        ObjectReadSessionStreamRead<?> read = entry.getValue();
+        reads.add(entry.getValue());
+      }
+      for (ArrayDeque<ObjectReadSessionStreamRead<?>> held : heldReads.values()) {
+        reads.addAll(held);
+        held.clear();
+      }
+      charges.clear();
+      Arrays.fill(outstandingBytes, 0);
+      ArrayList<ApiFuture<?>> futures = new ArrayList<>();
+      for (ObjectReadSessionStreamRead<?> read : reads) {
         read.preFail();
         ApiFuture<?> f =
             ApiFutures.transformAsync(
@@ -245,6 +337,67 @@ final class ObjectReadSessionState {
     }
   }
 
+  private void admit(long key, ObjectReadSessionStreamRead<?> read) {
+    long charge = chargeFor(read);
+    outstandingReads.put(key, read);
+    charges.put(key, charge);
+    outstandingBytes[read.priority().ordinal()] += charge;
+  }
+
+  /**
+   * Release the capacity charged for {@code read}, which must already have been removed from {@link
+   * #outstandingReads}. Returns {@code true} if any capacity was released.
+   */
+  private boolean release(long key, ObjectReadSessionStreamRead<?> read) {
+    Long charge = charges.remove(key);
+    if (charge == null || charge == 0) {
+      return false;
+    }
+    outstandingBytes[read.priority().ordinal()] -= charge;
+    return true;
+  }
+
+  private boolean hasCapacityFor(ObjectReadSessionStreamRead<?> read) {
+    ReadPriority priority = read.priority();
+    long outstanding = outstandingBytes[priority.ordinal()];
+    // a read larger than the cap is still admitted once its class is otherwise idle
+    return outstanding == 0 || outstanding + chargeFor(read) <= priority.getMaxOutstandingBytes();
+  }
+
+  private List<ReadRange> admitHeldReads() {
+    ImmutableList.Builder<ReadRange> admitted = ImmutableList.builder();
+    // EnumMap iterates in ordinal order, i.e. highest priority first
+    for (ArrayDeque<ObjectReadSessionStreamRead<?>> held : heldReads.values()) {
+      // a read closed or cancelled while it was held will never be sent, drop it
+      held.removeIf(r -> !r.acceptingBytes());
+      while (!held.isEmpty() && hasCapacityFor(held.peekFirst())) {
+        ObjectReadSessionStreamRead<?> read = held.pollFirst();
+        ReadRange range = read.makeReadRange();
+        admit(range.getReadId(), read);
+        admitted.add(range);
+      }
+    }
+    return admitted.build();
+  }
+
+  /**
+   * The number of bytes {@code read} counts against the cap of its {@link ReadPriority}. Reads of
+   * an uncapped class are not tracked, and no read is charged more than the cap itself.
+   */
+  private long chargeFor(ObjectReadSessionStreamRead<?> read) {
+    long cap = read.priority().getMaxOutstandingBytes();
+    if (cap == Long.MAX_VALUE) {
+      return 0;
+    }
+    ReadRange range = read.makeReadRange();
+    long remaining = range.getReadLength();
+    if (remaining <= 0) {
+      Object obj = metadata.get();
+      remaining = obj != null ? obj.getSize() - range.getReadOffset() : cap;
+    }
+    return Math.max(0, Math.min(remaining, cap));
+  }
+
   static final class OpenArguments {
     private final GrpcCallContext ctx;
     private final BidiReadObjectRequest req;
@@ -30,6 +30,7 @@ import com.google.cloud.storage.GrpcUtils.ZeroCopyBidiStreamingCallable;
 import com.google.cloud.storage.Hasher.UncheckedChecksumMismatchException;
 import com.google.cloud.storage.ObjectReadSessionState.OpenArguments;
 import com.google.cloud.storage.ResponseContentLifecycleHandle.ChildRef;
+import com.google.cloud.storage.RetryContext.OnFailure;
 import com.google.cloud.storage.RetryContext.OnSuccess;
 import com.google.cloud.storage.StorageDataClient.Borrowable;
 import com.google.common.annotations.VisibleForTesting;
@@ -60,6 +61,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 final class ObjectReadSessionStream
     implements ClientStream<BidiReadObjectRequest>, ApiFuture<Void>, IOAutoCloseable, Borrowable {
 
+  private static final ReadPriority[] PRIORITIES = ReadPriority.values();
+
   private final SettableApiFuture<Void> objectReadSessionResolveFuture;
 
   private final ObjectReadSessionState state;
@@ -211,6 +214,21 @@ final class ObjectReadSessionStream
     openLeases.incrementAndGet();
   }
 
+  /**
+   * Release the capacity held by any reads which have been closed or cancelled, sending any held
+   * reads admitted in their place.
+   */
+  void releaseClosedReads() {
+    sendAdmitted(state.releaseClosedReads());
+  }
+
+  private void sendAdmitted(List<ReadRange> admitted) {
+    // once the stream has been closed there is nothing left to send the reads on
+    if (!admitted.isEmpty() && isOpen()) {
+      send(BidiReadObjectRequest.newBuilder().addAllReadRanges(admitted).build());
+    }
+  }
+
   private void checkOpen() {
     Preconditions.checkState(isOpen(), "Stream closed");
   }
@@ -276,85 +294,26 @@ final class ObjectReadSessionStream
         if (rangeData.isEmpty()) {
           return;
         }
-        for (int i = 0; i < rangeData.size(); i++) {
-          ObjectRangeData d = rangeData.get(i);
-          ReadRange readRange = d.getReadRange();
-          long id = readRange.getReadId();
-          ObjectReadSessionStreamRead<?> read = state.getOutstandingRead(id);
-          if (read == null || !read.acceptingBytes()) {
-            continue;
-          }
-          ChecksummedData checksummedData = d.getChecksummedData();
-          ByteString content = checksummedData.getContent();
-          int crc32C = checksummedData.getCrc32C();
-
-          try {
-            // On a Threadripper PRO 3945WX
-            // java11+ calculating the crc32c of a 2MiB segment is ~70us
-            // java8 the same calculation is ~1600us
-            // not something to worry about offloading to another thread at this time.
-            read.hasher().validateUnchecked(Crc32cValue.of(crc32C), content);
-          } catch (UncheckedChecksumMismatchException e) {
-            read.recordError(
-                e,
-                restartReadFromCurrentOffset(id),
-                state.removeOutstandingReadOnFailure(id, read::fail));
-            continue;
-          }
-
-          final int idx = i;
-          long begin = readRange.getReadOffset();
-          long position = read.readOffset();
-          if (begin == position) {
-            ChildRef childRef;
-            childRef =
-                handle.borrow(r -> r.getObjectDataRanges(idx).getChecksummedData().getContent());
-            read.accept(childRef);
-          } else if (begin < position) {
-            int skip = Math.toIntExact(position - begin);
-            ChildRef childRef =
-                handle.borrow(
-                    r ->
-                        r.getObjectDataRanges(idx)
-                            .getChecksummedData()
-                            .getContent()
-                            .substring(skip));
-            read.accept(childRef);
-            ApiException apiException =
-                ApiExceptionFactory.createException(
-                    String.format("position = %d, readRange.read_offset = %d", position, begin),
-                    null,
-                    GrpcStatusCode.of(Code.OUT_OF_RANGE),
-                    true);
-            read.recordError(
-                apiException,
-                restartReadFromCurrentOffset(id),
-                state.removeOutstandingReadOnFailure(id, read::fail));
-            continue;
-          } else {
-            ApiException apiException =
-                ApiExceptionFactory.createException(
-                    String.format("position = %d, readRange.read_offset = %d", position, begin),
-                    null,
-                    GrpcStatusCode.of(Code.OUT_OF_RANGE),
-                    true);
-            read.recordError(
-                apiException,
-                restartReadFromCurrentOffset(id),
-                state.removeOutstandingReadOnFailure(id, read::fail));
-            continue;
-          }
-
-          if (d.getRangeEnd()) {
-            // invoke eof on exec, the resolving future could have a downstream callback
-            // that we don't want to block this grpc thread
-            executor.execute(
-                StorageException.liftToRunnable(
-                    () -> {
-                      read.eof();
-                      // don't remove the outstanding read until the future has been resolved
-                      state.removeOutstandingRead(id);
-                    }));
+        int size = rangeData.size();
+        if (size == 1) {
+          ObjectRangeData d = rangeData.get(0);
+          ObjectReadSessionStreamRead<?> read =
+              state.getOutstandingRead(d.getReadRange().getReadId());
+          onRangeData(handle, 0, d, read);
+          return;
+        }
+        // resolve each read once, then dispatch a class at a time from the highest priority down.
+        // Ranges within a class retain the order they were sent by the server.
+        ObjectReadSessionStreamRead<?>[] reads = new ObjectReadSessionStreamRead<?>[size];
+        for (int i = 0; i < size; i++) {
+          reads[i] = state.getOutstandingRead(rangeData.get(i).getReadRange().getReadId());
+        }
+        for (ReadPriority priority : PRIORITIES) {
+          for (int i = 0; i < size; i++) {
+            ObjectReadSessionStreamRead<?> read = reads[i];
+            if (read != null && read.priority() == priority) {
+              onRangeData(handle, i, rangeData.get(i), read);
+            }
           }
         }
       } catch (IOException e) {
@@ -374,6 +333,87 @@ final class ObjectReadSessionStream
       }
     }
 
+    private void onRangeData(
+        ResponseContentLifecycleHandle<BidiReadObjectResponse> handle,
+        int idx,
+        ObjectRangeData d,
+        @Nullable ObjectReadSessionStreamRead<?> read)
+        throws IOException {
+      ReadRange readRange = d.getReadRange();
+      long id = readRange.getReadId();
+      if (read == null) {
+        return;
+      } else if (!read.acceptingBytes()) {
+        // the read was closed or cancelled, make sure it no longer holds back other reads
+        removeOutstandingRead(id);
+        return;
+      }
+      ChecksummedData checksummedData = d.getChecksummedData();
+      ByteString content = checksummedData.getContent();
+      int crc32C = checksummedData.getCrc32C();
+
+      try {
+        // On a Threadripper PRO 3945WX
+        // java11+ calculating the crc32c of a 2MiB segment is ~70us
+        // java8 the same calculation is ~1600us
+        // not something to worry about offloading to another thread at this time.
+        read.hasher().validateUnchecked(Crc32cValue.of(crc32C), content);
+      } catch (UncheckedChecksumMismatchException e) {
+        read.recordError(
+            e, restartReadFromCurrentOffset(id), removeOutstandingReadOnFailure(id, read::fail));
+        return;
+      }
+
+      long begin = readRange.getReadOffset();
+      long position = read.readOffset();
+      if (begin == position) {
+        ChildRef childRef;
+        childRef = handle.borrow(r -> r.getObjectDataRanges(idx).getChecksummedData().getContent());
+        read.accept(childRef);
+      } else if (begin < position) {
+        int skip = Math.toIntExact(position - begin);
+        ChildRef childRef =
+            handle.borrow(
+                r -> r.getObjectDataRanges(idx).getChecksummedData().getContent().substring(skip));
+        read.accept(childRef);
+        ApiException apiException =
+            ApiExceptionFactory.createException(
+                String.format("position = %d, readRange.read_offset = %d", position, begin),
+                null,
+                GrpcStatusCode.of(Code.OUT_OF_RANGE),
+                true);
+        read.recordError(
+            apiException,
+            restartReadFromCurrentOffset(id),
+            removeOutstandingReadOnFailure(id, read::fail));
+        return;
+      } else {
+        ApiException apiException =
+            ApiExceptionFactory.createException(
+                String.format("position = %d, readRange.read_offset = %d", position, begin),
+                null,
+                GrpcStatusCode.of(Code.OUT_OF_RANGE),
+                true);
+        read.recordError(
+            apiException,
+            restartReadFromCurrentOffset(id),
+            removeOutstandingReadOnFailure(id, read::fail));
+        return;
+      }
+
+      if (d.getRangeEnd()) {
+        // invoke eof on exec, the resolving future could have a downstream callback
+        // that we don't want to block this grpc thread
+        executor.execute(
+            StorageException.liftToRunnable(
+                () -> {
+                  read.eof();
+                  // don't remove the outstanding read until the future has been resolved
+                  removeOutstandingRead(id);
+                }));
+      }
+    }
+
     @Override
     public void onError(Throwable t) {
       requestStream = null;
@@ -407,8 +447,7 @@ final class ObjectReadSessionStream
         executor.execute(
             StorageException.liftToRunnable(
                 () ->
-                    state
-                        .removeOutstandingReadOnFailure(id, read::fail)
+                    removeOutstandingReadOnFailure(id, read::fail)
                         .onFailure(GrpcUtils.statusToApiException(status))));
       }
       // now that we've failed specific reads, raise a retryable ABORTED error to the stream to
@@ -426,10 +465,26 @@ final class ObjectReadSessionStream
           ObjectReadSessionStream.this::failAll);
     }
 
+    private void removeOutstandingRead(long id) {
+      sendAdmitted(state.removeOutstandingRead(id));
+    }
+
+    private <T extends Throwable> OnFailure<T> removeOutstandingReadOnFailure(
+        long id, OnFailure<T> onFail) {
+      return t -> {
+        removeOutstandingRead(id);
+        onFail.onFailure(t);
+      };
+    }
+
     private OnSuccess restartReadFromCurrentOffset(long id) {
       return () -> {
         //noinspection resource
         ObjectReadSessionStreamRead<?> readWithNewId = state.assignNewReadId(id);
+        if (readWithNewId == null) {
+          // closed while waiting to be retried
+          return;
+        }
         BidiReadObjectRequest requestWithNewReadId =
             BidiReadObjectRequest.newBuilder().addReadRanges(readWithNewId.makeReadRange()).build();
         ObjectReadSessionStream.this.send(requestWithNewReadId);
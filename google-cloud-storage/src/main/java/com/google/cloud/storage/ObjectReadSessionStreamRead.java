@@ -21,6 +21,7 @@ import com.google.api.core.InternalApi;
 import com.google.api.core.InternalExtensionOnly;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.AccumulatingRead;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.ByteArrayAccumulatingRead;
+import com.google.cloud.storage.BaseObjectReadSessionStreamRead.FileWritingRead;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.StreamingRead;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.ZeroCopyByteStringAccumulatingRead;
 import com.google.cloud.storage.ResponseContentLifecycleHandle.ChildRef;
@@ -28,6 +29,7 @@ import com.google.cloud.storage.RetryContext.OnFailure;
 import com.google.cloud.storage.RetryContext.OnSuccess;
 import com.google.storage.v2.ReadRange;
 import java.io.IOException;
+import java.nio.file.Path;
 
 @InternalApi
 @InternalExtensionOnly
@@ -59,6 +61,8 @@ interface ObjectReadSessionStreamRead<Projection> extends IOAutoCloseable {
 
   boolean canShareStreamWith(ObjectReadSessionStreamRead<?> other);
 
+  ReadPriority priority();
+
   void setOnCloseCallback(IOAutoCloseable onCloseCallback);
 
   void internalClose() throws IOException;
@@ -79,4 +83,15 @@ interface ObjectReadSessionStreamRead<Projection> extends IOAutoCloseable {
       long readId, RangeSpec rangeSpec, Hasher hasher, RetryContext retryContext) {
     return new StreamingRead(readId, rangeSpec, hasher, retryContext, IOAutoCloseable.noOp());
   }
+
+  static FileWritingRead fileWritingRead(
+      long readId,
+      RangeSpec rangeSpec,
+      Hasher hasher,
+      RetryContext retryContext,
+      Path path,
+      long position) {
+    return new FileWritingRead(
+        readId, rangeSpec, hasher, retryContext, path, position, IOAutoCloseable.noOp());
+  }
 }
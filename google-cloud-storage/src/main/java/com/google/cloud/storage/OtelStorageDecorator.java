@@ -2093,6 +2093,11 @@ final class OtelStorageDecorator implements Storage {
       return delegate.canShareStreamWith(other);
     }
 
+    @Override
+    public ReadPriority priority() {
+      return delegate.priority();
+    }
+
     @Override
     public void setOnCloseCallback(IOAutoCloseable onCloseCallback) {
       delegate.setOnCloseCallback(onCloseCallback);
@@ -32,6 +32,7 @@ import com.google.cloud.storage.TransportCompatibility.Transport;
 import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
 import com.google.cloud.storage.UnifiedOpts.Opts;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
@@ -40,12 +41,15 @@ import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.security.SecureRandom;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Base64;
 import java.util.Base64.Encoder;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -363,6 +367,72 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
       return new FixedPoolBufferAllocationStrategy(bufferCount, bufferCapacity);
     }
 
+    /**
+     * Create a buffer strategy which will lease buffers from the process wide, size-classed buffer
+     * pool. The shared pool is also used by read channels and resumable upload channels, allowing a
+     * single bound on the total number of bytes used for buffering across all uploads and
+     * downloads.
+     *
+     * <p>The shared pool is enabled by setting the system property {@code
+     * com.google.cloud.storage.SharedBufferPool.maxBytes} to the maximum number of bytes the pool
+     * may allocate. Setting {@code com.google.cloud.storage.SharedBufferPool.direct=true} will
+     * cause the pool to allocate direct (off-heap) buffers. If the shared pool is not enabled, this
+     * strategy behaves the same as {@link #simple(int)}.
+     *
+     * <p>The bound is hard: once the pool is exhausted, acquiring a buffer blocks for at most
+     * {@code com.google.cloud.storage.SharedBufferPool.maxWaitMillis} and then fails, unless {@code
+     * com.google.cloud.storage.SharedBufferPool.overdraft=true} is set. {@code bufferCapacity} must
+     * not exceed the configured {@code maxBytes}.
+     *
+     * @param bufferCapacity the number of bytes each buffer should be
+     * @see #withBufferAllocationStrategy(BufferAllocationStrategy)
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public static BufferAllocationStrategy sharedPool(int bufferCapacity) {
+      checkArgument(bufferCapacity > 0, "bufferCapacity must be > 0");
+      return new SharedPoolBufferAllocationStrategy(bufferCapacity);
+    }
+
+    /**
+     * Create a buffer strategy which will use up to {@code heapBufferCount} heap buffers, and once
+     * all of them are in use, spill up to {@code spillBufferCount} additional parts to
+     * memory-mapped temporary files created on {@code spillVolumes}. Volumes are used in a
+     * round-robin fashion.
+     *
+     * <p>When part uploads fall behind, this allows a writer to continue at the speed of the local
+     * disks rather than blocking for a free heap buffer, while heap usage stays bounded by {@code
+     * heapBufferCount * bufferCapacity}. Only once every heap and spill buffer is in use will a
+     * write block.
+     *
+     * <p>Spill buffers are not reused, once a part has been uploaded its spill file is deleted and
+     * the disk space it occupied is released.
+     *
+     * <p>A {@code heapBufferCount} of zero will spill every part to disk.
+     *
+     * @param heapBufferCount the maximum number of heap buffers, may be zero
+     * @param spillBufferCount the maximum number of memory-mapped file buffers
+     * @param bufferCapacity the number of bytes each buffer should be
+     * @param spillVolumes the directories spill files will be created in
+     * @see #withBufferAllocationStrategy(BufferAllocationStrategy)
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public static BufferAllocationStrategy spillToDisk(
+        int heapBufferCount, int spillBufferCount, int bufferCapacity, List<Path> spillVolumes) {
+      checkArgument(heapBufferCount >= 0, "heapBufferCount must be >= 0");
+      checkArgument(spillBufferCount > 0, "spillBufferCount must be > 0");
+      checkArgument(bufferCapacity > 0, "bufferCapacity must be > 0");
+      requireNonNull(spillVolumes, "spillVolumes must be non null");
+      checkArgument(!spillVolumes.isEmpty(), "spillVolumes must be non empty");
+      ImmutableList<String> volumes =
+          spillVolumes.stream()
+              .map(p -> p.toAbsolutePath().toString())
+              .collect(ImmutableList.toImmutableList());
+      return new SpillToDiskBufferAllocationStrategy(
+          heapBufferCount, spillBufferCount, bufferCapacity, volumes);
+    }
+
     private static class SimpleBufferAllocationStrategy extends BufferAllocationStrategy {
       private static final long serialVersionUID = 8884826090481043434L;
 
@@ -428,6 +498,91 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         return Objects.hash(bufferCount, bufferCapacity);
       }
     }
+
+    private static class SharedPoolBufferAllocationStrategy extends BufferAllocationStrategy {
+      private static final long serialVersionUID = -2218406937281592393L;
+
+      private final int bufferCapacity;
+
+      private SharedPoolBufferAllocationStrategy(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+      }
+
+      @Override
+      BufferHandlePool get() {
+        SharedBufferPool pool = SharedBufferPool.getDefault();
+        if (pool == null) {
+          return BufferHandlePool.simple(bufferCapacity);
+        }
+        return pool.asBufferHandlePool(bufferCapacity);
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        if (this == o) {
+          return true;
+        }
+        if (!(o instanceof SharedPoolBufferAllocationStrategy)) {
+          return false;
+        }
+        SharedPoolBufferAllocationStrategy that = (SharedPoolBufferAllocationStrategy) o;
+        return bufferCapacity == that.bufferCapacity;
+      }
+
+      @Override
+      public int hashCode() {
+        return Objects.hashCode(bufferCapacity);
+      }
+    }
+
+    private static class SpillToDiskBufferAllocationStrategy extends BufferAllocationStrategy {
+      private static final long serialVersionUID = 5166323017439620481L;
+
+      private final int heapBufferCount;
+      private final int spillBufferCount;
+      private final int bufferCapacity;
+      // Path is not Serializable, retain the absolute path strings instead
+      private final ImmutableList<String> spillVolumes;
+
+      private SpillToDiskBufferAllocationStrategy(
+          int heapBufferCount,
+          int spillBufferCount,
+          int bufferCapacity,
+          ImmutableList<String> spillVolumes) {
+        this.heapBufferCount = heapBufferCount;
+        this.spillBufferCount = spillBufferCount;
+        this.bufferCapacity = bufferCapacity;
+        this.spillVolumes = spillVolumes;
+      }
+
+      @Override
+      BufferHandlePool get() {
+        List<Path> volumes =
+            spillVolumes.stream().map(Paths::get).collect(ImmutableList.toImmutableList());
+        return BufferHandlePool.spillToDisk(
+            heapBufferCount, spillBufferCount, bufferCapacity, volumes);
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        if (this == o) {
+          return true;
+        }
+        if (!(o instanceof SpillToDiskBufferAllocationStrategy)) {
+          return false;
+        }
+        SpillToDiskBufferAllocationStrategy that = (SpillToDiskBufferAllocationStrategy) o;
+        return heapBufferCount == that.heapBufferCount
+            && spillBufferCount == that.spillBufferCount
+            && bufferCapacity == that.bufferCapacity
+            && Objects.equals(spillVolumes, that.spillVolumes);
+      }
+
+      @Override
+      public int hashCode() {
+        return Objects.hash(heapBufferCount, spillBufferCount, bufferCapacity, spillVolumes);
+      }
+    }
   }
 
   /**
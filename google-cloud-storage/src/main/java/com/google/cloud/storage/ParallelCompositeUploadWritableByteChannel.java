@@ -16,6 +16,7 @@
 
 package com.google.cloud.storage;
 
+import com.google.api.core.ApiFunction;
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
@@ -115,7 +116,6 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
   private final Executor exec;
   private final PartNamingStrategy partNamingStrategy;
   private final PartCleanupStrategy partCleanupStrategy;
-  private final int maxElementsPerCompact;
   private final PartMetadataFieldDecoratorInstance partMetadataFieldDecorator;
   private final SettableApiFuture<BlobInfo> finalObject;
   private final StorageInternal storage;
@@ -130,6 +130,7 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
   // mutable running state
   private final List<ApiFuture<BlobInfo>> pendingParts;
   private final List<BlobId> successfulParts;
+  private final List<ApiFuture<Boolean>> eagerDeletes;
   private final Hasher cumulativeHasher;
   private boolean open;
   private long totalObjectOffset;
@@ -150,16 +151,16 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
     this.exec = Context.current().wrap(exec);
     this.partNamingStrategy = partNamingStrategy;
     this.partCleanupStrategy = partCleanupStrategy;
-    this.maxElementsPerCompact = maxElementsPerCompact;
     this.partMetadataFieldDecorator = partMetadataFieldDecorator;
     this.finalObject = finalObject;
     this.storage = storage;
     this.ultimateObject = ultimateObject;
     this.opts = opts;
-    this.queue = AsyncAppendingQueue.of(this.exec, maxElementsPerCompact, this::compose);
+    this.queue = AsyncAppendingQueue.create(this.exec, maxElementsPerCompact, this::compose);
     this.pendingParts = new ArrayList<>();
     // this can be modified by another thread
     this.successfulParts = Collections.synchronizedList(new ArrayList<>());
+    this.eagerDeletes = Collections.synchronizedList(new ArrayList<>());
     this.open = true;
     this.totalObjectOffset = 0;
 
@@ -284,32 +285,33 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
     int pendingByteCount = buf.remaining();
     int partIndex = pendingParts.size() + 1;
     BlobInfo partInfo = definePart(ultimateObject, PartRange.of(partIndex), totalObjectOffset);
+    BufferHandleReleaser<BlobInfo> releaser =
+        new BufferHandleReleaser<>(
+            bufferPool,
+            current,
+            (OnSuccessApiFutureCallback<BlobInfo>)
+                result -> successfulParts.add(result.getBlobId()));
     ApiFuture<BlobInfo> partFuture =
         ApiFutures.transform(
             ApiFutures.immediateFuture(partInfo),
-            info -> {
-              try {
-                return storage.internalDirectUpload(info, partOpts, buf);
-              } catch (StorageException e) {
-                // a precondition failure usually means the part was created, but we didn't get the
-                // response. And when we tried to retry the object already exists.
-                if (e.getCode() == 412) {
-                  return storage.internalObjectGet(info.getBlobId(), srcOpts);
-                } else {
-                  throw e;
-                }
-              }
-            },
+            releaser.guard(
+                info -> {
+                  try {
+                    return storage.internalDirectUpload(info, partOpts, buf);
+                  } catch (StorageException e) {
+                    // a precondition failure usually means the part was created, but we didn't get
+                    // the
+                    // response. And when we tried to retry the object already exists.
+                    if (e.getCode() == 412) {
+                      return storage.internalObjectGet(info.getBlobId(), srcOpts);
+                    } else {
+                      throw e;
+                    }
+                  }
+                }),
             exec);
 
-    ApiFutures.addCallback(
-        partFuture,
-        new BufferHandleReleaser<>(
-            bufferPool,
-            current,
-            (OnSuccessApiFutureCallback<BlobInfo>)
-                result -> successfulParts.add(result.getBlobId())),
-        exec);
+    ApiFutures.addCallback(partFuture, releaser, exec);
 
     pendingParts.add(partFuture);
     try {
@@ -317,7 +319,7 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
       totalObjectOffset += pendingByteCount;
     } catch (ShortCircuitException e) {
       open = false;
-      bufferPool.returnBuffer(current);
+      // the buffer is returned by the releaser of the part once it has completed
 
       // attempt to cancel any pending requests which haven't started yet
       for (ApiFuture<BlobInfo> pendingPart : pendingParts) {
@@ -371,7 +373,7 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
   }
 
   @SuppressWarnings("DataFlowIssue")
-  private BlobInfo compose(ImmutableList<BlobInfo> parts) {
+  private BlobInfo compose(ImmutableList<BlobInfo> parts, boolean isFinal) {
     ComposeRequest.Builder builder = ComposeRequest.newBuilder();
 
     List<BlobInfo> sorted = parts.stream().sorted(comparator).collect(Collectors.toList());
@@ -380,7 +382,7 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
         .map(BlobInfo::getBlobId)
         .forEach(id -> builder.addSource(id.getName(), id.getGeneration()));
 
-    if (parts.size() == maxElementsPerCompact) {
+    if (!isFinal) {
       // perform an intermediary compose
       BlobInfo first = sorted.get(0);
       BlobInfo last = sorted.get(sorted.size() - 1);
@@ -400,6 +402,15 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
     ComposeRequest composeRequest = builder.build();
     BlobInfo compose = storage.compose(composeRequest);
     successfulParts.add(compose.getBlobId());
+    if (!isFinal && partCleanupStrategy.isDeleteAllOnError()) {
+      // The sources are now contained in the intermediary, and will be deleted whether the upload
+      // succeeds or fails. Delete them now rather than once the final compose completes.
+      for (BlobInfo part : sorted) {
+        BlobId id = part.getBlobId();
+        successfulParts.remove(id);
+        eagerDeletes.add(deleteAsync(id));
+      }
+    }
     return compose;
   }
 
@@ -413,6 +424,9 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
             .filter(id -> !id.equals(finalInfo.getBlobId()))
             .map(this::deleteAsync)
             .collect(Collectors.toList());
+    synchronized (eagerDeletes) {
+      deletes.addAll(eagerDeletes);
+    }
 
     ApiFuture<List<Boolean>> deletes2 = ApiFutureUtils.quietAllAsList(deletes);
 
@@ -526,12 +540,24 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
         .prepend(Opts.from(UnifiedOpts.disableGzipContent()));
   }
 
+  /**
+   * Return a buffer to its pool once the future of the part it backs has completed.
+   *
+   * <p>Cancelling a future does not stop its task if it is already running, so if the task has been
+   * {@link #guard(ApiFunction) guarded} the buffer is only returned once the task has also
+   * finished. A guarded task which has not yet started when its future completes is not run.
+   */
   @VisibleForTesting
   static final class BufferHandleReleaser<T> implements ApiFutureCallback<T> {
     private final BufferHandlePool bufferManager;
     private final ApiFutureCallback<T> delegate;
     private final PooledBuffer toRelease;
 
+    // guarded by this
+    private boolean running;
+    private boolean completed;
+    private boolean released;
+
     @VisibleForTesting
     BufferHandleReleaser(
         BufferHandlePool bufferPool, PooledBuffer toRelease, ApiFutureCallback<T> delegate) {
@@ -540,12 +566,31 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
       this.toRelease = toRelease;
     }
 
+    <F, R> ApiFunction<F, R> guard(ApiFunction<F, R> task) {
+      return input -> {
+        synchronized (this) {
+          if (released) {
+            throw new CancellationException("buffer already returned");
+          }
+          running = true;
+        }
+        try {
+          return task.apply(input);
+        } finally {
+          synchronized (this) {
+            running = false;
+          }
+          maybeRelease();
+        }
+      };
+    }
+
     @Override
     public void onFailure(Throwable t) {
       try {
         delegate.onFailure(t);
       } finally {
-        bufferManager.returnBuffer(toRelease);
+        complete();
       }
     }
 
@@ -554,8 +599,25 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
       try {
         delegate.onSuccess(result);
       } finally {
-        bufferManager.returnBuffer(toRelease);
+        complete();
+      }
+    }
+
+    private void complete() {
+      synchronized (this) {
+        completed = true;
+      }
+      maybeRelease();
+    }
+
+    private void maybeRelease() {
+      synchronized (this) {
+        if (released || running || !completed) {
+          return;
+        }
+        released = true;
       }
+      bufferManager.returnBuffer(toRelease);
     }
   }
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.Hasher.ChecksumMismatchException;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.UnifiedOpts.ParallelDownload;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Download an object to a file as a number of ranges read concurrently.
+ *
+ * <p>Each range is read by its own {@link ReadChannel} pinned to the generation of the object, and
+ * written to its position in the file. A failure while reading a range is retried by that range's
+ * channel, resuming from the last byte it received, without affecting any other range.
+ *
+ * <p>The CRC32C of each range is computed as it is read, once all ranges have been read the values
+ * are combined in order and validated against the CRC32C of the object.
+ */
+final class ParallelRangeDownloader {
+  private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger(1);
+  private static final int BUFFER_SIZE = 256 * 1024;
+
+  private final Storage storage;
+  private final ParallelDownload config;
+  private final Hasher hasher;
+
+  ParallelRangeDownloader(Storage storage, ParallelDownload config, Hasher hasher) {
+    this.storage = storage;
+    this.config = config;
+    this.hasher = hasher;
+  }
+
+  /**
+   * Whether {@code info} can be downloaded as ranges. Small objects gain nothing from being split,
+   * and an object which would be decompressed while downloading can't be split at all, because the
+   * ranges are of the stored bytes.
+   */
+  boolean isApplicable(BlobInfo info, boolean returnRawInputStream) {
+    Long size = info.getSize();
+    if (size == null || size <= config.getRangeSize()) {
+      return false;
+    }
+    return returnRawInputStream || !"gzip".equalsIgnoreCase(info.getContentEncoding());
+  }
+
+  void downloadTo(BlobInfo info, Path path, BlobSourceOption... options) {
+    long size = info.getSize();
+    long rangeSize = config.getRangeSize();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            config.getParallelism(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("c.g.c:g-c-s:prd-" + INSTANCE_COUNTER.getAndIncrement() + "-%d")
+                .build());
+    try (FileChannel fc =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      List<Future<@Nullable Crc32cLengthKnown>> ranges = new ArrayList<>();
+      for (long begin = 0; begin < size; begin += rangeSize) {
+        long rangeBegin = begin;
+        long rangeEnd = Math.min(begin + rangeSize, size);
+        ranges.add(
+            executor.submit(() -> readRange(fc, info.getBlobId(), options, rangeBegin, rangeEnd)));
+      }
+
+      Crc32cLengthKnown actual = hasher.initialValue();
+      for (Future<@Nullable Crc32cLengthKnown> range : ranges) {
+        actual = hasher.nullSafeConcat(actual, range.get());
+      }
+      String expected = info.getCrc32c();
+      if (actual != null && expected != null) {
+        Crc32cValue<?> expectedValue = Crc32cValue.of(Utils.crc32cCodec.decode(expected));
+        if (!actual.eqValue(expectedValue)) {
+          throw new StorageException(new ChecksumMismatchException(expectedValue, actual));
+        }
+      }
+    } catch (ExecutionException e) {
+      throw StorageException.coalesce(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw StorageException.coalesce(e);
+    } catch (IOException e) {
+      throw new StorageException(e);
+    } finally {
+      // stop any ranges which are still queued if another range failed
+      executor.shutdownNow();
+    }
+  }
+
+  private @Nullable Crc32cLengthKnown readRange(
+      FileChannel fc, BlobId id, BlobSourceOption[] options, long begin, long end)
+      throws IOException {
+    Crc32cLengthKnown crc32c = hasher.initialValue();
+    ByteBuffer buf = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, end - begin));
+    long position = begin;
+    try (ReadChannel rc = storage.reader(id, options)) {
+      rc.setChunkSize(0);
+      rc.seek(begin);
+      rc.limit(end);
+      while (rc.read(buf) != -1) {
+        buf.flip();
+        crc32c = hasher.nullSafeConcat(crc32c, hasher.hash(buf.duplicate()));
+        while (buf.hasRemaining()) {
+          position += fc.write(buf, position);
+        }
+        buf.clear();
+      }
+    }
+    if (position != end) {
+      throw new StorageException(
+          0,
+          String.format(
+              Locale.US,
+              "Unexpected end of stream, read %d expected %d from object %s",
+              position - begin,
+              end - begin,
+              id.toGsUtilUriWithGeneration()));
+    }
+    return crc32c;
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.SettableApiFuture;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.Retrying.RetrierWithAlg;
+import com.google.cloud.storage.UnbufferedWritableByteChannelSession.UnbufferedWritableByteChannel;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+import javax.annotation.ParametersAreNonnullByDefault;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A variant of {@link ApiaryUnbufferedWritableByteChannel} which does not wait for a chunk to be
+ * acknowledged before accepting the next one.
+ *
+ * <p>Each chunk is copied into a staging buffer and hashed on the calling thread, then PUT on a
+ * background thread. While that PUT is in flight the caller is free to buffer and hash the next
+ * chunk, which is only sent once the previous PUT has been acknowledged, as a resumable upload
+ * session only accepts bytes starting at its persisted size.
+ *
+ * <p>Each PUT is retried by {@link JsonResumableSession#put}, which queries the persisted size of
+ * the session after a failure and resumes from there. If the session persists fewer bytes than were
+ * sent, the remainder is sent before the next chunk. A failure which can not be retried is surfaced
+ * from the next call to {@code write} or {@code close}, and every call after it.
+ */
+@ParametersAreNonnullByDefault
+final class PipelinedApiaryUnbufferedWritableByteChannel implements UnbufferedWritableByteChannel {
+
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setDaemon(true).setNameFormat("c.g.c:g-c-s:put-%d").build());
+
+  private final JsonResumableSession session;
+
+  private final SettableApiFuture<StorageObject> result;
+  private final LongConsumer committedBytesCallback;
+
+  private boolean open;
+  // the end offset of all bytes accepted from the caller, including any still in flight
+  private long cumulativeByteCount;
+  private boolean finished;
+
+  @Nullable private ByteBuffer spare;
+  @Nullable private InFlightChunk inFlight;
+
+  PipelinedApiaryUnbufferedWritableByteChannel(
+      HttpClientContext httpClientContext,
+      RetrierWithAlg retrier,
+      JsonResumableWrite resumableWrite,
+      SettableApiFuture<StorageObject> result,
+      LongConsumer committedBytesCallback) {
+    this.session = ResumableSession.json(httpClientContext, retrier, resumableWrite);
+    this.result = result;
+    this.committedBytesCallback = committedBytesCallback;
+    this.open = true;
+    this.cumulativeByteCount = resumableWrite.getBeginOffset();
+    this.finished = false;
+  }
+
+  @Override
+  public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    long available = Buffers.totalRemaining(srcs, offset, length);
+    // only whole multiples of 256KiB can be sent without finalizing, leave any tail in srcs to be
+    // sent as part of a following chunk
+    int toStage = Math.toIntExact(available - available % ByteSizeConstants._256KiB);
+    if (toStage == 0) {
+      return 0;
+    }
+
+    ByteBuffer staged = spare;
+    spare = null;
+    if (staged == null || staged.capacity() < toStage) {
+      staged = ByteBuffer.allocate(toStage);
+    }
+    Buffers.clear(staged);
+    Buffers.limit(staged, toStage);
+    for (int i = offset; i < offset + length && staged.hasRemaining(); i++) {
+      ByteBuffer src = srcs[i];
+      int n = Math.min(src.remaining(), staged.remaining());
+      ByteBuffer slice = src.slice();
+      Buffers.limit(slice, n);
+      staged.put(slice);
+      Buffers.position(src, src.position() + n);
+    }
+    Buffers.flip(staged);
+    // hash while the previous chunk is still in flight
+    Crc32cLengthKnown crc32c = RewindableContent.of(staged).getCrc32c();
+
+    awaitInFlight();
+
+    long begin = cumulativeByteCount;
+    cumulativeByteCount += toStage;
+    ByteBuffer chunk = staged;
+    inFlight = new InFlightChunk(chunk, EXECUTOR.submit(() -> putFully(chunk, begin, crc32c)));
+    return toStage;
+  }
+
+  @Override
+  public long writeAndClose(ByteBuffer[] srcs, int offset, int length) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    awaitInFlight();
+    RewindableContent content = RewindableContent.of(Utils.subArray(srcs, offset, length));
+    long newFinalByteOffset = cumulativeByteCount + content.getLength();
+    ByteRangeSpec rangeSpec = ByteRangeSpec.explicit(cumulativeByteCount, newFinalByteOffset);
+    finished = true;
+    long written = finish(content, HttpContentRange.of(rangeSpec, newFinalByteOffset));
+    close();
+    return written;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!open) {
+      return;
+    }
+    open = false;
+    awaitInFlight();
+    if (!finished) {
+      finished = true;
+      finish(RewindableContent.empty(), HttpContentRange.of(cumulativeByteCount));
+    }
+  }
+
+  private long finish(RewindableContent content, HttpContentRange header) {
+    try {
+      ResumableOperationResult<@Nullable StorageObject> operationResult =
+          session.put(content, header);
+      long persistedSize = operationResult.getPersistedSize();
+      committedBytesCallback.accept(persistedSize);
+      long written = persistedSize - cumulativeByteCount;
+      this.cumulativeByteCount = persistedSize;
+      result.set(operationResult.getObject());
+      return written;
+    } catch (Exception e) {
+      result.setException(e);
+      throw StorageException.coalesce(e);
+    }
+  }
+
+  /**
+   * Send {@code chunk} which begins at offset {@code begin} of the object, until the session has
+   * persisted all of it. Each request must persist at least one more byte, otherwise the chunk is
+   * failed rather than sent again indefinitely.
+   */
+  private long putFully(ByteBuffer chunk, long begin, @Nullable Crc32cLengthKnown crc32c) {
+    long end = begin + chunk.remaining();
+    ResumableOperationResult<@Nullable StorageObject> operationResult =
+        session.put(
+            RewindableContent.of(chunk.duplicate()),
+            HttpContentRange.of(ByteRangeSpec.explicit(begin, end)),
+            crc32c);
+    long previousPersistedSize = begin;
+    long persistedSize = operationResult.getPersistedSize();
+    while (persistedSize < end && operationResult.getObject() == null) {
+      if (persistedSize == previousPersistedSize) {
+        throw new StorageException(
+            0,
+            String.format(
+                Locale.US,
+                "Session persistedSize (%d) did not advance while sending the chunk ending at (%d)",
+                persistedSize,
+                end));
+      }
+      previousPersistedSize = persistedSize;
+      if (persistedSize < begin) {
+        throw new StorageException(
+            0,
+            String.format(
+                Locale.US,
+                "Session persistedSize (%d) is less than the beginning of the chunk being sent (%d)",
+                persistedSize,
+                begin));
+      }
+      ByteBuffer remainder = chunk.duplicate();
+      Buffers.position(remainder, Math.toIntExact(persistedSize - begin));
+      operationResult =
+          session.put(
+              RewindableContent.of(remainder),
+              HttpContentRange.of(ByteRangeSpec.explicit(persistedSize, end)));
+      persistedSize = operationResult.getPersistedSize();
+    }
+    return persistedSize;
+  }
+
+  /**
+   * Wait for the chunk currently in flight, if any, to be acknowledged. Its staging buffer becomes
+   * available for the next chunk.
+   */
+  private void awaitInFlight() throws IOException {
+    if (inFlight == null) {
+      return;
+    }
+    try {
+      long persistedSize = inFlight.persistedSize.get();
+      committedBytesCallback.accept(persistedSize);
+      spare = inFlight.buffer;
+      // leave a failed chunk in place, so that every following call fails rather than skipping
+      // over the bytes it contained
+      inFlight = null;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException ioe = new InterruptedIOException();
+      ioe.initCause(e);
+      throw ioe;
+    } catch (ExecutionException e) {
+      result.setException(e.getCause());
+      throw StorageException.coalesce(e.getCause());
+    }
+  }
+
+  private static final class InFlightChunk {
+    private final ByteBuffer buffer;
+    private final Future<Long> persistedSize;
+
+    private InFlightChunk(ByteBuffer buffer, Future<Long> persistedSize) {
+      this.buffer = buffer;
+      this.persistedSize = persistedSize;
+    }
+  }
+}
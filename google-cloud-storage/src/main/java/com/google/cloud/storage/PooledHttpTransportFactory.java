@@ -0,0 +1,319 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.google.api.core.BetaApi;
+import com.google.auth.http.HttpTransportFactory;
+import com.google.cloud.http.HttpTransportOptions;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link HttpTransportFactory} which creates transports backed by a pool of persistent
+ * connections, for workloads which issue many concurrent requests against the JSON API.
+ *
+ * <p>The default transport opens connections via {@code HttpURLConnection}, whose pool of idle
+ * connections is shared by the whole JVM and limited to a handful of connections per host. The
+ * transports created by this factory instead share a pool owned by the factory, sized by {@link
+ * Builder#setMaxConnections(int)}, honour the keep-alive duration advertised by the server, and
+ * close connections which have been idle for longer than {@link
+ * Builder#setIdleConnectionTimeout(Duration)}. The pool, and the thread which evicts its idle
+ * connections, are created the first time {@link #create()} is called. Shutting down a transport
+ * created by this factory does not affect the other transports sharing the pool; once every
+ * transport has been shut down the pool is closed, and the next call to {@link #create()} creates a
+ * new one.
+ *
+ * <p>The dependencies required by this factory are optional dependencies of this library, to use it
+ * add {@code com.google.http-client:google-http-client-apache-v2} to your application.
+ *
+ * <p>Example of configuring a client to use a pool of up to 64 connections:
+ *
+ * <pre>{@code
+ * Storage storage =
+ *     StorageOptions.http()
+ *         .setTransportOptions(
+ *             HttpTransportOptions.newBuilder()
+ *                 .setHttpTransportFactory(
+ *                     PooledHttpTransportFactory.newBuilder().setMaxConnections(64).build())
+ *                 .build())
+ *         .build()
+ *         .getService();
+ * }</pre>
+ *
+ * <p>{@link HttpTransportOptions} re-creates its factory by class name when it is deserialized, a
+ * deserialized instance of {@link StorageOptions} will use a factory with the default
+ * configuration.
+ *
+ * @see HttpTransportOptions.Builder#setHttpTransportFactory(HttpTransportFactory)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@TransportCompatibility(Transport.HTTP)
+public final class PooledHttpTransportFactory implements HttpTransportFactory {
+
+  private static final int DEFAULT_MAX_CONNECTIONS = 128;
+  private static final Duration DEFAULT_IDLE_CONNECTION_TIMEOUT = Duration.ofSeconds(60);
+
+  private final int maxConnections;
+  private final Duration idleConnectionTimeout;
+
+  // lazily created, every open transport from this factory shares a single pool and evictor thread
+  // guarded by this
+  private @Nullable CloseableHttpClient httpClient;
+  // guarded by this
+  private int openTransports;
+
+  /**
+   * Create a factory with the default configuration.
+   *
+   * <p>This constructor is required by {@link HttpTransportOptions} in order to re-create the
+   * factory after deserialization, prefer {@link #newBuilder()}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public PooledHttpTransportFactory() {
+    this(DEFAULT_MAX_CONNECTIONS, DEFAULT_IDLE_CONNECTION_TIMEOUT);
+  }
+
+  private PooledHttpTransportFactory(int maxConnections, Duration idleConnectionTimeout) {
+    this.maxConnections = maxConnections;
+    this.idleConnectionTimeout = idleConnectionTimeout;
+  }
+
+  /**
+   * The maximum number of connections the transports created by this factory will keep open.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * How long a connection may be idle in the pool before it is closed.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public Duration getIdleConnectionTimeout() {
+    return idleConnectionTimeout;
+  }
+
+  @Override
+  public HttpTransport create() {
+    CloseableHttpClient client;
+    synchronized (this) {
+      client = httpClient;
+      if (client == null) {
+        client =
+            ApacheHttpTransport.newDefaultHttpClientBuilder()
+                // requests are usually all made to a single host, allow each route to use the
+                // whole pool
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictIdleConnections(idleConnectionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        httpClient = client;
+      }
+      openTransports++;
+    }
+    return new ApacheHttpTransport(new SharedHttpClient(this, client));
+  }
+
+  /**
+   * Invoked when a transport using {@code client} is shut down. Closes {@code client} if it was the
+   * last transport using it.
+   */
+  private void release(CloseableHttpClient client) throws IOException {
+    synchronized (this) {
+      if (httpClient != client || --openTransports > 0) {
+        return;
+      }
+      httpClient = null;
+    }
+    client.close();
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public Builder toBuilder() {
+    return new Builder(maxConnections, idleConnectionTimeout);
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static Builder newBuilder() {
+    return new Builder(DEFAULT_MAX_CONNECTIONS, DEFAULT_IDLE_CONNECTION_TIMEOUT);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PooledHttpTransportFactory)) {
+      return false;
+    }
+    PooledHttpTransportFactory that = (PooledHttpTransportFactory) o;
+    return maxConnections == that.maxConnections
+        && Objects.equals(idleConnectionTimeout, that.idleConnectionTimeout);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(maxConnections, idleConnectionTimeout);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("maxConnections", maxConnections)
+        .add("idleConnectionTimeout", idleConnectionTimeout)
+        .toString();
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static final class Builder {
+    private int maxConnections;
+    private Duration idleConnectionTimeout;
+
+    private Builder(int maxConnections, Duration idleConnectionTimeout) {
+      this.maxConnections = maxConnections;
+      this.idleConnectionTimeout = idleConnectionTimeout;
+    }
+
+    /**
+     * The maximum number of connections the transports created by the factory will keep open,
+     * shared between all of them. Requests made while every connection is in use wait for a
+     * connection to be returned to the pool.
+     *
+     * <p><i>Default:</i> {@code 128}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setMaxConnections(int maxConnections) {
+      checkArgument(maxConnections >= 1, "maxConnections >= 1 (%s >= 1)", maxConnections);
+      this.maxConnections = maxConnections;
+      return this;
+    }
+
+    /**
+     * How long a connection may be idle in the pool before it is closed.
+     *
+     * <p><i>Default:</i> {@code PT60S}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setIdleConnectionTimeout(Duration idleConnectionTimeout) {
+      requireNonNull(idleConnectionTimeout, "idleConnectionTimeout must be non null");
+      checkArgument(
+          !idleConnectionTimeout.isNegative() && !idleConnectionTimeout.isZero(),
+          "idleConnectionTimeout must be positive (%s)",
+          idleConnectionTimeout);
+      this.idleConnectionTimeout = idleConnectionTimeout;
+      return this;
+    }
+
+    /**
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public PooledHttpTransportFactory build() {
+      return new PooledHttpTransportFactory(maxConnections, idleConnectionTimeout);
+    }
+  }
+
+  /**
+   * The client handed to each transport. {@link ApacheHttpTransport#shutdown()} closes its client;
+   * closing this client only releases the transport's claim on the shared client, which is closed
+   * once every transport using it has been shut down.
+   */
+  @VisibleForTesting
+  static final class SharedHttpClient extends CloseableHttpClient {
+    private final PooledHttpTransportFactory factory;
+    private final CloseableHttpClient delegate;
+    private final AtomicBoolean closed;
+
+    private SharedHttpClient(PooledHttpTransportFactory factory, CloseableHttpClient delegate) {
+      this.factory = factory;
+      this.delegate = delegate;
+      this.closed = new AtomicBoolean(false);
+    }
+
+    @VisibleForTesting
+    CloseableHttpClient getDelegate() {
+      return delegate;
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(
+        HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+      return delegate.execute(target, request, context);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed.compareAndSet(false, true)) {
+        factory.release(delegate);
+      }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+      return delegate.getParams();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+      return delegate.getConnectionManager();
+    }
+  }
+}
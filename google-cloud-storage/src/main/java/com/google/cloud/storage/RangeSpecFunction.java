@@ -45,6 +45,28 @@ public abstract class RangeSpecFunction {
   @BetaApi
   abstract RangeSpec apply(long offset, @Nullable RangeSpec prev);
 
+  /**
+   * Return the instance a single channel should use for the duration of its life. Functions which
+   * learn from {@link #onRangeComplete(RangeSpec, long, long, long)} return a fresh, channel
+   * confined, instance here; all others return {@code this}.
+   */
+  RangeSpecFunction forChannel() {
+    return this;
+  }
+
+  /**
+   * Observe the outcome of reading a range previously returned from {@link #apply(long,
+   * RangeSpec)}.
+   *
+   * @param range the range which was read
+   * @param bytesConsumed the number of bytes actually consumed from the range before it was
+   *     completed or abandoned
+   * @param ttfbNanos nanoseconds between opening the range and receiving its first byte, or {@code
+   *     -1} if no byte was received
+   * @param elapsedNanos nanoseconds between opening the range and completing it
+   */
+  void onRangeComplete(RangeSpec range, long bytesConsumed, long ttfbNanos, long elapsedNanos) {}
+
   /**
    * Returns a composed function that first applies this function to its input, and then applies the
    * {@code then} function to the result.
@@ -75,6 +97,16 @@ public abstract class RangeSpecFunction {
     return LinearExponentialRangeSpecFunction.INSTANCE;
   }
 
+  /**
+   * Get the default instance of {@link AdaptiveRangeSpecFunction}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static AdaptiveRangeSpecFunction adaptive() {
+    return AdaptiveRangeSpecFunction.INSTANCE;
+  }
+
   /**
    * Produce a new {@link MaxLengthRangeSpecFunction} where the maximum possible length of any
    * returned {@link RangeSpec} is set to the lesser of {@code prev.maxLength} and {@code
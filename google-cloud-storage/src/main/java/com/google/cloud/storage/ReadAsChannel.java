@@ -46,15 +46,18 @@ import javax.annotation.concurrent.Immutable;
 @BetaApi
 @Immutable
 public final class ReadAsChannel extends BaseConfig<ScatteringByteChannel, StreamingRead> {
-  static final ReadAsChannel INSTANCE = new ReadAsChannel(RangeSpec.all(), Hasher.enabled());
+  static final ReadAsChannel INSTANCE =
+      new ReadAsChannel(RangeSpec.all(), Hasher.enabled(), ReadPriority.NORMAL);
 
   private final RangeSpec range;
   private final Hasher hasher;
+  private final ReadPriority priority;
 
-  private ReadAsChannel(RangeSpec range, Hasher hasher) {
+  private ReadAsChannel(RangeSpec range, Hasher hasher, ReadPriority priority) {
     super();
     this.range = range;
     this.hasher = hasher;
+    this.priority = priority;
   }
 
   /**
@@ -85,7 +88,38 @@ public final class ReadAsChannel extends BaseConfig<ScatteringByteChannel, Strea
     if (this.range.equals(range)) {
       return this;
     }
-    return new ReadAsChannel(range, hasher);
+    return new ReadAsChannel(range, hasher, priority);
+  }
+
+  /**
+   * The {@link ReadPriority} of any read using this instance.
+   *
+   * <p><i>Default:</i> {@link ReadPriority#NORMAL}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Return an instance with the {@link ReadPriority} set to the specified value.
+   *
+   * <p><i>Default:</i> {@link ReadPriority#NORMAL}
+   *
+   * @param priority The {@link ReadPriority} to be used for any read using the returned instance.
+   *     Must be non-null.
+   * @see #getPriority()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsChannel withPriority(ReadPriority priority) {
+    requireNonNull(priority, "priority must be non null");
+    if (this.priority == priority) {
+      return this;
+    }
+    return new ReadAsChannel(range, hasher, priority);
   }
 
   /**
@@ -116,7 +150,7 @@ public final class ReadAsChannel extends BaseConfig<ScatteringByteChannel, Strea
     } else if (!enabled && Hasher.noop().equals(hasher)) {
       return this;
     }
-    return new ReadAsChannel(range, enabled ? Hasher.enabled() : Hasher.noop());
+    return new ReadAsChannel(range, enabled ? Hasher.enabled() : Hasher.noop(), priority);
   }
 
   @Override
@@ -126,7 +160,10 @@ public final class ReadAsChannel extends BaseConfig<ScatteringByteChannel, Strea
 
   @Override
   StreamingRead newRead(long readId, RetryContext retryContext) {
-    return ObjectReadSessionStreamRead.streamingRead(readId, range, hasher, retryContext);
+    StreamingRead read =
+        ObjectReadSessionStreamRead.streamingRead(readId, range, hasher, retryContext);
+    read.setPriority(priority);
+    return read;
   }
 
   @Override
@@ -138,12 +175,14 @@ public final class ReadAsChannel extends BaseConfig<ScatteringByteChannel, Strea
       return false;
     }
     ReadAsChannel that = (ReadAsChannel) o;
-    return Objects.equals(range, that.range) && Objects.equals(hasher, that.hasher);
+    return Objects.equals(range, that.range)
+        && Objects.equals(hasher, that.hasher)
+        && priority == that.priority;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(range, hasher);
+    return Objects.hash(range, hasher, priority);
   }
 
   @Override
@@ -151,6 +190,7 @@ public final class ReadAsChannel extends BaseConfig<ScatteringByteChannel, Strea
     return MoreObjects.toStringHelper(this)
         .add("range", range)
         .add("crc32cValidationEnabled", getCrc32cValidationEnabled())
+        .add("priority", priority)
         .toString();
   }
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.BaseObjectReadSessionStreamRead.FileWritingRead;
+import com.google.cloud.storage.ReadProjectionConfigs.BaseConfig;
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Read a range of {@code byte}s directly into a file, as an {@link ApiFuture}{@code <Long>} which
+ * resolves to the number of bytes written once the whole range has been written.
+ *
+ * <p>The buffers of each message received from Google Cloud Storage are written to the file at
+ * their offset, starting at {@link #getPosition()}, and released as soon as they have been written.
+ * Neither the range as a whole, nor an intermediate copy of each message, is held in memory.
+ *
+ * <p>The file is created if it does not already exist, it is never truncated. Bytes of the file
+ * outside the written region are left unchanged.
+ *
+ * <p>Instances of this class are immutable and thread safe.
+ *
+ * @see ReadProjectionConfigs#asFile(Path)
+ * @see BlobReadSession#readAs(ReadProjectionConfig)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@Immutable
+public final class ReadAsFile extends BaseConfig<ApiFuture<Long>, FileWritingRead> {
+
+  private final Path path;
+  private final long position;
+  private final RangeSpec range;
+  private final Hasher hasher;
+  private final ReadPriority priority;
+
+  private ReadAsFile(
+      Path path, long position, RangeSpec range, Hasher hasher, ReadPriority priority) {
+    super();
+    this.path = path;
+    this.position = position;
+    this.range = range;
+    this.hasher = hasher;
+    this.priority = priority;
+  }
+
+  static ReadAsFile of(Path path) {
+    requireNonNull(path, "path must be non null");
+    return new ReadAsFile(path, 0, RangeSpec.all(), Hasher.enabled(), ReadPriority.NORMAL);
+  }
+
+  /**
+   * The file bytes will be written to.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * The offset within the file the first byte of the range will be written to.
+   *
+   * <p><i>Default:</i> {@code 0}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getPosition() {
+    return position;
+  }
+
+  /**
+   * Return an instance with the position set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 0}
+   *
+   * @param position The offset within the file the first byte of the range will be written to. Must
+   *     be {@code >= 0}.
+   * @see #getPosition()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsFile withPosition(long position) {
+    checkArgument(position >= 0, "position >= 0 (%s >= 0)", position);
+    if (this.position == position) {
+      return this;
+    }
+    return new ReadAsFile(path, position, range, hasher, priority);
+  }
+
+  /**
+   * The {@link RangeSpec} to be used for any read using this instance.
+   *
+   * <p><i>Default:</i> {@link RangeSpec#all()}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public RangeSpec getRange() {
+    return range;
+  }
+
+  /**
+   * Return an instance with the {@link RangeSpec} set to the specified value.
+   *
+   * <p><i>Default:</i> {@link RangeSpec#all()}
+   *
+   * @param range The {@link RangeSpec} to be used for any read using the returned instance. Must be
+   *     non-null.
+   * @see #getRange()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsFile withRangeSpec(RangeSpec range) {
+    requireNonNull(range, "range must be non null");
+    if (this.range.equals(range)) {
+      return this;
+    }
+    return new ReadAsFile(path, position, range, hasher, priority);
+  }
+
+  /**
+   * The {@link ReadPriority} of any read using this instance.
+   *
+   * <p><i>Default:</i> {@link ReadPriority#NORMAL}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Return an instance with the {@link ReadPriority} set to the specified value.
+   *
+   * <p><i>Default:</i> {@link ReadPriority#NORMAL}
+   *
+   * @param priority The {@link ReadPriority} to be used for any read using the returned instance.
+   *     Must be non-null.
+   * @see #getPriority()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsFile withPriority(ReadPriority priority) {
+    requireNonNull(priority, "priority must be non null");
+    if (this.priority == priority) {
+      return this;
+    }
+    return new ReadAsFile(path, position, range, hasher, priority);
+  }
+
+  /**
+   * Whether crc32c validation will be performed for bytes returned by Google Cloud Storage
+   *
+   * <p><i>Default:</i> {@code true}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  boolean getCrc32cValidationEnabled() {
+    return Hasher.enabled().equals(hasher);
+  }
+
+  /**
+   * Return an instance with crc32c validation enabled based on {@code enabled}.
+   *
+   * <p><i>Default:</i> {@code true}
+   *
+   * @param enabled Whether crc32c validation will be performed for bytes returned by Google Cloud
+   *     Storage
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  ReadAsFile withCrc32cValidationEnabled(boolean enabled) {
+    if (enabled && Hasher.enabled().equals(hasher)) {
+      return this;
+    } else if (!enabled && Hasher.noop().equals(hasher)) {
+      return this;
+    }
+    return new ReadAsFile(
+        path, position, range, enabled ? Hasher.enabled() : Hasher.noop(), priority);
+  }
+
+  @Override
+  BaseConfig<ApiFuture<Long>, ?> cast() {
+    return this;
+  }
+
+  @Override
+  FileWritingRead newRead(long readId, RetryContext retryContext) {
+    FileWritingRead read =
+        ObjectReadSessionStreamRead.fileWritingRead(
+            readId, range, hasher, retryContext, path, position);
+    read.setPriority(priority);
+    return read;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ReadAsFile)) {
+      return false;
+    }
+    ReadAsFile that = (ReadAsFile) o;
+    return position == that.position
+        && Objects.equals(path, that.path)
+        && Objects.equals(range, that.range)
+        && Objects.equals(hasher, that.hasher)
+        && priority == that.priority;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(path, position, range, hasher, priority);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("path", path)
+        .add("position", position)
+        .add("range", range)
+        .add("crc32cValidationEnabled", getCrc32cValidationEnabled())
+        .add("priority", priority)
+        .toString();
+  }
+}
@@ -46,15 +46,17 @@ public final class ReadAsFutureByteString
     extends BaseConfig<ApiFuture<DisposableByteString>, AccumulatingRead<DisposableByteString>> {
 
   static final ReadAsFutureByteString INSTANCE =
-      new ReadAsFutureByteString(RangeSpec.all(), Hasher.enabled());
+      new ReadAsFutureByteString(RangeSpec.all(), Hasher.enabled(), ReadPriority.NORMAL);
 
   private final RangeSpec range;
   private final Hasher hasher;
+  private final ReadPriority priority;
 
-  private ReadAsFutureByteString(RangeSpec range, Hasher hasher) {
+  private ReadAsFutureByteString(RangeSpec range, Hasher hasher, ReadPriority priority) {
     super();
     this.range = range;
     this.hasher = hasher;
+    this.priority = priority;
   }
 
   /**
@@ -85,7 +87,38 @@ public final class ReadAsFutureByteString
     if (this.range.equals(range)) {
       return this;
     }
-    return new ReadAsFutureByteString(range, hasher);
+    return new ReadAsFutureByteString(range, hasher, priority);
+  }
+
+  /**
+   * The {@link ReadPriority} of any read using this instance.
+   *
+   * <p><i>Default:</i> {@link ReadPriority#NORMAL}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Return an instance with the {@link ReadPriority} set to the specified value.
+   *
+   * <p><i>Default:</i> {@link ReadPriority#NORMAL}
+   *
+   * @param priority The {@link ReadPriority} to be used for any read using the returned instance.
+   *     Must be non-null.
+   * @see #getPriority()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsFutureByteString withPriority(ReadPriority priority) {
+    requireNonNull(priority, "priority must be non null");
+    if (this.priority == priority) {
+      return this;
+    }
+    return new ReadAsFutureByteString(range, hasher, priority);
   }
 
   /**
@@ -116,7 +149,7 @@ public final class ReadAsFutureByteString
     } else if (!enabled && Hasher.noop().equals(hasher)) {
       return this;
     }
-    return new ReadAsFutureByteString(range, enabled ? Hasher.enabled() : Hasher.noop());
+    return new ReadAsFutureByteString(range, enabled ? Hasher.enabled() : Hasher.noop(), priority);
   }
 
   @Override
@@ -126,8 +159,11 @@ public final class ReadAsFutureByteString
 
   @Override
   AccumulatingRead<DisposableByteString> newRead(long readId, RetryContext retryContext) {
-    return ObjectReadSessionStreamRead.createZeroCopyByteStringAccumulatingRead(
-        readId, range, hasher, retryContext);
+    AccumulatingRead<DisposableByteString> read =
+        ObjectReadSessionStreamRead.createZeroCopyByteStringAccumulatingRead(
+            readId, range, hasher, retryContext);
+    read.setPriority(priority);
+    return read;
   }
 
   @Override
@@ -139,12 +175,14 @@ public final class ReadAsFutureByteString
       return false;
     }
     ReadAsFutureByteString that = (ReadAsFutureByteString) o;
-    return Objects.equals(range, that.range) && Objects.equals(hasher, that.hasher);
+    return Objects.equals(range, that.range)
+        && Objects.equals(hasher, that.hasher)
+        && priority == that.priority;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(range, hasher);
+    return Objects.hash(range, hasher, priority);
   }
 
   @Override
@@ -152,6 +190,7 @@ public final class ReadAsFutureByteString
     return MoreObjects.toStringHelper(this)
         .add("range", range)
         .add("crc32cValidationEnabled", getCrc32cValidationEnabled())
+        .add("priority", priority)
         .toString();
   }
 }
@@ -41,15 +41,17 @@ public final class ReadAsFutureBytes
     extends BaseConfig<ApiFuture<byte[]>, AccumulatingRead<byte[]>> {
 
   static final ReadAsFutureBytes INSTANCE =
-      new ReadAsFutureBytes(RangeSpec.all(), Hasher.enabled());
+      new ReadAsFutureBytes(RangeSpec.all(), Hasher.enabled(), ReadPriority.NORMAL);
 
   private final RangeSpec range;
   private final Hasher hasher;
+  private final ReadPriority priority;
 
-  private ReadAsFutureBytes(RangeSpec range, Hasher hasher) {
+  private ReadAsFutureBytes(RangeSpec range, Hasher hasher, ReadPriority priority) {
     super();
     this.range = range;
     this.hasher = hasher;
+    this.priority = priority;
   }
 
   /**
@@ -80,7 +82,38 @@ public final class ReadAsFutureBytes
     if (this.range.equals(range)) {
       return this;
     }
-    return new ReadAsFutureBytes(range, hasher);
+    return new ReadAsFutureBytes(range, hasher, priority);
+  }
+
+  /**
+   * The {@link ReadPriority} of any read using this instance.
+   *
+   * <p><i>Default:</i> {@link ReadPriority#NORMAL}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadPriority getPriority() {
+    return priority;
+  }
+
+  /**
+   * Return an instance with the {@link ReadPriority} set to the specified value.
+   *
+   * <p><i>Default:</i> {@link ReadPriority#NORMAL}
+   *
+   * @param priority The {@link ReadPriority} to be used for any read using the returned instance.
+   *     Must be non-null.
+   * @see #getPriority()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsFutureBytes withPriority(ReadPriority priority) {
+    requireNonNull(priority, "priority must be non null");
+    if (this.priority == priority) {
+      return this;
+    }
+    return new ReadAsFutureBytes(range, hasher, priority);
   }
 
   /**
@@ -111,7 +144,7 @@ public final class ReadAsFutureBytes
     } else if (!enabled && Hasher.noop().equals(hasher)) {
       return this;
     }
-    return new ReadAsFutureBytes(range, enabled ? Hasher.enabled() : Hasher.noop());
+    return new ReadAsFutureBytes(range, enabled ? Hasher.enabled() : Hasher.noop(), priority);
   }
 
   @Override
@@ -121,8 +154,11 @@ public final class ReadAsFutureBytes
 
   @Override
   AccumulatingRead<byte[]> newRead(long readId, RetryContext retryContext) {
-    return ObjectReadSessionStreamRead.createByteArrayAccumulatingRead(
-        readId, range, hasher, retryContext);
+    AccumulatingRead<byte[]> read =
+        ObjectReadSessionStreamRead.createByteArrayAccumulatingRead(
+            readId, range, hasher, retryContext);
+    read.setPriority(priority);
+    return read;
   }
 
   @Override
@@ -134,12 +170,14 @@ public final class ReadAsFutureBytes
       return false;
     }
     ReadAsFutureBytes that = (ReadAsFutureBytes) o;
-    return Objects.equals(range, that.range) && Objects.equals(hasher, that.hasher);
+    return Objects.equals(range, that.range)
+        && Objects.equals(hasher, that.hasher)
+        && priority == that.priority;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(range, hasher);
+    return Objects.hash(range, hasher, priority);
   }
 
   @Override
@@ -147,6 +185,7 @@ public final class ReadAsFutureBytes
     return MoreObjects.toStringHelper(this)
         .add("range", range)
         .add("crc32cValidationEnabled", getCrc32cValidationEnabled())
+        .add("priority", priority)
         .toString();
   }
 }
@@ -16,6 +16,7 @@
 
 package com.google.cloud.storage;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.api.core.BetaApi;
@@ -46,14 +47,23 @@ import javax.annotation.concurrent.Immutable;
 public final class ReadAsSeekableChannel extends ReadProjectionConfig<SeekableByteChannel> {
 
   static final ReadAsSeekableChannel INSTANCE =
-      new ReadAsSeekableChannel(Hasher.enabled(), LinearExponentialRangeSpecFunction.INSTANCE);
+      new ReadAsSeekableChannel(
+          Hasher.enabled(), LinearExponentialRangeSpecFunction.INSTANCE, 0, 64L * 1024 * 1024);
 
   private final Hasher hasher;
   private final RangeSpecFunction rangeSpecFunction;
-
-  private ReadAsSeekableChannel(Hasher hasher, RangeSpecFunction rangeSpecFunction) {
+  private final int readAheadRanges;
+  private final long readAheadMaxBytes;
+
+  private ReadAsSeekableChannel(
+      Hasher hasher,
+      RangeSpecFunction rangeSpecFunction,
+      int readAheadRanges,
+      long readAheadMaxBytes) {
     this.hasher = hasher;
     this.rangeSpecFunction = rangeSpecFunction;
+    this.readAheadRanges = readAheadRanges;
+    this.readAheadMaxBytes = readAheadMaxBytes;
   }
 
   /**
@@ -82,7 +92,81 @@ public final class ReadAsSeekableChannel extends ReadProjectionConfig<SeekableBy
   @BetaApi
   public ReadAsSeekableChannel withRangeSpecFunction(RangeSpecFunction rangeSpecFunction) {
     requireNonNull(rangeSpecFunction, "rangeSpecFunction must be non null");
-    return new ReadAsSeekableChannel(hasher, rangeSpecFunction);
+    return new ReadAsSeekableChannel(hasher, rangeSpecFunction, readAheadRanges, readAheadMaxBytes);
+  }
+
+  /**
+   * The number of ranges following the one currently being read which will be requested before they
+   * are needed.
+   *
+   * <p>Once half of the current range has been consumed, the channel will use its {@link
+   * RangeSpecFunction} to request up to this many subsequent ranges on the same session, such that
+   * their first bytes are already available when the current range is exhausted. Speculatively
+   * requested ranges are cancelled if the channel is {@link SeekableByteChannel#position(long)
+   * repositioned}.
+   *
+   * <p><i>Default:</i> {@code 0} -- no read ahead
+   *
+   * @see #withReadAheadRanges(int)
+   * @see #getReadAheadMaxBytes()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getReadAheadRanges() {
+    return readAheadRanges;
+  }
+
+  /**
+   * Return an instance with the {@code readAheadRanges} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 0} -- no read ahead
+   *
+   * @param readAheadRanges The number of ranges to request ahead of the current range. Must be
+   *     &gt;= {@code 0}.
+   * @see #getReadAheadRanges()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsSeekableChannel withReadAheadRanges(int readAheadRanges) {
+    checkArgument(readAheadRanges >= 0, "readAheadRanges >= 0 (%s >= 0)", readAheadRanges);
+    if (readAheadRanges == this.readAheadRanges) {
+      return this;
+    }
+    return new ReadAsSeekableChannel(hasher, rangeSpecFunction, readAheadRanges, readAheadMaxBytes);
+  }
+
+  /**
+   * The maximum number of bytes which may be outstanding across all ranges requested ahead of the
+   * current range. A range which would exceed this limit is shortened to fit within it.
+   *
+   * <p><i>Default:</i> {@code 67108864 (64 MiB)}
+   *
+   * @see #withReadAheadMaxBytes(long)
+   * @see #getReadAheadRanges()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getReadAheadMaxBytes() {
+    return readAheadMaxBytes;
+  }
+
+  /**
+   * Return an instance with the {@code readAheadMaxBytes} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 67108864 (64 MiB)}
+   *
+   * @param readAheadMaxBytes The maximum number of bytes outstanding across all ranges requested
+   *     ahead of the current range. Must be &gt; {@code 0}.
+   * @see #getReadAheadMaxBytes()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsSeekableChannel withReadAheadMaxBytes(long readAheadMaxBytes) {
+    checkArgument(readAheadMaxBytes > 0, "readAheadMaxBytes > 0 (%s > 0)", readAheadMaxBytes);
+    if (readAheadMaxBytes == this.readAheadMaxBytes) {
+      return this;
+    }
+    return new ReadAsSeekableChannel(hasher, rangeSpecFunction, readAheadRanges, readAheadMaxBytes);
   }
 
   /**
@@ -113,7 +197,11 @@ public final class ReadAsSeekableChannel extends ReadProjectionConfig<SeekableBy
     } else if (!enabled && Hasher.noop().equals(hasher)) {
       return this;
     }
-    return new ReadAsSeekableChannel(enabled ? Hasher.enabled() : Hasher.noop(), rangeSpecFunction);
+    return new ReadAsSeekableChannel(
+        enabled ? Hasher.enabled() : Hasher.noop(),
+        rangeSpecFunction,
+        readAheadRanges,
+        readAheadMaxBytes);
   }
 
   @Override
@@ -136,16 +224,22 @@ public final class ReadAsSeekableChannel extends ReadProjectionConfig<SeekableBy
       return false;
     }
     ReadAsSeekableChannel that = (ReadAsSeekableChannel) o;
-    return Objects.equals(rangeSpecFunction, that.rangeSpecFunction);
+    return readAheadRanges == that.readAheadRanges
+        && readAheadMaxBytes == that.readAheadMaxBytes
+        && Objects.equals(rangeSpecFunction, that.rangeSpecFunction);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(rangeSpecFunction);
+    return Objects.hash(rangeSpecFunction, readAheadRanges, readAheadMaxBytes);
   }
 
   @Override
   public String toString() {
-    return MoreObjects.toStringHelper(this).add("rangeSpecFunction", rangeSpecFunction).toString();
+    return MoreObjects.toStringHelper(this)
+        .add("rangeSpecFunction", rangeSpecFunction)
+        .add("readAheadRanges", readAheadRanges)
+        .add("readAheadMaxBytes", readAheadMaxBytes)
+        .toString();
   }
 }
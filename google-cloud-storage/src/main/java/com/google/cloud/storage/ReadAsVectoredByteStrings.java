@@ -0,0 +1,456 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.BetaApi;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.ZeroCopySupport.DisposableByteString;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Read a list of ranges, producing an {@link ApiFuture}{@code <}{@link DisposableByteString}{@code
+ * >} for each range in the same order as the ranges were provided.
+ *
+ * <p>Ranges which are separated by no more than {@link #getMaxGap()} bytes are merged into a single
+ * read of at most {@link #getMaxMergedLength()} bytes, and all reads are issued together. The
+ * {@code DisposableByteString} of each range is a zero-copy slice of the bytes of its merged read;
+ * the memory of a merged read is released once every slice produced from it has been {@link
+ * DisposableByteString#close() close()}ed.
+ *
+ * <p>Every resulting {@link DisposableByteString} MUST be {@link DisposableByteString#close()
+ * close()}ed to avoid leaking memory
+ *
+ * <p>Instances of this class are immutable and thread safe.
+ *
+ * @see ReadProjectionConfigs#asVectoredByteStrings()
+ * @see BlobReadSession#readAs(ReadProjectionConfig)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@Immutable
+public final class ReadAsVectoredByteStrings
+    extends ReadProjectionConfig<List<ApiFuture<DisposableByteString>>> {
+
+  static final ReadAsVectoredByteStrings INSTANCE =
+      new ReadAsVectoredByteStrings(
+          ImmutableList.of(),
+          256 * ByteSizeConstants._1KiB,
+          ByteSizeConstants._16MiB,
+          Hasher.enabled());
+
+  private final ImmutableList<RangeSpec> ranges;
+  private final long maxGap;
+  private final long maxMergedLength;
+  private final Hasher hasher;
+
+  private ReadAsVectoredByteStrings(
+      ImmutableList<RangeSpec> ranges, long maxGap, long maxMergedLength, Hasher hasher) {
+    this.ranges = ranges;
+    this.maxGap = maxGap;
+    this.maxMergedLength = maxMergedLength;
+    this.hasher = hasher;
+  }
+
+  /**
+   * The ranges to read.
+   *
+   * <p><i>Default:</i> {@code []}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public List<RangeSpec> getRanges() {
+    return ranges;
+  }
+
+  /**
+   * Return an instance with the ranges set to the specified value.
+   *
+   * <p><i>Default:</i> {@code []}
+   *
+   * @param ranges The ranges to read. A future will be produced for each, in the same order. Ranges
+   *     may overlap. Must be non-null.
+   * @see #getRanges()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsVectoredByteStrings withRanges(List<RangeSpec> ranges) {
+    requireNonNull(ranges, "ranges must be non null");
+    ImmutableList<RangeSpec> copy = ImmutableList.copyOf(ranges);
+    if (this.ranges.equals(copy)) {
+      return this;
+    }
+    return new ReadAsVectoredByteStrings(copy, maxGap, maxMergedLength, hasher);
+  }
+
+  /**
+   * The largest number of unrequested bytes between two ranges which will be read in order to merge
+   * them into a single read.
+   *
+   * <p><i>Default:</i> {@code 262144 (256 KiB)}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getMaxGap() {
+    return maxGap;
+  }
+
+  /**
+   * Return an instance with the {@code maxGap} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 262144 (256 KiB)}
+   *
+   * @param maxGap Must be &gt;= {@code 0}. {@code 0} only merges ranges which are adjacent or
+   *     overlapping.
+   * @see #getMaxGap()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsVectoredByteStrings withMaxGap(long maxGap) {
+    checkArgument(maxGap >= 0, "maxGap >= 0 (%s >= 0)", maxGap);
+    if (this.maxGap == maxGap) {
+      return this;
+    }
+    return new ReadAsVectoredByteStrings(ranges, maxGap, maxMergedLength, hasher);
+  }
+
+  /**
+   * The largest read which will be produced by merging ranges. A single range longer than this is
+   * still read, but is not merged with any other.
+   *
+   * <p><i>Default:</i> {@code 16777216 (16 MiB)}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getMaxMergedLength() {
+    return maxMergedLength;
+  }
+
+  /**
+   * Return an instance with the {@code maxMergedLength} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 16777216 (16 MiB)}
+   *
+   * @param maxMergedLength Must be &gt; {@code 0}.
+   * @see #getMaxMergedLength()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ReadAsVectoredByteStrings withMaxMergedLength(long maxMergedLength) {
+    checkArgument(maxMergedLength > 0, "maxMergedLength > 0 (%s > 0)", maxMergedLength);
+    if (this.maxMergedLength == maxMergedLength) {
+      return this;
+    }
+    return new ReadAsVectoredByteStrings(ranges, maxGap, maxMergedLength, hasher);
+  }
+
+  /**
+   * Whether crc32c validation will be performed for bytes returned by Google Cloud Storage
+   *
+   * <p><i>Default:</i> {@code true}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  boolean getCrc32cValidationEnabled() {
+    return Hasher.enabled().equals(hasher);
+  }
+
+  /**
+   * Return an instance with crc32c validation enabled based on {@code enabled}.
+   *
+   * <p><i>Default:</i> {@code true}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  ReadAsVectoredByteStrings withCrc32cValidationEnabled(boolean enabled) {
+    if (enabled && Hasher.enabled().equals(hasher)) {
+      return this;
+    } else if (!enabled && Hasher.noop().equals(hasher)) {
+      return this;
+    }
+    return new ReadAsVectoredByteStrings(
+        ranges, maxGap, maxMergedLength, enabled ? Hasher.enabled() : Hasher.noop());
+  }
+
+  @Override
+  ProjectionType getType() {
+    return ProjectionType.SESSION_USER;
+  }
+
+  @Override
+  List<ApiFuture<DisposableByteString>> project(
+      ObjectReadSession session, IOAutoCloseable closeAlongWith) {
+    List<MergedRange> merged = merge(ranges, maxGap, maxMergedLength);
+    ReadAsFutureByteString base =
+        ReadProjectionConfigs.asFutureByteString()
+            .withCrc32cValidationEnabled(getCrc32cValidationEnabled());
+    List<ReadAsFutureByteString> configs =
+        merged.stream().map(m -> base.withRangeSpec(m.range)).collect(Collectors.toList());
+    List<ApiFuture<DisposableByteString>> reads = session.readAllAs(configs);
+
+    List<SettableApiFuture<DisposableByteString>> results =
+        ranges.stream()
+            .map(r -> SettableApiFuture.<DisposableByteString>create())
+            .collect(Collectors.toList());
+    AtomicInteger remainingReads = new AtomicInteger(merged.size());
+    for (int i = 0; i < merged.size(); i++) {
+      MergedRange m = merged.get(i);
+      ApiFutures.addCallback(
+          reads.get(i),
+          new ApiFutureCallback<DisposableByteString>() {
+            @Override
+            public void onFailure(Throwable t) {
+              try {
+                for (int idx : m.members) {
+                  results.get(idx).setException(StorageException.coalesce(t));
+                }
+              } finally {
+                readComplete();
+              }
+            }
+
+            @Override
+            public void onSuccess(DisposableByteString result) {
+              try {
+                m.split(result, ranges, results);
+              } finally {
+                readComplete();
+              }
+            }
+
+            private void readComplete() {
+              if (remainingReads.decrementAndGet() == 0) {
+                try {
+                  closeAlongWith.close();
+                } catch (IOException ignore) {
+                  // nothing is waiting on the result of the close
+                }
+              }
+            }
+          },
+          MoreExecutors.directExecutor());
+    }
+    if (merged.isEmpty()) {
+      try {
+        closeAlongWith.close();
+      } catch (IOException ignore) {
+        // nothing is waiting on the result of the close
+      }
+    }
+    return ImmutableList.copyOf(results);
+  }
+
+  /**
+   * Group {@code ranges} into reads. Ranges are considered in order of their beginning; a range
+   * joins the current group if it begins no more than {@code maxGap} bytes after the end of the
+   * group, and the group would not grow beyond {@code maxMergedLength}. Unbounded ranges are never
+   * merged.
+   */
+  @VisibleForTesting
+  static List<MergedRange> merge(List<RangeSpec> ranges, long maxGap, long maxMergedLength) {
+    List<Integer> order =
+        IntStream.range(0, ranges.size())
+            .boxed()
+            .sorted(Comparator.comparingLong(i -> ranges.get(i).begin()))
+            .collect(Collectors.toList());
+
+    List<MergedRange> merged = new ArrayList<>();
+    long groupBegin = -1;
+    long groupEnd = -1;
+    List<Integer> members = new ArrayList<>();
+    for (int idx : order) {
+      RangeSpec r = ranges.get(idx);
+      OptionalLong maxLength = r.maxLength();
+      if (!maxLength.isPresent()) {
+        flush(merged, groupBegin, groupEnd, members);
+        merged.add(new MergedRange(r, ImmutableList.of(idx)));
+        continue;
+      }
+      long end = r.begin() + maxLength.getAsLong();
+      if (!members.isEmpty()
+          && r.begin() - groupEnd <= maxGap
+          && Math.max(groupEnd, end) - groupBegin <= maxMergedLength) {
+        groupEnd = Math.max(groupEnd, end);
+        members.add(idx);
+        continue;
+      }
+      flush(merged, groupBegin, groupEnd, members);
+      groupBegin = r.begin();
+      groupEnd = end;
+      members.add(idx);
+    }
+    flush(merged, groupBegin, groupEnd, members);
+    return merged;
+  }
+
+  private static void flush(
+      List<MergedRange> merged, long groupBegin, long groupEnd, List<Integer> members) {
+    if (!members.isEmpty()) {
+      merged.add(
+          new MergedRange(
+              RangeSpec.of(groupBegin, groupEnd - groupBegin), ImmutableList.copyOf(members)));
+      members.clear();
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ReadAsVectoredByteStrings)) {
+      return false;
+    }
+    ReadAsVectoredByteStrings that = (ReadAsVectoredByteStrings) o;
+    return maxGap == that.maxGap
+        && maxMergedLength == that.maxMergedLength
+        && Objects.equals(ranges, that.ranges)
+        && Objects.equals(hasher, that.hasher);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(ranges, maxGap, maxMergedLength, hasher);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("ranges", ranges)
+        .add("maxGap", maxGap)
+        .add("maxMergedLength", maxMergedLength)
+        .add("crc32cValidationEnabled", getCrc32cValidationEnabled())
+        .toString();
+  }
+
+  @VisibleForTesting
+  static final class MergedRange {
+    final RangeSpec range;
+
+    /** indices into the original list of ranges which are served by this read */
+    final ImmutableList<Integer> members;
+
+    private MergedRange(RangeSpec range, ImmutableList<Integer> members) {
+      this.range = range;
+      this.members = members;
+    }
+
+    /**
+     * Resolve the result of each member with a slice of {@code read}. {@code read} is closed once
+     * every slice has been closed.
+     */
+    private void split(
+        DisposableByteString read,
+        List<RangeSpec> ranges,
+        List<SettableApiFuture<DisposableByteString>> results) {
+      SharedRead shared = new SharedRead(read, members.size());
+      ByteString bytes = read.byteString();
+      for (int idx : members) {
+        RangeSpec r = ranges.get(idx);
+        int from = Math.toIntExact(Math.min(bytes.size(), r.begin() - range.begin()));
+        long maxLength = r.maxLength().orElse(Long.MAX_VALUE);
+        int to = Math.toIntExact(Math.min(bytes.size(), from + Math.min(maxLength, bytes.size())));
+        Slice slice = new Slice(bytes.substring(from, to), shared);
+        if (!results.get(idx).set(slice)) {
+          // the caller cancelled the future, release its share of the read
+          try {
+            slice.close();
+          } catch (IOException ignore) {
+            // nothing is waiting on the result of the close
+          }
+        }
+      }
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("range", range)
+          .add("members", members)
+          .toString();
+    }
+  }
+
+  /** Reference count over a merged read, releasing it once every slice has been closed */
+  private static final class SharedRead {
+    private final DisposableByteString read;
+    private final AtomicInteger references;
+
+    private SharedRead(DisposableByteString read, int references) {
+      this.read = read;
+      this.references = new AtomicInteger(references);
+    }
+
+    private void release() throws IOException {
+      if (references.decrementAndGet() == 0) {
+        read.close();
+      }
+    }
+  }
+
+  private static final class Slice implements DisposableByteString {
+    private final ByteString byteString;
+    private final SharedRead shared;
+    private boolean closed;
+
+    private Slice(ByteString byteString, SharedRead shared) {
+      this.byteString = byteString;
+      this.shared = shared;
+      this.closed = false;
+    }
+
+    @Override
+    public ByteString byteString() {
+      return byteString;
+    }
+
+    @Override
+    public void close() throws IOException {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+      }
+      shared.release();
+    }
+  }
+}
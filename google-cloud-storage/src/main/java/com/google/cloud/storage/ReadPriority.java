@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.BetaApi;
+
+/**
+ * The scheduling class of a read performed via a {@link BlobReadSession}.
+ *
+ * <p>Reads which share a stream are sent, and have their responses dispatched, in priority order.
+ * Each class additionally has a cap on the number of bytes it may have outstanding on a single
+ * stream at once; a read which would exceed the cap of its class is held until earlier reads of the
+ * same class complete. A read is always admitted if no other read of its class is outstanding,
+ * regardless of its length.
+ *
+ * <p>Use {@link #LOW} for large scans which should not delay latency-sensitive point reads issued
+ * against the same session.
+ *
+ * @see ReadAsFutureBytes#withPriority(ReadPriority)
+ * @see ReadAsFutureByteString#withPriority(ReadPriority)
+ * @see ReadAsChannel#withPriority(ReadPriority)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public enum ReadPriority {
+  /**
+   * Latency-sensitive reads. Outstanding bytes are not capped.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  HIGH(Long.MAX_VALUE),
+  /**
+   * The default class of all reads. Outstanding bytes are not capped.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  NORMAL(Long.MAX_VALUE),
+  /**
+   * Throughput oriented reads. At most {@code 33554432 (32 MiB)} may be outstanding per stream.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  LOW(ByteSizeConstants._32MiB);
+
+  private final long maxOutstandingBytes;
+
+  ReadPriority(long maxOutstandingBytes) {
+    this.maxOutstandingBytes = maxOutstandingBytes;
+  }
+
+  long getMaxOutstandingBytes() {
+    return maxOutstandingBytes;
+  }
+}
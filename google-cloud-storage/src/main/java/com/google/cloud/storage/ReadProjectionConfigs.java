@@ -22,6 +22,7 @@ import com.google.cloud.storage.Storage.BlobSourceOption;
 import com.google.cloud.storage.ZeroCopySupport.DisposableByteString;
 import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
 
 /**
  * Factory class to select {@link ReadProjectionConfig}s.
@@ -125,4 +126,37 @@ public final class ReadProjectionConfigs {
   public static ReadAsSeekableChannel asSeekableChannel() {
     return ReadAsSeekableChannel.INSTANCE;
   }
+
+  /**
+   * Read a list of ranges, each as an {@link ApiFuture}{@code <}{@link DisposableByteString}{@code
+   * >}, merging nearby ranges and issuing all reads together.
+   *
+   * <p>Every resulting {@link DisposableByteString} MUST be {@link DisposableByteString#close()
+   * close()}ed to avoid leaking memory
+   *
+   * @see ReadAsVectoredByteStrings
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static ReadAsVectoredByteStrings asVectoredByteStrings() {
+    return ReadAsVectoredByteStrings.INSTANCE;
+  }
+
+  /**
+   * Read a range of {@code byte}s directly into the file at {@code destination}, as an {@link
+   * ApiFuture}{@code <Long>} which resolves to the number of bytes written.
+   *
+   * <p>Each message received from Google Cloud Storage is written to the file at its offset and
+   * released immediately, without accumulating the range in memory or copying it through an
+   * intermediate buffer.
+   *
+   * @param destination The file to write to. Created if it does not already exist. Must be
+   *     non-null.
+   * @see ReadAsFile
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static ReadAsFile asFile(Path destination) {
+    return ReadAsFile.of(destination);
+  }
 }
@@ -19,7 +19,7 @@ package com.google.cloud.storage;
 import com.google.api.client.http.AbstractHttpContent;
 import com.google.api.client.http.HttpMediaType;
 import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
-import com.google.cloud.storage.Hasher.GuavaHasher;
+import com.google.cloud.storage.Hasher.Crc32cHasher;
 import com.google.cloud.storage.Hasher.NoOpHasher;
 import com.google.common.base.Preconditions;
 import com.google.common.io.ByteStreams;
@@ -131,6 +131,7 @@ abstract class RewindableContent extends AbstractHttpContent {
     private final long size;
 
     private long readOffset;
+    private @Nullable Crc32cLengthKnown crc32c;
 
     private PathRewindableContent(Path path) throws IOException {
       this.path = path;
@@ -152,11 +153,8 @@ abstract class RewindableContent extends AbstractHttpContent {
 
     @Override
     public void writeTo(OutputStream out) throws IOException {
-      try (SeekableByteChannel in = Files.newByteChannel(path, StandardOpenOption.READ)) {
-        in.position(readOffset);
-        ByteStreams.copy(in, Channels.newChannel(out));
-        out.flush();
-      }
+      FileUploadPipeline.copy(path, readOffset, out);
+      out.flush();
     }
 
     @Override
@@ -178,34 +176,23 @@ abstract class RewindableContent extends AbstractHttpContent {
     @Override
     void flagDirty() {}
 
+    /**
+     * The value is memoized, it may be computed in the background before the upload starts (see
+     * {@link FileUploadPipeline#hashInBackground}) and isn't recomputed if the upload is retried.
+     */
     @Override
-    @Nullable Crc32cLengthKnown getCrc32c() {
-      GuavaHasher hasher;
-      {
-        Hasher defaultHasher = Hasher.defaultHasher();
-        if (defaultHasher instanceof NoOpHasher) {
-          return null;
-        } else {
-          hasher = Hasher.enabled();
-        }
+    synchronized @Nullable Crc32cLengthKnown getCrc32c() {
+      if (Hasher.defaultHasher() instanceof NoOpHasher) {
+        return null;
       }
-      Crc32cLengthKnown cumulative = Crc32cValue.zero();
-
-      int bufferSize = 8192; // 8KiB buffer for reading chunks
-      ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
-
-      try (SeekableByteChannel channel = Files.newByteChannel(path, StandardOpenOption.READ)) {
-        while (channel.read(buffer) != -1) {
-          buffer.flip();
-          if (buffer.hasRemaining()) {
-            cumulative = cumulative.concat(hasher.hash(buffer::duplicate));
-          }
-          buffer.clear();
+      if (crc32c == null) {
+        try {
+          crc32c = FileUploadPipeline.crc32c(path, Hasher.enabled());
+        } catch (IOException e) {
+          throw new RuntimeException("Failed to read file for CRC32C calculation: " + path, e);
         }
-      } catch (IOException e) {
-        throw new RuntimeException("Failed to read file for CRC32C calculation: " + path, e);
       }
-      return cumulative;
+      return crc32c;
     }
   }
 
@@ -305,7 +292,7 @@ abstract class RewindableContent extends AbstractHttpContent {
 
     @Override
     @Nullable Crc32cLengthKnown getCrc32c() {
-      GuavaHasher hasher;
+      Crc32cHasher hasher;
       {
         Hasher defaultHasher = Hasher.defaultHasher();
         if (defaultHasher instanceof NoOpHasher) {
@@ -0,0 +1,647 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.cloud.storage.BufferHandlePool.PooledBuffer;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A size-classed pool of {@link ByteBuffer}s which can be shared by many concurrent consumers.
+ *
+ * <p>Buffers are grouped into size classes, four per power of two starting at 4KiB, which bounds
+ * the wasted space of any single buffer to 25% of its requested size. Each size class has its own
+ * lock-free free-list, meaning acquiring and releasing a buffer never contends on a shared lock
+ * while the pool has idle buffers available or room to allocate a new one.
+ *
+ * <p>The total number of bytes allocated by the pool is bounded by {@code maxBytes}. When a new
+ * buffer is needed and the bound has been reached, idle buffers from other size classes are dropped
+ * to make room. Only if there are no idle buffers anywhere will an acquiring thread block until
+ * another buffer is released, for at most {@code maxWait}. If no buffer becomes available in that
+ * time, or the waiting thread is interrupted, the acquisition fails with a {@link
+ * StorageException}. Requests whose size class does not fit within the pool, or which are larger
+ * than the largest size class, are served by a one-off allocation of exactly the requested size;
+ * such allocations count towards {@code maxBytes} in the same way, but are never pooled. Requests
+ * larger than {@code maxBytes} are rejected.
+ *
+ * <p>A pool can explicitly opt in to overdrafts, in which case an acquisition which times out
+ * allocates beyond {@code maxBytes} instead of failing. An overdraft is dropped rather than pooled
+ * when it is released.
+ *
+ * <p>Consumers generally do not interact with the raw buffers, and instead {@link #lease(int)} a
+ * {@link BufferHandle} which lazily acquires its buffer upon first use, or adapt the pool to a
+ * {@link BufferHandlePool} via {@link #asBufferHandlePool(int)}.
+ *
+ * @see #getDefault()
+ */
+final class SharedBufferPool {
+  private static final int MIN_CLASS_SHIFT = 12; // 4KiB
+  private static final int MAX_CLASS_SHIFT = 28; // 256MiB
+  private static final int CLASSES_PER_SHIFT = 4;
+  @VisibleForTesting static final int MIN_CLASS_SIZE = 1 << MIN_CLASS_SHIFT;
+  @VisibleForTesting static final int MAX_CLASS_SIZE = 1 << MAX_CLASS_SHIFT;
+  private static final int CLASS_COUNT =
+      (MAX_CLASS_SHIFT - MIN_CLASS_SHIFT) * CLASSES_PER_SHIFT + 1;
+
+  @VisibleForTesting static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(10);
+
+  private final long maxBytes;
+  private final boolean direct;
+  private final long maxWaitNanos;
+  private final boolean overdraftOnTimeout;
+  private final ConcurrentLinkedDeque<ByteBuffer>[] freeLists;
+  private final AtomicLong allocatedBytes;
+  private final AtomicLong idleBytes;
+
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final LongAdder waits;
+  private final LongAdder waitNanos;
+  private final LongAdder overdrafts;
+
+  // only used on the slow path when the pool is exhausted
+  private final ReentrantLock lock;
+  private final Condition released;
+  private final AtomicInteger waiters;
+
+  @SuppressWarnings("unchecked")
+  private SharedBufferPool(
+      long maxBytes, boolean direct, long maxWaitNanos, boolean overdraftOnTimeout) {
+    this.maxBytes = maxBytes;
+    this.direct = direct;
+    this.maxWaitNanos = maxWaitNanos;
+    this.overdraftOnTimeout = overdraftOnTimeout;
+    this.freeLists = new ConcurrentLinkedDeque[CLASS_COUNT];
+    for (int i = 0; i < CLASS_COUNT; i++) {
+      freeLists[i] = new ConcurrentLinkedDeque<>();
+    }
+    this.allocatedBytes = new AtomicLong();
+    this.idleBytes = new AtomicLong();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.waits = new LongAdder();
+    this.waitNanos = new LongAdder();
+    this.overdrafts = new LongAdder();
+    this.lock = new ReentrantLock();
+    this.released = lock.newCondition();
+    this.waiters = new AtomicInteger();
+  }
+
+  static SharedBufferPool create(long maxBytes, boolean direct) {
+    return create(maxBytes, direct, DEFAULT_MAX_WAIT);
+  }
+
+  static SharedBufferPool create(long maxBytes, boolean direct, Duration maxWait) {
+    return create(maxBytes, direct, maxWait, false);
+  }
+
+  /**
+   * @param overdraftOnTimeout if {@code true}, an acquisition which is unable to obtain a buffer
+   *     within {@code maxWait} will allocate beyond {@code maxBytes} rather than failing
+   */
+  static SharedBufferPool create(
+      long maxBytes, boolean direct, Duration maxWait, boolean overdraftOnTimeout) {
+    checkArgument(maxBytes > 0, "maxBytes must be > 0 (maxBytes = %s)", maxBytes);
+    checkNotNull(maxWait, "maxWait must be non null");
+    checkArgument(!maxWait.isNegative(), "maxWait must be >= 0 (maxWait = %s)", maxWait);
+    return new SharedBufferPool(maxBytes, direct, maxWait.toNanos(), overdraftOnTimeout);
+  }
+
+  /**
+   * The process wide pool, if one has been configured via the {@code
+   * com.google.cloud.storage.SharedBufferPool.maxBytes} system property. The property {@code
+   * com.google.cloud.storage.SharedBufferPool.direct} can be set to {@code true} to have the pool
+   * allocate direct (off-heap) buffers, and {@code
+   * com.google.cloud.storage.SharedBufferPool.maxWaitMillis} bounds how long an acquisition will
+   * block when the pool is exhausted. Setting {@code
+   * com.google.cloud.storage.SharedBufferPool.overdraft} to {@code true} opts in to allocating
+   * beyond {@code maxBytes} once that time has elapsed, rather than failing the acquisition.
+   */
+  static @Nullable SharedBufferPool getDefault() {
+    return DefaultInstanceHolder.DEFAULT_POOL;
+  }
+
+  /**
+   * Create a {@link BufferHandle} of {@code capacity} bytes, leased from the {@link #getDefault()
+   * default pool} if one is configured, otherwise lazily allocated.
+   */
+  static BufferHandle leaseOrAllocate(int capacity) {
+    SharedBufferPool pool = getDefault();
+    if (pool == null) {
+      return BufferHandle.allocate(capacity);
+    }
+    return pool.lease(capacity);
+  }
+
+  /**
+   * Create a lazy {@link BufferHandle} of exactly {@code capacity} bytes. The underlying buffer
+   * will not be acquired from the pool until the handle is first used, and must be returned to the
+   * pool via {@link Lease#release()}.
+   */
+  Lease lease(int capacity) {
+    checkCapacity(capacity);
+    return new Lease(this, capacity);
+  }
+
+  /**
+   * Adapt this pool to a {@link BufferHandlePool} which will vend buffers of exactly {@code
+   * capacity} bytes.
+   */
+  BufferHandlePool asBufferHandlePool(int capacity) {
+    checkCapacity(capacity);
+    return new SharedBufferHandlePool(this, capacity);
+  }
+
+  Stats stats() {
+    return new Stats(
+        hits.sum(),
+        misses.sum(),
+        waits.sum(),
+        waitNanos.sum(),
+        overdrafts.sum(),
+        allocatedBytes.get(),
+        idleBytes.get(),
+        maxBytes);
+  }
+
+  /**
+   * Acquire a buffer whose capacity is the size class of {@code capacity}, or exactly {@code
+   * capacity} if the request is not {@link #isPoolable(int) poolable}. The returned buffer will be
+   * cleared.
+   *
+   * <p>If the pool is exhausted this method blocks for at most {@code maxWait}. If no buffer
+   * becomes available in that time a {@link StorageException} is thrown, unless the pool opted in
+   * to overdrafts. If the waiting thread is interrupted its interrupt status is restored and a
+   * {@link StorageException} is thrown.
+   */
+  @VisibleForTesting
+  ByteBuffer acquire(int capacity) {
+    checkCapacity(capacity);
+    boolean poolable = isPoolable(capacity);
+    int sizeClass = poolable ? sizeClassIndex(capacity) : -1;
+    int allocationSize = poolable ? sizeClassCapacity(sizeClass) : capacity;
+    ByteBuffer buf = tryAcquire(sizeClass, allocationSize);
+    if (buf != null) {
+      return buf;
+    }
+
+    long begin = System.nanoTime();
+    waits.increment();
+    lock.lock();
+    try {
+      waiters.incrementAndGet();
+      try {
+        // the waiter count must be visible before we re-check, otherwise a concurrent release
+        // could skip signalling us
+        long remaining = maxWaitNanos;
+        while ((buf = tryAcquire(sizeClass, allocationSize)) == null) {
+          if (remaining <= 0) {
+            if (overdraftOnTimeout) {
+              return overdraft(allocationSize);
+            }
+            throw new StorageException(
+                0,
+                String.format(
+                    Locale.US,
+                    "Timed out after %s waiting for a %d byte buffer (maxBytes = %d,"
+                        + " allocatedBytes = %d)",
+                    Duration.ofNanos(maxWaitNanos),
+                    allocationSize,
+                    maxBytes,
+                    allocatedBytes.get()));
+          }
+          try {
+            remaining = released.awaitNanos(remaining);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw StorageException.coalesce(e);
+          }
+        }
+        return buf;
+      } finally {
+        waiters.decrementAndGet();
+      }
+    } finally {
+      lock.unlock();
+      waitNanos.add(System.nanoTime() - begin);
+    }
+  }
+
+  /** Return a buffer previously acquired via {@link #acquire(int)} */
+  @VisibleForTesting
+  void release(ByteBuffer buf) {
+    checkNotNull(buf, "buf must be non null");
+    int capacity = buf.capacity();
+    if (!isPoolable(capacity)) {
+      // one-off allocation, give back its bytes and let it be garbage collected
+      allocatedBytes.addAndGet(-capacity);
+      signalWaiters();
+      return;
+    }
+    int sizeClass = sizeClassIndex(capacity);
+    if (sizeClassCapacity(sizeClass) != capacity) {
+      // not one of ours
+      return;
+    }
+    if (allocatedBytes.get() > maxBytes) {
+      // the pool is overdrawn, drop the buffer rather than keeping it idle
+      allocatedBytes.addAndGet(-capacity);
+    } else {
+      Buffers.clear(buf);
+      idleBytes.addAndGet(capacity);
+      freeLists[sizeClass].offerFirst(buf);
+    }
+    signalWaiters();
+  }
+
+  private void signalWaiters() {
+    if (waiters.get() > 0) {
+      lock.lock();
+      try {
+        released.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Attempt to acquire a buffer of {@code allocationSize} bytes without blocking. A {@code
+   * sizeClass} of {@code -1} indicates a one-off allocation which is never served from, or returned
+   * to, a free-list.
+   */
+  private @Nullable ByteBuffer tryAcquire(int sizeClass, int allocationSize) {
+    if (sizeClass >= 0) {
+      ByteBuffer buf = freeLists[sizeClass].pollFirst();
+      if (buf != null) {
+        idleBytes.addAndGet(-allocationSize);
+        hits.increment();
+        return buf;
+      }
+    }
+
+    if (reserve(allocationSize) || (evictIdle(allocationSize) && reserve(allocationSize))) {
+      misses.increment();
+      return allocate(allocationSize);
+    }
+    return null;
+  }
+
+  /**
+   * Allocate a buffer of {@code allocationSize} bytes even though doing so exceeds {@code
+   * maxBytes}. Only used if the pool opted in to overdrafts. The buffer is accounted for like any
+   * other, and dropped by {@link #release(ByteBuffer)} while the pool remains overdrawn.
+   */
+  private ByteBuffer overdraft(int allocationSize) {
+    allocatedBytes.addAndGet(allocationSize);
+    misses.increment();
+    overdrafts.increment();
+    return allocate(allocationSize);
+  }
+
+  private void checkCapacity(int capacity) {
+    checkArgument(capacity > 0, "capacity must be > 0 (capacity = %s)", capacity);
+    checkArgument(
+        capacity <= maxBytes,
+        "capacity must be <= maxBytes (capacity = %s, maxBytes = %s)",
+        capacity,
+        maxBytes);
+  }
+
+  private boolean reserve(int capacity) {
+    while (true) {
+      long current = allocatedBytes.get();
+      long next = current + capacity;
+      if (next > maxBytes) {
+        return false;
+      }
+      if (allocatedBytes.compareAndSet(current, next)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Drop idle buffers, largest size class first, until at least {@code needed} bytes of headroom
+   * exist or there are no more idle buffers.
+   */
+  private boolean evictIdle(int needed) {
+    for (int i = CLASS_COUNT - 1; i >= 0; i--) {
+      ConcurrentLinkedDeque<ByteBuffer> freeList = freeLists[i];
+      ByteBuffer victim;
+      while ((victim = freeList.pollLast()) != null) {
+        int capacity = victim.capacity();
+        idleBytes.addAndGet(-capacity);
+        long remaining = maxBytes - allocatedBytes.addAndGet(-capacity);
+        if (remaining >= needed) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private boolean isPoolable(int capacity) {
+    return capacity <= MAX_CLASS_SIZE && sizeClassCapacity(sizeClassIndex(capacity)) <= maxBytes;
+  }
+
+  private ByteBuffer allocate(int capacity) {
+    return direct ? ByteBuffer.allocateDirect(capacity) : Buffers.allocate(capacity);
+  }
+
+  @VisibleForTesting
+  static int sizeClassIndex(int capacity) {
+    if (capacity <= MIN_CLASS_SIZE) {
+      return 0;
+    }
+    int shift = 31 - Integer.numberOfLeadingZeros(capacity - 1);
+    int base = 1 << shift;
+    int step = base / CLASSES_PER_SHIFT;
+    int offset = (capacity - base + step - 1) / step;
+    return (shift - MIN_CLASS_SHIFT) * CLASSES_PER_SHIFT + offset;
+  }
+
+  @VisibleForTesting
+  static int sizeClassCapacity(int sizeClass) {
+    if (sizeClass == 0) {
+      return MIN_CLASS_SIZE;
+    }
+    int shift = MIN_CLASS_SHIFT + (sizeClass - 1) / CLASSES_PER_SHIFT;
+    int offset = (sizeClass - 1) % CLASSES_PER_SHIFT + 1;
+    return (1 << shift) + offset * ((1 << shift) / CLASSES_PER_SHIFT);
+  }
+
+  /**
+   * A {@link BufferHandle} backed by a buffer from a {@link SharedBufferPool}. The handle presents
+   * exactly the capacity which was requested, even though the backing buffer may be slightly
+   * larger.
+   */
+  static final class Lease extends BufferHandle {
+    private final SharedBufferPool pool;
+    private final int capacity;
+
+    // guarded by this
+    private ByteBuffer backing;
+    // It is theoretically possible for this value to be null for any of the methods, while
+    // get is invoked. Whenever reading this value, always read into a local variable and then
+    // operate on that variable for the rest of the scope.
+    private volatile ByteBuffer buf;
+
+    private Lease(SharedBufferPool pool, int capacity) {
+      this.pool = pool;
+      this.capacity = capacity;
+    }
+
+    @Override
+    int remaining() {
+      ByteBuffer buffer = buf;
+      return buffer == null ? capacity : buffer.remaining();
+    }
+
+    @Override
+    int capacity() {
+      return capacity;
+    }
+
+    @Override
+    int position() {
+      ByteBuffer buffer = buf;
+      return buffer == null ? 0 : buffer.position();
+    }
+
+    @Override
+    public ByteBuffer get() {
+      ByteBuffer result = buf;
+      if (result != null) {
+        return result;
+      } else {
+        synchronized (this) {
+          if (buf == null) {
+            ByteBuffer b = pool.acquire(capacity);
+            ByteBuffer dup = b.duplicate();
+            Buffers.limit(dup, capacity);
+            backing = b;
+            buf = dup.slice();
+          }
+          return buf;
+        }
+      }
+    }
+
+    /**
+     * Return the backing buffer to the pool. After this method returns, any buffer previously
+     * returned from {@link #get()} must no longer be used. Invoking {@link #get()} after release
+     * will acquire a new buffer.
+     */
+    void release() {
+      ByteBuffer toRelease;
+      synchronized (this) {
+        toRelease = backing;
+        backing = null;
+        buf = null;
+      }
+      if (toRelease != null) {
+        pool.release(toRelease);
+      }
+    }
+
+    /** Release {@code handle} if it is a {@link Lease}, otherwise do nothing. */
+    static void releaseIfLeased(@Nullable BufferHandle handle) {
+      if (handle instanceof Lease) {
+        ((Lease) handle).release();
+      }
+    }
+  }
+
+  static final class Stats {
+    private final long hits;
+    private final long misses;
+    private final long waits;
+    private final long waitNanos;
+    private final long overdrafts;
+    private final long allocatedBytes;
+    private final long idleBytes;
+    private final long maxBytes;
+
+    private Stats(
+        long hits,
+        long misses,
+        long waits,
+        long waitNanos,
+        long overdrafts,
+        long allocatedBytes,
+        long idleBytes,
+        long maxBytes) {
+      this.hits = hits;
+      this.misses = misses;
+      this.waits = waits;
+      this.waitNanos = waitNanos;
+      this.overdrafts = overdrafts;
+      this.allocatedBytes = allocatedBytes;
+      this.idleBytes = idleBytes;
+      this.maxBytes = maxBytes;
+    }
+
+    /** Number of acquisitions served from an idle buffer */
+    long getHits() {
+      return hits;
+    }
+
+    /** Number of acquisitions which required a new allocation */
+    long getMisses() {
+      return misses;
+    }
+
+    /** Number of acquisitions which could not be served without blocking */
+    long getWaits() {
+      return waits;
+    }
+
+    /** Cumulative time spent blocked waiting for a buffer to be released */
+    long getWaitNanos() {
+      return waitNanos;
+    }
+
+    /**
+     * Number of acquisitions which gave up waiting and allocated beyond {@code maxBytes}. Always
+     * {@code 0} unless the pool opted in to overdrafts.
+     */
+    long getOverdrafts() {
+      return overdrafts;
+    }
+
+    long getAllocatedBytes() {
+      return allocatedBytes;
+    }
+
+    long getIdleBytes() {
+      return idleBytes;
+    }
+
+    long getMaxBytes() {
+      return maxBytes;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("hits", hits)
+          .add("misses", misses)
+          .add("waits", waits)
+          .add("waitNanos", waitNanos)
+          .add("overdrafts", overdrafts)
+          .add("allocatedBytes", allocatedBytes)
+          .add("idleBytes", idleBytes)
+          .add("maxBytes", maxBytes)
+          .toString();
+    }
+  }
+
+  private static final class SharedBufferHandlePool implements BufferHandlePool {
+    private final SharedBufferPool pool;
+    private final int capacity;
+
+    private SharedBufferHandlePool(SharedBufferPool pool, int capacity) {
+      this.pool = pool;
+      this.capacity = capacity;
+    }
+
+    @Override
+    public PooledBuffer getBuffer() {
+      return PooledBuffer.of(pool.lease(capacity));
+    }
+
+    @Override
+    public void returnBuffer(PooledBuffer handle) {
+      checkNotNull(handle, "handle must be non null");
+      Lease.releaseIfLeased(handle.getBufferHandle());
+    }
+  }
+
+  private static final class DefaultInstanceHolder {
+    private static final Logger LOGGER = Logger.getLogger(SharedBufferPool.class.getName());
+    private static final String MAX_BYTES_PROPERTY_NAME =
+        "com.google.cloud.storage.SharedBufferPool.maxBytes";
+    private static final String DIRECT_PROPERTY_NAME =
+        "com.google.cloud.storage.SharedBufferPool.direct";
+    private static final String MAX_WAIT_MILLIS_PROPERTY_NAME =
+        "com.google.cloud.storage.SharedBufferPool.maxWaitMillis";
+    private static final String OVERDRAFT_PROPERTY_NAME =
+        "com.google.cloud.storage.SharedBufferPool.overdraft";
+    private static final @Nullable SharedBufferPool DEFAULT_POOL;
+
+    static {
+      String maxBytes = System.getProperty(MAX_BYTES_PROPERTY_NAME);
+      String direct = System.getProperty(DIRECT_PROPERTY_NAME, "false");
+      String maxWaitMillis = System.getProperty(MAX_WAIT_MILLIS_PROPERTY_NAME);
+      String overdraft = System.getProperty(OVERDRAFT_PROPERTY_NAME, "false");
+      LOGGER.fine(String.format(Locale.US, "-D%s=%s", MAX_BYTES_PROPERTY_NAME, maxBytes));
+      LOGGER.fine(String.format(Locale.US, "-D%s=%s", DIRECT_PROPERTY_NAME, direct));
+      LOGGER.fine(
+          String.format(Locale.US, "-D%s=%s", MAX_WAIT_MILLIS_PROPERTY_NAME, maxWaitMillis));
+      LOGGER.fine(String.format(Locale.US, "-D%s=%s", OVERDRAFT_PROPERTY_NAME, overdraft));
+      Duration maxWait = DEFAULT_MAX_WAIT;
+      if (maxWaitMillis != null) {
+        try {
+          long l = Long.parseLong(maxWaitMillis.trim());
+          if (l >= 0) {
+            maxWait = Duration.ofMillis(l);
+          }
+        } catch (NumberFormatException e) {
+          LOGGER.warning(
+              String.format(
+                  Locale.US,
+                  "Ignoring invalid value for -D%s=%s",
+                  MAX_WAIT_MILLIS_PROPERTY_NAME,
+                  maxWaitMillis));
+        }
+      }
+      SharedBufferPool pool = null;
+      if (maxBytes != null) {
+        try {
+          long l = Long.parseLong(maxBytes.trim());
+          if (l > 0) {
+            pool =
+                create(l, Boolean.parseBoolean(direct), maxWait, Boolean.parseBoolean(overdraft));
+          }
+        } catch (NumberFormatException e) {
+          LOGGER.warning(
+              String.format(
+                  Locale.US,
+                  "Ignoring invalid value for -D%s=%s",
+                  MAX_BYTES_PROPERTY_NAME,
+                  maxBytes));
+        }
+      }
+      DEFAULT_POOL = pool;
+    }
+  }
+}
@@ -2042,6 +2042,30 @@ public interface Storage extends Service<StorageOptions>, AutoCloseable {
       return new BlobSourceOption(UnifiedOpts.returnRawInputStream(shouldReturnRawInputStream));
     }
 
+    /**
+     * Returns an option to download an object to a file as concurrent ranged reads, rather than as
+     * a single stream.
+     *
+     * <p>The object is split into ranges of {@code rangeSize} bytes, up to {@code parallelism} of
+     * which are read at once and written to their position in the destination file. A range which
+     * fails is retried on its own, resuming from the last byte it received. Once every range has
+     * been read, the CRC32C of each range is combined and validated against the CRC32C of the
+     * object.
+     *
+     * <p>This option only applies to {@link Storage#downloadTo(BlobId, Path, BlobSourceOption...)}
+     * on the JSON transport. Objects no larger than {@code rangeSize}, and objects which would be
+     * decompressed while downloading, are downloaded as a single stream.
+     *
+     * @param parallelism the maximum number of ranges to read concurrently
+     * @param rangeSize the number of bytes in each range
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    @TransportCompatibility({Transport.HTTP})
+    public static BlobSourceOption parallelDownload(int parallelism, long rangeSize) {
+      return new BlobSourceOption(UnifiedOpts.parallelDownload(parallelism, rangeSize));
+    }
+
     /**
      * A set of extra headers to be set for all requests performed within the scope of the operation
      * this option is passed to (a get, read, resumable upload etc).
@@ -21,6 +21,7 @@ import com.google.cloud.storage.BufferedWritableByteChannelSession.BufferedWrita
 import com.google.cloud.storage.UnbufferedReadableByteChannelSession.UnbufferedReadableByteChannel;
 import com.google.cloud.storage.UnbufferedWritableByteChannelSession.UnbufferedWritableByteChannel;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ReadableByteChannel;
@@ -59,6 +60,15 @@ final class StorageByteChannels {
     public ScatteringByteChannel asScatteringByteChannel(ReadableByteChannel c) {
       return new ScatteringByteChannelFacade(c);
     }
+
+    /**
+     * Adapt {@code in} to a {@link ScatteringByteChannel} which reads directly into the backing
+     * array of heap destination buffers, rather than via the intermediate array used by {@link
+     * java.nio.channels.Channels#newChannel(InputStream)}.
+     */
+    public ScatteringByteChannel asScatteringByteChannel(InputStream in) {
+      return new InputStreamScatteringByteChannel(in);
+    }
   }
 
   static final class Writable {
@@ -348,7 +358,7 @@ final class StorageByteChannels {
       }
 
       long totalBytesRead = 0;
-      for (int i = offset; i < length; i++) {
+      for (int i = offset; i < offset + length; i++) {
         ByteBuffer dst = dsts[i];
         int goal = dst.remaining();
         if (dst.hasRemaining()) {
@@ -382,6 +392,88 @@ final class StorageByteChannels {
     }
   }
 
+  private static final class InputStreamScatteringByteChannel implements ScatteringByteChannel {
+    // only used for destinations without an accessible backing array, e.g. direct buffers
+    private static final int SCRATCH_SIZE = 16 * 1024;
+
+    private final InputStream in;
+    private byte[] scratch;
+    private boolean open;
+
+    private InputStreamScatteringByteChannel(InputStream in) {
+      this.in = in;
+      this.open = true;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return Math.toIntExact(read(new ByteBuffer[] {dst}, 0, 1));
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts) throws IOException {
+      return read(dsts, 0, dsts.length);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+      if (!open) {
+        throw new ClosedChannelException();
+      }
+
+      long totalBytesRead = 0;
+      for (int i = offset; i < offset + length; i++) {
+        ByteBuffer dst = dsts[i];
+        while (dst.hasRemaining()) {
+          // once some bytes have been read, only continue if doing so will not block
+          if (totalBytesRead > 0 && in.available() <= 0) {
+            return totalBytesRead;
+          }
+          int read = readInto(dst);
+          if (read == -1) {
+            return totalBytesRead == 0 ? -1 : totalBytesRead;
+          } else if (read == 0) {
+            return totalBytesRead;
+          }
+          totalBytesRead += read;
+        }
+      }
+      return totalBytesRead;
+    }
+
+    private int readInto(ByteBuffer dst) throws IOException {
+      int remaining = dst.remaining();
+      if (dst.hasArray()) {
+        int position = dst.position();
+        int read = in.read(dst.array(), dst.arrayOffset() + position, remaining);
+        if (read > 0) {
+          Buffers.position(dst, position + read);
+        }
+        return read;
+      }
+
+      if (scratch == null) {
+        scratch = new byte[SCRATCH_SIZE];
+      }
+      int read = in.read(scratch, 0, Math.min(remaining, SCRATCH_SIZE));
+      if (read > 0) {
+        dst.put(scratch, 0, read);
+      }
+      return read;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() throws IOException {
+      open = false;
+      in.close();
+    }
+  }
+
   private static final class SynchronizedSeekableByteChannel implements SeekableByteChannel {
     private final SeekableByteChannel delegate;
     private final ReentrantLock lock;
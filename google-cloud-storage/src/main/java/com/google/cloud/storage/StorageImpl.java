@@ -42,6 +42,7 @@ import com.google.cloud.storage.BlobReadChannelV2.BlobReadChannelContext;
 import com.google.cloud.storage.BlobWriteSessionConfig.WriterFactory;
 import com.google.cloud.storage.Conversions.Decoder;
 import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.Hasher.NoOpHasher;
 import com.google.cloud.storage.HmacKey.HmacKeyMetadata;
 import com.google.cloud.storage.PostPolicyV4.ConditionV4Type;
 import com.google.cloud.storage.PostPolicyV4.PostConditionsV4;
@@ -50,13 +51,16 @@ import com.google.cloud.storage.PostPolicyV4.PostPolicyV4Document;
 import com.google.cloud.storage.Retrying.Retrier;
 import com.google.cloud.storage.UnifiedOpts.NamedField;
 import com.google.cloud.storage.UnifiedOpts.NestedNamedField;
+import com.google.cloud.storage.UnifiedOpts.ObjectListOpt;
 import com.google.cloud.storage.UnifiedOpts.ObjectSourceOpt;
 import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
 import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.cloud.storage.UnifiedOpts.ParallelDownload;
 import com.google.cloud.storage.spi.v1.StorageRpc;
 import com.google.cloud.storage.spi.v1.StorageRpc.RewriteRequest;
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Strings;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -81,6 +85,7 @@ import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -94,6 +99,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -117,12 +123,15 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
   final StorageRpc storageRpc;
   final WriterFactory writerFactory;
   final Retrier retrier;
+  private final Supplier<MultipartUploadClient> multipartUploadClient;
 
   StorageImpl(HttpStorageOptions options, WriterFactory writerFactory, Retrier retrier) {
     super(options);
     this.retryAlgorithmManager = options.getRetryAlgorithmManager();
     this.storageRpc = options.getStorageRpcV1();
     this.writerFactory = writerFactory;
+    this.multipartUploadClient =
+        Suppliers.memoize(() -> MultipartUploadClient.create(MultipartUploadSettings.of(options)));
     try {
       String resolvedApiaryHost = options.getResolvedApiaryHost("storage");
       URI uri = new URI(resolvedApiaryHost);
@@ -209,6 +218,11 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
     BlobInfo updated = opts.blobInfoMapper().apply(builder).build();
     StorageObject encode = codecs.blobInfo().encode(updated);
 
+    RewindableContent content = RewindableContent.of(path);
+    if (!(opts.getHasher() instanceof NoOpHasher)) {
+      // hash the file while the resumable session is created, rather than after
+      FileUploadPipeline.hashInBackground(content::getCrc32c);
+    }
     Supplier<String> uploadIdSupplier =
         ResumableMedia.startUploadForBlobInfo(
             getOptions(),
@@ -230,8 +244,7 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
             retrier.withAlg(retryAlgorithmManager.idempotent()),
             jsonResumableWrite);
     HttpContentRange contentRange = HttpContentRange.of(ByteRangeSpec.explicit(0L, size), size);
-    ResumableOperationResult<StorageObject> put =
-        session.put(RewindableContent.of(path), contentRange);
+    ResumableOperationResult<StorageObject> put = session.put(content, contentRange);
     // all exception translation is taken care of down in the JsonResumableSession
     StorageObject object = put.getObject();
     if (object == null) {
@@ -357,6 +370,7 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
     private final Map<StorageRpc.Option, ?> requestOptions;
     private final HttpStorageOptions serviceOptions;
     private final String bucket;
+    private final @Nullable ImmutableSet<String> selectedFields;
     private final Retrier retrier;
 
     BlobPageFetcher(
@@ -364,17 +378,19 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
         HttpStorageOptions serviceOptions,
         String cursor,
         Map<StorageRpc.Option, ?> optionMap,
+        @Nullable ImmutableSet<String> selectedFields,
         Retrier retrier) {
       this.retrier = retrier;
       this.requestOptions =
           PageImpl.nextRequestOptions(StorageRpc.Option.PAGE_TOKEN, cursor, optionMap);
       this.serviceOptions = serviceOptions;
       this.bucket = bucket;
+      this.selectedFields = selectedFields;
     }
 
     @Override
     public Page<Blob> getNextPage() {
-      return listBlobs(bucket, serviceOptions, requestOptions, retrier);
+      return listBlobs(bucket, serviceOptions, requestOptions, selectedFields, retrier);
     }
   }
 
@@ -411,8 +427,9 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
 
   @Override
   public Page<Blob> list(final String bucket, BlobListOption... options) {
-    ImmutableMap<StorageRpc.Option, ?> optionsMap = Opts.unwrap(options).getRpcOptions();
-    return listBlobs(bucket, getOptions(), optionsMap, retrier);
+    Opts<ObjectListOpt> opts = Opts.unwrap(options);
+    ImmutableMap<StorageRpc.Option, ?> optionsMap = opts.getRpcOptions();
+    return listBlobs(bucket, getOptions(), optionsMap, opts.selectedApiaryFields(), retrier);
   }
 
   private static Page<Bucket> listBuckets(
@@ -445,9 +462,16 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
       final String bucket,
       final HttpStorageOptions serviceOptions,
       final Map<StorageRpc.Option, ?> optionsMap,
+      @Nullable ImmutableSet<String> selectedFields,
       Retrier retrier) {
     ResultRetryAlgorithm<?> algorithm =
         serviceOptions.getRetryAlgorithmManager().getForObjectsList(bucket, optionsMap);
+    // when only some fields are selected, only decode those fields rather than every field of
+    // every object in the page
+    Decoder<StorageObject, BlobInfo> decoder =
+        selectedFields == null
+            ? Conversions.json().blobInfo()
+            : Conversions.json().blobInfoProjection(selectedFields);
     return retrier.run(
         algorithm,
         () -> serviceOptions.getStorageRpcV1().list(bucket, optionsMap),
@@ -456,19 +480,51 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
           Iterable<Blob> blobs =
               result.y() == null
                   ? ImmutableList.of()
-                  : Iterables.transform(
-                      result.y(),
-                      storageObject -> {
-                        BlobInfo info = Conversions.json().blobInfo().decode(storageObject);
-                        return info.asBlob(serviceOptions.getService());
-                      });
+                  : new LazilyDecodedList<>(
+                      ImmutableList.copyOf(result.y()),
+                      decoder.andThen(info -> info.asBlob(serviceOptions.getService())));
           return new PageImpl<>(
-              new BlobPageFetcher(bucket, serviceOptions, cursor, optionsMap, retrier),
+              new BlobPageFetcher(
+                  bucket, serviceOptions, cursor, optionsMap, selectedFields, retrier),
               cursor,
               blobs);
         });
   }
 
+  /**
+   * A page of list results which decodes each element the first time it is accessed, and retains
+   * the decoded value so that iterating the page more than once does not decode it again.
+   *
+   * <p>Concurrent access is safe, although an element may be decoded more than once if it is
+   * accessed by multiple threads at the same time.
+   */
+  private static final class LazilyDecodedList<F, T> extends AbstractList<T> {
+    private final List<F> source;
+    private final Decoder<F, T> decoder;
+    private final AtomicReferenceArray<T> decoded;
+
+    private LazilyDecodedList(List<F> source, Decoder<F, T> decoder) {
+      this.source = source;
+      this.decoder = decoder;
+      this.decoded = new AtomicReferenceArray<>(source.size());
+    }
+
+    @Override
+    public T get(int index) {
+      T t = decoded.get(index);
+      if (t == null) {
+        t = decoder.decode(source.get(index));
+        decoded.lazySet(index, t);
+      }
+      return t;
+    }
+
+    @Override
+    public int size() {
+      return source.size();
+    }
+  }
+
   @Override
   public Bucket update(BucketInfo bucketInfo, BucketTargetOption... options) {
     Map<StorageRpc.Option, ?> optionsMap =
@@ -727,6 +783,19 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
 
   @Override
   public void downloadTo(BlobId blob, Path path, BlobSourceOption... options) {
+    Opts<ObjectSourceOpt> opts = Opts.unwrap(options).resolveFrom(blob);
+    ParallelDownload parallelDownload = opts.parallelDownload();
+    if (parallelDownload != null) {
+      BlobInfo info = internalObjectGet(blob, opts);
+      ParallelRangeDownloader downloader =
+          new ParallelRangeDownloader(this, parallelDownload, opts.getHasher());
+      boolean returnRawInputStream =
+          Boolean.TRUE.equals(opts.getRpcOptions().get(StorageRpc.Option.RETURN_RAW_INPUT_STREAM));
+      if (downloader.isApplicable(info, returnRawInputStream)) {
+        downloader.downloadTo(info, path, options);
+        return;
+      }
+    }
     try (OutputStream outputStream = Files.newOutputStream(path)) {
       downloadTo(blob, outputStream, options);
     } catch (IOException e) {
@@ -1729,6 +1798,11 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
     BlobInfo updated = opts.blobInfoMapper().apply(builder).build();
     StorageObject encode = codecs.blobInfo().encode(updated);
 
+    RewindableContent content = RewindableContent.of(path);
+    if (!(opts.getHasher() instanceof NoOpHasher)) {
+      // hash the file while the resumable session is created, rather than after
+      FileUploadPipeline.hashInBackground(content::getCrc32c);
+    }
     Supplier<String> uploadIdSupplier =
         ResumableMedia.startUploadForBlobInfo(
             getOptions(),
@@ -1750,8 +1824,7 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
             retrier.withAlg(retryAlgorithmManager.idempotent()),
             jsonResumableWrite);
     HttpContentRange contentRange = HttpContentRange.of(ByteRangeSpec.explicit(0L, size), size);
-    ResumableOperationResult<StorageObject> put =
-        session.put(RewindableContent.of(path), contentRange);
+    ResumableOperationResult<StorageObject> put = session.put(content, contentRange);
     // all exception translation is taken care of down in the JsonResumableSession
     StorageObject object = put.getObject();
     if (object == null) {
@@ -1827,4 +1900,9 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
         },
         codecs.blobInfo());
   }
+
+  @Override
+  public MultipartUploadClient internalMultipartUploadClient() {
+    return multipartUploadClient.get();
+  }
 }
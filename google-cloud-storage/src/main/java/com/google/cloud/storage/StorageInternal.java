@@ -48,4 +48,8 @@ interface StorageInternal {
   default BlobInfo internalObjectGet(BlobId blobId, Opts<ObjectSourceOpt> opts) {
     throw new UnsupportedOperationException("not implemented");
   }
+
+  default MultipartUploadClient internalMultipartUploadClient() {
+    throw new UnsupportedOperationException("not implemented");
+  }
 }
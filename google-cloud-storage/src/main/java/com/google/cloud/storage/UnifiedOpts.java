@@ -76,6 +76,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.crypto.spec.SecretKeySpec;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.nullness.qual.RequiresNonNull;
 
 /**
@@ -463,6 +464,12 @@ final class UnifiedOpts {
     return new PageToken(pageToken);
   }
 
+  static ParallelDownload parallelDownload(int parallelism, long rangeSize) {
+    checkArgument(parallelism >= 1, "parallelism >= 1 (%s >= 1)", parallelism);
+    checkArgument(rangeSize >= 1, "rangeSize >= 1 (%s >= 1)", rangeSize);
+    return new ParallelDownload(parallelism, rangeSize);
+  }
+
   static ReturnPartialSuccess returnPartialSuccess(boolean returnPartialSuccess) {
     return new ReturnPartialSuccess(returnPartialSuccess);
   }
@@ -979,6 +986,18 @@ final class UnifiedOpts {
       return Mapper.identity();
     }
 
+    /**
+     * The apiary names of the top level fields selected relative to an individual resource. i.e.
+     * {@code items/metadata.key} becomes {@code metadata}.
+     */
+    ImmutableSet<String> getApiaryRootNames() {
+      return val.stream()
+          .map(NamedField::stripPrefix)
+          .map(NamedField::root)
+          .map(NamedField::getApiaryName)
+          .collect(ImmutableSet.toImmutableSet());
+    }
+
     /**
      * Define a decoder which can clear out any fields which may have not been selected.
      *
@@ -1643,6 +1662,51 @@ final class UnifiedOpts {
     }
   }
 
+  /**
+   * Download an object to a file as ranges read concurrently, rather than as a single stream. Only
+   * consulted by {@code downloadTo(BlobId, Path, BlobSourceOption...)}, no request is modified.
+   */
+  static final class ParallelDownload implements ObjectSourceOpt {
+    private static final long serialVersionUID = 2905180311862935736L;
+    private final int parallelism;
+    private final long rangeSize;
+
+    private ParallelDownload(int parallelism, long rangeSize) {
+      this.parallelism = parallelism;
+      this.rangeSize = rangeSize;
+    }
+
+    int getParallelism() {
+      return parallelism;
+    }
+
+    long getRangeSize() {
+      return rangeSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ParallelDownload)) {
+        return false;
+      }
+      ParallelDownload that = (ParallelDownload) o;
+      return parallelism == that.parallelism && rangeSize == that.rangeSize;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(parallelism, rangeSize);
+    }
+
+    @Override
+    public String toString() {
+      return "ParallelDownload{parallelism=" + parallelism + ", rangeSize=" + rangeSize + '}';
+    }
+  }
+
   static final class ReturnPartialSuccess extends RpcOptVal<Boolean> implements BucketListOpt {
     private static final long serialVersionUID = -1370658416509499277L;
 
@@ -2907,6 +2971,18 @@ final class UnifiedOpts {
       return filterTo(ReturnRawInputStream.class).findFirst().map(r -> r.val).orElse(true);
     }
 
+    @Nullable ParallelDownload parallelDownload() {
+      return filterTo(ParallelDownload.class).findFirst().orElse(null);
+    }
+
+    /**
+     * The apiary names of the top level fields selected by a {@link Fields} opt, or {@code null} if
+     * all fields are selected.
+     */
+    @Nullable ImmutableSet<String> selectedApiaryFields() {
+      return filterTo(Fields.class).findFirst().map(Fields::getApiaryRootNames).orElse(null);
+    }
+
     Decoder<BlobInfo, BlobInfo> clearBlobFields() {
       return filterTo(Fields.class)
           .findFirst()
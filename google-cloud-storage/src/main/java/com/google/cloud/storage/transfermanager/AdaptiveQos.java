@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link Qos} which makes its decisions from the throughput observed for previous transfers rather
+ * than fixed thresholds.
+ *
+ * <p>Each completed transfer (whole object or individual segment) is recorded as a sample of {@code
+ * (numBytes, elapsed)}. Uploads and downloads frequently see very different latency and bandwidth,
+ * so samples for each direction are kept separately. Over a moving window of recent samples a
+ * linear model {@code elapsed = latency + numBytes / bandwidth} is fit, giving an estimate of the
+ * fixed per-request latency and the per-stream bandwidth. From those two values a target segment
+ * size is derived such that the time spent transferring bytes for a segment is {@link
+ * #LATENCY_AMORTIZATION} times the latency of the request which fetches it.
+ *
+ * <ul>
+ *   <li>An object is only divided if it will produce at least two segments of the target size,
+ *       meaning small objects on high bandwidth links are downloaded with a single request.
+ *   <li>A parallel composite upload is only performed if the object is at least two target segments
+ *       and at least two parts in size.
+ *   <li>The number of segments an object is divided into determines how many workers can operate on
+ *       it concurrently.
+ * </ul>
+ *
+ * <p>Divide and conquer decisions are made from the download model, parallel composite upload
+ * decisions from the upload model. Until enough samples have been observed to build the relevant
+ * model, decisions are delegated to {@code fallback}.
+ */
+final class AdaptiveQos implements Qos {
+
+  @VisibleForTesting static final int LATENCY_AMORTIZATION = 8;
+  @VisibleForTesting static final long MIN_SEGMENT_SIZE = 2L * 1024 * 1024;
+  @VisibleForTesting static final long MAX_SEGMENT_SIZE = 1024L * 1024 * 1024;
+  private static final long SEGMENT_ALIGNMENT = 1024L * 1024;
+  private static final int MIN_SAMPLES = 8;
+  private static final int MAX_SAMPLES = 256;
+  private static final Duration DEFAULT_WINDOW = Duration.ofMinutes(5);
+  // when all samples are of a similar size latency can not be separated from bandwidth, in which
+  // case we assume a latency no larger than this value
+  private static final double DEFAULT_LATENCY_SECONDS = 0.05d;
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private final Qos fallback;
+  private final Clock clock;
+  private final Duration window;
+  private final long partSize;
+  private final boolean threadThresholdMet;
+
+  private final Estimator uploads;
+  private final Estimator downloads;
+
+  @VisibleForTesting
+  AdaptiveQos(
+      Qos fallback, Clock clock, Duration window, long partSize, boolean threadThresholdMet) {
+    this.fallback = fallback;
+    this.clock = clock;
+    this.window = window;
+    this.partSize = partSize;
+    this.threadThresholdMet = threadThresholdMet;
+    this.uploads = new Estimator();
+    this.downloads = new Estimator();
+  }
+
+  @Override
+  public boolean divideAndConquer(long objectSize) {
+    Model m = downloads.model;
+    if (m == null) {
+      return fallback.divideAndConquer(objectSize);
+    }
+    return objectSize >= 2 * m.targetSegmentSize;
+  }
+
+  @Override
+  public boolean parallelCompositeUpload(long objectSize) {
+    Model m = uploads.model;
+    if (m == null) {
+      return fallback.parallelCompositeUpload(objectSize);
+    }
+    return threadThresholdMet && objectSize >= 2 * Math.max(m.targetSegmentSize, partSize);
+  }
+
+  @Override
+  public long divideAndConquerSegmentSize(long objectSize) {
+    Model m = downloads.model;
+    if (m == null) {
+      return fallback.divideAndConquerSegmentSize(objectSize);
+    }
+    return m.targetSegmentSize;
+  }
+
+  @Override
+  public void recordUpload(long numBytes, Duration elapsed) {
+    uploads.record(clock.instant(), window, numBytes, elapsed);
+  }
+
+  @Override
+  public void recordDownload(long numBytes, Duration elapsed) {
+    downloads.record(clock.instant(), window, numBytes, elapsed);
+  }
+
+  @VisibleForTesting
+  @Nullable Model getUploadModel() {
+    return uploads.model;
+  }
+
+  @VisibleForTesting
+  @Nullable Model getDownloadModel() {
+    return downloads.model;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("fallback", fallback)
+        .add("window", window)
+        .add("partSize", partSize)
+        .add("threadThresholdMet", threadThresholdMet)
+        .add("uploadModel", uploads.model)
+        .add("downloadModel", downloads.model)
+        .toString();
+  }
+
+  static AdaptiveQos of(TransferManagerConfig config) {
+    return new AdaptiveQos(
+        DefaultQos.of(config),
+        Clock.systemUTC(),
+        DEFAULT_WINDOW,
+        config.getPerWorkerBufferSize(),
+        config.getMaxWorkers() > 2);
+  }
+
+  private static @Nullable Model fit(Deque<Sample> samples) {
+    int n = samples.size();
+    if (n < MIN_SAMPLES) {
+      return null;
+    }
+
+    double sx = 0;
+    double sy = 0;
+    double sxx = 0;
+    double sxy = 0;
+    double minX = Double.MAX_VALUE;
+    double maxX = 0;
+    double minY = Double.MAX_VALUE;
+    for (Sample s : samples) {
+      double x = s.numBytes;
+      double y = s.seconds;
+      sx += x;
+      sy += y;
+      sxx += x * x;
+      sxy += x * y;
+      minX = Math.min(minX, x);
+      maxX = Math.max(maxX, x);
+      minY = Math.min(minY, y);
+    }
+
+    double latencySeconds;
+    double bytesPerSecond;
+    double denominator = n * sxx - sx * sx;
+    double secondsPerByte = denominator > 0 ? (n * sxy - sx * sy) / denominator : 0;
+    // only trust the regression if the sizes vary enough for latency to be distinguishable from
+    // bandwidth, and it produced a physically meaningful result
+    if (maxX >= 4 * minX && secondsPerByte > 0) {
+      bytesPerSecond = 1 / secondsPerByte;
+      latencySeconds = Math.max(0, (sy - secondsPerByte * sx) / n);
+    } else {
+      bytesPerSecond = sx / sy;
+      latencySeconds = Math.min(minY, DEFAULT_LATENCY_SECONDS);
+    }
+
+    double target = bytesPerSecond * latencySeconds * LATENCY_AMORTIZATION;
+    long aligned = Math.round(target / SEGMENT_ALIGNMENT) * SEGMENT_ALIGNMENT;
+    long targetSegmentSize = Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE, aligned));
+    return new Model(latencySeconds, bytesPerSecond, targetSegmentSize);
+  }
+
+  /** The moving window of samples, and the model fit to them, for one direction of transfer. */
+  private static final class Estimator {
+    private final ReentrantLock lock;
+    private final Deque<Sample> samples;
+    private volatile @Nullable Model model;
+
+    private Estimator() {
+      this.lock = new ReentrantLock();
+      this.samples = new ArrayDeque<>();
+    }
+
+    private void record(Instant now, Duration window, long numBytes, Duration elapsed) {
+      if (numBytes <= 0 || elapsed.isNegative() || elapsed.isZero()) {
+        return;
+      }
+      lock.lock();
+      try {
+        samples.addLast(new Sample(now, numBytes, elapsed.toNanos() / NANOS_PER_SECOND));
+        Instant oldest = now.minus(window);
+        while (samples.size() > MAX_SAMPLES
+            || (!samples.isEmpty() && !samples.peekFirst().at.isAfter(oldest))) {
+          samples.removeFirst();
+        }
+        model = fit(samples);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @VisibleForTesting
+  static final class Model {
+    private final double latencySeconds;
+    private final double bytesPerSecond;
+    private final long targetSegmentSize;
+
+    private Model(double latencySeconds, double bytesPerSecond, long targetSegmentSize) {
+      this.latencySeconds = latencySeconds;
+      this.bytesPerSecond = bytesPerSecond;
+      this.targetSegmentSize = targetSegmentSize;
+    }
+
+    double getLatencySeconds() {
+      return latencySeconds;
+    }
+
+    double getBytesPerSecond() {
+      return bytesPerSecond;
+    }
+
+    long getTargetSegmentSize() {
+      return targetSegmentSize;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("latencySeconds", latencySeconds)
+          .add("bytesPerSecond", bytesPerSecond)
+          .add("targetSegmentSize", targetSegmentSize)
+          .toString();
+    }
+  }
+
+  private static final class Sample {
+    private final Instant at;
+    private final long numBytes;
+    private final double seconds;
+
+    private Sample(Instant at, long numBytes, double seconds) {
+      this.at = at;
+      this.numBytes = numBytes;
+      this.seconds = seconds;
+    }
+  }
+}
@@ -20,14 +20,17 @@ final class DefaultQos implements Qos {
 
   private final long divideAndConquerThreshold;
   private final long parallelCompositeUploadThreshold;
+  private final long segmentSize;
   private boolean threadThresholdMet;
 
   private DefaultQos(
       long divideAndConquerThreshold,
       long parallelCompositeUploadThreshold,
+      long segmentSize,
       boolean threadThresholdMet) {
     this.divideAndConquerThreshold = divideAndConquerThreshold;
     this.parallelCompositeUploadThreshold = parallelCompositeUploadThreshold;
+    this.segmentSize = segmentSize;
     this.threadThresholdMet = threadThresholdMet;
   }
 
@@ -41,8 +44,16 @@ final class DefaultQos implements Qos {
     return threadThresholdMet && objectSize > parallelCompositeUploadThreshold;
   }
 
+  @Override
+  public long divideAndConquerSegmentSize(long objectSize) {
+    return segmentSize;
+  }
+
   static DefaultQos of(TransferManagerConfig config) {
     return new DefaultQos(
-        128L * 1024 * 1024, 4L * config.getPerWorkerBufferSize(), config.getMaxWorkers() > 2);
+        128L * 1024 * 1024,
+        4L * config.getPerWorkerBufferSize(),
+        config.getPerWorkerBufferSize(),
+        config.getMaxWorkers() > 2);
   }
 }
@@ -16,9 +16,26 @@
 
 package com.google.cloud.storage.transfermanager;
 
+import java.time.Duration;
+
 interface Qos {
 
   boolean divideAndConquer(long objectSize);
 
   boolean parallelCompositeUpload(long objectSize);
+
+  /**
+   * The number of bytes each segment of a divide and conquer download of an object of {@code
+   * objectSize} should be.
+   */
+  long divideAndConquerSegmentSize(long objectSize);
+
+  /** Record the successful upload of {@code numBytes} which took {@code elapsed} end-to-end. */
+  default void recordUpload(long numBytes, Duration elapsed) {}
+
+  /**
+   * Record the successful download of {@code numBytes} which took {@code elapsed} end-to-end. The
+   * download may be a whole object or a single segment of an object.
+   */
+  default void recordDownload(long numBytes, Duration elapsed) {}
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.BlobReadSession;
+import com.google.cloud.storage.RangeSpec;
+import com.google.cloud.storage.ReadProjectionConfigs;
+import com.google.cloud.storage.StorageException;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Download a single segment of an object over a {@link BlobReadSession} which is shared by all
+ * segments of the object.
+ *
+ * <p>Unlike {@link ChunkedDownloadCallable}, which opens a new stream (and resolves the object
+ * metadata again) for every segment, each segment here is issued as a new range on the already open
+ * session. Each message of the range is written to its offset within {@code destPath} as it is
+ * received and then released, meaning neither the whole segment nor an intermediate copy buffer is
+ * held in memory.
+ */
+final class SessionChunkedDownloadCallable implements Callable<DownloadSegment> {
+
+  private final ApiFuture<BlobReadSession> session;
+  private final BlobInfo originalBlob;
+  private final Path destPath;
+  private final long startPosition;
+  private final long endPosition;
+
+  SessionChunkedDownloadCallable(
+      ApiFuture<BlobReadSession> session,
+      BlobInfo originalBlob,
+      Path destPath,
+      long startPosition,
+      long endPosition) {
+    this.session = session;
+    this.originalBlob = originalBlob;
+    this.destPath = destPath;
+    this.startPosition = startPosition;
+    this.endPosition = endPosition;
+  }
+
+  @Override
+  public DownloadSegment call() {
+    long bytesExpected = endPosition - startPosition;
+    long bytesCopied = -1L;
+    try {
+      BlobReadSession blobReadSession = session.get();
+      ApiFuture<Long> written =
+          blobReadSession.readAs(
+              ReadProjectionConfigs.asFile(destPath)
+                  .withPosition(startPosition)
+                  .withRangeSpec(RangeSpec.of(startPosition, bytesExpected)));
+      bytesCopied = written.get();
+      if (bytesCopied != bytesExpected) {
+        return DownloadSegment.newBuilder(originalBlob, TransferStatus.FAILED_TO_FINISH)
+            .setException(
+                new StorageException(
+                    0,
+                    "Unexpected end of stream, read "
+                        + bytesCopied
+                        + " expected "
+                        + bytesExpected
+                        + " from object "
+                        + originalBlob.getBlobId().toGsUtilUriWithGeneration()))
+            .build();
+      }
+    } catch (Exception t) {
+      Exception e = unwrap(t);
+      if (bytesCopied == -1) {
+        return DownloadSegment.newBuilder(originalBlob, TransferStatus.FAILED_TO_START)
+            .setException(e)
+            .build();
+      }
+      return DownloadSegment.newBuilder(originalBlob, TransferStatus.FAILED_TO_FINISH)
+          .setException(e)
+          .build();
+    }
+    return DownloadSegment.newBuilder(originalBlob, TransferStatus.SUCCESS)
+        .setOutputDestination(destPath)
+        .build();
+  }
+
+  private static Exception unwrap(Exception e) {
+    if (e instanceof ExecutionException && e.getCause() instanceof Exception) {
+      return (Exception) e.getCause();
+    }
+    return e;
+  }
+}
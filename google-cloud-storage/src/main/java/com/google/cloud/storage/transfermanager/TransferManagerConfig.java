@@ -18,6 +18,7 @@ package com.google.cloud.storage.transfermanager;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.api.core.BetaApi;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.PartNamingStrategy;
 import com.google.cloud.storage.StorageOptions;
 import com.google.common.base.MoreObjects;
@@ -33,6 +34,9 @@ public final class TransferManagerConfig {
   private final int perWorkerBufferSize;
   private final boolean allowDivideAndConquerDownload;
   private final boolean allowParallelCompositeUpload;
+  private final boolean adaptiveQos;
+  private final boolean allowMultiplexedChunkedDownload;
+  private final boolean allowParallelMultipartUpload;
 
   private final PartNamingStrategy partNamingStrategy;
 
@@ -43,12 +47,18 @@ public final class TransferManagerConfig {
       int perWorkerBufferSize,
       boolean allowDivideAndConquerDownload,
       boolean allowParallelCompositeUpload,
+      boolean adaptiveQos,
+      boolean allowMultiplexedChunkedDownload,
+      boolean allowParallelMultipartUpload,
       PartNamingStrategy partNamingStrategy,
       StorageOptions storageOptions) {
     this.maxWorkers = maxWorkers;
     this.perWorkerBufferSize = perWorkerBufferSize;
     this.allowDivideAndConquerDownload = allowDivideAndConquerDownload;
     this.allowParallelCompositeUpload = allowParallelCompositeUpload;
+    this.adaptiveQos = adaptiveQos;
+    this.allowMultiplexedChunkedDownload = allowMultiplexedChunkedDownload;
+    this.allowParallelMultipartUpload = allowParallelMultipartUpload;
     this.partNamingStrategy = partNamingStrategy;
     this.storageOptions = storageOptions;
   }
@@ -100,6 +110,41 @@ public final class TransferManagerConfig {
     return allowParallelCompositeUpload;
   }
 
+  /**
+   * Whether Transfer Manager should tune its decisions about when and how to chunk transfers based
+   * on the throughput it observes, rather than fixed thresholds
+   *
+   * @see Builder#setAdaptiveQos(boolean)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isAdaptiveQos() {
+    return adaptiveQos;
+  }
+
+  /**
+   * Whether to read all segments of a chunked download over a single {@link
+   * com.google.cloud.storage.BlobReadSession BlobReadSession} per object
+   *
+   * @see Builder#setAllowMultiplexedChunkedDownload(boolean)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isAllowMultiplexedChunkedDownload() {
+    return allowMultiplexedChunkedDownload;
+  }
+
+  /**
+   * Whether to allow Transfer Manager to upload large files using an XML API multipart upload
+   *
+   * @see Builder#setAllowParallelMultipartUpload(boolean)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isAllowParallelMultipartUpload() {
+    return allowParallelMultipartUpload;
+  }
+
   /**
    * Storage options that Transfer Manager will use to interact with Google Cloud Storage
    *
@@ -120,13 +165,17 @@ public final class TransferManagerConfig {
 
   /** The service object for {@link TransferManager} */
   public TransferManager getService() {
-    return new TransferManagerImpl(this, DefaultQos.of(this));
+    Qos qos = adaptiveQos ? AdaptiveQos.of(this) : DefaultQos.of(this);
+    return new TransferManagerImpl(this, qos);
   }
 
   public Builder toBuilder() {
     return new Builder()
         .setAllowDivideAndConquerDownload(allowDivideAndConquerDownload)
         .setAllowParallelCompositeUpload(allowParallelCompositeUpload)
+        .setAdaptiveQos(adaptiveQos)
+        .setAllowMultiplexedChunkedDownload(allowMultiplexedChunkedDownload)
+        .setAllowParallelMultipartUpload(allowParallelMultipartUpload)
         .setMaxWorkers(maxWorkers)
         .setPerWorkerBufferSize(perWorkerBufferSize)
         .setStorageOptions(storageOptions);
@@ -145,6 +194,9 @@ public final class TransferManagerConfig {
         && perWorkerBufferSize == that.perWorkerBufferSize
         && allowDivideAndConquerDownload == that.allowDivideAndConquerDownload
         && allowParallelCompositeUpload == that.allowParallelCompositeUpload
+        && adaptiveQos == that.adaptiveQos
+        && allowMultiplexedChunkedDownload == that.allowMultiplexedChunkedDownload
+        && allowParallelMultipartUpload == that.allowParallelMultipartUpload
         && Objects.equals(storageOptions, that.storageOptions);
   }
 
@@ -155,6 +207,9 @@ public final class TransferManagerConfig {
         perWorkerBufferSize,
         allowDivideAndConquerDownload,
         allowParallelCompositeUpload,
+        adaptiveQos,
+        allowMultiplexedChunkedDownload,
+        allowParallelMultipartUpload,
         storageOptions);
   }
 
@@ -165,6 +220,9 @@ public final class TransferManagerConfig {
         .add("perWorkerBufferSize", perWorkerBufferSize)
         .add("allowDivideAndConquerDownload", allowDivideAndConquerDownload)
         .add("allowParallelCompositeUpload", allowParallelCompositeUpload)
+        .add("adaptiveQos", adaptiveQos)
+        .add("allowMultiplexedChunkedDownload", allowMultiplexedChunkedDownload)
+        .add("allowParallelMultipartUpload", allowParallelMultipartUpload)
         .add("storageOptions", storageOptions)
         .toString();
   }
@@ -184,6 +242,9 @@ public final class TransferManagerConfig {
     private int perWorkerBufferSize;
     private boolean allowDivideAndConquerDownload;
     private boolean allowParallelCompositeUpload;
+    private boolean adaptiveQos;
+    private boolean allowMultiplexedChunkedDownload;
+    private boolean allowParallelMultipartUpload;
 
     private StorageOptions storageOptions;
     private PartNamingStrategy partNamingStrategy;
@@ -193,6 +254,9 @@ public final class TransferManagerConfig {
       this.maxWorkers = 2 * Runtime.getRuntime().availableProcessors();
       this.allowDivideAndConquerDownload = false;
       this.allowParallelCompositeUpload = false;
+      this.adaptiveQos = false;
+      this.allowMultiplexedChunkedDownload = false;
+      this.allowParallelMultipartUpload = false;
       this.storageOptions = StorageOptions.getDefaultInstance();
       this.partNamingStrategy = PartNamingStrategy.noPrefix();
     }
@@ -252,6 +316,74 @@ public final class TransferManagerConfig {
       return this;
     }
 
+    /**
+     * Whether Transfer Manager should tune its decisions about when and how to chunk transfers
+     * based on the throughput it observes, rather than fixed thresholds.
+     *
+     * <p>When enabled, the latency and per-stream bandwidth of recently completed transfers are
+     * used to decide whether an object should be downloaded in segments or uploaded using parallel
+     * composite upload, and how large each download segment should be. Until enough transfers have
+     * completed, the fixed thresholds are used.
+     *
+     * <p><i>Default Value:</i> false
+     *
+     * @return the instance of Builder with the value for adaptiveQos modified.
+     * @see TransferManagerConfig#isAdaptiveQos()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setAdaptiveQos(boolean adaptiveQos) {
+      this.adaptiveQos = adaptiveQos;
+      return this;
+    }
+
+    /**
+     * Whether to read all segments of a chunked download over a single {@link
+     * com.google.cloud.storage.BlobReadSession BlobReadSession} per object.
+     *
+     * <p>When enabled, and {@link #setStorageOptions(StorageOptions) storageOptions} are {@link
+     * com.google.cloud.storage.GrpcStorageOptions GrpcStorageOptions}, a divide and conquer
+     * download will open one session for the object and issue each segment as a range over that
+     * session's multiplexed stream, writing each range directly to its offset in the destination
+     * file. Otherwise, each segment opens its own stream. This setting has no effect unless {@link
+     * #setAllowDivideAndConquerDownload(boolean) divide and conquer download} is also enabled.
+     *
+     * <p><i>Default Value:</i> false
+     *
+     * @return the instance of Builder with the value for allowMultiplexedChunkedDownload modified.
+     * @see TransferManagerConfig#isAllowMultiplexedChunkedDownload()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setAllowMultiplexedChunkedDownload(boolean allowMultiplexedChunkedDownload) {
+      this.allowMultiplexedChunkedDownload = allowMultiplexedChunkedDownload;
+      return this;
+    }
+
+    /**
+     * Whether to allow Transfer Manager to upload large files using an <a
+     * href="https://cloud.google.com/storage/docs/multipart-uploads">XML API multipart upload</a>.
+     *
+     * <p>When enabled, and {@link #setStorageOptions(StorageOptions) storageOptions} are {@link
+     * com.google.cloud.storage.HttpStorageOptions HttpStorageOptions}, files which would otherwise
+     * be uploaded using a parallel composite upload are instead uploaded as parts of a multipart
+     * upload. Parts are uploaded in parallel, each up to {@link #setPerWorkerBufferSize(int)
+     * perWorkerBufferSize} bytes, and no temporary objects are created. This setting takes
+     * precedence over {@link #setAllowParallelCompositeUpload(boolean)}.
+     *
+     * <p><i>Default Value:</i> false
+     *
+     * @return the instance of Builder with the value for allowParallelMultipartUpload modified.
+     * @see TransferManagerConfig#isAllowParallelMultipartUpload()
+     * @see com.google.cloud.storage.BlobWriteSessionConfigs#multipartUpload()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setAllowParallelMultipartUpload(boolean allowParallelMultipartUpload) {
+      this.allowParallelMultipartUpload = allowParallelMultipartUpload;
+      return this;
+    }
+
     /**
      * Storage options that Transfer Manager will use to interact with Google Cloud Storage
      *
@@ -291,6 +423,9 @@ public final class TransferManagerConfig {
           perWorkerBufferSize,
           allowDivideAndConquerDownload,
           allowParallelCompositeUpload,
+          adaptiveQos,
+          allowMultiplexedChunkedDownload,
+          allowParallelMultipartUpload,
           partNamingStrategy,
           storageOptions);
     }
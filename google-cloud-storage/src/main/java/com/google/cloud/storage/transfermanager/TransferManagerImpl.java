@@ -23,7 +23,11 @@ import com.google.api.core.SettableApiFuture;
 import com.google.api.gax.rpc.FixedHeaderProvider;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.BlobReadSession;
 import com.google.cloud.storage.BlobWriteSessionConfigs;
+import com.google.cloud.storage.GrpcStorageOptions;
+import com.google.cloud.storage.HttpStorageOptions;
+import com.google.cloud.storage.MultipartUploadBlobWriteSessionConfig;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.BufferAllocationStrategy;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.ExecutorSupplier;
@@ -38,13 +42,17 @@ import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
+import java.util.function.ToLongFunction;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 final class TransferManagerImpl implements TransferManager {
@@ -54,6 +62,8 @@ final class TransferManagerImpl implements TransferManager {
   private final TransferManagerConfig transferManagerConfig;
   private final ListeningExecutorService executor;
   private final Qos qos;
+  private final boolean multiplexedChunkedDownload;
+  private final boolean parallelMultipartUpload;
   private final Storage storage;
 
   private final Deque<PendingPcuTask> pcuQueue;
@@ -67,6 +77,9 @@ final class TransferManagerImpl implements TransferManager {
         MoreExecutors.listeningDecorator(
             Executors.newFixedThreadPool(transferManagerConfig.getMaxWorkers()));
     this.qos = qos;
+    this.multiplexedChunkedDownload =
+        transferManagerConfig.isAllowMultiplexedChunkedDownload()
+            && transferManagerConfig.getStorageOptions() instanceof GrpcStorageOptions;
     StorageOptions storageOptions = transferManagerConfig.getStorageOptions();
     String userAgent = storageOptions.getUserAgent();
     if (userAgent == null || !userAgent.contains(USER_AGENT_ENTRY)) {
@@ -77,8 +90,21 @@ final class TransferManagerImpl implements TransferManager {
                       ImmutableMap.of("User-Agent", USER_AGENT_ENTRY + LIBRARY_VERSION)))
               .build();
     }
-    // Create the blobWriteSessionConfig for ParallelCompositeUpload
-    if (transferManagerConfig.isAllowParallelCompositeUpload()) {
+    this.parallelMultipartUpload =
+        transferManagerConfig.isAllowParallelMultipartUpload()
+            && storageOptions instanceof HttpStorageOptions;
+    if (parallelMultipartUpload) {
+      // multipart uploads don't create any temporary objects, prefer them when available
+      MultipartUploadBlobWriteSessionConfig mpuConfig =
+          BlobWriteSessionConfigs.multipartUpload()
+              .withExecutorSupplier(ExecutorSupplier.useExecutor(executor))
+              .withBufferAllocationStrategy(
+                  BufferAllocationStrategy.fixedPool(
+                      transferManagerConfig.getMaxWorkers(),
+                      transferManagerConfig.getPerWorkerBufferSize()));
+      storageOptions = storageOptions.toBuilder().setBlobWriteSessionConfig(mpuConfig).build();
+    } else if (transferManagerConfig.isAllowParallelCompositeUpload()) {
+      // Create the blobWriteSessionConfig for ParallelCompositeUpload
       ParallelCompositeUploadBlobWriteSessionConfig pcuConfig =
           BlobWriteSessionConfigs.parallelCompositeUpload()
               .withExecutorSupplier(ExecutorSupplier.useExecutor(executor))
@@ -120,8 +146,10 @@ final class TransferManagerImpl implements TransferManager {
                     .build()));
         continue;
       }
-      if (transferManagerConfig.isAllowParallelCompositeUpload()
+      if ((parallelMultipartUpload || transferManagerConfig.isAllowParallelCompositeUpload())
           && qos.parallelCompositeUpload(Files.size(file))) {
+        // the storage instance is configured to perform either a multipart upload or a parallel
+        // composite upload, both of which are driven by writing to a BlobWriteSession
         ParallelCompositeUploadCallable callable =
             new ParallelCompositeUploadCallable(storage, blobInfo, file, config, opts);
         SettableApiFuture<UploadResult> resultFuture = SettableApiFuture.create();
@@ -131,7 +159,15 @@ final class TransferManagerImpl implements TransferManager {
       } else {
         UploadCallable callable =
             new UploadCallable(transferManagerConfig, storage, blobInfo, file, config, opts);
-        uploadTasks.add(convert(executor.submit(callable)));
+        uploadTasks.add(
+            convert(
+                executor.submit(
+                    observed(
+                        callable,
+                        qos::recordUpload,
+                        // resolve the size as part of the task, a file which can not be read is
+                        // reported by the UploadCallable as a failed result
+                        r -> r.getStatus() == TransferStatus.SUCCESS ? sizeOf(file) : -1))));
       }
     }
     return UploadJob.newBuilder()
@@ -165,16 +201,38 @@ final class TransferManagerImpl implements TransferManager {
                   .setOutputDestination(destPath)
                   .build();
 
+          long segmentSize = qos.divideAndConquerSegmentSize(validatedBlob.getSize());
+          // when possible, open a single session for the object and read all segments over it
+          // rather than opening a new stream per segment
+          ApiFuture<BlobReadSession> session =
+              multiplexedChunkedDownload
+                  ? storage.blobReadSession(validatedBlob.getBlobId(), opts)
+                  : null;
           List<ApiFuture<DownloadSegment>> downloadSegmentTasks =
-              computeRanges(validatedBlob.getSize(), transferManagerConfig.getPerWorkerBufferSize())
-                  .stream()
+              computeRanges(validatedBlob.getSize(), segmentSize).stream()
                   .map(
-                      r ->
-                          new ChunkedDownloadCallable(
-                              storage, validatedBlob, opts, destPath, r.begin, r.end))
+                      r -> {
+                        Callable<DownloadSegment> c;
+                        if (session != null) {
+                          c =
+                              new SessionChunkedDownloadCallable(
+                                  session, validatedBlob, destPath, r.begin, r.end);
+                        } else {
+                          c =
+                              new ChunkedDownloadCallable(
+                                  storage, validatedBlob, opts, destPath, r.begin, r.end);
+                        }
+                        return observed(
+                            c,
+                            qos::recordDownload,
+                            s -> s.getStatus() == TransferStatus.SUCCESS ? r.end - r.begin : -1);
+                      })
                   .map(executor::submit)
                   .map(TransferManagerImpl::convert)
                   .collect(ImmutableList.toImmutableList());
+          if (session != null) {
+            closeWhenDone(session, downloadSegmentTasks);
+          }
 
           downloadTasks.add(
               ApiFutures.transform(
@@ -191,7 +249,18 @@ final class TransferManagerImpl implements TransferManager {
       }
       DirectDownloadCallable callable =
           new DirectDownloadCallable(storage, blob, config, opts, destPath);
-      downloadTasks.add(convert(executor.submit(callable)));
+      downloadTasks.add(
+          convert(
+              executor.submit(
+                  observed(
+                      callable,
+                      qos::recordDownload,
+                      // the size of the object is not always known up front, instead use the
+                      // number of bytes which were written to the destination
+                      r ->
+                          r.getStatus() == TransferStatus.SUCCESS
+                              ? sizeOf(r.getOutputDestination())
+                              : -1))));
     }
 
     return DownloadJob.newBuilder()
@@ -220,6 +289,49 @@ final class TransferManagerImpl implements TransferManager {
     }
   }
 
+  /**
+   * Decorate {@code c} such that the time it takes to complete is reported to {@code recorder},
+   * along with the number of bytes {@code transferredBytes} determines were transferred. A result
+   * for which {@code transferredBytes} is not positive is not reported.
+   */
+  private static <T> Callable<T> observed(
+      Callable<T> c, BiConsumer<Long, Duration> recorder, ToLongFunction<T> transferredBytes) {
+    return () -> {
+      long begin = System.nanoTime();
+      T t = c.call();
+      long end = System.nanoTime();
+      long numBytes = transferredBytes.applyAsLong(t);
+      if (numBytes > 0) {
+        recorder.accept(numBytes, Duration.ofNanos(end - begin));
+      }
+      return t;
+    };
+  }
+
+  private static void closeWhenDone(
+      ApiFuture<BlobReadSession> session, List<? extends ApiFuture<?>> futures) {
+    ApiFutures.successfulAsList(futures)
+        .addListener(
+            () -> {
+              try {
+                session.get().close();
+              } catch (Exception ignore) {
+                // if the session failed to open there is nothing to close, and if closing failed
+                // there is nothing further we can do. Either way, the failure has already been
+                // reported by each segment.
+              }
+            },
+            MoreExecutors.directExecutor());
+  }
+
+  private static long sizeOf(Path path) {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+
   private static <T> ApiFuture<T> convert(ListenableFuture<T> lf) {
     return new ListenableFutureToApiFuture<>(lf);
   }
@@ -28,6 +28,9 @@ import com.google.cloud.storage.AsyncAppendingQueue.ShortCircuitException;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -157,6 +160,30 @@ public final class AsyncAppendingQueueTest {
     assertThat(s).isEqualTo("abcdefg");
   }
 
+  @Test
+  public void compactionsFormABalancedTree() throws Exception {
+    List<String> compactions = Collections.synchronizedList(new ArrayList<>());
+    ApiFuture<String> result;
+    try (AsyncAppendingQueue<String> q =
+        AsyncAppendingQueue.create(
+            exec,
+            3,
+            (ss, isFinal) -> {
+              compactions.add(ss + (isFinal ? " final" : ""));
+              return agg(ss);
+            })) {
+      for (String s : ImmutableList.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k")) {
+        q.append(immediate(s));
+      }
+      result = q.getResult();
+    }
+
+    assertThat(result.get()).isEqualTo("abcdefghijk");
+    assertThat(compactions)
+        .containsExactly(
+            "[a, b, c]", "[d, e, f]", "[g, h, i]", "[abc, def, ghi]", "[abcdefghi, j, k] final");
+  }
+
   @Test
   public void appendShouldShortCircuit() {
     Executor exec = MoreExecutors.newDirectExecutorService();
@@ -201,7 +228,7 @@ public final class AsyncAppendingQueueTest {
   public void resultFailureIfFinalCompactFails() {
     ApiFunction<ImmutableList<String>, String> agg =
         ss -> {
-          if (ss.equals(ImmutableList.of("abc", "d"))) {
+          if (ss.equals(ImmutableList.of("abcd", "e"))) {
             throw new Kaboom();
           } else {
             return agg(ss);
@@ -209,7 +236,11 @@ public final class AsyncAppendingQueueTest {
         };
 
     AsyncAppendingQueue<String> q = AsyncAppendingQueue.of(exec, 2, agg);
-    q.append(immediate("a")).append(immediate("b")).append(immediate("c")).append(immediate("d"));
+    q.append(immediate("a"))
+        .append(immediate("b"))
+        .append(immediate("c"))
+        .append(immediate("d"))
+        .append(immediate("e"));
 
     q.close();
     assertThrows(Kaboom.class, q::await);
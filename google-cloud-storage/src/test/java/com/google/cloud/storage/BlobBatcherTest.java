@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.gax.retrying.RetrySettings;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.NoCredentials;
+import com.google.cloud.storage.spi.StorageRpcFactory;
+import com.google.cloud.storage.spi.v1.RpcBatch;
+import com.google.cloud.storage.spi.v1.StorageRpc;
+import com.google.common.collect.ImmutableList;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class BlobBatcherTest {
+
+  private static final RetrySettings RETRY_SETTINGS =
+      RetrySettings.newBuilder()
+          .setMaxAttempts(3)
+          .setInitialRetryDelayDuration(Duration.ofMillis(1))
+          .setMaxRetryDelayDuration(Duration.ofMillis(5))
+          .setRetryDelayMultiplier(1.0)
+          .setTotalTimeoutDuration(Duration.ofSeconds(30))
+          .build();
+
+  private List<List<String>> submittedBatches;
+  private Map<String, AtomicInteger> failuresRemaining;
+  private Storage storage;
+
+  @Before
+  public void setUp() {
+    submittedBatches = Collections.synchronizedList(new ArrayList<>());
+    failuresRemaining = new ConcurrentHashMap<>();
+    StorageRpc rpc = mock(StorageRpc.class);
+    doAnswer(invocation -> new FakeRpcBatch()).when(rpc).createBatch();
+    StorageRpcFactory factory = mock(StorageRpcFactory.class);
+    doReturn(rpc).when(factory).create(any(StorageOptions.class));
+    storage =
+        StorageOptions.http()
+            .setProjectId("proj")
+            .setCredentials(NoCredentials.getInstance())
+            .setServiceRpcFactory(factory)
+            .setRetrySettings(RETRY_SETTINGS)
+            .build()
+            .getService();
+  }
+
+  @Test
+  public void http_operationsAreChunkedIntoBatches() throws Exception {
+    List<ApiFuture<Boolean>> futures;
+    try (BlobBatcher batcher =
+        BlobBatcher.newBuilder(storage).setMaxBatchSize(10).setMaxConcurrency(2).build()) {
+      futures =
+          IntStream.range(0, 25)
+              .mapToObj(i -> batcher.delete(BlobId.of("b", "o" + i)))
+              .collect(Collectors.toList());
+    }
+
+    assertThat(ApiFutures.allAsList(futures).get(5, TimeUnit.SECONDS)).doesNotContain(false);
+    List<Integer> sizes =
+        submittedBatches.stream().map(List::size).sorted().collect(Collectors.toList());
+    assertThat(sizes).containsExactly(5, 10, 10);
+  }
+
+  @Test
+  public void http_onlyFailedOperationsAreRetried() throws Exception {
+    failuresRemaining.put("o3", new AtomicInteger(2));
+    List<ApiFuture<Blob>> futures;
+    try (BlobBatcher batcher = BlobBatcher.newBuilder(storage).setMaxBatchSize(5).build()) {
+      futures =
+          IntStream.range(0, 5)
+              .mapToObj(i -> batcher.get(BlobId.of("b", "o" + i)))
+              .collect(Collectors.toList());
+    }
+
+    List<Blob> blobs = ApiFutures.allAsList(futures).get(5, TimeUnit.SECONDS);
+    assertThat(blobs.stream().map(Blob::getName).collect(Collectors.toList()))
+        .containsExactly("o0", "o1", "o2", "o3", "o4")
+        .inOrder();
+    assertThat(submittedBatches)
+        .containsExactly(
+            ImmutableList.of("o0", "o1", "o2", "o3", "o4"),
+            ImmutableList.of("o3"),
+            ImmutableList.of("o3"))
+        .inOrder();
+  }
+
+  @Test
+  public void http_retryBudgetExhausted() throws Exception {
+    failuresRemaining.put("o1", new AtomicInteger(Integer.MAX_VALUE));
+    ApiFuture<Blob> ok;
+    ApiFuture<Blob> failed;
+    try (BlobBatcher batcher = BlobBatcher.newBuilder(storage).build()) {
+      ok = batcher.get(BlobId.of("b", "o0"));
+      failed = batcher.get(BlobId.of("b", "o1"));
+    }
+
+    assertThat(ok.get(5, TimeUnit.SECONDS).getName()).isEqualTo("o0");
+    ExecutionException ee =
+        assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+    assertThat(ee).hasCauseThat().isInstanceOf(StorageException.class);
+    assertThat(((StorageException) ee.getCause()).getCode()).isEqualTo(503);
+    // one initial attempt, plus two retries
+    assertThat(submittedBatches).hasSize(3);
+  }
+
+  @Test
+  public void unary_operationsAreExecutedIndividually() throws Exception {
+    Storage grpc = mock(Storage.class);
+    doReturn(
+            StorageOptions.grpc()
+                .setProjectId("proj")
+                .setCredentials(NoCredentials.getInstance())
+                .build())
+        .when(grpc)
+        .getOptions();
+    doAnswer(invocation -> ((BlobId) invocation.getArgument(0)).getName().equals("o1"))
+        .when(grpc)
+        .delete(any(BlobId.class), any());
+
+    ApiFuture<Boolean> f0;
+    ApiFuture<Boolean> f1;
+    try (BlobBatcher batcher = BlobBatcher.newBuilder(grpc).setMaxConcurrency(2).build()) {
+      f0 = batcher.delete(BlobId.of("b", "o0"));
+      f1 = batcher.delete(BlobId.of("b", "o1"));
+    }
+    assertThat(f0.get(5, TimeUnit.SECONDS)).isFalse();
+    assertThat(f1.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void closedBatcherRejectsOperations() throws Exception {
+    BlobBatcher batcher = BlobBatcher.newBuilder(storage).build();
+    batcher.close();
+    assertThrows(IllegalStateException.class, () -> batcher.delete(BlobId.of("b", "o")));
+  }
+
+  @Test
+  public void operationWaitingForAPermitWhenClosedIsFailed() throws Exception {
+    Storage grpc = mock(Storage.class);
+    doReturn(
+            StorageOptions.grpc()
+                .setProjectId("proj")
+                .setCredentials(NoCredentials.getInstance())
+                .build())
+        .when(grpc)
+        .getOptions();
+    CountDownLatch firstStarted = new CountDownLatch(1);
+    CountDownLatch releaseFirst = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              firstStarted.countDown();
+              releaseFirst.await();
+              return true;
+            })
+        .when(grpc)
+        .delete(any(BlobId.class), any());
+
+    BlobBatcher batcher = BlobBatcher.newBuilder(grpc).setMaxOutstandingOperations(1).build();
+    ApiFuture<Boolean> first = batcher.delete(BlobId.of("b", "o0"));
+    assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    ExecutorService exec = Executors.newFixedThreadPool(2);
+    try {
+      // blocks waiting for the only permit, held by the first operation
+      Future<ApiFuture<Boolean>> second = exec.submit(() -> batcher.delete(BlobId.of("b", "o1")));
+      while (!batcher.hasQueuedAdds()) {
+        Thread.sleep(1);
+      }
+      Future<?> close =
+          exec.submit(
+              () -> {
+                batcher.close();
+                return null;
+              });
+      while (!batcher.isClosed()) {
+        Thread.sleep(1);
+      }
+      releaseFirst.countDown();
+
+      assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+      close.get(5, TimeUnit.SECONDS);
+      ExecutionException e =
+          assertThrows(
+              ExecutionException.class,
+              () -> second.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS));
+      assertThat(e).hasCauseThat().isInstanceOf(IllegalStateException.class);
+    } finally {
+      releaseFirst.countDown();
+      exec.shutdownNow();
+    }
+  }
+
+  /**
+   * Records each submitted batch and responds to every operation, failing those named in {@link
+   * #failuresRemaining} with a 503 until their count is exhausted.
+   */
+  private final class FakeRpcBatch implements RpcBatch {
+    private final List<String> names = new ArrayList<>();
+    private final List<Runnable> responses = new ArrayList<>();
+
+    @Override
+    public void addDelete(
+        StorageObject storageObject, Callback<Void> callback, Map<StorageRpc.Option, ?> options) {
+      add(storageObject, callback, null);
+    }
+
+    @Override
+    public void addPatch(
+        StorageObject storageObject,
+        Callback<StorageObject> callback,
+        Map<StorageRpc.Option, ?> options) {
+      add(storageObject, callback, storageObject);
+    }
+
+    @Override
+    public void addGet(
+        StorageObject storageObject,
+        Callback<StorageObject> callback,
+        Map<StorageRpc.Option, ?> options) {
+      add(storageObject, callback, storageObject);
+    }
+
+    private <T> void add(StorageObject o, Callback<T> callback, T response) {
+      String name = o.getName();
+      names.add(name);
+      responses.add(
+          () -> {
+            AtomicInteger remaining = failuresRemaining.get(name);
+            if (remaining != null && remaining.getAndDecrement() > 0) {
+              GoogleJsonError error = new GoogleJsonError();
+              error.setCode(503);
+              error.setMessage("Service Unavailable");
+              callback.onFailure(error);
+            } else {
+              callback.onSuccess(response);
+            }
+          });
+    }
+
+    @Override
+    public void submit() {
+      submittedBatches.add(ImmutableList.copyOf(names));
+      responses.forEach(Runnable::run);
+    }
+  }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class BlobReadSessionPoolTest {
+
+  private static final BlobId ID = BlobId.of("b", "o");
+
+  private List<BlobId> opened;
+  private List<FakeSession> sessions;
+  private long objectSize;
+  private long generation;
+  private Storage storage;
+
+  @Before
+  public void setUp() {
+    opened = Collections.synchronizedList(new ArrayList<>());
+    sessions = Collections.synchronizedList(new ArrayList<>());
+    objectSize = 1024;
+    generation = 7;
+    storage = mock(Storage.class);
+    doAnswer(
+            invocation -> {
+              BlobId id = invocation.getArgument(0);
+              opened.add(id);
+              FakeSession session =
+                  new FakeSession(
+                      BlobInfo.newBuilder(
+                              BlobId.of(
+                                  id.getBucket(),
+                                  id.getName(),
+                                  id.getGeneration() != null ? id.getGeneration() : generation))
+                          .setSize(objectSize)
+                          .build());
+              sessions.add(session);
+              return ApiFutures.immediateFuture(session);
+            })
+        .when(storage)
+        .blobReadSession(any(BlobId.class), any(BlobSourceOption[].class));
+  }
+
+  @Test
+  public void leasesOfTheSameObjectShareASession() throws Exception {
+    try (BlobReadSessionPool pool = BlobReadSessionPool.newBuilder(storage).build()) {
+      BlobReadSession lease1 = pool.acquire(ID).get(5, TimeUnit.SECONDS);
+      BlobReadSession lease2 = pool.acquire(ID).get(5, TimeUnit.SECONDS);
+      lease1.readAs(ReadProjectionConfigs.asFutureBytes());
+      lease2.readAs(ReadProjectionConfigs.asFutureBytes());
+      lease1.close();
+      lease2.close();
+
+      assertThat(opened).containsExactly(ID);
+      assertThat(sessions.get(0).reads).isEqualTo(2);
+      assertThat(sessions.get(0).closed).isFalse();
+      assertThrows(
+          IllegalStateException.class, () -> lease1.readAs(ReadProjectionConfigs.asFutureBytes()));
+    }
+    assertThat(sessions.get(0).closed).isTrue();
+  }
+
+  @Test
+  public void largeObjectsOpenAllSessionsPinnedToGeneration() throws Exception {
+    objectSize = 10;
+    try (BlobReadSessionPool pool =
+        BlobReadSessionPool.newBuilder(storage)
+            .setLargeObjectSize(10)
+            .setMaxSessionsPerObject(3)
+            .build()) {
+      try (BlobReadSession ignore = pool.acquire(ID).get(5, TimeUnit.SECONDS)) {
+        assertThat(pool.sessionCount(ID)).isEqualTo(3);
+      }
+    }
+    BlobId pinned = BlobId.of("b", "o", 7L);
+    assertThat(opened).containsExactly(ID, pinned, pinned).inOrder();
+  }
+
+  @Test
+  public void readsAreSpreadByLoad() throws Exception {
+    try (BlobReadSessionPool pool =
+        BlobReadSessionPool.newBuilder(storage)
+            .setTargetReadsPerSession(1)
+            .setMaxSessionsPerObject(2)
+            .build()) {
+      try (BlobReadSession lease = pool.acquire(ID).get(5, TimeUnit.SECONDS)) {
+        ApiFuture<byte[]> r1 = lease.readAs(ReadProjectionConfigs.asFutureBytes());
+        // the only session now has one read in flight, this read goes to it but opens another
+        lease.readAs(ReadProjectionConfigs.asFutureBytes());
+        assertThat(pool.sessionCount(ID)).isEqualTo(2);
+        // the new session has no reads in flight
+        lease.readAs(ReadProjectionConfigs.asFutureBytes());
+        ((SettableApiFuture<byte[]>) r1).set(new byte[0]);
+        // both sessions now have one read in flight, the next two reads go one to each
+        lease.readAs(ReadProjectionConfigs.asFutureBytes());
+        lease.readAs(ReadProjectionConfigs.asFutureBytes());
+
+        assertThat(sessions.get(0).reads).isEqualTo(3);
+        assertThat(sessions.get(1).reads).isEqualTo(2);
+      }
+    }
+  }
+
+  @Test
+  public void idleSessionsAreClosed() throws Exception {
+    Duration idleTimeout = Duration.ofHours(1);
+    try (BlobReadSessionPool pool =
+        BlobReadSessionPool.newBuilder(storage).setIdleTimeout(idleTimeout).build()) {
+      BlobReadSession lease = pool.acquire(ID).get(5, TimeUnit.SECONDS);
+      long later = System.nanoTime() + idleTimeout.toNanos() + 1;
+
+      pool.closeIdle(later);
+      assertThat(pool.sessionCount(ID)).isEqualTo(1);
+
+      lease.close();
+      pool.closeIdle(System.nanoTime());
+      assertThat(pool.sessionCount(ID)).isEqualTo(1);
+
+      pool.closeIdle(System.nanoTime() + idleTimeout.toNanos() + 1);
+      assertThat(pool.sessionCount(ID)).isEqualTo(0);
+      assertThat(sessions.get(0).closed).isTrue();
+
+      pool.acquire(ID).get(5, TimeUnit.SECONDS).close();
+      assertThat(opened).containsExactly(ID, ID);
+    }
+  }
+
+  @Test
+  public void openChannelsKeepTheirSessionFromBeingClosedAsIdle() throws Exception {
+    Duration idleTimeout = Duration.ofHours(1);
+    try (BlobReadSessionPool pool =
+        BlobReadSessionPool.newBuilder(storage).setIdleTimeout(idleTimeout).build()) {
+      ScatteringByteChannel channel;
+      SeekableByteChannel seekable;
+      try (BlobReadSession lease = pool.acquire(ID).get(5, TimeUnit.SECONDS)) {
+        channel = lease.readAs(ReadProjectionConfigs.asChannel());
+        seekable = lease.readAs(ReadProjectionConfigs.asSeekableChannel());
+      }
+      long later = System.nanoTime() + idleTimeout.toNanos() + 1;
+
+      pool.closeIdle(later);
+      assertThat(pool.sessionCount(ID)).isEqualTo(1);
+
+      channel.close();
+      pool.closeIdle(System.nanoTime() + idleTimeout.toNanos() + 1);
+      assertThat(pool.sessionCount(ID)).isEqualTo(1);
+
+      seekable.close();
+      // closing twice must not release the session twice
+      seekable.close();
+      pool.closeIdle(System.nanoTime() + idleTimeout.toNanos() + 1);
+      assertThat(pool.sessionCount(ID)).isEqualTo(0);
+      assertThat(sessions.get(0).closed).isTrue();
+    }
+  }
+
+  @Test
+  public void openChannelsCountTowardSessionLoad() throws Exception {
+    try (BlobReadSessionPool pool =
+        BlobReadSessionPool.newBuilder(storage)
+            .setTargetReadsPerSession(1)
+            .setMaxSessionsPerObject(2)
+            .build()) {
+      try (BlobReadSession lease = pool.acquire(ID).get(5, TimeUnit.SECONDS)) {
+        lease.readAs(ReadProjectionConfigs.asChannel());
+        // the only session has an open channel, another session is opened
+        lease.readAs(ReadProjectionConfigs.asFutureBytes());
+        assertThat(pool.sessionCount(ID)).isEqualTo(2);
+      }
+    }
+  }
+
+  @Test
+  public void idWithoutGenerationIsResolvedAgainAfterLatestGenerationTtl() throws Exception {
+    Duration ttl = Duration.ofMinutes(1);
+    try (BlobReadSessionPool pool =
+        BlobReadSessionPool.newBuilder(storage).setLatestGenerationTtl(ttl).build()) {
+      long now = System.nanoTime();
+      BlobReadSession lease1 = pool.acquire(ID, now).get(5, TimeUnit.SECONDS);
+      pool.acquire(ID, now + ttl.toNanos() - 1).get(5, TimeUnit.SECONDS).close();
+      assertThat(opened).containsExactly(ID);
+
+      generation = 8;
+      try (BlobReadSession lease2 =
+          pool.acquire(ID, now + ttl.toNanos()).get(5, TimeUnit.SECONDS)) {
+        assertThat(opened).containsExactly(ID, ID);
+        assertThat(lease2.getBlobInfo().getGeneration()).isEqualTo(8L);
+        // the lease of the previous resolution keeps reading the generation it started with
+        assertThat(lease1.getBlobInfo().getGeneration()).isEqualTo(7L);
+        ApiFuture<byte[]> read = lease1.readAs(ReadProjectionConfigs.asFutureBytes());
+        assertThat(sessions.get(0).reads).isEqualTo(1);
+
+        pool.closeIdle(System.nanoTime());
+        assertThat(sessions.get(0).closed).isFalse();
+        lease1.close();
+        ((SettableApiFuture<byte[]>) read).set(new byte[0]);
+        pool.closeIdle(System.nanoTime());
+        assertThat(sessions.get(0).closed).isTrue();
+        assertThat(sessions.get(1).closed).isFalse();
+      }
+    }
+  }
+
+  @Test
+  public void idWithGenerationIsNotResolvedAgain() throws Exception {
+    Duration ttl = Duration.ofMinutes(1);
+    BlobId id = BlobId.of("b", "o", 7L);
+    try (BlobReadSessionPool pool =
+        BlobReadSessionPool.newBuilder(storage).setLatestGenerationTtl(ttl).build()) {
+      long now = System.nanoTime();
+      pool.acquire(id, now).get(5, TimeUnit.SECONDS).close();
+      pool.acquire(id, now + 2 * ttl.toNanos()).get(5, TimeUnit.SECONDS).close();
+      assertThat(opened).containsExactly(id);
+    }
+  }
+
+  private static final class FakeSession implements BlobReadSession {
+    private final BlobInfo info;
+    private int reads;
+    private boolean closed;
+
+    private FakeSession(BlobInfo info) {
+      this.info = info;
+    }
+
+    @Override
+    public BlobInfo getBlobInfo() {
+      return info;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <Projection> Projection readAs(ReadProjectionConfig<Projection> config) {
+      reads++;
+      if (config instanceof ReadAsChannel) {
+        return (Projection) mock(ScatteringByteChannel.class);
+      } else if (config instanceof ReadAsSeekableChannel) {
+        return (Projection) mock(SeekableByteChannel.class);
+      }
+      return (Projection) SettableApiFuture.<byte[]>create();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
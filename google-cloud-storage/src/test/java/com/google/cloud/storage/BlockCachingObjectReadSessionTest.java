@@ -0,0 +1,284 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.storage.BlobReadSessionBlockCache.Stats;
+import com.google.cloud.storage.ZeroCopySupport.DisposableByteString;
+import com.google.storage.v2.Object;
+import java.nio.ByteBuffer;
+import java.nio.channels.ScatteringByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public final class BlockCachingObjectReadSessionTest {
+
+  private static final byte[] CONTENT = DataGenerator.base64Characters().genBytes(10_000);
+
+  @Test
+  public void repeatedRead_servedFromCache() throws Exception {
+    FakeSession fake = new FakeSession(1);
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder().setBlockSize(1024).build();
+    BlockCachingObjectReadSession session = new BlockCachingObjectReadSession(fake, cache);
+
+    byte[] first = readBytes(session, RangeSpec.of(9_000, 1_000));
+    byte[] second = readBytes(session, RangeSpec.of(9_500, 500));
+
+    assertThat(first).isEqualTo(Arrays.copyOfRange(CONTENT, 9_000, 10_000));
+    assertThat(second).isEqualTo(Arrays.copyOfRange(CONTENT, 9_500, 10_000));
+    // widened to whole blocks, clipped to the object size
+    assertThat(fake.reads).containsExactly(RangeSpec.of(8 * 1024, 10_000 - 8 * 1024));
+    Stats stats = cache.getStats();
+    assertThat(stats.getMisses()).isEqualTo(2);
+    assertThat(stats.getHits()).isEqualTo(1);
+    assertThat(stats.getCachedBlocks()).isEqualTo(2);
+  }
+
+  @Test
+  public void onlyMissingBlocksAreFetched() throws Exception {
+    FakeSession fake = new FakeSession(1);
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder().setBlockSize(1024).build();
+    BlockCachingObjectReadSession session = new BlockCachingObjectReadSession(fake, cache);
+
+    readBytes(session, RangeSpec.of(0, 1024));
+    byte[] bytes = readBytes(session, RangeSpec.of(100, 3_000));
+
+    assertThat(bytes).isEqualTo(Arrays.copyOfRange(CONTENT, 100, 3_100));
+    assertThat(fake.reads)
+        .containsExactly(RangeSpec.of(0, 1024), RangeSpec.of(1024, 3 * 1024))
+        .inOrder();
+  }
+
+  @Test
+  public void cacheIsKeyedByGeneration() throws Exception {
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder().setBlockSize(1024).build();
+    FakeSession gen1 = new FakeSession(1);
+    FakeSession gen2 = new FakeSession(2);
+
+    readBytes(new BlockCachingObjectReadSession(gen1, cache), RangeSpec.of(0, 10));
+    readBytes(new BlockCachingObjectReadSession(gen2, cache), RangeSpec.of(0, 10));
+    readBytes(new BlockCachingObjectReadSession(gen1, cache), RangeSpec.of(0, 10));
+
+    assertThat(gen1.reads).hasSize(1);
+    assertThat(gen2.reads).hasSize(1);
+  }
+
+  @Test
+  public void leastRecentlyUsedBlockIsEvicted() throws Exception {
+    FakeSession fake = new FakeSession(1);
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder()
+            .setBlockSize(1024)
+            .setMaxBytes(2 * 1024)
+            .setDirect(true)
+            .build();
+    BlockCachingObjectReadSession session = new BlockCachingObjectReadSession(fake, cache);
+
+    readBytes(session, RangeSpec.of(0, 10));
+    readBytes(session, RangeSpec.of(1024, 10));
+    readBytes(session, RangeSpec.of(0, 10));
+    // evicts block 1, block 0 was used more recently
+    readBytes(session, RangeSpec.of(2048, 10));
+    readBytes(session, RangeSpec.of(0, 10));
+
+    assertThat(fake.reads).hasSize(3);
+    Stats stats = cache.getStats();
+    assertThat(stats.getEvictions()).isEqualTo(1);
+    assertThat(stats.getCachedBytes()).isEqualTo(2 * 1024);
+  }
+
+  @Test
+  public void objectEndingBeforeItsReportedSize_shortBlocksAreNotCached() throws Exception {
+    // the object metadata claims more bytes than the read returns
+    FakeSession fake = new FakeSession(1, 12_000);
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder().setBlockSize(1024).build();
+    BlockCachingObjectReadSession session = new BlockCachingObjectReadSession(fake, cache);
+
+    byte[] bytes = readBytes(session, RangeSpec.of(8_500, 3_000));
+
+    assertThat(bytes).isEqualTo(Arrays.copyOfRange(CONTENT, 8_500, 10_000));
+    assertThat(fake.reads).containsExactly(RangeSpec.of(8 * 1024, 12_000 - 8 * 1024));
+    // only the first block was complete
+    assertThat(cache.getStats().getCachedBlocks()).isEqualTo(1);
+  }
+
+  @Test
+  public void uncacheableReadsAreDelegated() throws Exception {
+    FakeSession fake = new FakeSession(1);
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder()
+            .setBlockSize(1024)
+            .setMaxCacheableRangeLength(4096)
+            .build();
+    BlockCachingObjectReadSession session = new BlockCachingObjectReadSession(fake, cache);
+
+    ReadAsChannel all = ReadProjectionConfigs.asChannel();
+    ReadAsFutureBytes large =
+        ReadProjectionConfigs.asFutureBytes().withRangeSpec(RangeSpec.of(0, 5000));
+    session.readAs(all);
+    session.readAs(large);
+
+    assertThat(fake.delegated).containsExactly(all, large).inOrder();
+    assertThat(cache.getStats().getMisses()).isEqualTo(0);
+  }
+
+  @Test
+  public void channelAndByteStringProjections() throws Exception {
+    FakeSession fake = new FakeSession(1);
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder().setBlockSize(1024).build();
+    BlockCachingObjectReadSession session = new BlockCachingObjectReadSession(fake, cache);
+
+    ByteBuffer buf = ByteBuffer.allocate(2_000);
+    try (ScatteringByteChannel c =
+        session.readAs(ReadProjectionConfigs.asChannel().withRangeSpec(RangeSpec.of(500, 1_500)))) {
+      while (c.read(buf) != -1) {}
+    }
+    Buffers.flip(buf);
+    byte[] actual = new byte[buf.remaining()];
+    buf.get(actual);
+    assertThat(actual).isEqualTo(Arrays.copyOfRange(CONTENT, 500, 2_000));
+
+    ApiFuture<DisposableByteString> f =
+        session.readAs(
+            ReadProjectionConfigs.asFutureByteString().withRangeSpec(RangeSpec.of(1_000, 24)));
+    try (DisposableByteString dbs = f.get(5, TimeUnit.SECONDS)) {
+      assertThat(dbs.byteString().toByteArray())
+          .isEqualTo(Arrays.copyOfRange(CONTENT, 1_000, 1_024));
+    }
+    assertThat(fake.reads).hasSize(1);
+  }
+
+  @Test
+  public void fetchCarriesThePriorityOfTheRead() throws Exception {
+    FakeSession fake = new FakeSession(1);
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder().setBlockSize(1024).build();
+    BlockCachingObjectReadSession session = new BlockCachingObjectReadSession(fake, cache);
+
+    session
+        .readAs(
+            ReadProjectionConfigs.asFutureBytes()
+                .withRangeSpec(RangeSpec.of(0, 1_000))
+                .withPriority(ReadPriority.LOW))
+        .get(5, TimeUnit.SECONDS);
+    session
+        .readAs(
+            ReadProjectionConfigs.asFutureByteString()
+                .withRangeSpec(RangeSpec.of(1_024, 1_000))
+                .withPriority(ReadPriority.HIGH))
+        .get(5, TimeUnit.SECONDS)
+        .close();
+    readBytes(session, RangeSpec.of(2_048, 1_000));
+
+    assertThat(fake.priorities)
+        .containsExactly(ReadPriority.LOW, ReadPriority.HIGH, ReadPriority.NORMAL)
+        .inOrder();
+  }
+
+  @Test
+  public void unvalidatedFetchesAreNotCached() throws Exception {
+    FakeSession fake = new FakeSession(1);
+    BlobReadSessionBlockCache cache =
+        BlobReadSessionBlockCache.newBuilder().setBlockSize(1024).build();
+    BlockCachingObjectReadSession session = new BlockCachingObjectReadSession(fake, cache);
+
+    byte[] unvalidated = readUnvalidatedBytes(session, RangeSpec.of(0, 1_000));
+    assertThat(unvalidated).isEqualTo(Arrays.copyOfRange(CONTENT, 0, 1_000));
+    assertThat(cache.getStats().getCachedBlocks()).isEqualTo(0);
+
+    // a validated read must fetch the block itself, which it then caches
+    readBytes(session, RangeSpec.of(0, 1_000));
+    assertThat(cache.getStats().getCachedBlocks()).isEqualTo(1);
+
+    // an unvalidated read may still be served from validated blocks
+    readUnvalidatedBytes(session, RangeSpec.of(0, 1_000));
+    assertThat(fake.reads).containsExactly(RangeSpec.of(0, 1024), RangeSpec.of(0, 1024));
+  }
+
+  private static byte[] readUnvalidatedBytes(ObjectReadSession session, RangeSpec range)
+      throws Exception {
+    return session
+        .readAs(
+            ReadProjectionConfigs.asFutureBytes()
+                .withRangeSpec(range)
+                .withCrc32cValidationEnabled(false))
+        .get(5, TimeUnit.SECONDS);
+  }
+
+  private static byte[] readBytes(ObjectReadSession session, RangeSpec range) throws Exception {
+    return session
+        .readAs(ReadProjectionConfigs.asFutureBytes().withRangeSpec(range))
+        .get(5, TimeUnit.SECONDS);
+  }
+
+  private static final class FakeSession implements ObjectReadSession {
+    private final long generation;
+    private final long size;
+    private final List<RangeSpec> reads = new ArrayList<>();
+    private final List<ReadPriority> priorities = new ArrayList<>();
+    private final List<ReadProjectionConfig<?>> delegated = new ArrayList<>();
+
+    private FakeSession(long generation) {
+      this(generation, CONTENT.length);
+    }
+
+    private FakeSession(long generation, long size) {
+      this.generation = generation;
+      this.size = size;
+    }
+
+    @Override
+    public Object getResource() {
+      return Object.newBuilder()
+          .setBucket("projects/_/buckets/b")
+          .setName("o")
+          .setGeneration(generation)
+          .setSize(size)
+          .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <Projection> Projection readAs(ReadProjectionConfig<Projection> config) {
+      if (config instanceof ReadAsFutureBytes
+          && ((ReadAsFutureBytes) config).getRange().maxLength().orElse(0) <= 4096) {
+        RangeSpec range = ((ReadAsFutureBytes) config).getRange();
+        reads.add(range);
+        priorities.add(((ReadAsFutureBytes) config).getPriority());
+        int begin = Math.toIntExact(range.begin());
+        int end = Math.toIntExact(Math.min(CONTENT.length, begin + range.maxLength().getAsLong()));
+        return (Projection) ApiFutures.immediateFuture(Arrays.copyOfRange(CONTENT, begin, end));
+      }
+      delegated.add(config);
+      return null;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -22,7 +22,12 @@ import static org.junit.Assert.assertThrows;
 
 import com.google.cloud.storage.BufferHandlePool.FixedBufferHandlePool;
 import com.google.cloud.storage.BufferHandlePool.PooledBuffer;
+import com.google.cloud.storage.BufferHandlePool.SpillingBufferHandlePool;
+import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,14 +35,19 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public final class BufferHandlePoolTest {
 
   private static ExecutorService exec;
 
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @BeforeClass
   public static void beforeClass() {
     ThreadFactory threadFactory =
@@ -93,4 +103,70 @@ public final class BufferHandlePoolTest {
             });
     assertThrows(TimeoutException.class, () -> f.get(10, TimeUnit.MILLISECONDS));
   }
+
+  @Test
+  public void spillingPool_spillsOnceHeapIsExhausted() throws Exception {
+    Path volume = temporaryFolder.newFolder().toPath();
+    SpillingBufferHandlePool pool =
+        new SpillingBufferHandlePool(1, 1, 10, ImmutableList.of(volume));
+
+    PooledBuffer heap = pool.getBuffer();
+    PooledBuffer spill = pool.getBuffer();
+    assertThat(pool.isSpilled(heap)).isFalse();
+    assertThat(pool.isSpilled(spill)).isTrue();
+
+    ByteBuffer buf = spill.getBufferHandle().get();
+    assertThat(buf.capacity()).isEqualTo(10);
+    buf.put(DataGenerator.base64Characters().genBytes(10));
+    buf.flip();
+    assertThat(buf.remaining()).isEqualTo(10);
+
+    Future<PooledBuffer> f = exec.submit(pool::getBuffer);
+    assertThrows(TimeoutException.class, () -> f.get(10, TimeUnit.MILLISECONDS));
+
+    // returning a spill buffer deletes its file, the waiter is handed a newly mapped one
+    pool.returnBuffer(spill);
+    PooledBuffer next = f.get(5, TimeUnit.SECONDS);
+    assertThat(next).isNotSameInstanceAs(spill);
+    assertThat(pool.isSpilled(next)).isTrue();
+    assertThat(pool.isSpilled(spill)).isFalse();
+
+    pool.returnBuffer(next);
+    try (Stream<Path> files = Files.list(volume)) {
+      assertThat(files.count()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void spillingPool_heapBufferCountMayBeZero() throws Exception {
+    Path volume = temporaryFolder.newFolder().toPath();
+    SpillingBufferHandlePool pool =
+        new SpillingBufferHandlePool(0, 1, 10, ImmutableList.of(volume));
+
+    PooledBuffer spill = pool.getBuffer();
+    assertThat(pool.isSpilled(spill)).isTrue();
+    pool.returnBuffer(spill);
+    // returning twice is a noop
+    pool.returnBuffer(spill);
+    try (Stream<Path> files = Files.list(volume)) {
+      assertThat(files.count()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void spillingPool_prefersHeapBuffers() {
+    Path volume = temporaryFolder.getRoot().toPath().resolve("not-yet-created");
+    SpillingBufferHandlePool pool =
+        new SpillingBufferHandlePool(1, 1, 10, ImmutableList.of(volume));
+
+    PooledBuffer heap = pool.getBuffer();
+    PooledBuffer spill = pool.getBuffer();
+    pool.returnBuffer(spill);
+    pool.returnBuffer(heap);
+
+    assertThat(pool.getBuffer()).isSameInstanceAs(heap);
+    PooledBuffer next = pool.getBuffer();
+    assertThat(next).isNotSameInstanceAs(spill);
+    assertThat(pool.isSpilled(next)).isTrue();
+  }
 }
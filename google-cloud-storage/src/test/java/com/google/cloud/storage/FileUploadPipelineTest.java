@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class FileUploadPipelineTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private byte[] content;
+  private Path path;
+
+  @Before
+  public void setUp() throws IOException {
+    content = DataGenerator.base64Characters().genBytes(FileUploadPipeline.BUFFER_SIZE * 3 + 17);
+    path = temporaryFolder.newFile().toPath();
+    Files.write(path, content);
+  }
+
+  @Test
+  public void copy_fromOffset() throws Exception {
+    for (int offset : new int[] {0, 13, FileUploadPipeline.BUFFER_SIZE * 2 + 5}) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+      long copied = FileUploadPipeline.copy(path, offset, out);
+
+      assertThat(copied).isEqualTo(content.length - offset);
+      assertThat(out.toByteArray()).isEqualTo(Arrays.copyOfRange(content, offset, content.length));
+    }
+  }
+
+  @Test
+  public void copy_sendFailureIsPropagated() {
+    OutputStream out =
+        new OutputStream() {
+          @Override
+          public void write(int b) throws IOException {
+            throw new IOException("kaboom");
+          }
+
+          @Override
+          public void write(byte[] b, int off, int len) throws IOException {
+            throw new IOException("kaboom");
+          }
+        };
+
+    IOException e = assertThrows(IOException.class, () -> FileUploadPipeline.copy(path, 0, out));
+    assertThat(e).hasMessageThat().isEqualTo("kaboom");
+  }
+
+  @Test
+  public void crc32c_matchesWholeFile() throws Exception {
+    assertThat(FileUploadPipeline.crc32c(path, Hasher.enabled()))
+        .isEqualTo(Hasher.enabled().hash(ByteBuffer.wrap(content)));
+  }
+}
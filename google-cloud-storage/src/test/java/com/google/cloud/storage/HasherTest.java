@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.TruthJUnit.assume;
+
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.Hasher.Crc32cHasher;
+import com.google.cloud.storage.Hasher.JdkCrc32cHasher;
+import com.google.cloud.storage.Hasher.ParallelCrc32cHasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+public final class HasherTest {
+
+  private static final byte[] BYTES = DataGenerator.base64Characters().genBytes(1_000_003);
+  private static final int EXPECTED = Hashing.crc32c().hashBytes(BYTES).asInt();
+
+  @Test
+  public void jdk_matchesGuava() {
+    assume().that(JdkCrc32cHasher.isAvailable()).isTrue();
+    Crc32cHasher jdk = JdkCrc32cHasher.INSTANCE;
+
+    assertThat(jdk.hash(ByteBuffer.wrap(BYTES))).isEqualTo(Crc32cValue.of(EXPECTED, BYTES.length));
+    assertThat(jdk.hash(byteString())).isEqualTo(Crc32cValue.of(EXPECTED, BYTES.length));
+  }
+
+  @Test
+  public void jdk_directBuffer() {
+    assume().that(JdkCrc32cHasher.isAvailable()).isTrue();
+    ByteBuffer direct = ByteBuffer.allocateDirect(BYTES.length);
+    direct.put(BYTES);
+    direct.flip();
+
+    Crc32cLengthKnown actual = JdkCrc32cHasher.INSTANCE.hash(direct);
+    assertThat(actual).isEqualTo(Crc32cValue.of(EXPECTED, BYTES.length));
+    assertThat(direct.hasRemaining()).isFalse();
+  }
+
+  @Test
+  public void parallel_matchesSerial() throws Exception {
+    ExecutorService exec = Executors.newFixedThreadPool(4);
+    try {
+      Crc32cHasher parallel = new ParallelCrc32cHasher(Hasher.enabled(), exec, 64 * 1024);
+
+      ByteBuffer buf = ByteBuffer.wrap(BYTES);
+      assertThat(parallel.hash(buf)).isEqualTo(Crc32cValue.of(EXPECTED, BYTES.length));
+      assertThat(buf.hasRemaining()).isFalse();
+      assertThat(parallel.hash(byteString())).isEqualTo(Crc32cValue.of(EXPECTED, BYTES.length));
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void parallel_respectsBufferPosition() {
+    Crc32cHasher parallel =
+        new ParallelCrc32cHasher(Hasher.enabled(), MoreExecutors.directExecutor(), 1000);
+    ByteBuffer buf = ByteBuffer.wrap(BYTES);
+    Buffers.position(buf, 17);
+    Buffers.limit(buf, 10_017);
+
+    int expected = Hashing.crc32c().hashBytes(BYTES, 17, 10_000).asInt();
+    assertThat(parallel.hash(buf)).isEqualTo(Crc32cValue.of(expected, 10_000));
+    assertThat(buf.position()).isEqualTo(10_017);
+  }
+
+  private static ByteString byteString() {
+    ByteString bs = ByteString.empty();
+    for (int i = 0; i < BYTES.length; i += 100_000) {
+      bs = bs.concat(ByteString.copyFrom(BYTES, i, Math.min(100_000, BYTES.length - i)));
+    }
+    return bs;
+  }
+}
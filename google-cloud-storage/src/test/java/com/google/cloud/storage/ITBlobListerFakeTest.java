@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.common.collect.ImmutableList;
+import com.google.storage.v2.BucketName;
+import com.google.storage.v2.ListObjectsRequest;
+import com.google.storage.v2.ListObjectsResponse;
+import com.google.storage.v2.Object;
+import com.google.storage.v2.StorageGrpc;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public final class ITBlobListerFakeTest {
+
+  private static final String BUCKET = BucketName.format("_", "b");
+  private static final ImmutableList<String> NAMES =
+      IntStream.range(0, 500)
+          .mapToObj(i -> String.format("dir/%c%03d", (char) ('0' + i % 75), i))
+          .sorted()
+          .collect(ImmutableList.toImmutableList());
+
+  @Test
+  public void evenSplitPoints() {
+    assertThat(BlobLister.evenSplitPoints("p/", 1)).isEmpty();
+    ImmutableList<String> points = BlobLister.evenSplitPoints("p/", 4);
+    assertThat(points).hasSize(3);
+    assertThat(points).isInStrictOrder();
+    assertThat(points.stream().allMatch(p -> p.startsWith("p/") && p.length() == 3)).isTrue();
+    // never more shards than there are characters to split on
+    assertThat(BlobLister.evenSplitPoints("", 1000)).hasSize('~' - ' ');
+  }
+
+  @Test
+  public void prefetch_preservesOrder() throws Exception {
+    FakeStorage fake = new FakeStorage(NAMES);
+    try (FakeServer fakeServer = FakeServer.of(fake);
+        Storage storage = fakeServer.getGrpcStorageOptions().toBuilder().build().getService()) {
+      BlobLister lister = BlobLister.of(storage).withPrefetchPages(3);
+      try (Stream<Blob> s = lister.list("b", BlobListOption.pageSize(7))) {
+        assertThat(s.map(Blob::getName).collect(Collectors.toList()))
+            .containsExactlyElementsIn(NAMES)
+            .inOrder();
+      }
+    }
+  }
+
+  @Test
+  public void sharded_preservesOrderAndHonorsOuterRange() throws Exception {
+    FakeStorage fake = new FakeStorage(NAMES);
+    try (FakeServer fakeServer = FakeServer.of(fake);
+        Storage storage = fakeServer.getGrpcStorageOptions().toBuilder().build().getService()) {
+      BlobLister lister = BlobLister.of(storage).withPrefetchPages(2).withShardCount(8);
+      String start = NAMES.get(37);
+      String end = NAMES.get(451);
+      try (Stream<Blob> s =
+          lister.list(
+              "b",
+              BlobListOption.prefix("dir/"),
+              BlobListOption.pageSize(10),
+              BlobListOption.startOffset(start),
+              BlobListOption.endOffset(end))) {
+        assertThat(s.map(Blob::getName).collect(Collectors.toList()))
+            .containsExactlyElementsIn(NAMES.subList(37, 451))
+            .inOrder();
+      }
+      // the listing was split into multiple ranges
+      assertThat(fake.ranges.size()).isGreaterThan(1);
+    }
+  }
+
+  @Test
+  public void explicitSplitPoints() throws Exception {
+    FakeStorage fake = new FakeStorage(NAMES);
+    try (FakeServer fakeServer = FakeServer.of(fake);
+        Storage storage = fakeServer.getGrpcStorageOptions().toBuilder().build().getService()) {
+      BlobLister lister =
+          BlobLister.of(storage).withSplitPoints(ImmutableList.of("dir/5", "dir/A", "zzz"));
+      try (Stream<Blob> s = lister.list("b", BlobListOption.pageSize(50))) {
+        assertThat(s.map(Blob::getName).collect(Collectors.toList()))
+            .containsExactlyElementsIn(NAMES)
+            .inOrder();
+      }
+      assertThat(fake.ranges).containsExactly("|dir/5", "dir/5|dir/A", "dir/A|zzz", "zzz|");
+    }
+  }
+
+  @Test
+  public void failureIsSurfacedToConsumer() throws Exception {
+    FakeStorage fake =
+        new FakeStorage(NAMES) {
+          @Override
+          public void listObjects(
+              ListObjectsRequest request, StreamObserver<ListObjectsResponse> respond) {
+            if (!request.getPageToken().isEmpty()) {
+              respond.onError(Status.PERMISSION_DENIED.asRuntimeException());
+            } else {
+              super.listObjects(request, respond);
+            }
+          }
+        };
+    try (FakeServer fakeServer = FakeServer.of(fake);
+        Storage storage = fakeServer.getGrpcStorageOptions().toBuilder().build().getService()) {
+      BlobLister lister = BlobLister.of(storage);
+      StorageException se =
+          assertThrows(
+              StorageException.class,
+              () -> {
+                try (Stream<Blob> s = lister.list("b", BlobListOption.pageSize(10))) {
+                  s.forEach(b -> {});
+                }
+              });
+      assertThat(se.getCode()).isEqualTo(403);
+    }
+  }
+
+  @Test
+  public void interruptedProducerFailsConsumer() throws Exception {
+    FakeStorage fake = new FakeStorage(NAMES);
+    ExecutorService producers = Executors.newSingleThreadExecutor();
+    ExecutorService consumer = Executors.newSingleThreadExecutor();
+    try (FakeServer fakeServer = FakeServer.of(fake);
+        Storage storage = fakeServer.getGrpcStorageOptions().toBuilder().build().getService()) {
+      BlobLister lister = BlobLister.of(storage).withPrefetchPages(1).withExecutor(producers);
+      try (Stream<Blob> s = lister.list("b", BlobListOption.pageSize(1))) {
+        Iterator<Blob> iter = s.iterator();
+        assertThat(iter.next().getName()).isEqualTo(NAMES.get(0));
+        // give the producer time to fill the queue and block
+        Thread.sleep(200);
+        producers.shutdownNow();
+
+        Future<?> drain = consumer.submit(() -> iter.forEachRemaining(b -> {}));
+        ExecutionException ee =
+            assertThrows(ExecutionException.class, () -> drain.get(5, TimeUnit.SECONDS));
+        assertThat(ee.getCause()).isInstanceOf(StorageException.class);
+      }
+    } finally {
+      producers.shutdownNow();
+      consumer.shutdownNow();
+    }
+  }
+
+  @Test
+  public void pageTokenIsRejected() {
+    BlobLister lister = BlobLister.of(StorageOptions.http().build().getService());
+    assertThrows(
+        IllegalArgumentException.class, () -> lister.list("b", BlobListOption.pageToken("t")));
+  }
+
+  /** In-memory listing honoring prefix, lexicographic range, page size and page token. */
+  private static class FakeStorage extends StorageGrpc.StorageImplBase {
+    private final List<String> names;
+    private final Set<String> ranges = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private FakeStorage(List<String> names) {
+      this.names = names;
+    }
+
+    @Override
+    public void listObjects(
+        ListObjectsRequest request, StreamObserver<ListObjectsResponse> respond) {
+      String start = request.getLexicographicStart();
+      String end = request.getLexicographicEnd();
+      ranges.add(start + "|" + end);
+      String token = request.getPageToken();
+      int pageSize = request.getPageSize() > 0 ? request.getPageSize() : 1000;
+      List<String> matching =
+          names.stream()
+              .filter(n -> n.startsWith(request.getPrefix()))
+              .filter(n -> n.compareTo(start) >= 0)
+              .filter(n -> end.isEmpty() || n.compareTo(end) < 0)
+              .filter(n -> token.isEmpty() || n.compareTo(token) > 0)
+              .collect(Collectors.toList());
+      ListObjectsResponse.Builder b = ListObjectsResponse.newBuilder();
+      matching.stream()
+          .limit(pageSize)
+          .forEach(
+              n ->
+                  b.addObjects(
+                      Object.newBuilder().setBucket(BUCKET).setName(n).setGeneration(1).build()));
+      if (matching.size() > pageSize) {
+        b.setNextPageToken(matching.get(pageSize - 1));
+      }
+      respond.onNext(b.build());
+      respond.onCompleted();
+    }
+  }
+}
@@ -26,7 +26,7 @@ import static org.junit.Assert.assertThrows;
 
 import com.google.api.core.SettableApiFuture;
 import com.google.api.gax.grpc.GrpcCallContext;
-import com.google.cloud.storage.Hasher.GuavaHasher;
+import com.google.cloud.storage.Hasher.Crc32cHasher;
 import com.google.cloud.storage.ITGapicUnbufferedWritableByteChannelTest.DirectWriteService;
 import com.google.cloud.storage.Retrying.RetrierWithAlg;
 import com.google.cloud.storage.it.ChecksummedTestContent;
@@ -51,7 +51,7 @@ import org.junit.Test;
 
 public final class ITGapicUnbufferedChunkedResumableWritableByteChannelTest {
 
-  public static final GuavaHasher HASHER = Hasher.enabled();
+  public static final Crc32cHasher HASHER = Hasher.enabled();
   private static final ChunkSegmenter CHUNK_SEGMENTER =
       new ChunkSegmenter(HASHER, ByteStringStrategy.copy(), _256KiB, _256KiB);
 
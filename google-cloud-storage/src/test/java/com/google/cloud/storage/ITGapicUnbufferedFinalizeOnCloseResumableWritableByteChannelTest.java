@@ -24,7 +24,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertThrows;
 
 import com.google.api.core.SettableApiFuture;
-import com.google.cloud.storage.Hasher.GuavaHasher;
+import com.google.cloud.storage.Hasher.Crc32cHasher;
 import com.google.cloud.storage.ITGapicUnbufferedWritableByteChannelTest.DirectWriteService;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -42,7 +42,7 @@ import org.junit.Test;
 
 public final class ITGapicUnbufferedFinalizeOnCloseResumableWritableByteChannelTest {
 
-  public static final GuavaHasher HASHER = Hasher.enabled();
+  public static final Crc32cHasher HASHER = Hasher.enabled();
   private static final ChunkSegmenter CHUNK_SEGMENTER =
       new ChunkSegmenter(HASHER, ByteStringStrategy.copy(), _256KiB, _256KiB);
 
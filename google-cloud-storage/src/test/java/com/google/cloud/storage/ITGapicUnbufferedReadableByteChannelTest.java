@@ -46,13 +46,22 @@ import io.grpc.stub.StreamObserver;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public final class ITGapicUnbufferedReadableByteChannelTest {
+
+  @Rule public final TemporaryFolder temp = new TemporaryFolder();
+
   private final byte[] bytes = DataGenerator.base64Characters().genBytes(40);
   private final ByteString data1 = ByteString.copyFrom(bytes, 0, 10);
   private final ByteString data2 = ByteString.copyFrom(bytes, 10, 10);
@@ -179,6 +188,43 @@ public final class ITGapicUnbufferedReadableByteChannelTest {
     }
   }
 
+  @Test
+  public void transferTo_resumesFromLeftoversAndRetriesAreProperlyOrdered()
+      throws IOException, ExecutionException, InterruptedException, TimeoutException {
+    try (FakeServer server = FakeServer.of(fakeStorage);
+        StorageClient storageClient = StorageClient.create(server.storageSettings())) {
+      Retrier retrier = TestUtils.retrierFromStorageOptions(server.getGrpcStorageOptions());
+
+      UnbufferedReadableByteChannelSession<Object> session =
+          new UnbufferedReadSession<>(
+              ApiFutures.immediateFuture(req1),
+              (start, resultFuture) ->
+                  new GapicUnbufferedReadableByteChannel(
+                      resultFuture,
+                      new ZeroCopyServerStreamingCallable<>(
+                          storageClient.readObjectCallable(),
+                          ResponseContentLifecycleManager.noop()),
+                      start,
+                      Hasher.noop(),
+                      retrier,
+                      retryOnly(DataLossException.class)));
+      Path path = temp.newFile().toPath();
+      try (UnbufferedReadableByteChannel c = session.open();
+          FileChannel fc = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        // read part of the first message to leave some leftovers
+        ByteBuffer buf = ByteBuffer.allocate(3);
+        c.read(buf);
+        buf.flip();
+        fc.write(buf);
+        long transferred = ((GapicUnbufferedReadableByteChannel) c).transferTo(fc);
+        assertThat(transferred).isEqualTo(37);
+      }
+      Object actualResult = session.getResult().get(1000, TimeUnit.MILLISECONDS);
+      assertThat(actualResult).isEqualTo(expectedResult);
+      assertThat(xxd(Files.readAllBytes(path))).isEqualTo(xxd(bytes));
+    }
+  }
+
   @Test
   public void ioException_if_generation_changes() throws IOException, InterruptedException {
     StorageGrpc.StorageImplBase fakeStorage =
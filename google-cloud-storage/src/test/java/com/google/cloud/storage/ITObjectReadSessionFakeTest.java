@@ -83,7 +83,11 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.security.Key;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -1092,6 +1096,120 @@ public final class ITObjectReadSessionFakeTest {
     }
   }
 
+  @Test
+  public void file_eachMessageIsWrittenAtItsOffset() throws Exception {
+    ChecksummedTestContent content1 = ChecksummedTestContent.of(ALL_OBJECT_BYTES, 10, 5);
+    ChecksummedTestContent content2 = ChecksummedTestContent.of(ALL_OBJECT_BYTES, 15, 5);
+    BidiReadObjectRequest req2 = read(1, 10, 10);
+    BidiReadObjectResponse res2 =
+        BidiReadObjectResponse.newBuilder()
+            .addObjectDataRanges(
+                ObjectRangeData.newBuilder()
+                    .setReadRange(getReadRange(1, 10, content1))
+                    .setChecksummedData(content1.asChecksummedData()))
+            .addObjectDataRanges(
+                ObjectRangeData.newBuilder()
+                    .setReadRange(getReadRange(1, 15, content2))
+                    .setChecksummedData(content2.asChecksummedData())
+                    .setRangeEnd(true))
+            .build();
+
+    FakeStorage fake =
+        FakeStorage.of(
+            ImmutableMap.of(
+                REQ_OPEN,
+                respond -> respond.onNext(RES_OPEN),
+                req2,
+                respond -> respond.onNext(res2)));
+
+    byte[] existing = new byte[30];
+    Arrays.fill(existing, (byte) 'x');
+    byte[] expected = existing.clone();
+    System.arraycopy(ALL_OBJECT_BYTES, 10, expected, 5, 10);
+
+    try (FakeServer fakeServer = FakeServer.of(fake);
+        Storage storage = fakeServer.getGrpcStorageOptions().toBuilder().build().getService();
+        TmpFile tmpFile =
+            TmpFile.of(Paths.get(System.getProperty("java.io.tmpdir")), "read-as-file", ".bin")) {
+      Files.write(tmpFile.getPath(), existing);
+
+      BlobId id = BlobId.of("b", "o");
+      try (BlobReadSession bd = storage.blobReadSession(id).get(5, TimeUnit.SECONDS)) {
+        ApiFuture<Long> written =
+            bd.readAs(
+                ReadProjectionConfigs.asFile(tmpFile.getPath())
+                    .withPosition(5)
+                    .withRangeSpec(RangeSpec.of(10, 10)));
+        assertThat(written.get(5, TimeUnit.SECONDS)).isEqualTo(10);
+      }
+
+      assertThat(xxd(Files.readAllBytes(tmpFile.getPath()))).isEqualTo(xxd(expected));
+    }
+  }
+
+  @Test
+  public void vectoredRead_mergedRangesAreSentInASingleRequest() throws Exception {
+    ChecksummedTestContent merged = ChecksummedTestContent.of(ALL_OBJECT_BYTES, 0, 20);
+    ChecksummedTestContent alone = ChecksummedTestContent.of(ALL_OBJECT_BYTES, 40, 10);
+    BidiReadObjectRequest req2 =
+        BidiReadObjectRequest.newBuilder()
+            .addReadRanges(getReadRange(1, 0, 20))
+            .addReadRanges(getReadRange(2, 40, 10))
+            .build();
+    BidiReadObjectResponse res2 =
+        BidiReadObjectResponse.newBuilder()
+            .addObjectDataRanges(
+                ObjectRangeData.newBuilder()
+                    .setReadRange(getReadRange(1, 0, merged))
+                    .setRangeEnd(true)
+                    .setChecksummedData(merged.asChecksummedData()))
+            .addObjectDataRanges(
+                ObjectRangeData.newBuilder()
+                    .setReadRange(getReadRange(2, 40, alone))
+                    .setRangeEnd(true)
+                    .setChecksummedData(alone.asChecksummedData()))
+            .build();
+
+    FakeStorage fake =
+        FakeStorage.of(
+            ImmutableMap.of(
+                REQ_OPEN,
+                respond -> respond.onNext(RES_OPEN),
+                req2,
+                respond -> respond.onNext(res2)));
+
+    try (FakeServer fakeServer = FakeServer.of(fake);
+        Storage storage = fakeServer.getGrpcStorageOptions().toBuilder().build().getService()) {
+
+      BlobId id = BlobId.of("b", "o");
+      try (BlobReadSession session = storage.blobReadSession(id).get(5, TimeUnit.SECONDS)) {
+        List<ApiFuture<DisposableByteString>> futures =
+            session.readAs(
+                ReadProjectionConfigs.asVectoredByteStrings()
+                    .withMaxGap(5)
+                    .withRanges(
+                        ImmutableList.of(
+                            RangeSpec.of(40, 10), RangeSpec.of(0, 10), RangeSpec.of(12, 8))));
+
+        assertThat(futures).hasSize(3);
+        List<byte[]> actual = new ArrayList<>();
+        for (ApiFuture<DisposableByteString> f : futures) {
+          try (DisposableByteString dbs = f.get(5, TimeUnit.SECONDS)) {
+            actual.add(dbs.byteString().toByteArray());
+          }
+        }
+        assertAll(
+            () -> assertThat(xxd(actual.get(0))).isEqualTo(xxd(alone.getBytes())),
+            () ->
+                assertThat(xxd(actual.get(1)))
+                    .isEqualTo(xxd(Arrays.copyOfRange(ALL_OBJECT_BYTES, 0, 10))),
+            () ->
+                assertThat(xxd(actual.get(2)))
+                    .isEqualTo(xxd(Arrays.copyOfRange(ALL_OBJECT_BYTES, 12, 20))));
+      }
+    }
+  }
+
   @Test
   public void retryableErrorWhileOpeningIsRetried() throws Exception {
     AtomicInteger reqCounter = new AtomicInteger(0);
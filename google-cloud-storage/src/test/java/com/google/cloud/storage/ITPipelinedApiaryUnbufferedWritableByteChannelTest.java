@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.ByteSizeConstants._256KiB;
+import static com.google.cloud.storage.ByteSizeConstants._256KiBL;
+import static com.google.cloud.storage.ByteSizeConstants._512KiB;
+import static com.google.cloud.storage.ByteSizeConstants._512KiBL;
+import static com.google.common.truth.Truth.assertThat;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_RANGE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.RANGE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonObjectParser;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.core.NanoClock;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.retrying.RetrySettings;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.FakeHttpServer.HttpRequestHandler;
+import com.google.cloud.storage.Retrying.DefaultRetrier;
+import com.google.cloud.storage.Retrying.RetrierWithAlg;
+import com.google.cloud.storage.Retrying.RetryingDependencies;
+import com.google.common.collect.ImmutableMap;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBuf;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufUtil;
+import io.grpc.netty.shaded.io.netty.buffer.Unpooled;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ITPipelinedApiaryUnbufferedWritableByteChannelTest {
+  private static final GsonFactory gson = GsonFactory.getDefaultInstance();
+  private static final NetHttpTransport transport = new NetHttpTransport.Builder().build();
+  private static final HttpResponseStatus RESUME_INCOMPLETE =
+      HttpResponseStatus.valueOf(308, "Resume Incomplete");
+  private static final RetrierWithAlg RETRIER =
+      new DefaultRetrier(
+              UnaryOperator.identity(),
+              RetryingDependencies.simple(
+                  NanoClock.getDefaultClock(),
+                  RetrySettings.newBuilder().setMaxAttempts(3).build()))
+          .withAlg(StorageRetryStrategy.getUniformStorageRetryStrategy().getIdempotentHandler());
+
+  private final byte[] content = DataGenerator.base64Characters().genBytes(_512KiB * 3);
+  private HttpClientContext httpClientContext;
+
+  @Before
+  public void setUp() {
+    httpClientContext =
+        HttpClientContext.of(transport.createRequestFactory(), new JsonObjectParser(gson));
+  }
+
+  @Test
+  public void chunksAreSentInOrder() throws Exception {
+    FakeResumableUpload upload = new FakeResumableUpload();
+
+    upload(upload);
+
+    assertThat(upload.persisted.toByteArray()).isEqualTo(content);
+    assertThat(upload.contentRanges)
+        .containsExactly(
+            "bytes 0-524287/*",
+            "bytes 524288-1048575/*",
+            "bytes 1048576-1572863/*",
+            "bytes */1572864")
+        .inOrder();
+  }
+
+  @Test
+  public void failedChunkIsResumedFromPersistedSize() throws Exception {
+    FakeResumableUpload upload = new FakeResumableUpload();
+    upload.failOnce.add("bytes 524288-1048575/*");
+
+    upload(upload);
+
+    assertThat(upload.persisted.toByteArray()).isEqualTo(content);
+    assertThat(upload.contentRanges)
+        .containsExactly(
+            "bytes 0-524287/*",
+            "bytes 524288-1048575/*",
+            "bytes */*",
+            "bytes 524288-1048575/*",
+            "bytes 1048576-1572863/*",
+            "bytes */1572864")
+        .inOrder();
+  }
+
+  @Test
+  public void partiallyPersistedChunkSendsOnlyTheRemainder() throws Exception {
+    FakeResumableUpload upload = new FakeResumableUpload();
+    upload.maxPersistPerRequest = _256KiBL;
+
+    upload(upload);
+
+    assertThat(upload.persisted.toByteArray()).isEqualTo(content);
+    assertThat(upload.contentRanges)
+        .containsExactly(
+            "bytes 0-524287/*",
+            "bytes 262144-524287/*",
+            "bytes 524288-1048575/*",
+            "bytes 786432-1048575/*",
+            "bytes 1048576-1572863/*",
+            "bytes 1310720-1572863/*",
+            "bytes */1572864")
+        .inOrder();
+  }
+
+  @Test
+  public void failureIsSurfacedFromEveryFollowingCall() throws Exception {
+    FakeResumableUpload upload = new FakeResumableUpload();
+    upload.failAlways.add("bytes 0-524287/*");
+
+    try (FakeHttpServer fakeHttpServer = FakeHttpServer.of(upload)) {
+      SettableApiFuture<StorageObject> result = SettableApiFuture.create();
+      PipelinedApiaryUnbufferedWritableByteChannel c = channel(fakeHttpServer, result);
+
+      // the first chunk is accepted before it has been sent
+      assertThat(c.write(ByteBuffer.wrap(content, 0, _512KiB))).isEqualTo(_512KiB);
+      assertThrows(
+          StorageException.class, () -> c.write(ByteBuffer.wrap(content, _512KiB, _512KiB)));
+      assertThrows(StorageException.class, () -> c.write(ByteBuffer.wrap(content, 0, _512KiB)));
+      assertThrows(StorageException.class, c::close);
+      assertThrows(Exception.class, result::get);
+    }
+    assertThat(upload.persisted.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void chunkWhichMakesNoProgressFails() throws Exception {
+    FakeResumableUpload upload = new FakeResumableUpload();
+    // the first request persists half of the chunk, every following request persists nothing
+    upload.maxPersistedSize = _256KiBL;
+
+    try (FakeHttpServer fakeHttpServer = FakeHttpServer.of(upload)) {
+      SettableApiFuture<StorageObject> result = SettableApiFuture.create();
+      PipelinedApiaryUnbufferedWritableByteChannel c = channel(fakeHttpServer, result);
+
+      assertThat(c.write(ByteBuffer.wrap(content, 0, _512KiB))).isEqualTo(_512KiB);
+      StorageException e =
+          assertThrows(
+              StorageException.class, () -> c.write(ByteBuffer.wrap(content, _512KiB, _512KiB)));
+      assertThat(e).hasMessageThat().contains("did not advance");
+      assertThrows(Exception.class, result::get);
+    }
+    assertThat(upload.persisted.size()).isEqualTo(_256KiB);
+    assertThat(upload.contentRanges)
+        .containsExactly("bytes 0-524287/*", "bytes 262144-524287/*")
+        .inOrder();
+  }
+
+  @Test
+  public void onlyWhole256KiBMultiplesAreAcceptedBeforeFinalizing() throws Exception {
+    FakeResumableUpload upload = new FakeResumableUpload();
+
+    try (FakeHttpServer fakeHttpServer = FakeHttpServer.of(upload)) {
+      SettableApiFuture<StorageObject> result = SettableApiFuture.create();
+      PipelinedApiaryUnbufferedWritableByteChannel c = channel(fakeHttpServer, result);
+
+      ByteBuffer buf = ByteBuffer.wrap(content, 0, _256KiB + 10);
+      assertThat(c.write(ByteBuffer.wrap(content, 0, 10))).isEqualTo(0);
+      assertThat(c.write(buf)).isEqualTo(_256KiB);
+      assertThat(buf.remaining()).isEqualTo(10);
+      c.writeAndClose(new ByteBuffer[] {buf}, 0, 1);
+
+      assertThat(result.get().getSize()).isEqualTo(BigInteger.valueOf(_256KiBL + 10));
+    }
+    assertThat(upload.contentRanges)
+        .containsExactly("bytes 0-262143/*", "bytes 262144-262153/262154")
+        .inOrder();
+  }
+
+  private void upload(FakeResumableUpload upload) throws Exception {
+    try (FakeHttpServer fakeHttpServer = FakeHttpServer.of(upload)) {
+      SettableApiFuture<StorageObject> result = SettableApiFuture.create();
+      List<Long> committed = Collections.synchronizedList(new ArrayList<>());
+      PipelinedApiaryUnbufferedWritableByteChannel c =
+          new PipelinedApiaryUnbufferedWritableByteChannel(
+              httpClientContext, RETRIER, resumableWrite(fakeHttpServer), result, committed::add);
+
+      for (int i = 0; i < content.length; i += _512KiB) {
+        assertThat(c.write(ByteBuffer.wrap(content, i, _512KiB))).isEqualTo(_512KiB);
+      }
+      c.close();
+
+      assertThat(result.get().getSize()).isEqualTo(BigInteger.valueOf(content.length));
+      assertThat(committed)
+          .containsExactly(_512KiBL, _512KiBL * 2, _512KiBL * 3, _512KiBL * 3)
+          .inOrder();
+    }
+  }
+
+  private PipelinedApiaryUnbufferedWritableByteChannel channel(
+      FakeHttpServer fakeHttpServer, SettableApiFuture<StorageObject> result) {
+    return new PipelinedApiaryUnbufferedWritableByteChannel(
+        httpClientContext, RETRIER, resumableWrite(fakeHttpServer), result, l -> {});
+  }
+
+  private static JsonResumableWrite resumableWrite(FakeHttpServer fakeHttpServer) {
+    String uploadUrl =
+        fakeHttpServer
+            .createUri(
+                "/upload/{uploadId}", ImmutableMap.of("uploadId", UUID.randomUUID().toString()))
+            .toString();
+    return JsonResumableWrite.of(
+        null, ImmutableMap.of(), uploadUrl, 0, Hasher.enabled(), Crc32cValue.zero());
+  }
+
+  /** A resumable upload session which only accepts bytes starting at its persisted size. */
+  private static final class FakeResumableUpload implements HttpRequestHandler {
+    private static final Pattern RANGE_PATTERN = Pattern.compile("bytes (\\d+)-(\\d+)/(\\*|\\d+)");
+    private static final Pattern QUERY_PATTERN = Pattern.compile("bytes \\*/(\\*|\\d+)");
+
+    private final ByteArrayOutputStream persisted = new ByteArrayOutputStream();
+    private final List<String> contentRanges = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> failOnce = Collections.synchronizedSet(new HashSet<>());
+    private final Set<String> failAlways = Collections.synchronizedSet(new HashSet<>());
+    private long maxPersistPerRequest = Long.MAX_VALUE;
+    private long maxPersistedSize = Long.MAX_VALUE;
+
+    @Override
+    public synchronized FullHttpResponse apply(HttpRequest req) throws IOException {
+      String contentRange = req.headers().get(CONTENT_RANGE);
+      contentRanges.add(contentRange);
+      if (failOnce.remove(contentRange) || failAlways.contains(contentRange)) {
+        return new DefaultFullHttpResponse(req.protocolVersion(), SERVICE_UNAVAILABLE);
+      }
+
+      String total;
+      Matcher range = RANGE_PATTERN.matcher(contentRange);
+      Matcher query = QUERY_PATTERN.matcher(contentRange);
+      if (range.matches()) {
+        long begin = Long.parseLong(range.group(1));
+        total = range.group(3);
+        if (begin == persisted.size()) {
+          byte[] bytes = ByteBufUtil.getBytes(((FullHttpRequest) req).content());
+          int n = (int) Math.min(bytes.length, maxPersistPerRequest);
+          n = (int) Math.min(n, maxPersistedSize - persisted.size());
+          if (!"*".equals(total)) {
+            // never partially persist a finalizing request
+            n = bytes.length;
+          }
+          persisted.write(bytes, 0, n);
+        }
+      } else if (query.matches()) {
+        total = query.group(1);
+      } else {
+        throw new IllegalStateException("Unexpected Content-Range: " + contentRange);
+      }
+
+      if (!"*".equals(total) && Long.parseLong(total) == persisted.size()) {
+        StorageObject so =
+            new StorageObject().setName("object").setSize(BigInteger.valueOf(persisted.size()));
+        ByteBuf buf = Unpooled.wrappedBuffer(gson.toByteArray(so));
+        FullHttpResponse resp = new DefaultFullHttpResponse(req.protocolVersion(), OK, buf);
+        resp.headers().set(CONTENT_TYPE, "application/json; charset=utf-8");
+        return resp;
+      }
+      FullHttpResponse resp = new DefaultFullHttpResponse(req.protocolVersion(), RESUME_INCOMPLETE);
+      if (persisted.size() > 0) {
+        resp.headers()
+            .set(RANGE, ByteRangeSpec.explicit(0L, (long) persisted.size()).getHttpRangeHeader());
+      }
+      return resp;
+    }
+  }
+}
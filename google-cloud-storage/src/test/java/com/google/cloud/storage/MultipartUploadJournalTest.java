@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.storage.MultipartUploadJournal.JournaledPart;
+import com.google.cloud.storage.multipartupload.model.Part;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class MultipartUploadJournalTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void recordsAreReadBack() throws Exception {
+    Path path = temporaryFolder.getRoot().toPath().resolve("journal");
+    JournaledPart part1 = new JournaledPart(1, "etag-1", "AAAAAA==", 10);
+    JournaledPart part2 = new JournaledPart(2, "etag-2", "AAAAAQ==", 10);
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      assertThat(journal.getUploadId()).isNull();
+      journal.recordUploadId("upload-id");
+      journal.recordPart(part1);
+      journal.recordPart(part2);
+    }
+
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      assertThat(journal.getUploadId()).isEqualTo("upload-id");
+      assertThat(journal.getParts()).containsExactly(part1, part2);
+      assertThat(journal.getPart(2).matches("AAAAAQ==", 10)).isTrue();
+      assertThat(journal.getPart(2).matches("AAAAAQ==", 9)).isFalse();
+      assertThat(journal.getPart(3)).isNull();
+    }
+  }
+
+  @Test
+  public void partiallyWrittenRecordIsIgnored() throws Exception {
+    Path path = temporaryFolder.getRoot().toPath().resolve("journal");
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      journal.recordUploadId("upload-id");
+      journal.recordPart(new JournaledPart(1, "etag-1", "AAAAAA==", 10));
+    }
+    Files.write(
+        path,
+        "part upload-id 2 etag-2 AAAA".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND);
+
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      assertThat(journal.getParts())
+          .containsExactly(new JournaledPart(1, "etag-1", "AAAAAA==", 10));
+    }
+  }
+
+  @Test
+  public void newUploadIdDiscardsEarlierParts() throws Exception {
+    Path path = temporaryFolder.getRoot().toPath().resolve("journal");
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      journal.recordUploadId("upload-1");
+      journal.recordPart(new JournaledPart(1, "etag-1", "AAAAAA==", 10));
+      journal.recordUploadId("upload-2");
+    }
+
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      assertThat(journal.getUploadId()).isEqualTo("upload-2");
+      assertThat(journal.getParts()).isEmpty();
+    }
+  }
+
+  @Test
+  public void uploadForADifferentObjectIsIgnored() throws Exception {
+    Path path = temporaryFolder.getRoot().toPath().resolve("journal");
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "other")) {
+      journal.recordUploadId("upload-id");
+      journal.recordPart(new JournaledPart(1, "etag-1", "AAAAAA==", 10));
+    }
+
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      assertThat(journal.getUploadId()).isNull();
+      assertThat(journal.getParts()).isEmpty();
+    }
+  }
+
+  @Test
+  public void onlyListedPartsAreRetained() throws Exception {
+    Path path = temporaryFolder.getRoot().toPath().resolve("journal");
+    JournaledPart part1 = new JournaledPart(1, "etag-1", "AAAAAA==", 10);
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      journal.recordUploadId("upload-id");
+      journal.recordPart(part1);
+      journal.recordPart(new JournaledPart(2, "etag-2", "AAAAAQ==", 10));
+      journal.recordPart(new JournaledPart(3, "etag-3", "AAAAAg==", 10));
+
+      journal.retainParts(
+          ImmutableMap.of(
+              1, Part.builder().partNumber(1).eTag("etag-1").size(10).build(),
+              2, Part.builder().partNumber(2).eTag("etag-other").size(10).build()));
+      assertThat(journal.getParts()).containsExactly(part1);
+    }
+  }
+
+  @Test
+  public void resumeOffsetCoversOnlyContiguousParts() throws Exception {
+    Path path = temporaryFolder.getRoot().toPath().resolve("journal");
+    JournaledPart part1 = new JournaledPart(1, "etag-1", "AAAAAA==", 10);
+    JournaledPart part2 = new JournaledPart(2, "etag-2", "AAAAAQ==", 10);
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      journal.recordUploadId("upload-id");
+      assertThat(journal.getResumeOffset()).isEqualTo(0);
+      assertThat(journal.isContiguous()).isTrue();
+
+      journal.recordPart(part1);
+      journal.recordPart(part2);
+      assertThat(journal.getContiguousParts()).containsExactly(part1, part2).inOrder();
+      assertThat(journal.getResumeOffset()).isEqualTo(20);
+      assertThat(journal.isContiguous()).isTrue();
+
+      journal.recordPart(new JournaledPart(4, "etag-4", "AAAAAw==", 10));
+      assertThat(journal.getResumeOffset()).isEqualTo(20);
+      assertThat(journal.isContiguous()).isFalse();
+    }
+  }
+
+  @Test
+  public void contiguousPartsEndAtAShorterPart() throws Exception {
+    Path path = temporaryFolder.getRoot().toPath().resolve("journal");
+    try (MultipartUploadJournal journal = MultipartUploadJournal.open(path, "bucket", "object")) {
+      journal.recordUploadId("upload-id");
+      journal.recordPart(new JournaledPart(1, "etag-1", "AAAAAA==", 10));
+      journal.recordPart(new JournaledPart(2, "etag-2", "AAAAAQ==", 5));
+      journal.recordPart(new JournaledPart(3, "etag-3", "AAAAAg==", 10));
+
+      assertThat(journal.getResumeOffset()).isEqualTo(15);
+      assertThat(journal.isContiguous()).isFalse();
+    }
+  }
+
+  @Test
+  public void objectIsAlwaysAssignedTheSameVolume() throws Exception {
+    ImmutableList<Path> volumes =
+        ImmutableList.of(
+            temporaryFolder.getRoot().toPath().resolve("a"),
+            temporaryFolder.getRoot().toPath().resolve("b"),
+            temporaryFolder.getRoot().toPath().resolve("c"));
+    MultipartUploadJournal journal1 = MultipartUploadJournal.open(volumes, "bucket", "object");
+    MultipartUploadJournal journal2 = MultipartUploadJournal.open(volumes, "bucket", "object");
+
+    assertThat(journal1.getPath()).isEqualTo(journal2.getPath());
+    assertThat(volumes).contains(journal1.getPath().getParent());
+    journal1.delete();
+    assertThat(Files.exists(journal1.getPath())).isFalse();
+  }
+}
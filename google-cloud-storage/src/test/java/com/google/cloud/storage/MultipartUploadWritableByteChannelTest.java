@@ -0,0 +1,384 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.MultipartUploadJournal.JournaledPart;
+import com.google.cloud.storage.UnifiedOpts.ObjectSourceOpt;
+import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.cloud.storage.multipartupload.model.AbortMultipartUploadRequest;
+import com.google.cloud.storage.multipartupload.model.AbortMultipartUploadResponse;
+import com.google.cloud.storage.multipartupload.model.CompleteMultipartUploadRequest;
+import com.google.cloud.storage.multipartupload.model.CompleteMultipartUploadResponse;
+import com.google.cloud.storage.multipartupload.model.CompletedPart;
+import com.google.cloud.storage.multipartupload.model.CreateMultipartUploadRequest;
+import com.google.cloud.storage.multipartupload.model.CreateMultipartUploadResponse;
+import com.google.cloud.storage.multipartupload.model.ListMultipartUploadsRequest;
+import com.google.cloud.storage.multipartupload.model.ListMultipartUploadsResponse;
+import com.google.cloud.storage.multipartupload.model.ListPartsRequest;
+import com.google.cloud.storage.multipartupload.model.ListPartsResponse;
+import com.google.cloud.storage.multipartupload.model.Part;
+import com.google.cloud.storage.multipartupload.model.UploadPartRequest;
+import com.google.cloud.storage.multipartupload.model.UploadPartResponse;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class MultipartUploadWritableByteChannelTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private BlobInfo info;
+  private BufferHandlePool bufferHandlePool;
+  private SettableApiFuture<BlobInfo> finalObject;
+  private FakeMultipartUploadClient client;
+  private FakeStorageInternal storageInternal;
+
+  @Before
+  public void setUp() {
+    info = BlobInfo.newBuilder("bucket", "object").setContentType("text/plain").build();
+    bufferHandlePool = BufferHandlePool.simple(10);
+    finalObject = SettableApiFuture.create();
+    client = new FakeMultipartUploadClient();
+    storageInternal = new FakeStorageInternal();
+  }
+
+  @Test
+  public void partsAreUploadedAndCompleted() throws Exception {
+    MultipartUploadWritableByteChannel channel = channel();
+
+    byte[] bytes = DataGenerator.base64Characters().genBytes(25);
+    channel.write(ByteBuffer.wrap(bytes));
+    channel.close();
+
+    BlobInfo result = finalObject.get();
+    assertThat(result.getBlobId()).isEqualTo(BlobId.of("bucket", "object", 1L));
+    assertThat(client.created.contentType()).isEqualTo("text/plain");
+    assertThat(client.uploaded.stream().map(UploadPartRequest::partNumber).sorted())
+        .containsExactly(1, 2, 3)
+        .inOrder();
+    assertThat(client.uploaded.stream().allMatch(r -> r.crc32c() != null)).isTrue();
+    assertThat(
+            client.completed.multipartUpload().parts().stream()
+                .map(CompletedPart::partNumber)
+                .collect(Collectors.toList()))
+        .containsExactly(1, 2, 3)
+        .inOrder();
+    assertThat(client.aborted).isNull();
+  }
+
+  @Test
+  public void failedPartAbortsTheUpload() throws Exception {
+    client.failPart = 2;
+    MultipartUploadWritableByteChannel channel = channel();
+
+    channel.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(25)));
+    assertThrows(AsynchronousCloseException.class, channel::close);
+
+    assertThrows(ExecutionException.class, finalObject::get);
+    assertThat(client.completed).isNull();
+    assertThat(client.aborted.uploadId()).isEqualTo(FakeMultipartUploadClient.UPLOAD_ID);
+  }
+
+  @Test
+  public void emptyObjectIsUploadedDirectly() throws Exception {
+    MultipartUploadWritableByteChannel channel = channel();
+    channel.close();
+
+    assertThat(finalObject.get().getBlobId()).isEqualTo(BlobId.of("bucket", "object", 1L));
+    assertThat(storageInternal.directUploads).isEqualTo(1);
+    assertThat(client.created).isNull();
+  }
+
+  @Test
+  public void journaledUploadIsResumedFromItsResumeOffset() throws Exception {
+    MultipartUploadJournal journal =
+        MultipartUploadJournal.open(
+            temporaryFolder.getRoot().toPath().resolve("journal"), "bucket", "object");
+    byte[] bytes = DataGenerator.base64Characters().genBytes(25);
+    client.failPart = 3;
+    MultipartUploadWritableByteChannel channel = channel(journal);
+    channel.write(ByteBuffer.wrap(bytes));
+    assertThrows(AsynchronousCloseException.class, channel::close);
+
+    assertThat(client.aborted).isNull();
+    assertThat(journal.getPath().toFile().exists()).isTrue();
+
+    client = new FakeMultipartUploadClient(client.parts);
+    finalObject = SettableApiFuture.create();
+    journal = MultipartUploadJournal.open(journal.getPath(), "bucket", "object");
+    long resumeOffset = journal.getResumeOffset();
+    assertThat(resumeOffset).isEqualTo(20);
+    channel = channel(journal);
+    channel.write(ByteBuffer.wrap(bytes, (int) resumeOffset, bytes.length - (int) resumeOffset));
+    channel.close();
+
+    assertThat(finalObject.get().getBlobId()).isEqualTo(BlobId.of("bucket", "object", 1L));
+    assertThat(client.created).isNull();
+    // a contiguous journal is trusted without listing the parts of the upload
+    assertThat(client.listed).isNull();
+    assertThat(client.uploaded.stream().map(UploadPartRequest::partNumber).sorted())
+        .containsExactly(3);
+    assertThat(
+            client.completed.multipartUpload().parts().stream()
+                .map(CompletedPart::eTag)
+                .collect(Collectors.toList()))
+        .containsExactly("etag-1", "etag-2", "etag-3")
+        .inOrder();
+    assertThat(client.completed.uploadId()).isEqualTo(FakeMultipartUploadClient.UPLOAD_ID);
+    assertThat(journal.getPath().toFile().exists()).isFalse();
+  }
+
+  @Test
+  public void fullyJournaledUploadIsCompletedWithoutWritingAnything() throws Exception {
+    MultipartUploadJournal journal =
+        MultipartUploadJournal.open(
+            temporaryFolder.getRoot().toPath().resolve("journal"), "bucket", "object");
+    journal.recordUploadId(FakeMultipartUploadClient.UPLOAD_ID);
+    journal.recordPart(new JournaledPart(1, "etag-1", "AAAAAA==", 10));
+    journal.recordPart(new JournaledPart(2, "etag-2", "AAAAAQ==", 5));
+    journal.close();
+
+    journal = MultipartUploadJournal.open(journal.getPath(), "bucket", "object");
+    assertThat(journal.getResumeOffset()).isEqualTo(15);
+    MultipartUploadWritableByteChannel channel = channel(journal);
+    channel.close();
+
+    assertThat(finalObject.get().getBlobId()).isEqualTo(BlobId.of("bucket", "object", 1L));
+    assertThat(storageInternal.directUploads).isEqualTo(0);
+    assertThat(client.uploaded).isEmpty();
+    assertThat(client.completed.multipartUpload().parts()).hasSize(2);
+  }
+
+  @Test
+  public void journalWithAGapIsValidatedByListingParts() throws Exception {
+    MultipartUploadJournal journal =
+        MultipartUploadJournal.open(
+            temporaryFolder.getRoot().toPath().resolve("journal"), "bucket", "object");
+    byte[] bytes = DataGenerator.base64Characters().genBytes(25);
+    // parts 1 and 3 are journaled, 2 is not
+    client.failPart = 2;
+    MultipartUploadWritableByteChannel channel = channel(journal);
+    channel.write(ByteBuffer.wrap(bytes));
+    assertThrows(AsynchronousCloseException.class, channel::close);
+
+    client = new FakeMultipartUploadClient(client.parts);
+    finalObject = SettableApiFuture.create();
+    journal = MultipartUploadJournal.open(journal.getPath(), "bucket", "object");
+    assertThat(journal.isContiguous()).isFalse();
+    assertThat(journal.getResumeOffset()).isEqualTo(10);
+    channel = channel(journal);
+    channel.write(ByteBuffer.wrap(bytes, 10, 15));
+    channel.close();
+
+    assertThat(finalObject.get().getBlobId()).isEqualTo(BlobId.of("bucket", "object", 1L));
+    assertThat(client.created).isNull();
+    assertThat(client.listed.uploadId()).isEqualTo(FakeMultipartUploadClient.UPLOAD_ID);
+    // part 3 matches its journaled and listed record
+    assertThat(client.uploaded.stream().map(UploadPartRequest::partNumber).sorted())
+        .containsExactly(2);
+  }
+
+  @Test
+  public void resumedPartNotListedFailsTheUpload() throws Exception {
+    MultipartUploadJournal journal =
+        MultipartUploadJournal.open(
+            temporaryFolder.getRoot().toPath().resolve("journal"), "bucket", "object");
+    byte[] bytes = DataGenerator.base64Characters().genBytes(25);
+    client.failPart = 2;
+    MultipartUploadWritableByteChannel channel = channel(journal);
+    channel.write(ByteBuffer.wrap(bytes));
+    assertThrows(AsynchronousCloseException.class, channel::close);
+
+    Map<Integer, Part> parts = new HashMap<>(client.parts);
+    parts.remove(1);
+    client = new FakeMultipartUploadClient(parts);
+    finalObject = SettableApiFuture.create();
+    journal = MultipartUploadJournal.open(journal.getPath(), "bucket", "object");
+    channel = channel(journal);
+    channel.write(ByteBuffer.wrap(bytes, 10, 15));
+    assertThrows(AsynchronousCloseException.class, channel::close);
+
+    ExecutionException e = assertThrows(ExecutionException.class, finalObject::get);
+    assertThat(e).hasCauseThat().hasMessageThat().contains("can not be resumed from offset 10");
+    assertThat(client.completed).isNull();
+    assertThat(journal.getPath().toFile().exists()).isFalse();
+  }
+
+  @Test
+  public void staleJournalFailsOnceAndIsDeleted() throws Exception {
+    MultipartUploadJournal journal =
+        MultipartUploadJournal.open(
+            temporaryFolder.getRoot().toPath().resolve("journal"), "bucket", "object");
+    journal.recordUploadId("stale-upload-id");
+    journal.recordPart(new JournaledPart(1, "etag-1", "AAAAAA==", 10));
+    journal.close();
+
+    byte[] bytes = DataGenerator.base64Characters().genBytes(25);
+    journal = MultipartUploadJournal.open(journal.getPath(), "bucket", "object");
+    MultipartUploadWritableByteChannel channel = channel(journal);
+    channel.write(ByteBuffer.wrap(bytes, 10, 15));
+    assertThrows(AsynchronousCloseException.class, channel::close);
+    assertThat(journal.getPath().toFile().exists()).isFalse();
+
+    finalObject = SettableApiFuture.create();
+    journal = MultipartUploadJournal.open(journal.getPath(), "bucket", "object");
+    assertThat(journal.getResumeOffset()).isEqualTo(0);
+    channel = channel(journal);
+    channel.write(ByteBuffer.wrap(bytes));
+    channel.close();
+
+    assertThat(finalObject.get().getBlobId()).isEqualTo(BlobId.of("bucket", "object", 1L));
+    assertThat(client.created).isNotNull();
+    assertThat(client.completed.uploadId()).isEqualTo(FakeMultipartUploadClient.UPLOAD_ID);
+    assertThat(journal.getPath().toFile().exists()).isFalse();
+  }
+
+  private MultipartUploadWritableByteChannel channel() {
+    return channel(null);
+  }
+
+  private MultipartUploadWritableByteChannel channel(@Nullable MultipartUploadJournal journal) {
+    return new MultipartUploadWritableByteChannel(
+        bufferHandlePool,
+        MoreExecutors.directExecutor(),
+        client,
+        finalObject,
+        storageInternal,
+        info,
+        Opts.empty(),
+        journal);
+  }
+
+  private static final class FakeMultipartUploadClient extends MultipartUploadClient {
+    private static final String UPLOAD_ID = "upload-id";
+
+    private final List<UploadPartRequest> uploaded =
+        Collections.synchronizedList(new ArrayList<>());
+    private final Map<Integer, Part> parts;
+    private CreateMultipartUploadRequest created;
+    private ListPartsRequest listed;
+    private CompleteMultipartUploadRequest completed;
+    private AbortMultipartUploadRequest aborted;
+    private int failPart = -1;
+
+    private FakeMultipartUploadClient() {
+      this(Collections.emptyMap());
+    }
+
+    private FakeMultipartUploadClient(Map<Integer, Part> parts) {
+      this.parts = new ConcurrentHashMap<>(parts);
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(
+        CreateMultipartUploadRequest request) {
+      created = request;
+      return CreateMultipartUploadResponse.builder()
+          .bucket(request.bucket())
+          .key(request.key())
+          .uploadId(UPLOAD_ID)
+          .build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+      if (!UPLOAD_ID.equals(request.uploadId())) {
+        throw new StorageException(404, "Not Found");
+      }
+      if (request.partNumber() == failPart) {
+        throw new StorageException(503, "Service Unavailable");
+      }
+      uploaded.add(request);
+      String eTag = "etag-" + request.partNumber();
+      parts.put(
+          request.partNumber(),
+          Part.builder()
+              .partNumber(request.partNumber())
+              .eTag(eTag)
+              .size(requestBody.getContent().getLength())
+              .build());
+      return UploadPartResponse.builder().eTag(eTag).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(
+        CompleteMultipartUploadRequest request) {
+      completed = request;
+      return CompleteMultipartUploadResponse.builder()
+          .bucket(request.bucket())
+          .key(request.key())
+          .build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+      aborted = request;
+      return new AbortMultipartUploadResponse();
+    }
+
+    @Override
+    public ListPartsResponse listParts(ListPartsRequest listPartsRequest) {
+      listed = listPartsRequest;
+      if (!UPLOAD_ID.equals(listPartsRequest.uploadId())) {
+        throw new StorageException(404, "Not Found");
+      }
+      return ListPartsResponse.builder()
+          .uploadId(listPartsRequest.uploadId())
+          .parts(new ArrayList<>(parts.values()))
+          .build();
+    }
+
+    @Override
+    public ListMultipartUploadsResponse listMultipartUploads(ListMultipartUploadsRequest request) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final class FakeStorageInternal implements StorageInternal {
+    private int directUploads;
+
+    @Override
+    public BlobInfo internalDirectUpload(
+        BlobInfo info, Opts<ObjectTargetOpt> opts, ByteBuffer buf) {
+      directUploads++;
+      return info.toBuilder().setBlobId(BlobId.of(info.getBucket(), info.getName(), 1L)).build();
+    }
+
+    @Override
+    public BlobInfo internalObjectGet(BlobId blobId, Opts<ObjectSourceOpt> opts) {
+      return BlobInfo.newBuilder(BlobId.of(blobId.getBucket(), blobId.getName(), 1L)).build();
+    }
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.storage.v2.Object;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ScatteringByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class ObjectReadSessionSeekableByteChannelTest {
+
+  private static final int KiB = 1024;
+  private static final byte[] CONTENT = DataGenerator.base64Characters().genBytes(16 * KiB);
+
+  @Test
+  public void readAhead_disabledByDefault() throws Exception {
+    FakeSession session = new FakeSession();
+    ReadAsSeekableChannel config =
+        ReadProjectionConfigs.asSeekableChannel()
+            .withRangeSpecFunction(
+                RangeSpecFunction.linearExponential()
+                    .withInitialMaxLength(KiB)
+                    .withMaxLengthScalar(2.0));
+
+    byte[] actual = readFully(session, config);
+
+    assertThat(actual).isEqualTo(CONTENT);
+    assertThat(session.maxConcurrentlyOpen).isEqualTo(1);
+  }
+
+  @Test
+  public void readAhead_issuesNextRangesBeforeNeeded() throws Exception {
+    FakeSession session = new FakeSession();
+    ReadAsSeekableChannel config =
+        ReadProjectionConfigs.asSeekableChannel()
+            .withRangeSpecFunction(
+                RangeSpecFunction.linearExponential()
+                    .withInitialMaxLength(KiB)
+                    .withMaxLengthScalar(2.0))
+            .withReadAheadRanges(2);
+
+    byte[] actual = readFully(session, config);
+
+    assertThat(actual).isEqualTo(CONTENT);
+    assertThat(session.maxConcurrentlyOpen).isEqualTo(3);
+    assertThat(session.ranges)
+        .containsExactly(
+            RangeSpec.of(0, KiB),
+            RangeSpec.of(KiB, 2 * KiB),
+            RangeSpec.of(3 * KiB, 4 * KiB),
+            RangeSpec.of(7 * KiB, 8 * KiB),
+            RangeSpec.of(15 * KiB, KiB))
+        .inOrder();
+  }
+
+  @Test
+  public void readAhead_boundedByMaxBytes() throws Exception {
+    FakeSession session = new FakeSession();
+    ReadAsSeekableChannel config =
+        ReadProjectionConfigs.asSeekableChannel()
+            .withRangeSpecFunction(
+                RangeSpecFunction.linearExponential()
+                    .withInitialMaxLength(KiB)
+                    .withMaxLengthScalar(4.0))
+            .withReadAheadRanges(2)
+            .withReadAheadMaxBytes(3 * KiB);
+
+    byte[] actual = readFully(session, config);
+
+    assertThat(actual).isEqualTo(CONTENT);
+    assertThat(session.ranges.get(0)).isEqualTo(RangeSpec.of(0, KiB));
+    // the second range uses the entire budget, leaving nothing for a third
+    assertThat(session.ranges.get(1)).isEqualTo(RangeSpec.of(KiB, 3 * KiB));
+    assertThat(session.maxConcurrentlyOpen).isEqualTo(2);
+    for (RangeSpec r : session.ranges) {
+      assertThat(r.maxLength().getAsLong()).isAtMost(3 * KiB);
+    }
+  }
+
+  @Test
+  public void readAhead_seekCancelsSpeculativeReads() throws Exception {
+    FakeSession session = new FakeSession();
+    ReadAsSeekableChannel config =
+        ReadProjectionConfigs.asSeekableChannel()
+            .withRangeSpecFunction(RangeSpecFunction.linearExponential().withInitialMaxLength(KiB))
+            .withReadAheadRanges(1);
+
+    try (ObjectReadSessionSeekableByteChannel channel =
+        new ObjectReadSessionSeekableByteChannel(session, config, IOAutoCloseable.noOp())) {
+      ByteBuffer buf = ByteBuffer.allocate(KiB / 2);
+      channel.read(buf);
+      assertThat(session.channels).hasSize(2);
+
+      channel.position(10 * KiB);
+      assertThat(session.channels.stream().noneMatch(FakeRangeChannel::isOpen)).isTrue();
+
+      buf.clear();
+      channel.read(buf);
+      Buffers.flip(buf);
+      assertThat(session.ranges.get(2).begin()).isEqualTo(10 * KiB);
+      byte[] expected = new byte[KiB / 2];
+      System.arraycopy(CONTENT, 10 * KiB, expected, 0, expected.length);
+      byte[] actual = new byte[buf.remaining()];
+      buf.get(actual);
+      assertThat(actual).isEqualTo(expected);
+    }
+    assertThat(session.channels.stream().noneMatch(FakeRangeChannel::isOpen)).isTrue();
+  }
+
+  private static byte[] readFully(FakeSession session, ReadAsSeekableChannel config)
+      throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectReadSessionSeekableByteChannel channel =
+        new ObjectReadSessionSeekableByteChannel(session, config, IOAutoCloseable.noOp())) {
+      ByteBuffer buf = ByteBuffer.allocate(256);
+      while (channel.read(buf) != -1) {
+        Buffers.flip(buf);
+        baos.write(buf.array(), 0, buf.limit());
+        buf.clear();
+      }
+    }
+    return baos.toByteArray();
+  }
+
+  /** Serves each requested range from {@link #CONTENT}, recording what was requested. */
+  private static final class FakeSession implements ObjectReadSession {
+    private final List<RangeSpec> ranges = new ArrayList<>();
+    private final List<FakeRangeChannel> channels = new ArrayList<>();
+    private int maxConcurrentlyOpen = 0;
+
+    @Override
+    public Object getResource() {
+      return Object.newBuilder().setSize(CONTENT.length).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <Projection> Projection readAs(ReadProjectionConfig<Projection> config) {
+      RangeSpec range = ((ReadAsChannel) config).getRange();
+      ranges.add(range);
+      FakeRangeChannel channel = new FakeRangeChannel(range);
+      channels.add(channel);
+      int open =
+          channels.stream().filter(FakeRangeChannel::isOpen).collect(Collectors.toList()).size();
+      maxConcurrentlyOpen = Math.max(maxConcurrentlyOpen, open);
+      return (Projection) channel;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private static final class FakeRangeChannel implements ScatteringByteChannel {
+    private final ByteBuffer content;
+    private boolean open = true;
+
+    private FakeRangeChannel(RangeSpec range) {
+      int begin = Math.toIntExact(range.begin());
+      int end =
+          Math.toIntExact(
+              Math.min(CONTENT.length, begin + range.maxLength().orElse(CONTENT.length)));
+      this.content = ByteBuffer.wrap(CONTENT, begin, end - begin);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+      if (!open) {
+        throw new ClosedChannelException();
+      }
+      if (!content.hasRemaining()) {
+        return -1;
+      }
+      return Buffers.copy(content, dsts, offset, length);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts) throws IOException {
+      return read(dsts, 0, dsts.length);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return Math.toIntExact(read(new ByteBuffer[] {dst}, 0, 1));
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+  }
+}
@@ -37,6 +37,7 @@ import com.google.storage.v2.Object;
 import com.google.storage.v2.ReadRange;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.Test;
 
 public final class ObjectReadSessionStateTest {
@@ -234,4 +235,154 @@ public final class ObjectReadSessionStateTest {
           () -> assertThat(state2.canHandleNewRead(streaming2)).isFalse());
     }
   }
+
+  @Test
+  public void scheduleRead_lowPriorityHeldAtCapAndAdmittedOnRemoval() throws Exception {
+    BidiReadObjectRequest base =
+        BidiReadObjectRequest.newBuilder()
+            .setReadObjectSpec(
+                BidiReadObjectSpec.newBuilder()
+                    .setBucket("projects/_/buckets/my-bucket")
+                    .setObject("my-object"))
+            .build();
+    ObjectReadSessionState state =
+        new ObjectReadSessionState(GrpcCallContext.createDefault(), base);
+
+    long cap = ReadPriority.LOW.getMaxOutstandingBytes();
+    ReadAsFutureBytes low =
+        ReadProjectionConfigs.asFutureBytes()
+            .withPriority(ReadPriority.LOW)
+            .withRangeSpec(RangeSpec.of(0, cap / 2 + 1));
+    ReadAsFutureBytes high =
+        ReadProjectionConfigs.asFutureBytes()
+            .withPriority(ReadPriority.HIGH)
+            .withRangeSpec(RangeSpec.of(0, cap));
+
+    assertAll(
+        () -> assertThat(state.scheduleRead(1, low.newRead(1, RetryContext.neverRetry()))).isTrue(),
+        () ->
+            assertThat(state.scheduleRead(2, low.newRead(2, RetryContext.neverRetry()))).isFalse(),
+        () ->
+            assertThat(state.scheduleRead(3, high.newRead(3, RetryContext.neverRetry()))).isTrue(),
+        () -> assertThat(state.getOutstandingRead(2)).isNull(),
+        () -> assertThat(state.removeOutstandingRead(3)).isEmpty(),
+        () ->
+            assertThat(state.removeOutstandingRead(1))
+                .containsExactly(
+                    ReadRange.newBuilder()
+                        .setReadId(2)
+                        .setReadOffset(0)
+                        .setReadLength(cap / 2 + 1)
+                        .build()),
+        () -> assertThat(state.getOutstandingRead(2)).isNotNull());
+  }
+
+  @Test
+  public void cancellingAnAdmittedRead_releasesItsChargeAndAdmitsTheNextHeldRead()
+      throws Exception {
+    BidiReadObjectRequest base =
+        BidiReadObjectRequest.newBuilder()
+            .setReadObjectSpec(
+                BidiReadObjectSpec.newBuilder()
+                    .setBucket("projects/_/buckets/my-bucket")
+                    .setObject("my-object"))
+            .build();
+    ObjectReadSessionState state =
+        new ObjectReadSessionState(GrpcCallContext.createDefault(), base);
+
+    long cap = ReadPriority.LOW.getMaxOutstandingBytes();
+    ReadAsFutureBytes low =
+        ReadProjectionConfigs.asFutureBytes()
+            .withPriority(ReadPriority.LOW)
+            .withRangeSpec(RangeSpec.of(0, cap / 2 + 1));
+    AccumulatingRead<byte[]> read1 = low.newRead(1, RetryContext.neverRetry());
+    AccumulatingRead<byte[]> read2 = low.newRead(2, RetryContext.neverRetry());
+    AccumulatingRead<byte[]> read3 = low.newRead(3, RetryContext.neverRetry());
+
+    assertAll(
+        () -> assertThat(state.scheduleRead(1, read1)).isTrue(),
+        () -> assertThat(state.scheduleRead(2, read2)).isFalse(),
+        () -> assertThat(state.scheduleRead(3, read3)).isFalse());
+
+    // cancelled before any bytes arrived, the read will never reach eof
+    read1.cancel(true);
+    List<ReadRange> admitted = state.releaseClosedReads();
+
+    assertAll(
+        () ->
+            assertThat(admitted)
+                .containsExactly(
+                    ReadRange.newBuilder()
+                        .setReadId(2)
+                        .setReadOffset(0)
+                        .setReadLength(cap / 2 + 1)
+                        .build()),
+        () -> assertThat(state.getOutstandingRead(1)).isNull(),
+        () -> assertThat(state.getOutstandingRead(2)).isNotNull(),
+        () -> assertThat(state.getOutstandingRead(3)).isNull());
+  }
+
+  @Test
+  public void closedHeldReadsArePurged() throws Exception {
+    BidiReadObjectRequest base =
+        BidiReadObjectRequest.newBuilder()
+            .setReadObjectSpec(
+                BidiReadObjectSpec.newBuilder()
+                    .setBucket("projects/_/buckets/my-bucket")
+                    .setObject("my-object"))
+            .build();
+    ObjectReadSessionState state =
+        new ObjectReadSessionState(GrpcCallContext.createDefault(), base);
+
+    long cap = ReadPriority.LOW.getMaxOutstandingBytes();
+    ReadAsFutureBytes low =
+        ReadProjectionConfigs.asFutureBytes()
+            .withPriority(ReadPriority.LOW)
+            .withRangeSpec(RangeSpec.of(0, cap / 2 + 1));
+    AccumulatingRead<byte[]> read1 = low.newRead(1, RetryContext.neverRetry());
+    AccumulatingRead<byte[]> read2 = low.newRead(2, RetryContext.neverRetry());
+    AccumulatingRead<byte[]> read3 = low.newRead(3, RetryContext.neverRetry());
+
+    assertAll(
+        () -> assertThat(state.scheduleRead(1, read1)).isTrue(),
+        () -> assertThat(state.scheduleRead(2, read2)).isFalse(),
+        () -> assertThat(state.scheduleRead(3, read3)).isFalse());
+
+    read2.cancel(true);
+    List<ReadRange> admitted = state.removeOutstandingRead(1);
+
+    assertAll(
+        () ->
+            assertThat(admitted.stream().map(ReadRange::getReadId).collect(Collectors.toList()))
+                .containsExactly(3L),
+        () -> assertThat(state.getOutstandingRead(2)).isNull(),
+        () -> assertThat(state.getOutstandingRead(3)).isNotNull());
+  }
+
+  @Test
+  public void getOpenArguments_readRangesOrderedByPriority() {
+    BidiReadObjectRequest base =
+        BidiReadObjectRequest.newBuilder()
+            .setReadObjectSpec(
+                BidiReadObjectSpec.newBuilder()
+                    .setBucket("projects/_/buckets/my-bucket")
+                    .setObject("my-object"))
+            .build();
+    ObjectReadSessionState state =
+        new ObjectReadSessionState(GrpcCallContext.createDefault(), base);
+
+    ReadAsFutureBytes config =
+        ReadProjectionConfigs.asFutureBytes().withRangeSpec(RangeSpec.of(0, 10));
+    state.putOutstandingRead(
+        1, config.withPriority(ReadPriority.LOW).newRead(1, RetryContext.neverRetry()));
+    state.putOutstandingRead(2, config.newRead(2, RetryContext.neverRetry()));
+    state.putOutstandingRead(
+        3, config.withPriority(ReadPriority.HIGH).newRead(3, RetryContext.neverRetry()));
+
+    List<Long> readIds =
+        state.getOpenArguments().getReq().getReadRangesList().stream()
+            .map(ReadRange::getReadId)
+            .collect(Collectors.toList());
+    assertThat(readIds).containsExactly(3L, 2L, 1L).inOrder();
+  }
 }
@@ -20,11 +20,15 @@ import static com.google.cloud.storage.TestUtils.assertAll;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertThrows;
 
+import com.google.api.core.ApiFunction;
+import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.api.core.SettableApiFuture;
 import com.google.api.gax.grpc.GrpcStatusCode;
 import com.google.api.gax.rpc.ApiExceptionFactory;
 import com.google.api.gax.rpc.ApiExceptions;
+import com.google.cloud.storage.ApiFutureUtils.OnSuccessApiFutureCallback;
 import com.google.cloud.storage.BufferHandlePool.PooledBuffer;
 import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
 import com.google.cloud.storage.MetadataField.PartRange;
@@ -71,6 +75,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -168,6 +173,33 @@ public final class ParallelCompositeUploadWritableByteChannelTest {
         () -> assertThat(storageInternal.deleteRequests).containsExactly(p1, p2, p3, p4, p5));
   }
 
+  @Test
+  public void partsAreDeletedOnceContainedInAnIntermediaryCompose() throws Exception {
+    ParallelCompositeUploadWritableByteChannel pcu = defaultPcu(2);
+
+    // 4 full parts, composed as a tree of (1-2) and (3-4) into (1-4)
+    pcu.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(40)));
+
+    String name = info.getName();
+    BlobId p1 = id(partNamingStrategy.fmtName(name, PartRange.of(1)), 1L);
+    BlobId p2 = id(partNamingStrategy.fmtName(name, PartRange.of(2)), 2L);
+    BlobId c12 = id(partNamingStrategy.fmtName(name, PartRange.of(1, 2)), 3L);
+    BlobId p3 = id(partNamingStrategy.fmtName(name, PartRange.of(3)), 4L);
+    BlobId p4 = id(partNamingStrategy.fmtName(name, PartRange.of(4)), 5L);
+    BlobId c34 = id(partNamingStrategy.fmtName(name, PartRange.of(3, 4)), 6L);
+    BlobId c14 = id(partNamingStrategy.fmtName(name, PartRange.of(1, 4)), 7L);
+    // the channel is still open, but everything except the newest intermediary is already gone
+    assertThat(storageInternal.deleteRequests).containsExactly(p1, p2, p3, p4, c12, c34);
+
+    pcu.close();
+    BlobInfo result = ApiFutureUtils.await(finalObject);
+    assertAll(
+        () -> assertThat(result.getBlobId()).isEqualTo(id(name, 8L)),
+        () ->
+            assertThat(storageInternal.deleteRequests)
+                .containsExactly(p1, p2, p3, p4, c12, c34, c14));
+  }
+
   @Test
   public void objectCreated_partCount_gtToLimit() throws Exception {
 
@@ -544,6 +576,76 @@ public final class ParallelCompositeUploadWritableByteChannelTest {
         () -> assertThat(failure.get()).hasMessageThat().isEqualTo("induced failure"));
   }
 
+  @Test
+  public void bufferHandleRelease_cancelledPartReturnsBufferOnceItsTaskFinishes() throws Exception {
+    PooledBuffer p1 = PooledBuffer.of(BufferHandle.allocate(3));
+    AtomicInteger returned = new AtomicInteger(0);
+    BufferHandlePool pool =
+        new BufferHandlePool() {
+          @Override
+          public PooledBuffer getBuffer() {
+            return null;
+          }
+
+          @Override
+          public void returnBuffer(PooledBuffer handle) {
+            assertThat(handle).isSameInstanceAs(p1);
+            returned.incrementAndGet();
+          }
+        };
+    BufferHandleReleaser<String> releaser =
+        new BufferHandleReleaser<>(pool, p1, (OnSuccessApiFutureCallback<String>) s -> {});
+
+    ExecutorService exec = Executors.newSingleThreadExecutor();
+    try {
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch finish = new CountDownLatch(1);
+      ApiFuture<String> part =
+          ApiFutures.transform(
+              ApiFutures.immediateFuture("part"),
+              releaser.guard(
+                  in -> {
+                    started.countDown();
+                    Uninterruptibles.awaitUninterruptibly(finish);
+                    return in;
+                  }),
+              exec);
+      ApiFutures.addCallback(part, releaser, MoreExecutors.directExecutor());
+
+      started.await();
+      part.cancel(false);
+      // the future is complete, but the task is still reading from the buffer
+      assertThat(returned.get()).isEqualTo(0);
+
+      finish.countDown();
+      exec.shutdown();
+      assertThat(exec.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(returned.get()).isEqualTo(1);
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void bufferHandleRelease_taskNotStartedBeforeReturnIsNotRun() {
+    PooledBuffer p1 = PooledBuffer.of(BufferHandle.allocate(3));
+    BufferHandleReleaser<String> releaser =
+        new BufferHandleReleaser<>(
+            BufferHandlePool.simple(3), p1, (OnSuccessApiFutureCallback<String>) s -> {});
+    AtomicBoolean ran = new AtomicBoolean(false);
+    ApiFunction<String, String> task =
+        releaser.guard(
+            in -> {
+              ran.set(true);
+              return in;
+            });
+
+    releaser.onFailure(new CancellationException());
+
+    assertThrows(CancellationException.class, () -> task.apply("part"));
+    assertThat(ran.get()).isFalse();
+  }
+
   @Test
   public void shortCircuitExceptionResultsInFastFailure() throws Exception {
     ThreadFactory threadFactory =
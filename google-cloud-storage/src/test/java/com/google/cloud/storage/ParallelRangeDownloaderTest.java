@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.UnifiedOpts.ParallelDownload;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ParallelRangeDownloaderTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private byte[] content;
+  private List<Long> seeks;
+  private Storage storage;
+  private ParallelDownload config;
+
+  @Before
+  public void setUp() {
+    content = DataGenerator.base64Characters().genBytes(100);
+    seeks = Collections.synchronizedList(new ArrayList<>());
+    storage = mock(Storage.class);
+    doAnswer(invocation -> new FakeReadChannel())
+        .when(storage)
+        .reader(any(BlobId.class), any(BlobSourceOption[].class));
+    config = UnifiedOpts.parallelDownload(3, 30);
+  }
+
+  @Test
+  public void rangesAreWrittenToTheirPosition() throws Exception {
+    BlobInfo info =
+        info(Utils.crc32cCodec.encode(Hasher.enabled().hash(ByteBuffer.wrap(content)).getValue()));
+    Path path = temporaryFolder.newFile().toPath();
+    Files.write(path, DataGenerator.base64Characters().genBytes(200));
+
+    new ParallelRangeDownloader(storage, config, Hasher.enabled()).downloadTo(info, path);
+
+    assertThat(Files.readAllBytes(path)).isEqualTo(content);
+    assertThat(seeks).containsExactly(0L, 30L, 60L, 90L);
+  }
+
+  @Test
+  public void checksumMismatchFails() throws Exception {
+    BlobInfo info = info(Utils.crc32cCodec.encode(1));
+    Path path = temporaryFolder.newFile().toPath();
+
+    ParallelRangeDownloader downloader =
+        new ParallelRangeDownloader(storage, config, Hasher.enabled());
+    StorageException e =
+        assertThrows(StorageException.class, () -> downloader.downloadTo(info, path));
+    assertThat(e).hasCauseThat().isInstanceOf(Hasher.ChecksumMismatchException.class);
+  }
+
+  @Test
+  public void smallAndDecompressedObjectsAreNotApplicable() {
+    ParallelRangeDownloader downloader =
+        new ParallelRangeDownloader(storage, config, Hasher.enabled());
+    BlobInfo gzip = info(null).toBuilder().setContentEncoding("gzip").build();
+
+    assertThat(downloader.isApplicable(info(null), false)).isTrue();
+    assertThat(downloader.isApplicable(info(null).toBuilder().setSize(30L).build(), false))
+        .isFalse();
+    assertThat(downloader.isApplicable(gzip, false)).isFalse();
+    assertThat(downloader.isApplicable(gzip, true)).isTrue();
+  }
+
+  private BlobInfo info(String crc32c) {
+    return BlobInfo.newBuilder(BlobId.of("bucket", "object", 1L))
+        .setSize((long) content.length)
+        .setCrc32c(crc32c)
+        .build();
+  }
+
+  private final class FakeReadChannel implements ReadChannel {
+    private long position;
+    private long limit = Long.MAX_VALUE;
+
+    @Override
+    public void seek(long position) {
+      seeks.add(position);
+      this.position = position;
+    }
+
+    @Override
+    public ReadChannel limit(long limit) {
+      this.limit = limit;
+      return this;
+    }
+
+    @Override
+    public long limit() {
+      return limit;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+      long end = Math.min(limit, content.length);
+      if (position >= end) {
+        return -1;
+      }
+      // return fewer bytes than requested to exercise the read loop
+      int n = (int) Math.min(Math.min(dst.remaining(), 7), end - position);
+      dst.put(content, (int) position, n);
+      position += n;
+      return n;
+    }
+
+    @Override
+    public void setChunkSize(int chunkSize) {}
+
+    @Override
+    public RestorableState<ReadChannel> capture() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
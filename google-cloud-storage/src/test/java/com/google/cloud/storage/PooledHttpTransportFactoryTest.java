@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpResponse;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.apache.v2.ApacheHttpTransport;
+import com.google.cloud.storage.PooledHttpTransportFactory.SharedHttpClient;
+import com.google.common.collect.ImmutableMap;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import java.time.Duration;
+import org.apache.http.client.HttpClient;
+import org.junit.Test;
+
+public final class PooledHttpTransportFactoryTest {
+
+  @Test
+  public void builder() {
+    PooledHttpTransportFactory factory =
+        PooledHttpTransportFactory.newBuilder()
+            .setMaxConnections(7)
+            .setIdleConnectionTimeout(Duration.ofSeconds(3))
+            .build();
+
+    assertThat(factory.getMaxConnections()).isEqualTo(7);
+    assertThat(factory.getIdleConnectionTimeout()).isEqualTo(Duration.ofSeconds(3));
+    assertThat(factory.toBuilder().build()).isEqualTo(factory);
+    assertThat(PooledHttpTransportFactory.newBuilder().build())
+        .isEqualTo(new PooledHttpTransportFactory());
+  }
+
+  @Test
+  public void builder_rejectsInvalidValues() {
+    PooledHttpTransportFactory.Builder b = PooledHttpTransportFactory.newBuilder();
+
+    assertThrows(IllegalArgumentException.class, () -> b.setMaxConnections(0));
+    assertThrows(IllegalArgumentException.class, () -> b.setIdleConnectionTimeout(Duration.ZERO));
+  }
+
+  @Test
+  public void create() throws Exception {
+    HttpTransport transport = new PooledHttpTransportFactory().create();
+    try {
+      assertThat(transport).isInstanceOf(ApacheHttpTransport.class);
+      assertThat(transport.supportsMethod("PATCH")).isTrue();
+    } finally {
+      transport.shutdown();
+    }
+  }
+
+  @Test
+  public void create_transportsShareASingleClient() throws Exception {
+    PooledHttpTransportFactory factory = new PooledHttpTransportFactory();
+    ApacheHttpTransport transport1 = (ApacheHttpTransport) factory.create();
+    ApacheHttpTransport transport2 = (ApacheHttpTransport) factory.create();
+    try {
+      assertThat(delegate(transport1)).isSameInstanceAs(delegate(transport2));
+    } finally {
+      transport1.shutdown();
+      transport2.shutdown();
+    }
+  }
+
+  @Test
+  public void shutdown_doesNotCloseTheClientOfOtherTransports() throws Exception {
+    try (FakeHttpServer fakeHttpServer =
+        FakeHttpServer.of(
+            req -> new DefaultFullHttpResponse(req.protocolVersion(), HttpResponseStatus.OK))) {
+      GenericUrl url = new GenericUrl(fakeHttpServer.createUri("/", ImmutableMap.of()));
+      PooledHttpTransportFactory factory = new PooledHttpTransportFactory();
+      HttpTransport transport1 = factory.create();
+      HttpTransport transport2 = factory.create();
+
+      transport1.shutdown();
+      HttpResponse response = transport2.createRequestFactory().buildGetRequest(url).execute();
+      assertThat(response.getStatusCode()).isEqualTo(200);
+      response.disconnect();
+
+      // shutting down the same transport again must not release another transport's claim
+      transport1.shutdown();
+      HttpResponse response2 = transport2.createRequestFactory().buildGetRequest(url).execute();
+      assertThat(response2.getStatusCode()).isEqualTo(200);
+      response2.disconnect();
+      transport2.shutdown();
+    }
+  }
+
+  @Test
+  public void create_afterEveryTransportIsShutDownCreatesANewClient() throws Exception {
+    try (FakeHttpServer fakeHttpServer =
+        FakeHttpServer.of(
+            req -> new DefaultFullHttpResponse(req.protocolVersion(), HttpResponseStatus.OK))) {
+      GenericUrl url = new GenericUrl(fakeHttpServer.createUri("/", ImmutableMap.of()));
+      PooledHttpTransportFactory factory = new PooledHttpTransportFactory();
+      ApacheHttpTransport transport1 = (ApacheHttpTransport) factory.create();
+      transport1.shutdown();
+
+      ApacheHttpTransport transport2 = (ApacheHttpTransport) factory.create();
+      try {
+        assertThat(delegate(transport2)).isNotSameInstanceAs(delegate(transport1));
+        HttpResponse response = transport2.createRequestFactory().buildGetRequest(url).execute();
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        response.disconnect();
+      } finally {
+        transport2.shutdown();
+      }
+    }
+  }
+
+  private static HttpClient delegate(HttpTransport transport) {
+    return ((SharedHttpClient) ((ApacheHttpTransport) transport).getHttpClient()).getDelegate();
+  }
+}
@@ -118,4 +118,82 @@ public final class RangeSpecFunctionTest {
     apply = e.apply(5, apply);
     assertThat(apply).isEqualTo(RangeSpec.of(5, 4));
   }
+
+  @Test
+  public void adaptive_sequential_withoutObservations_doubles() {
+    RangeSpecFunction e =
+        RangeSpecFunction.adaptive().withInitialMaxLength(MiB).withMaxMaxLength(4 * MiB);
+
+    RangeSpec apply = e.apply(0, null);
+    assertThat(apply).isEqualTo(RangeSpec.of(0, MiB));
+    apply = e.apply(MiB, apply);
+    assertThat(apply).isEqualTo(RangeSpec.of(MiB, 2 * MiB));
+    apply = e.apply(3 * MiB, apply);
+    assertThat(apply).isEqualTo(RangeSpec.of(3 * MiB, 4 * MiB));
+    apply = e.apply(7 * MiB, apply);
+    assertThat(apply).isEqualTo(RangeSpec.of(7 * MiB, 4 * MiB));
+    // the shared instance does not learn
+    apply = e.apply(0, RangeSpec.of(10, 10));
+    assertThat(apply).isEqualTo(RangeSpec.of(0, MiB));
+  }
+
+  @Test
+  public void adaptive_sequential_sizedFromThroughputAndTtfb() {
+    RangeSpecFunction e =
+        RangeSpecFunction.adaptive().withInitialMaxLength(MiB).withTtfbMultiplier(8.0).forChannel();
+
+    RangeSpec apply = e.apply(0, null);
+    assertThat(apply).isEqualTo(RangeSpec.of(0, MiB));
+    // 1 byte per nanosecond after waiting 1Mi nanoseconds for the first byte
+    e.onRangeComplete(apply, MiB, MiB, 2 * MiB);
+    apply = e.apply(MiB, apply);
+    assertThat(apply).isEqualTo(RangeSpec.of(MiB, 8 * MiB));
+  }
+
+  @Test
+  public void adaptive_strided() {
+    RangeSpecFunction e = RangeSpecFunction.adaptive().forChannel();
+
+    long rowGroup = 10 * MiB;
+    long chunk = 100 * KiB;
+    RangeSpec apply = e.apply(3 * MiB, null);
+    e.onRangeComplete(apply, chunk, 1, 2);
+    apply = e.apply(3 * MiB + rowGroup, apply);
+    e.onRangeComplete(apply, chunk, 1, 2);
+    apply = e.apply(3 * MiB + 2 * rowGroup, apply);
+    assertThat(apply).isEqualTo(RangeSpec.of(3 * MiB + 2 * rowGroup, chunk));
+  }
+
+  @Test
+  public void adaptive_randomSizedFromConsumed() {
+    RangeSpecFunction e = RangeSpecFunction.adaptive().withMinMaxLength(KiB).forChannel();
+
+    // footer length and magic
+    RangeSpec apply = e.apply(100 * MiB - 8, null);
+    assertThat(apply).isEqualTo(RangeSpec.of(100 * MiB - 8, 2 * MiB));
+    e.onRangeComplete(apply, 8, 1, 2);
+    // footer
+    apply = e.apply(99 * MiB, apply);
+    assertThat(apply).isEqualTo(RangeSpec.of(99 * MiB, KiB));
+    e.onRangeComplete(apply, KiB, 1, 2);
+    apply = e.apply(0, apply);
+    assertThat(apply.maxLength().getAsLong()).isLessThan(2 * MiB);
+  }
+
+  @Test
+  public void adaptive_andThen_forChannel() {
+    RangeSpecFunction shared =
+        RangeSpecFunction.adaptive()
+            .withInitialMaxLength(MiB)
+            .andThen(RangeSpecFunction.maxLength(4 * MiB));
+    RangeSpecFunction e = shared.forChannel();
+    assertThat(e).isNotSameInstanceAs(shared);
+    RangeSpecFunction stateless = RangeSpecFunction.maxLength(4);
+    assertThat(stateless.forChannel()).isSameInstanceAs(stateless);
+
+    RangeSpec apply = e.apply(0, null);
+    e.onRangeComplete(apply, MiB, MiB, 2 * MiB);
+    apply = e.apply(MiB, apply);
+    assertThat(apply).isEqualTo(RangeSpec.of(MiB, 4 * MiB));
+  }
 }
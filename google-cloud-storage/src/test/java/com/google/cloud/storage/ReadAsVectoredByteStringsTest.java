@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.ReadAsVectoredByteStrings.MergedRange;
+import com.google.cloud.storage.ZeroCopySupport.DisposableByteString;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.ByteString;
+import com.google.storage.v2.Object;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public final class ReadAsVectoredByteStringsTest {
+
+  @Test
+  public void merge_gapAndLengthAreRespected() {
+    List<RangeSpec> ranges =
+        ImmutableList.of(
+            RangeSpec.of(100, 10), // 0
+            RangeSpec.of(0, 10), // 1
+            RangeSpec.of(15, 10), // 2, gap of 5 from 1
+            RangeSpec.of(105, 20), // 3, overlaps 0
+            RangeSpec.of(200, 50), // 4, would exceed max merged length with 3
+            RangeSpec.beginAt(300)); // 5, unbounded
+
+    List<MergedRange> merged = ReadAsVectoredByteStrings.merge(ranges, 5, 100);
+
+    assertThat(merged.stream().map(m -> m.range).collect(Collectors.toList()))
+        .containsExactly(
+            RangeSpec.of(0, 25),
+            RangeSpec.of(100, 25),
+            RangeSpec.of(200, 50),
+            RangeSpec.beginAt(300))
+        .inOrder();
+    assertThat(merged.stream().map(m -> m.members).collect(Collectors.toList()))
+        .containsExactly(
+            ImmutableList.of(1, 2),
+            ImmutableList.of(0, 3),
+            ImmutableList.of(4),
+            ImmutableList.of(5))
+        .inOrder();
+
+    assertThat(ReadAsVectoredByteStrings.merge(ranges, 4, 100)).hasSize(5);
+    assertThat(ReadAsVectoredByteStrings.merge(ImmutableList.of(), 4, 100)).isEmpty();
+  }
+
+  @Test
+  public void slicesShareTheMergedReadUntilAllAreClosed() throws Exception {
+    ByteString content = ByteString.copyFromUtf8("abcdefghijklmnopqrstuvwxyz");
+    AtomicInteger closes = new AtomicInteger();
+    List<RangeSpec> issued = new ArrayList<>();
+    SettableApiFuture<DisposableByteString> read = SettableApiFuture.create();
+    ObjectReadSession session =
+        new ObjectReadSession() {
+          @Override
+          public Object getResource() {
+            return Object.getDefaultInstance();
+          }
+
+          @SuppressWarnings("unchecked")
+          @Override
+          public <Projection> Projection readAs(ReadProjectionConfig<Projection> config) {
+            issued.add(((ReadAsFutureByteString) config).getRange());
+            return (Projection) read;
+          }
+
+          @Override
+          public void close() {}
+        };
+
+    List<ApiFuture<DisposableByteString>> futures =
+        ReadProjectionConfigs.asVectoredByteStrings()
+            .withRanges(ImmutableList.of(RangeSpec.of(2, 3), RangeSpec.of(0, 2)))
+            .project(session, IOAutoCloseable.noOp());
+    read.set(
+        new DisposableByteString() {
+          @Override
+          public ByteString byteString() {
+            return content.substring(0, 5);
+          }
+
+          @Override
+          public void close() {
+            closes.incrementAndGet();
+          }
+        });
+
+    assertThat(issued).containsExactly(RangeSpec.of(0, 5));
+    DisposableByteString first = futures.get(0).get(5, TimeUnit.SECONDS);
+    DisposableByteString second = futures.get(1).get(5, TimeUnit.SECONDS);
+    assertThat(first.byteString().toStringUtf8()).isEqualTo("cde");
+    assertThat(second.byteString().toStringUtf8()).isEqualTo("ab");
+
+    first.close();
+    first.close();
+    assertThat(closes.get()).isEqualTo(0);
+    second.close();
+    assertThat(closes.get()).isEqualTo(1);
+  }
+}
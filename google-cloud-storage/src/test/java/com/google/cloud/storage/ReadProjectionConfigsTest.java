@@ -18,6 +18,7 @@ package com.google.cloud.storage;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.nio.file.Paths;
 import org.junit.Test;
 
 public final class ReadProjectionConfigsTest {
@@ -136,4 +137,24 @@ public final class ReadProjectionConfigsTest {
 
     assertThat(config2).isNotSameInstanceAs(config1);
   }
+
+  @Test
+  public void sameInstanceMustBeReturnedIfNoChange_file() {
+    ReadAsFile config1 = ReadProjectionConfigs.asFile(Paths.get("file.bin"));
+
+    assertThat(config1.getCrc32cValidationEnabled()).isEqualTo(true);
+    assertThat(config1.withCrc32cValidationEnabled(true)).isSameInstanceAs(config1);
+    assertThat(config1.withPosition(0)).isSameInstanceAs(config1);
+    assertThat(config1.withRangeSpec(RangeSpec.all())).isSameInstanceAs(config1);
+  }
+
+  @Test
+  public void differentInstanceWhenChanged_file() {
+    ReadAsFile config1 = ReadProjectionConfigs.asFile(Paths.get("file.bin"));
+    ReadAsFile config2 = config1.withPosition(10);
+
+    assertThat(config2).isNotSameInstanceAs(config1);
+    assertThat(config2.getPosition()).isEqualTo(10);
+    assertThat(config2.withCrc32cValidationEnabled(false)).isNotSameInstanceAs(config2);
+  }
 }
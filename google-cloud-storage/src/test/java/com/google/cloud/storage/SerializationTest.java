@@ -56,6 +56,7 @@ import java.io.InvalidClassException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Base64;
 import java.util.Collections;
@@ -420,4 +421,36 @@ public class SerializationTest extends BaseSerializationTest {
             "com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig$ExecutorSupplier$SuppliedExecutorSupplier;"
                 + " Not serializable");
   }
+
+  @Test
+  public void blobWriteSessionConfig_default() throws IOException, ClassNotFoundException {
+    DefaultBlobWriteSessionConfig d1 = BlobWriteSessionConfigs.getDefault();
+    DefaultBlobWriteSessionConfig d1copy = serializeAndDeserialize(d1);
+    assertThat(d1copy).isEqualTo(d1);
+
+    DefaultBlobWriteSessionConfig d2 =
+        BlobWriteSessionConfigs.getDefault()
+            .withChunkSize(ByteSizeConstants._1MiB)
+            .withPipelining(true);
+    DefaultBlobWriteSessionConfig d2copy = serializeAndDeserialize(d2);
+    assertThat(d2copy).isEqualTo(d2);
+    assertThat(d2copy.isPipelining()).isTrue();
+    assertThat(d2copy).isNotEqualTo(d1);
+  }
+
+  @Test
+  public void blobWriteSessionConfig_multipartUpload() throws IOException, ClassNotFoundException {
+    MultipartUploadBlobWriteSessionConfig mpu1 = BlobWriteSessionConfigs.multipartUpload();
+    MultipartUploadBlobWriteSessionConfig mpu1copy = serializeAndDeserialize(mpu1);
+    assertThat(mpu1copy).isEqualTo(mpu1);
+
+    MultipartUploadBlobWriteSessionConfig mpu2 =
+        BlobWriteSessionConfigs.multipartUpload()
+            .withBufferAllocationStrategy(
+                BufferAllocationStrategy.spillToDisk(1, 2, 3, ImmutableList.of(Paths.get("tmp"))))
+            .withExecutorSupplier(ExecutorSupplier.fixedPool(5))
+            .withJournaling(ImmutableList.of(Paths.get("journal")));
+    MultipartUploadBlobWriteSessionConfig mpu2copy = serializeAndDeserialize(mpu2);
+    assertThat(mpu2copy).isEqualTo(mpu2);
+  }
 }
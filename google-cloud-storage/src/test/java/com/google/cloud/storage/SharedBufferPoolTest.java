@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.storage.BufferHandlePool.PooledBuffer;
+import com.google.cloud.storage.SharedBufferPool.Lease;
+import com.google.cloud.storage.SharedBufferPool.Stats;
+import com.google.cloud.storage.UnbufferedWritableByteChannelSession.UnbufferedWritableByteChannel;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public final class SharedBufferPoolTest {
+
+  private static ExecutorService exec;
+
+  @BeforeClass
+  public static void beforeClass() {
+    ThreadFactory threadFactory =
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("test-sbpt-%d").build();
+    exec = Executors.newCachedThreadPool(threadFactory);
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    if (exec != null) {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void sizeClass_roundTrip() {
+    assertThat(SharedBufferPool.sizeClassCapacity(SharedBufferPool.sizeClassIndex(1)))
+        .isEqualTo(4096);
+    assertThat(SharedBufferPool.sizeClassCapacity(SharedBufferPool.sizeClassIndex(4097)))
+        .isEqualTo(5120);
+    assertThat(SharedBufferPool.sizeClassCapacity(SharedBufferPool.sizeClassIndex(8192)))
+        .isEqualTo(8192);
+    assertThat(
+            SharedBufferPool.sizeClassCapacity(SharedBufferPool.sizeClassIndex(24 * 1024 * 1024)))
+        .isEqualTo(24 * 1024 * 1024);
+    assertThat(
+            SharedBufferPool.sizeClassCapacity(
+                SharedBufferPool.sizeClassIndex(SharedBufferPool.MAX_CLASS_SIZE)))
+        .isEqualTo(SharedBufferPool.MAX_CLASS_SIZE);
+
+    for (int i = 1; i < 1_000_000; i += 997) {
+      int capacity = SharedBufferPool.sizeClassCapacity(SharedBufferPool.sizeClassIndex(i));
+      assertThat(capacity).isAtLeast(i);
+      if (i > SharedBufferPool.MIN_CLASS_SIZE) {
+        // at most 25% overhead
+        assertThat((double) capacity / i).isAtMost(1.25);
+      }
+    }
+  }
+
+  @Test
+  public void releasedBufferIsReused() {
+    SharedBufferPool pool = SharedBufferPool.create(1024 * 1024, false);
+    ByteBuffer b1 = pool.acquire(10_000);
+    b1.put((byte) 1);
+    pool.release(b1);
+    ByteBuffer b2 = pool.acquire(9_000);
+
+    assertThat(b2).isSameInstanceAs(b1);
+    assertThat(b2.position()).isEqualTo(0);
+    Stats stats = pool.stats();
+    assertThat(stats.getHits()).isEqualTo(1);
+    assertThat(stats.getMisses()).isEqualTo(1);
+    assertThat(stats.getWaits()).isEqualTo(0);
+  }
+
+  @Test
+  public void lease_presentsRequestedCapacity() {
+    SharedBufferPool pool = SharedBufferPool.create(1024 * 1024, true);
+    Lease lease = pool.lease(4097);
+    assertThat(lease.capacity()).isEqualTo(4097);
+    assertThat(pool.stats().getAllocatedBytes()).isEqualTo(0);
+
+    ByteBuffer buf = lease.get();
+    assertThat(buf.capacity()).isEqualTo(4097);
+    assertThat(buf.isDirect()).isTrue();
+    assertThat(pool.stats().getAllocatedBytes()).isEqualTo(5120);
+
+    lease.release();
+    assertThat(pool.stats().getIdleBytes()).isEqualTo(5120);
+  }
+
+  @Test
+  public void idleBuffersOfOtherSizeClassesAreEvictedToMakeRoom() {
+    SharedBufferPool pool = SharedBufferPool.create(16 * 1024, false);
+    ByteBuffer small = pool.acquire(8 * 1024);
+    pool.release(small);
+    ByteBuffer large = pool.acquire(16 * 1024);
+
+    assertThat(large.capacity()).isEqualTo(16 * 1024);
+    Stats stats = pool.stats();
+    assertThat(stats.getAllocatedBytes()).isEqualTo(16 * 1024);
+    assertThat(stats.getIdleBytes()).isEqualTo(0);
+  }
+
+  @Test
+  public void oversizedRequestsAreNotPooledButCountTowardsMaxBytes() throws Exception {
+    SharedBufferPool pool = SharedBufferPool.create(10_000, false);
+    ByteBuffer buf = pool.acquire(10_000);
+    assertThat(buf.capacity()).isEqualTo(10_000);
+    assertThat(pool.stats().getAllocatedBytes()).isEqualTo(10_000);
+
+    // the size class of 10_000 does not fit in the pool, the one-off allocation holds all of it
+    Future<ByteBuffer> f = exec.submit(() -> pool.acquire(10_000));
+    assertThrows(TimeoutException.class, () -> f.get(10, TimeUnit.MILLISECONDS));
+
+    pool.release(buf);
+    ByteBuffer buf2 = f.get(5, TimeUnit.SECONDS);
+    assertThat(buf2).isNotSameInstanceAs(buf);
+    pool.release(buf2);
+
+    assertThat(pool.stats().getAllocatedBytes()).isEqualTo(0);
+    assertThat(pool.stats().getIdleBytes()).isEqualTo(0);
+  }
+
+  @Test
+  public void requestsLargerThanMaxBytesAreRejected() {
+    SharedBufferPool pool = SharedBufferPool.create(8 * 1024, false);
+
+    assertThrows(IllegalArgumentException.class, () -> pool.acquire(8 * 1024 + 1));
+    assertThrows(IllegalArgumentException.class, () -> pool.lease(8 * 1024 + 1));
+    assertThrows(IllegalArgumentException.class, () -> pool.asBufferHandlePool(8 * 1024 + 1));
+    assertThat(pool.stats().getAllocatedBytes()).isEqualTo(0);
+  }
+
+  @Test
+  public void acquire_blocksWhenExhausted() throws Exception {
+    SharedBufferPool pool = SharedBufferPool.create(8 * 1024, false);
+    ByteBuffer b1 = pool.acquire(8 * 1024);
+
+    Future<ByteBuffer> f = exec.submit(() -> pool.acquire(4 * 1024));
+    assertThrows(TimeoutException.class, () -> f.get(10, TimeUnit.MILLISECONDS));
+
+    pool.release(b1);
+    ByteBuffer b2 = f.get(5, TimeUnit.SECONDS);
+    assertThat(b2.capacity()).isEqualTo(4 * 1024);
+    Stats stats = pool.stats();
+    assertThat(stats.getWaits()).isEqualTo(1);
+    assertThat(stats.getWaitNanos()).isGreaterThan(0);
+  }
+
+  @Test
+  public void acquire_failsAfterMaxWait() {
+    SharedBufferPool pool = SharedBufferPool.create(8 * 1024, false, Duration.ofMillis(10));
+    ByteBuffer b1 = pool.acquire(8 * 1024);
+
+    StorageException e = assertThrows(StorageException.class, () -> pool.acquire(8 * 1024));
+    assertThat(e).hasMessageThat().contains("maxBytes = 8192");
+    Stats stats = pool.stats();
+    assertThat(stats.getWaits()).isEqualTo(1);
+    assertThat(stats.getOverdrafts()).isEqualTo(0);
+    assertThat(stats.getAllocatedBytes()).isEqualTo(8 * 1024);
+
+    pool.release(b1);
+    assertThat(pool.acquire(8 * 1024)).isSameInstanceAs(b1);
+  }
+
+  @Test
+  public void acquire_interruptedWhileWaitingFailsAndRestoresInterrupt() throws Exception {
+    SharedBufferPool pool = SharedBufferPool.create(8 * 1024, false);
+    pool.acquire(8 * 1024);
+
+    Future<Boolean> f =
+        exec.submit(
+            () -> {
+              Thread.currentThread().interrupt();
+              try {
+                pool.acquire(4 * 1024);
+                return false;
+              } catch (StorageException e) {
+                return Thread.interrupted();
+              }
+            });
+
+    assertThat(f.get(5, TimeUnit.SECONDS)).isTrue();
+    Stats stats = pool.stats();
+    assertThat(stats.getOverdrafts()).isEqualTo(0);
+    assertThat(stats.getAllocatedBytes()).isEqualTo(8 * 1024);
+  }
+
+  @Test
+  public void acquire_overdraftsAfterMaxWait_whenOptedIn() {
+    SharedBufferPool pool =
+        SharedBufferPool.create(
+            8 * 1024, false, Duration.ofMillis(10), /* overdraftOnTimeout= */ true);
+    ByteBuffer b1 = pool.acquire(8 * 1024);
+    ByteBuffer b2 = pool.acquire(8 * 1024);
+
+    assertThat(b2).isNotSameInstanceAs(b1);
+    Stats stats = pool.stats();
+    assertThat(stats.getWaits()).isEqualTo(1);
+    assertThat(stats.getOverdrafts()).isEqualTo(1);
+    assertThat(stats.getAllocatedBytes()).isEqualTo(16 * 1024);
+
+    // while overdrawn, released buffers are dropped rather than pooled
+    pool.release(b2);
+    assertThat(pool.stats().getAllocatedBytes()).isEqualTo(8 * 1024);
+    assertThat(pool.stats().getIdleBytes()).isEqualTo(0);
+    pool.release(b1);
+    assertThat(pool.stats().getAllocatedBytes()).isEqualTo(8 * 1024);
+    assertThat(pool.stats().getIdleBytes()).isEqualTo(8 * 1024);
+  }
+
+  @Test
+  public void bufferedChannelCloseReleasesLeaseEvenIfCloseFails() {
+    SharedBufferPool pool = SharedBufferPool.create(1024 * 1024, false);
+    Lease lease = pool.lease(16 * 1024);
+    UnbufferedWritableByteChannel failing =
+        new UnbufferedWritableByteChannel() {
+          @Override
+          public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            throw new IOException("Kaboom");
+          }
+
+          @Override
+          public long writeAndClose(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            throw new IOException("Kaboom");
+          }
+
+          @Override
+          public boolean isOpen() {
+            return true;
+          }
+
+          @Override
+          public void close() {}
+        };
+    DefaultBufferedWritableByteChannel channel =
+        new DefaultBufferedWritableByteChannel(lease, failing);
+
+    lease.get().put((byte) 1);
+    assertThat(pool.stats().getIdleBytes()).isEqualTo(0);
+    assertThrows(IOException.class, channel::close);
+    assertThat(pool.stats().getIdleBytes()).isEqualTo(16 * 1024);
+  }
+
+  @Test
+  public void asBufferHandlePool_returnBufferReleasesLease() {
+    SharedBufferPool pool = SharedBufferPool.create(1024 * 1024, false);
+    BufferHandlePool handlePool = pool.asBufferHandlePool(64 * 1024);
+
+    PooledBuffer p1 = handlePool.getBuffer();
+    ByteBuffer buf1 = p1.getBufferHandle().get();
+    assertThat(buf1.capacity()).isEqualTo(64 * 1024);
+    handlePool.returnBuffer(p1);
+
+    PooledBuffer p2 = handlePool.getBuffer();
+    p2.getBufferHandle().get();
+    Stats stats = pool.stats();
+    assertThat(stats.getHits()).isEqualTo(1);
+    assertThat(stats.getMisses()).isEqualTo(1);
+  }
+}
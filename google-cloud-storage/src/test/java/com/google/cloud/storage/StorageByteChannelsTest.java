@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ScatteringByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public final class StorageByteChannelsTest {
+
+  private final byte[] content = DataGenerator.base64Characters().genBytes(64);
+
+  @Test
+  public void inputStream_heapBuffersAreReadIntoDirectly() throws IOException {
+    RecordingInputStream in = new RecordingInputStream(content);
+    ByteBuffer skipped = ByteBuffer.allocate(8);
+    ByteBuffer[] dsts = {skipped, ByteBuffer.allocate(20), ByteBuffer.allocate(60)};
+
+    ScatteringByteChannel c = StorageByteChannels.readable().asScatteringByteChannel(in);
+
+    assertThat(c.read(dsts, 1, 2)).isEqualTo(64);
+    assertThat(skipped.position()).isEqualTo(0);
+    assertThat(in.arrays).containsExactly(dsts[1].array(), dsts[2].array());
+    byte[] actual = new byte[64];
+    System.arraycopy(dsts[1].array(), 0, actual, 0, 20);
+    System.arraycopy(dsts[2].array(), 0, actual, 20, 44);
+    assertThat(actual).isEqualTo(content);
+    assertThat(c.read(dsts, 2, 1)).isEqualTo(-1);
+  }
+
+  @Test
+  public void inputStream_directBuffer() throws IOException {
+    ByteBuffer dst = ByteBuffer.allocateDirect(100);
+
+    ScatteringByteChannel c =
+        StorageByteChannels.readable().asScatteringByteChannel(new ByteArrayInputStream(content));
+
+    assertThat(c.read(dst)).isEqualTo(64);
+    Buffers.flip(dst);
+    byte[] actual = new byte[64];
+    dst.get(actual);
+    assertThat(actual).isEqualTo(content);
+  }
+
+  @Test
+  public void inputStream_doesNotBlockOnceBytesHaveBeenRead() throws IOException {
+    RecordingInputStream in = new RecordingInputStream(content);
+    in.available = 0;
+    ByteBuffer dst = ByteBuffer.allocate(64);
+
+    ScatteringByteChannel c = StorageByteChannels.readable().asScatteringByteChannel(in);
+
+    // the stream hands out at most 16 bytes per read, and reports nothing more is available
+    assertThat(c.read(dst)).isEqualTo(16);
+    assertThat(Arrays.copyOf(dst.array(), 16)).isEqualTo(Arrays.copyOf(content, 16));
+  }
+
+  @Test
+  public void inputStream_close() throws IOException {
+    RecordingInputStream in = new RecordingInputStream(content);
+    ScatteringByteChannel c = StorageByteChannels.readable().asScatteringByteChannel(in);
+
+    c.close();
+
+    assertThat(c.isOpen()).isFalse();
+    assertThat(in.closed).isTrue();
+    assertThrows(ClosedChannelException.class, () -> c.read(ByteBuffer.allocate(1)));
+  }
+
+  private static final class RecordingInputStream extends ByteArrayInputStream {
+    private final List<byte[]> arrays = new ArrayList<>();
+    private int available = Integer.MAX_VALUE;
+    private boolean closed;
+
+    private RecordingInputStream(byte[] buf) {
+      super(buf);
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      if (arrays.isEmpty() || arrays.get(arrays.size() - 1) != b) {
+        arrays.add(b);
+      }
+      return super.read(b, off, Math.min(len, 16));
+    }
+
+    @Override
+    public synchronized int available() {
+      return Math.min(available, super.available());
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -31,6 +31,7 @@ import com.google.api.gax.paging.Page;
 import com.google.api.services.storage.model.StorageObject;
 import com.google.cloud.ServiceOptions;
 import com.google.cloud.Tuple;
+import com.google.cloud.storage.UnifiedOpts.Opts;
 import com.google.cloud.storage.spi.StorageRpcFactory;
 import com.google.cloud.storage.spi.v1.StorageRpc;
 import com.google.common.collect.ImmutableList;
@@ -886,6 +887,33 @@ public class StorageImplMockitoTest {
     assertArrayEquals(blobList.toArray(), Iterables.toArray(page.getValues(), Blob.class));
   }
 
+  @Test
+  public void testListBlobsWithSelectedFields() {
+    String cursor = "cursor";
+    ImmutableList<BlobInfo> blobInfoList = ImmutableList.of(BLOB_INFO1, BLOB_INFO2);
+    Tuple<String, Iterable<com.google.api.services.storage.model.StorageObject>> result =
+        Tuple.of(cursor, Iterables.transform(blobInfoList, Conversions.json().blobInfo()::encode));
+    Map<StorageRpc.Option, ?> rpcOptions =
+        Opts.unwrap(new Storage.BlobListOption[] {BLOB_LIST_FIELDS}).getRpcOptions();
+    doReturn(result)
+        .doThrow(UNEXPECTED_CALL_EXCEPTION)
+        .when(storageRpcMock)
+        .list(BUCKET_NAME1, rpcOptions);
+    initializeService();
+
+    Page<Blob> page = storage.list(BUCKET_NAME1, BLOB_LIST_FIELDS);
+    Blob[] first = Iterables.toArray(page.getValues(), Blob.class);
+    Blob[] second = Iterables.toArray(page.getValues(), Blob.class);
+    assertEquals(2, first.length);
+    // only the selected fields are decoded, even if more are present in the response
+    assertEquals(BLOB_INFO1.getBlobId(), first[0].getBlobId());
+    assertEquals("application/json", first[0].getContentType());
+    assertNull(first[0].getMetageneration());
+    // each value is decoded once, no matter how many times the page is iterated
+    assertSame(first[0], second[0]);
+    assertSame(first[1], second[1]);
+  }
+
   @Test
   public void testListBlobsCurrentDirectory() {
     String cursor = "cursor";
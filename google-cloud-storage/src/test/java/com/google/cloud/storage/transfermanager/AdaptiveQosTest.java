@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.storage.transfermanager.AdaptiveQos.Model;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.Test;
+
+public final class AdaptiveQosTest {
+  private static final long _1MiB = 1024L * 1024;
+  private static final long _1GiB = 1024L * _1MiB;
+
+  private final Qos fallback =
+      DefaultQos.of(
+          TransferManagerConfig.newBuilder()
+              .setMaxWorkers(16)
+              .setPerWorkerBufferSize(16 * 1024 * 1024)
+              .build());
+  private final Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
+  @Test
+  public void delegatesToFallbackUntilEnoughSamples() {
+    AdaptiveQos qos = new AdaptiveQos(fallback, clock, Duration.ofMinutes(5), 16 * _1MiB, true);
+    qos.recordDownload(10 * 1024, Duration.ofMillis(100));
+
+    assertThat(qos.getDownloadModel()).isNull();
+    assertThat(qos.divideAndConquer(200 * _1MiB)).isTrue();
+    assertThat(qos.divideAndConquer(100 * _1MiB)).isFalse();
+    assertThat(qos.divideAndConquerSegmentSize(200 * _1MiB)).isEqualTo(16 * _1MiB);
+  }
+
+  @Test
+  public void mixedObjectSizes_separateLatencyFromBandwidth() {
+    AdaptiveQos qos = new AdaptiveQos(fallback, clock, Duration.ofMinutes(5), 16 * _1MiB, true);
+    // 100ms latency, 100MiB/s per stream
+    for (int i = 0; i < 8; i++) {
+      qos.recordDownload(10 * 1024, elapsed(10 * 1024, 0.1, 100 * _1MiB));
+      qos.recordDownload(_1GiB, elapsed(_1GiB, 0.1, 100 * _1MiB));
+    }
+
+    Model model = qos.getDownloadModel();
+    assertThat(model).isNotNull();
+    assertThat(model.getLatencySeconds()).isWithin(0.001).of(0.1);
+    assertThat(model.getBytesPerSecond()).isWithin(_1MiB).of(100 * _1MiB);
+    // 100MiB/s * 100ms * 8
+    assertThat(model.getTargetSegmentSize()).isEqualTo(80 * _1MiB);
+
+    assertThat(qos.divideAndConquer(128 * _1MiB)).isFalse();
+    assertThat(qos.divideAndConquer(50 * _1GiB)).isTrue();
+    assertThat(qos.divideAndConquerSegmentSize(50 * _1GiB)).isEqualTo(80 * _1MiB);
+  }
+
+  @Test
+  public void uploadsAndDownloadsAreModeledSeparately() {
+    AdaptiveQos qos = new AdaptiveQos(fallback, clock, Duration.ofMinutes(5), 16 * _1MiB, true);
+    // downloads: 5ms latency, 200MiB/s per stream
+    // uploads: 100ms latency, 100MiB/s per stream
+    for (int i = 0; i < 8; i++) {
+      qos.recordDownload(64 * 1024, elapsed(64 * 1024, 0.005, 200 * _1MiB));
+      qos.recordDownload(256 * _1MiB, elapsed(256 * _1MiB, 0.005, 200 * _1MiB));
+      qos.recordUpload(10 * 1024, elapsed(10 * 1024, 0.1, 100 * _1MiB));
+      qos.recordUpload(_1GiB, elapsed(_1GiB, 0.1, 100 * _1MiB));
+    }
+
+    Model download = qos.getDownloadModel();
+    Model upload = qos.getUploadModel();
+    assertThat(download).isNotNull();
+    assertThat(upload).isNotNull();
+    assertThat(download.getTargetSegmentSize()).isEqualTo(8 * _1MiB);
+    assertThat(upload.getTargetSegmentSize()).isEqualTo(80 * _1MiB);
+
+    assertThat(qos.divideAndConquer(20 * _1MiB)).isTrue();
+    assertThat(qos.divideAndConquerSegmentSize(_1GiB)).isEqualTo(8 * _1MiB);
+    assertThat(qos.parallelCompositeUpload(128 * _1MiB)).isFalse();
+    assertThat(qos.parallelCompositeUpload(_1GiB)).isTrue();
+  }
+
+  @Test
+  public void uploadSamplesDoNotInformDownloads() {
+    AdaptiveQos qos = new AdaptiveQos(fallback, clock, Duration.ofMinutes(5), 16 * _1MiB, true);
+    for (int i = 0; i < 8; i++) {
+      qos.recordUpload(_1GiB, elapsed(_1GiB, 0.1, 100 * _1MiB));
+    }
+
+    assertThat(qos.getUploadModel()).isNotNull();
+    assertThat(qos.getDownloadModel()).isNull();
+    // still the fallback thresholds
+    assertThat(qos.divideAndConquerSegmentSize(200 * _1MiB)).isEqualTo(16 * _1MiB);
+  }
+
+  @Test
+  public void lowLatency_favorsSmallerSegments() {
+    AdaptiveQos qos = new AdaptiveQos(fallback, clock, Duration.ofMinutes(5), 16 * _1MiB, true);
+    // 5ms latency, 200MiB/s per stream
+    for (int i = 0; i < 8; i++) {
+      qos.recordDownload(64 * 1024, elapsed(64 * 1024, 0.005, 200 * _1MiB));
+      qos.recordDownload(256 * _1MiB, elapsed(256 * _1MiB, 0.005, 200 * _1MiB));
+    }
+
+    assertThat(qos.divideAndConquerSegmentSize(_1GiB)).isEqualTo(8 * _1MiB);
+    assertThat(qos.divideAndConquer(20 * _1MiB)).isTrue();
+  }
+
+  @Test
+  public void parallelCompositeUpload_requiresThreadThreshold() {
+    AdaptiveQos qos = new AdaptiveQos(fallback, clock, Duration.ofMinutes(5), 16 * _1MiB, false);
+    for (int i = 0; i < 8; i++) {
+      qos.recordUpload(10 * 1024, elapsed(10 * 1024, 0.1, 100 * _1MiB));
+      qos.recordUpload(_1GiB, elapsed(_1GiB, 0.1, 100 * _1MiB));
+    }
+
+    assertThat(qos.parallelCompositeUpload(50 * _1GiB)).isFalse();
+  }
+
+  @Test
+  public void samplesOutsideWindowAreDiscarded() {
+    Instant[] now = {Instant.EPOCH};
+    Clock movingClock =
+        new Clock() {
+          @Override
+          public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+          }
+
+          @Override
+          public Clock withZone(java.time.ZoneId zone) {
+            return this;
+          }
+
+          @Override
+          public Instant instant() {
+            return now[0];
+          }
+        };
+    AdaptiveQos qos =
+        new AdaptiveQos(fallback, movingClock, Duration.ofMinutes(1), 16 * _1MiB, true);
+    for (int i = 0; i < 8; i++) {
+      qos.recordDownload(_1GiB, elapsed(_1GiB, 0.1, 100 * _1MiB));
+    }
+    assertThat(qos.getDownloadModel()).isNotNull();
+
+    now[0] = now[0].plus(Duration.ofMinutes(2));
+    qos.recordDownload(_1GiB, elapsed(_1GiB, 0.1, 100 * _1MiB));
+    assertThat(qos.getDownloadModel()).isNull();
+  }
+
+  private static Duration elapsed(long numBytes, double latencySeconds, long bytesPerSecond) {
+    double seconds = latencySeconds + (double) numBytes / bytesPerSecond;
+    return Duration.ofNanos((long) (seconds * 1_000_000_000L));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.BlobReadSession;
+import com.google.cloud.storage.RangeSpec;
+import com.google.cloud.storage.ReadAsFile;
+import com.google.cloud.storage.ReadProjectionConfig;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class SessionChunkedDownloadCallableTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final BlobInfo info = BlobInfo.newBuilder(BlobId.of("bucket", "object", 1L)).build();
+
+  @Test
+  public void segmentsAreWrittenToTheirOffsetsUsingASingleSession() throws Exception {
+    byte[] content = new byte[1024];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    FakeBlobReadSession session = new FakeBlobReadSession(content);
+    ApiFuture<BlobReadSession> sessionFuture = ApiFutures.immediateFuture(session);
+    Path dest = temporaryFolder.newFile().toPath();
+
+    // deliberately out of order
+    List<DownloadSegment> segments = new ArrayList<>();
+    segments.add(new SessionChunkedDownloadCallable(sessionFuture, info, dest, 512, 1024).call());
+    segments.add(new SessionChunkedDownloadCallable(sessionFuture, info, dest, 0, 512).call());
+
+    assertThat(segments.stream().map(DownloadSegment::getStatus))
+        .containsExactly(TransferStatus.SUCCESS, TransferStatus.SUCCESS);
+    assertThat(Files.readAllBytes(dest)).isEqualTo(content);
+    assertThat(session.reads).containsExactly(RangeSpec.of(512, 512), RangeSpec.of(0, 512));
+    assertThat(session.positions).containsExactly(512L, 0L);
+  }
+
+  @Test
+  public void sessionFailure_failedToStart() throws Exception {
+    Path dest = temporaryFolder.newFile().toPath();
+    IOException cause = new IOException("kaboom");
+    DownloadSegment segment =
+        new SessionChunkedDownloadCallable(
+                ApiFutures.immediateFailedFuture(cause), info, dest, 0, 10)
+            .call();
+
+    assertThat(segment.getStatus()).isEqualTo(TransferStatus.FAILED_TO_START);
+    assertThat(segment.getException()).isSameInstanceAs(cause);
+  }
+
+  @Test
+  public void shortRead_failedToFinish() throws Exception {
+    FakeBlobReadSession session = new FakeBlobReadSession(new byte[10]);
+    Path dest = temporaryFolder.newFile().toPath();
+    DownloadSegment segment =
+        new SessionChunkedDownloadCallable(ApiFutures.immediateFuture(session), info, dest, 0, 20)
+            .call();
+
+    assertThat(segment.getStatus()).isEqualTo(TransferStatus.FAILED_TO_FINISH);
+  }
+
+  private final class FakeBlobReadSession implements BlobReadSession {
+    private final byte[] content;
+    private final List<RangeSpec> reads = new ArrayList<>();
+    private final List<Long> positions = new ArrayList<>();
+
+    private FakeBlobReadSession(byte[] content) {
+      this.content = content;
+    }
+
+    @Override
+    public BlobInfo getBlobInfo() {
+      return info;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <Projection> Projection readAs(ReadProjectionConfig<Projection> config) {
+      ReadAsFile asFile = (ReadAsFile) config;
+      RangeSpec range = asFile.getRange();
+      reads.add(range);
+      positions.add(asFile.getPosition());
+      int begin = (int) range.begin();
+      int end = (int) Math.min(content.length, begin + range.maxLength().getAsLong());
+      try (FileChannel channel =
+          FileChannel.open(asFile.getPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
+        channel.position(asFile.getPosition());
+        ByteBuffer bytes = ByteBuffer.wrap(content, begin, end - begin);
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+      } catch (IOException e) {
+        return (Projection) ApiFutures.immediateFailedFuture(e);
+      }
+      return (Projection) ApiFutures.immediateFuture((long) (end - begin));
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.Acl.Role;
+import com.google.cloud.storage.Acl.User;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.storage.v2.Object;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encode and decode of a fully populated {@link BlobInfo} to and from its JSON ({@link
+ * StorageObject}) and gRPC ({@link Object}) representations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BlobInfoConversionsBenchmark {
+
+  private BlobInfo info;
+  private StorageObject json;
+  private Object grpc;
+
+  @Setup
+  public void setup() {
+    OffsetDateTime now = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    info =
+        BlobInfo.newBuilder(BlobId.of("bucket", "some/reasonably/long/object/name.bin", 1L))
+            .setMetageneration(3L)
+            .setSize(64L * 1024 * 1024)
+            .setContentType("application/octet-stream")
+            .setContentEncoding("identity")
+            .setContentDisposition("attachment; filename=name.bin")
+            .setCacheControl("no-cache")
+            .setStorageClass(StorageClass.STANDARD)
+            .setCrc32c("AAAAAA==")
+            .setMd5("1B2M2Y8AsgTpgAmY7PhCfg==")
+            .setEtag("CAE=")
+            .setCreateTimeOffsetDateTime(now)
+            .setUpdateTimeOffsetDateTime(now)
+            .setTimeStorageClassUpdatedOffsetDateTime(now)
+            .setMetadata(ImmutableMap.of("k1", "v1", "k2", "v2", "k3", "v3"))
+            .setAcl(ImmutableList.of(Acl.of(new User("user@example.com"), Role.OWNER)))
+            .build();
+    json = Conversions.json().blobInfo().encode(info);
+    grpc = Conversions.grpc().blobInfo().encode(info);
+  }
+
+  @Benchmark
+  public StorageObject jsonEncode() {
+    return Conversions.json().blobInfo().encode(info);
+  }
+
+  @Benchmark
+  public BlobInfo jsonDecode() {
+    return Conversions.json().blobInfo().decode(json);
+  }
+
+  @Benchmark
+  public Object grpcEncode() {
+    return Conversions.grpc().blobInfo().encode(info);
+  }
+
+  @Benchmark
+  public BlobInfo grpcDecode() {
+    return Conversions.grpc().blobInfo().decode(grpc);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.storage.BufferHandlePool.PooledBuffer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Acquire/release round trip of a {@link BufferHandlePool} shared by all benchmark threads.
+ *
+ * <p>Run with {@code -t <n>} to vary the amount of contention; the default uses one thread per
+ * available processor.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class BufferHandlePoolBenchmark {
+
+  @Param({"fixed", "shared"})
+  public String pool;
+
+  @Param({"262144"})
+  public int bufferCapacity;
+
+  private BufferHandlePool bufferHandlePool;
+
+  @Setup
+  public void setup() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    switch (pool) {
+      case "fixed":
+        bufferHandlePool = BufferHandlePool.fixedPool(processors, bufferCapacity);
+        break;
+      case "shared":
+        bufferHandlePool =
+            SharedBufferPool.create((long) processors * bufferCapacity, false)
+                .asBufferHandlePool(bufferCapacity);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown pool: " + pool);
+    }
+  }
+
+  @Benchmark
+  public int acquireRelease() {
+    PooledBuffer buffer = bufferHandlePool.getBuffer();
+    try {
+      ByteBuffer buf = buffer.getBufferHandle().get();
+      buf.put(0, (byte) 1);
+      return buf.capacity();
+    } finally {
+      bufferHandlePool.returnBuffer(buffer);
+    }
+  }
+}
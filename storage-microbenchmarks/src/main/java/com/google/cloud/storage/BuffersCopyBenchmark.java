@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scatter copy of a single source buffer into a number of destination buffers via {@link
+ * Buffers#copy(ByteBuffer, ByteBuffer[])}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BuffersCopyBenchmark {
+
+  @Param({"16384", "2097152"})
+  public int size;
+
+  @Param({"1", "16"})
+  public int dstCount;
+
+  @Param({"false", "true"})
+  public boolean directSrc;
+
+  @Param({"false", "true"})
+  public boolean directDst;
+
+  private ByteBuffer src;
+  private ByteBuffer[] dsts;
+
+  @Setup
+  public void setup() {
+    byte[] bytes = new byte[size];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    src = directSrc ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    src.put(bytes);
+    Buffers.flip(src);
+
+    int dstSize = (size + dstCount - 1) / dstCount;
+    dsts = new ByteBuffer[dstCount];
+    for (int i = 0; i < dstCount; i++) {
+      dsts[i] = directDst ? ByteBuffer.allocateDirect(dstSize) : ByteBuffer.allocate(dstSize);
+    }
+  }
+
+  @Benchmark
+  public long copy() {
+    for (ByteBuffer dst : dsts) {
+      Buffers.clear(dst);
+    }
+    return Buffers.copy(src.duplicate(), dsts);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.storage.ChunkSegmenter.ChunkSegment;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Segmenting (and hashing) a batch of buffers into messages as is done for gRPC writes. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkSegmenterBenchmark {
+
+  /** Size of each buffer handed to the segmenter */
+  @Param({"8192", "262144", "16777216"})
+  public int bufferSize;
+
+  @Param({"4"})
+  public int bufferCount;
+
+  @Param({"true", "false"})
+  public boolean hashing;
+
+  @Param({"copy", "noCopy"})
+  public String byteStringStrategy;
+
+  private ChunkSegmenter segmenter;
+  private ByteBuffer[] buffers;
+
+  @Setup
+  public void setup() {
+    Hasher hasher = hashing ? Hasher.enabled() : Hasher.noop();
+    ByteStringStrategy bss =
+        "copy".equals(byteStringStrategy) ? ByteStringStrategy.copy() : ByteStringStrategy.noCopy();
+    segmenter = new ChunkSegmenter(hasher, bss, 2 * 1024 * 1024, 256 * 1024);
+    buffers = new ByteBuffer[bufferCount];
+    for (int i = 0; i < bufferCount; i++) {
+      byte[] bytes = new byte[bufferSize];
+      ThreadLocalRandom.current().nextBytes(bytes);
+      buffers[i] = ByteBuffer.wrap(bytes);
+    }
+  }
+
+  @Benchmark
+  public ChunkSegment[] segmentBuffers() {
+    ByteBuffer[] bbs = new ByteBuffer[buffers.length];
+    for (int i = 0; i < buffers.length; i++) {
+      bbs[i] = buffers[i].duplicate();
+    }
+    return segmenter.segmentBuffers(bbs);
+  }
+}
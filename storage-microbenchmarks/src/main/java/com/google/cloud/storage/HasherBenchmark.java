@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.Hasher.GuavaHasher;
+import com.google.cloud.storage.Hasher.JdkCrc32cHasher;
+import com.google.protobuf.ByteString;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Throughput of each CRC32C {@link Hasher} implementation. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class HasherBenchmark {
+
+  @Param({"guava", "jdk", "parallel"})
+  public String impl;
+
+  @Param({"4096", "2097152", "33554432"})
+  public int size;
+
+  @Param({"false", "true"})
+  public boolean direct;
+
+  private Hasher hasher;
+  private ByteBuffer buffer;
+  private ByteString byteString;
+
+  @Setup
+  public void setup() {
+    switch (impl) {
+      case "guava":
+        hasher = GuavaHasher.INSTANCE;
+        break;
+      case "jdk":
+        if (!JdkCrc32cHasher.isAvailable()) {
+          throw new IllegalStateException("java.util.zip.CRC32C is not available");
+        }
+        hasher = JdkCrc32cHasher.INSTANCE;
+        break;
+      case "parallel":
+        hasher = Hasher.enabled().parallel(ForkJoinPool.commonPool());
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown impl: " + impl);
+    }
+    byte[] bytes = new byte[size];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    buffer = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    buffer.put(bytes);
+    Buffers.flip(buffer);
+    byteString = ByteString.copyFrom(bytes);
+  }
+
+  @Benchmark
+  public Crc32cLengthKnown hashByteBuffer() {
+    return hasher.hash(buffer.duplicate());
+  }
+
+  @Benchmark
+  public Crc32cLengthKnown hashByteString() {
+    return hasher.hash(byteString);
+  }
+}
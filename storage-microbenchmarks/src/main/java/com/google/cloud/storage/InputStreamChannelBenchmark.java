@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ScatteringByteChannel;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading a JSON API response body, as exposed by google-http-client as an {@link InputStream},
+ * through a {@link ScatteringByteChannel} as done by {@link ApiaryUnbufferedReadableByteChannel}.
+ *
+ * <p>{@code channels} is the {@link Channels#newChannel(InputStream)} based adapter, {@code
+ * inputStream} is {@link StorageByteChannels.Readable#asScatteringByteChannel(InputStream)}.
+ *
+ * <p>In addition to throughput, {@link CopyCounters#copiesPerByte()} reports the number of times
+ * each delivered byte was copied. Every byte costs one copy out of the response body; bytes the
+ * body writes into an array other than the backing array of a destination buffer must be copied a
+ * second time.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class InputStreamChannelBenchmark {
+
+  @Param({"channels", "inputStream"})
+  public String impl;
+
+  @Param({"2097152"})
+  public int size;
+
+  @Param({"1", "16"})
+  public int dstCount;
+
+  @Param({"false", "true"})
+  public boolean directDst;
+
+  private byte[] body;
+  private ByteBuffer[] dsts;
+  private Set<byte[]> dstArrays;
+
+  @Setup
+  public void setup() {
+    body = new byte[size];
+    ThreadLocalRandom.current().nextBytes(body);
+
+    int dstSize = (size + dstCount - 1) / dstCount;
+    dsts = new ByteBuffer[dstCount];
+    dstArrays = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (int i = 0; i < dstCount; i++) {
+      dsts[i] = directDst ? ByteBuffer.allocateDirect(dstSize) : ByteBuffer.allocate(dstSize);
+      if (dsts[i].hasArray()) {
+        dstArrays.add(dsts[i].array());
+      }
+    }
+  }
+
+  @Benchmark
+  public long read(CopyCounters counters) throws IOException {
+    for (ByteBuffer dst : dsts) {
+      Buffers.clear(dst);
+    }
+    ResponseBody in = new ResponseBody(body, dstArrays, counters);
+    ScatteringByteChannel c;
+    switch (impl) {
+      case "channels":
+        c = StorageByteChannels.readable().asScatteringByteChannel(Channels.newChannel(in));
+        break;
+      case "inputStream":
+        c = StorageByteChannels.readable().asScatteringByteChannel(in);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown impl: " + impl);
+    }
+    long total = 0;
+    while (total < size) {
+      long read = c.read(dsts);
+      if (read == -1) {
+        break;
+      }
+      total += read;
+    }
+    counters.bytesDelivered += total;
+    return total;
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class CopyCounters {
+    public long bytesDelivered;
+    public long bytesCopied;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytesDelivered = 0;
+      bytesCopied = 0;
+    }
+
+    public double copiesPerByte() {
+      return bytesDelivered == 0 ? 0 : (double) bytesCopied / bytesDelivered;
+    }
+  }
+
+  /**
+   * An in memory response body, which hands out at most 16KiB per read similar to a socket and
+   * counts the copies needed to deliver the bytes it hands out.
+   */
+  private static final class ResponseBody extends InputStream {
+    private static final int MAX_READ = 16 * 1024;
+
+    private final byte[] body;
+    private final Set<byte[]> dstArrays;
+    private final CopyCounters counters;
+    private int position;
+
+    private ResponseBody(byte[] body, Set<byte[]> dstArrays, CopyCounters counters) {
+      this.body = body;
+      this.dstArrays = dstArrays;
+      this.counters = counters;
+    }
+
+    @Override
+    public int read() {
+      return position < body.length ? body[position++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (position >= body.length) {
+        return -1;
+      }
+      int n = Math.min(Math.min(len, MAX_READ), body.length - position);
+      System.arraycopy(body, position, b, off, n);
+      position += n;
+      // the copy out of the body, and another from b into the destination if b isn't its array
+      counters.bytesCopied += dstArrays.contains(b) ? n : 2L * n;
+      return n;
+    }
+
+    @Override
+    public int available() {
+      return body.length - position;
+    }
+  }
+}
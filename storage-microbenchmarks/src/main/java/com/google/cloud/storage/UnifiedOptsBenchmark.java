@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.gax.grpc.GrpcCallContext;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.cloud.storage.spi.v1.StorageRpc;
+import com.google.common.collect.ImmutableMap;
+import com.google.storage.v2.WriteObjectRequest;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Resolution of a typical set of {@link BlobTargetOption}s into the request level values used by
+ * each transport, mirroring what {@code StorageImpl} and {@code GrpcStorageImpl} do per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UnifiedOptsBenchmark {
+
+  private BlobInfo info;
+  private BlobTargetOption[] options;
+
+  @Setup
+  public void setup() {
+    info = BlobInfo.newBuilder("bucket", "object").setContentType("text/plain").build();
+    options =
+        new BlobTargetOption[] {
+          BlobTargetOption.doesNotExist(),
+          BlobTargetOption.userProject("project"),
+          BlobTargetOption.kmsKeyName("projects/p/locations/l/keyRings/r/cryptoKeys/k"),
+          BlobTargetOption.disableGzipContent()
+        };
+  }
+
+  @Benchmark
+  public ImmutableMap<StorageRpc.Option, ?> json() {
+    Opts<ObjectTargetOpt> opts = Opts.unwrap(options).resolveFrom(info);
+    return opts.getRpcOptions();
+  }
+
+  @Benchmark
+  public WriteObjectRequest grpc(Blackhole bh) {
+    Opts<ObjectTargetOpt> opts = Opts.unwrap(options).resolveFrom(info);
+    bh.consume(opts.grpcMetadataMapper().apply(GrpcCallContext.createDefault()));
+    return opts.writeObjectRequest().apply(WriteObjectRequest.newBuilder()).build();
+  }
+}
@@ -38,6 +38,7 @@ class Bidi implements Callable<String> {
   private final PrintWriter pw;
   private final String api;
   private final int workers;
+  private final LatencyRecorder recorder;
 
   Bidi(
       Storage storageClient,
@@ -45,13 +46,15 @@ class Bidi implements Callable<String> {
       int objectSize,
       PrintWriter pw,
       String api,
-      int workers) {
+      int workers,
+      LatencyRecorder recorder) {
     this.storageClient = storageClient;
     this.bucketName = bucketName;
     this.objectSize = objectSize;
     this.pw = pw;
     this.api = api;
     this.workers = workers;
+    this.recorder = recorder;
   }
 
   @Override
@@ -75,6 +78,7 @@ class Bidi implements Callable<String> {
   }
 
   private void printResult(String op, BlobInfo created, Duration duration) {
+    recorder.record(op, created.getSize(), duration);
     pw.println(
         generateCloudMonitoringResult(op, duration.toMillis(), created, api, workers)
             .formatAsCustomMetric());
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.benchmarking;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.protobuf.ByteString;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An in-process stand-in for Cloud Storage which serves objects from memory.
+ *
+ * <p>Both the {@code google.storage.v2.Storage} gRPC service and the JSON API are served from
+ * localhost, backed by the same set of objects. Only the operations needed by the workloads of this
+ * tool are implemented: resumable and bidi uploads, reads (including ranged reads), metadata gets
+ * and deletes.
+ *
+ * <p>All threads used by the fake are named with the prefix {@link #THREAD_NAME_PREFIX}, allowing
+ * {@link OfflineReport} to separate the cost of the fake from the cost of the client.
+ */
+final class FakeGcs implements AutoCloseable {
+  static final String THREAD_NAME_PREFIX = "fake-gcs-";
+
+  /** Name of the thread {@link HttpServer} uses to accept connections */
+  private static final String HTTP_DISPATCHER_THREAD_NAME = "HTTP-Dispatcher";
+
+  private final ConcurrentMap<String, StoredObject> objects;
+  private final ConcurrentMap<String, PendingUpload> uploads;
+  private final AtomicLong generations;
+
+  private Server grpcServer;
+  private EventLoopGroup bossGroup;
+  private EventLoopGroup workerGroup;
+  private ExecutorService grpcExecutor;
+  private HttpServer httpServer;
+  private ExecutorService httpExecutor;
+
+  private FakeGcs() {
+    this.objects = new ConcurrentHashMap<>();
+    this.uploads = new ConcurrentHashMap<>();
+    this.generations = new AtomicLong(System.currentTimeMillis() * 1000);
+  }
+
+  static FakeGcs start() throws IOException {
+    FakeGcs fake = new FakeGcs();
+    try {
+      fake.startGrpc();
+      fake.startHttp();
+    } catch (IOException | RuntimeException e) {
+      fake.close();
+      throw e;
+    }
+    return fake;
+  }
+
+  static boolean isServerThread(String threadName) {
+    return threadName.startsWith(THREAD_NAME_PREFIX)
+        || threadName.equals(HTTP_DISPATCHER_THREAD_NAME);
+  }
+
+  String getGrpcEndpoint() {
+    return String.format(Locale.US, "http://localhost:%d", grpcServer.getPort());
+  }
+
+  String getHttpEndpoint() {
+    return String.format(Locale.US, "http://localhost:%d", httpServer.getAddress().getPort());
+  }
+
+  @Override
+  public void close() {
+    if (httpServer != null) {
+      httpServer.stop(0);
+    }
+    if (httpExecutor != null) {
+      httpExecutor.shutdownNow();
+    }
+    if (grpcServer != null) {
+      grpcServer.shutdownNow();
+      try {
+        grpcServer.awaitTermination(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (grpcExecutor != null) {
+      grpcExecutor.shutdownNow();
+    }
+    if (workerGroup != null) {
+      workerGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+    if (bossGroup != null) {
+      bossGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+  }
+
+  private void startGrpc() throws IOException {
+    int processors = Runtime.getRuntime().availableProcessors();
+    bossGroup = new NioEventLoopGroup(1, threadFactory("grpc-boss"));
+    workerGroup = new NioEventLoopGroup(processors, threadFactory("grpc-worker"));
+    grpcExecutor = Executors.newFixedThreadPool(processors, threadFactory("grpc"));
+    grpcServer =
+        NettyServerBuilder.forAddress(new InetSocketAddress("localhost", 0))
+            .bossEventLoopGroup(bossGroup)
+            .workerEventLoopGroup(workerGroup)
+            .channelType(NioServerSocketChannel.class)
+            .executor(grpcExecutor)
+            .maxInboundMessageSize(Integer.MAX_VALUE)
+            .addService(new FakeGcsGrpcService(this))
+            .build()
+            .start();
+  }
+
+  private void startHttp() throws IOException {
+    httpExecutor = Executors.newCachedThreadPool(threadFactory("http"));
+    httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    httpServer.setExecutor(httpExecutor);
+    httpServer.createContext("/", new FakeGcsJsonHandler(this));
+    httpServer.start();
+  }
+
+  private static ThreadFactory threadFactory(String name) {
+    return new ThreadFactoryBuilder()
+        .setDaemon(true)
+        .setNameFormat(THREAD_NAME_PREFIX + name + "-%d")
+        .build();
+  }
+
+  /// object store ///
+
+  PendingUpload newUpload(String bucket, String name, @Nullable String contentType) {
+    PendingUpload upload =
+        new PendingUpload(UUID.randomUUID().toString(), bucketName(bucket), name, contentType);
+    uploads.put(upload.uploadId, upload);
+    return upload;
+  }
+
+  @Nullable PendingUpload getUpload(String uploadId) {
+    return uploads.get(uploadId);
+  }
+
+  StoredObject finalizeUpload(PendingUpload upload) {
+    synchronized (upload) {
+      if (upload.result == null) {
+        ByteString data = upload.data;
+        StoredObject obj =
+            new StoredObject(
+                upload.bucket,
+                upload.name,
+                generations.incrementAndGet(),
+                upload.contentType,
+                data,
+                System.currentTimeMillis());
+        objects.put(key(obj.bucket, obj.name), obj);
+        upload.result = obj;
+        upload.data = null;
+      }
+      return upload.result;
+    }
+  }
+
+  @Nullable StoredObject get(String bucket, String name, long generation) {
+    StoredObject obj = objects.get(key(bucketName(bucket), name));
+    if (obj == null || (generation > 0 && obj.generation != generation)) {
+      return null;
+    }
+    return obj;
+  }
+
+  boolean delete(String bucket, String name, long generation) {
+    StoredObject obj = get(bucket, name, generation);
+    return obj != null && objects.remove(key(obj.bucket, obj.name), obj);
+  }
+
+  /** Accept either {@code bucket} or {@code projects/_/buckets/bucket} */
+  static String bucketName(String bucket) {
+    int idx = bucket.lastIndexOf('/');
+    return idx >= 0 ? bucket.substring(idx + 1) : bucket;
+  }
+
+  private static String key(String bucket, String name) {
+    return bucket + "/" + name;
+  }
+
+  static final class StoredObject {
+    /** Size of each message when serving an object via gRPC */
+    static final int CHUNK_SIZE = 2 * 1024 * 1024;
+
+    final String bucket;
+    final String name;
+    final long generation;
+    final @Nullable String contentType;
+    final ByteString data;
+    final int crc32c;
+    final long createTimeMillis;
+
+    /** crc32c of each {@link #CHUNK_SIZE} aligned chunk of data */
+    private final int[] chunkCrc32cs;
+
+    private StoredObject(
+        String bucket,
+        String name,
+        long generation,
+        @Nullable String contentType,
+        ByteString data,
+        long createTimeMillis) {
+      this.bucket = bucket;
+      this.name = name;
+      this.generation = generation;
+      this.contentType = contentType;
+      this.data = data;
+      this.createTimeMillis = createTimeMillis;
+      this.crc32c = crc32c(data);
+      int chunkCount = (data.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+      this.chunkCrc32cs = new int[chunkCount];
+      for (int i = 0; i < chunkCount; i++) {
+        int begin = i * CHUNK_SIZE;
+        chunkCrc32cs[i] = crc32c(data.substring(begin, Math.min(begin + CHUNK_SIZE, data.size())));
+      }
+    }
+
+    long size() {
+      return data.size();
+    }
+
+    /** crc32c of {@code data.substring(begin, end)}, using the precomputed value when aligned */
+    int crc32c(int begin, int end) {
+      if (begin % CHUNK_SIZE == 0 && (end - begin == CHUNK_SIZE || end == data.size())) {
+        return chunkCrc32cs[begin / CHUNK_SIZE];
+      }
+      return crc32c(data.substring(begin, end));
+    }
+
+    static int crc32c(ByteString bs) {
+      com.google.common.hash.Hasher hasher = Hashing.crc32c().newHasher();
+      for (ByteBuffer b : bs.asReadOnlyByteBufferList()) {
+        hasher.putBytes(b);
+      }
+      return hasher.hash().asInt();
+    }
+  }
+
+  static final class PendingUpload {
+    final String uploadId;
+    final String bucket;
+    final String name;
+    final @Nullable String contentType;
+    private ByteString data;
+    private @Nullable StoredObject result;
+
+    private PendingUpload(
+        String uploadId, String bucket, String name, @Nullable String contentType) {
+      this.uploadId = uploadId;
+      this.bucket = bucket;
+      this.name = name;
+      this.contentType = contentType;
+      this.data = ByteString.EMPTY;
+    }
+
+    /**
+     * Append {@code content} which begins at {@code offset} of the object. Any portion of content
+     * which has already been received is ignored.
+     *
+     * @return the number of bytes persisted after appending
+     */
+    synchronized long append(long offset, ByteString content) {
+      if (result != null) {
+        return result.size();
+      }
+      long persisted = data.size();
+      if (offset > persisted) {
+        throw new IllegalStateException(
+            String.format(
+                Locale.US, "Non-contiguous write offset %d, persisted %d", offset, persisted));
+      }
+      long skip = persisted - offset;
+      if (skip < content.size()) {
+        data = data.concat(content.substring((int) skip));
+      }
+      return data.size();
+    }
+
+    synchronized long getPersistedSize() {
+      return result != null ? result.size() : data.size();
+    }
+
+    synchronized @Nullable StoredObject getResult() {
+      return result;
+    }
+  }
+}
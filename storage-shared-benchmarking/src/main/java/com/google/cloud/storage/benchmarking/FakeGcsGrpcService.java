@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.benchmarking;
+
+import com.google.cloud.storage.benchmarking.FakeGcs.PendingUpload;
+import com.google.cloud.storage.benchmarking.FakeGcs.StoredObject;
+import com.google.protobuf.Empty;
+import com.google.protobuf.util.Timestamps;
+import com.google.storage.v2.BidiWriteObjectRequest;
+import com.google.storage.v2.BidiWriteObjectResponse;
+import com.google.storage.v2.ChecksummedData;
+import com.google.storage.v2.ContentRange;
+import com.google.storage.v2.DeleteObjectRequest;
+import com.google.storage.v2.GetObjectRequest;
+import com.google.storage.v2.Object;
+import com.google.storage.v2.ObjectChecksums;
+import com.google.storage.v2.QueryWriteStatusRequest;
+import com.google.storage.v2.QueryWriteStatusResponse;
+import com.google.storage.v2.ReadObjectRequest;
+import com.google.storage.v2.ReadObjectResponse;
+import com.google.storage.v2.StartResumableWriteRequest;
+import com.google.storage.v2.StartResumableWriteResponse;
+import com.google.storage.v2.StorageGrpc;
+import com.google.storage.v2.WriteObjectRequest;
+import com.google.storage.v2.WriteObjectResponse;
+import com.google.storage.v2.WriteObjectSpec;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.Locale;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/** gRPC half of {@link FakeGcs}. */
+final class FakeGcsGrpcService extends StorageGrpc.StorageImplBase {
+
+  private final FakeGcs gcs;
+
+  FakeGcsGrpcService(FakeGcs gcs) {
+    this.gcs = gcs;
+  }
+
+  @Override
+  public void startResumableWrite(
+      StartResumableWriteRequest request,
+      StreamObserver<StartResumableWriteResponse> responseObserver) {
+    PendingUpload upload = newUpload(request.getWriteObjectSpec());
+    responseObserver.onNext(
+        StartResumableWriteResponse.newBuilder().setUploadId(upload.uploadId).build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void queryWriteStatus(
+      QueryWriteStatusRequest request, StreamObserver<QueryWriteStatusResponse> responseObserver) {
+    PendingUpload upload = gcs.getUpload(request.getUploadId());
+    if (upload == null) {
+      responseObserver.onError(notFound("upload", request.getUploadId()));
+      return;
+    }
+    StoredObject result = upload.getResult();
+    QueryWriteStatusResponse.Builder b = QueryWriteStatusResponse.newBuilder();
+    if (result != null) {
+      b.setResource(toProto(result));
+    } else {
+      b.setPersistedSize(upload.getPersistedSize());
+    }
+    responseObserver.onNext(b.build());
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public StreamObserver<WriteObjectRequest> writeObject(
+      StreamObserver<WriteObjectResponse> responseObserver) {
+    return new StreamObserver<WriteObjectRequest>() {
+      private @Nullable PendingUpload upload;
+      private @Nullable StoredObject result;
+      private boolean failed;
+
+      @Override
+      public void onNext(WriteObjectRequest req) {
+        if (failed) {
+          return;
+        }
+        try {
+          if (upload == null) {
+            upload =
+                req.hasWriteObjectSpec()
+                    ? newUpload(req.getWriteObjectSpec())
+                    : requireUpload(req.getUploadId());
+          }
+          upload.append(req.getWriteOffset(), req.getChecksummedData().getContent());
+          if (req.getFinishWrite()) {
+            result = gcs.finalizeUpload(upload);
+          }
+        } catch (StatusRuntimeException | IllegalStateException e) {
+          failed = true;
+          responseObserver.onError(asStatus(e));
+        }
+      }
+
+      @Override
+      public void onError(Throwable t) {}
+
+      @Override
+      public void onCompleted() {
+        if (failed) {
+          return;
+        }
+        WriteObjectResponse.Builder b = WriteObjectResponse.newBuilder();
+        if (result != null) {
+          b.setResource(toProto(result));
+        } else {
+          b.setPersistedSize(upload != null ? upload.getPersistedSize() : 0);
+        }
+        responseObserver.onNext(b.build());
+        responseObserver.onCompleted();
+      }
+    };
+  }
+
+  @Override
+  public StreamObserver<BidiWriteObjectRequest> bidiWriteObject(
+      StreamObserver<BidiWriteObjectResponse> responseObserver) {
+    return new StreamObserver<BidiWriteObjectRequest>() {
+      private @Nullable PendingUpload upload;
+      private boolean failed;
+
+      @Override
+      public void onNext(BidiWriteObjectRequest req) {
+        if (failed) {
+          return;
+        }
+        try {
+          if (upload == null) {
+            if (req.hasWriteObjectSpec()) {
+              upload = newUpload(req.getWriteObjectSpec());
+            } else if (req.hasAppendObjectSpec()) {
+              throw Status.UNIMPLEMENTED
+                  .withDescription("appendable uploads are not supported")
+                  .asRuntimeException();
+            } else {
+              upload = requireUpload(req.getUploadId());
+            }
+          }
+          long persisted =
+              upload.append(req.getWriteOffset(), req.getChecksummedData().getContent());
+          if (req.getFinishWrite()) {
+            StoredObject result = gcs.finalizeUpload(upload);
+            responseObserver.onNext(
+                BidiWriteObjectResponse.newBuilder().setResource(toProto(result)).build());
+          } else if (req.getStateLookup() || req.getFlush()) {
+            responseObserver.onNext(
+                BidiWriteObjectResponse.newBuilder().setPersistedSize(persisted).build());
+          }
+        } catch (StatusRuntimeException | IllegalStateException e) {
+          failed = true;
+          responseObserver.onError(asStatus(e));
+        }
+      }
+
+      @Override
+      public void onError(Throwable t) {}
+
+      @Override
+      public void onCompleted() {
+        if (!failed) {
+          responseObserver.onCompleted();
+        }
+      }
+    };
+  }
+
+  @Override
+  public void readObject(
+      ReadObjectRequest request, StreamObserver<ReadObjectResponse> responseObserver) {
+    StoredObject obj = gcs.get(request.getBucket(), request.getObject(), request.getGeneration());
+    if (obj == null) {
+      responseObserver.onError(notFound("object", request.getObject()));
+      return;
+    }
+    long size = obj.size();
+    long begin =
+        request.getReadOffset() < 0 ? size + request.getReadOffset() : request.getReadOffset();
+    begin = Math.max(0, begin);
+    if (begin > size) {
+      responseObserver.onError(
+          Status.OUT_OF_RANGE
+              .withDescription(
+                  String.format(
+                      Locale.US, "read_offset %d > size %d", request.getReadOffset(), size))
+              .asRuntimeException());
+      return;
+    }
+    long end = request.getReadLimit() > 0 ? Math.min(size, begin + request.getReadLimit()) : size;
+
+    ServerCallStreamObserver<ReadObjectResponse> call =
+        (ServerCallStreamObserver<ReadObjectResponse>) responseObserver;
+    ReadPump pump = new ReadPump(call, obj, (int) begin, (int) end);
+    call.setOnReadyHandler(pump);
+    pump.run();
+  }
+
+  @Override
+  public void getObject(GetObjectRequest request, StreamObserver<Object> responseObserver) {
+    StoredObject obj = gcs.get(request.getBucket(), request.getObject(), request.getGeneration());
+    if (obj == null) {
+      responseObserver.onError(notFound("object", request.getObject()));
+      return;
+    }
+    responseObserver.onNext(toProto(obj));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void deleteObject(DeleteObjectRequest request, StreamObserver<Empty> responseObserver) {
+    if (!gcs.delete(request.getBucket(), request.getObject(), request.getGeneration())) {
+      responseObserver.onError(notFound("object", request.getObject()));
+      return;
+    }
+    responseObserver.onNext(Empty.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+
+  private PendingUpload newUpload(WriteObjectSpec spec) {
+    Object resource = spec.getResource();
+    return gcs.newUpload(
+        resource.getBucket(),
+        resource.getName(),
+        resource.getContentType().isEmpty() ? null : resource.getContentType());
+  }
+
+  private PendingUpload requireUpload(String uploadId) {
+    PendingUpload upload = gcs.getUpload(uploadId);
+    if (upload == null) {
+      throw notFound("upload", uploadId);
+    }
+    return upload;
+  }
+
+  static Object toProto(StoredObject obj) {
+    Object.Builder b =
+        Object.newBuilder()
+            .setBucket("projects/_/buckets/" + obj.bucket)
+            .setName(obj.name)
+            .setGeneration(obj.generation)
+            .setMetageneration(1)
+            .setSize(obj.size())
+            .setChecksums(ObjectChecksums.newBuilder().setCrc32C(obj.crc32c).build())
+            .setCreateTime(Timestamps.fromMillis(obj.createTimeMillis))
+            .setUpdateTime(Timestamps.fromMillis(obj.createTimeMillis))
+            .setStorageClass("STANDARD");
+    if (obj.contentType != null) {
+      b.setContentType(obj.contentType);
+    }
+    return b.build();
+  }
+
+  private static StatusRuntimeException notFound(String type, String name) {
+    return Status.NOT_FOUND
+        .withDescription(String.format(Locale.US, "%s %s not found", type, name))
+        .asRuntimeException();
+  }
+
+  private static StatusRuntimeException asStatus(RuntimeException e) {
+    if (e instanceof StatusRuntimeException) {
+      return (StatusRuntimeException) e;
+    }
+    return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+  }
+
+  /**
+   * Send the requested range of an object respecting flow control, so that large objects are not
+   * buffered in their entirety when the client is slower than the fake.
+   */
+  private static final class ReadPump implements Runnable {
+    private final ServerCallStreamObserver<ReadObjectResponse> call;
+    private final StoredObject obj;
+    private final int begin;
+    private final int end;
+    private int offset;
+    private boolean done;
+
+    private ReadPump(
+        ServerCallStreamObserver<ReadObjectResponse> call, StoredObject obj, int begin, int end) {
+      this.call = call;
+      this.obj = obj;
+      this.begin = begin;
+      this.end = end;
+      this.offset = begin;
+    }
+
+    @Override
+    public synchronized void run() {
+      while (!done && call.isReady()) {
+        ReadObjectResponse.Builder b = ReadObjectResponse.newBuilder();
+        if (offset == begin) {
+          b.setMetadata(toProto(obj))
+              .setObjectChecksums(ObjectChecksums.newBuilder().setCrc32C(obj.crc32c).build())
+              .setContentRange(
+                  ContentRange.newBuilder()
+                      .setStart(begin)
+                      .setEnd(end)
+                      .setCompleteLength(obj.size())
+                      .build());
+        }
+        // align subsequent chunks so the precomputed checksums can be used
+        int chunkEnd =
+            Math.min(end, (offset / StoredObject.CHUNK_SIZE + 1) * StoredObject.CHUNK_SIZE);
+        if (chunkEnd > offset) {
+          b.setChecksummedData(
+              ChecksummedData.newBuilder()
+                  .setContent(obj.data.substring(offset, chunkEnd))
+                  .setCrc32C(obj.crc32c(offset, chunkEnd))
+                  .build());
+        }
+        call.onNext(b.build());
+        offset = chunkEnd;
+        if (offset >= end) {
+          done = true;
+          call.onCompleted();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.benchmarking;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.benchmarking.FakeGcs.PendingUpload;
+import com.google.cloud.storage.benchmarking.FakeGcs.StoredObject;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import com.google.common.primitives.Ints;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/** JSON API half of {@link FakeGcs}. */
+final class FakeGcsJsonHandler implements HttpHandler {
+  private static final JsonFactory JSON = GsonFactory.getDefaultInstance();
+
+  private static final Pattern UPLOAD_PATH = Pattern.compile("^/upload/storage/v1/b/([^/]+)/o/?$");
+  private static final Pattern OBJECT_PATH =
+      Pattern.compile("^(?:/download)?/storage/v1/b/([^/]+)/o/(.+)$");
+  private static final Pattern CONTENT_RANGE =
+      Pattern.compile("^bytes (?:(\\d+)-(\\d+)|\\*)/(?:(\\d+)|\\*)$");
+  private static final Pattern RANGE = Pattern.compile("^bytes=(\\d+)-(\\d*)$");
+
+  private final FakeGcs gcs;
+
+  FakeGcsJsonHandler(FakeGcs gcs) {
+    this.gcs = gcs;
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try {
+      String path = exchange.getRequestURI().getRawPath();
+      Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+      String method = exchange.getRequestMethod();
+
+      Matcher upload = UPLOAD_PATH.matcher(path);
+      Matcher object = OBJECT_PATH.matcher(path);
+      if (upload.matches() && query.containsKey("upload_id")) {
+        if ("PUT".equals(method) || "POST".equals(method)) {
+          resumablePut(exchange, query.get("upload_id"));
+          return;
+        }
+      } else if (upload.matches() && "POST".equals(method)) {
+        if ("resumable".equals(query.get("uploadType"))) {
+          resumableStart(exchange, decode(upload.group(1)), query);
+          return;
+        }
+      } else if (object.matches()) {
+        String bucket = decode(object.group(1));
+        String name = decode(object.group(2));
+        long generation =
+            query.containsKey("generation") ? Long.parseLong(query.get("generation")) : 0;
+        if ("GET".equals(method) && "media".equals(query.get("alt"))) {
+          media(exchange, bucket, name, generation);
+          return;
+        } else if ("GET".equals(method)) {
+          StoredObject obj = gcs.get(bucket, name, generation);
+          if (obj == null) {
+            error(exchange, 404, "object " + name + " not found");
+          } else {
+            json(exchange, 200, toJson(obj));
+          }
+          return;
+        } else if ("DELETE".equals(method)) {
+          if (gcs.delete(bucket, name, generation)) {
+            exchange.sendResponseHeaders(204, -1);
+          } else {
+            error(exchange, 404, "object " + name + " not found");
+          }
+          return;
+        }
+      }
+      error(exchange, 501, method + " " + path + " is not implemented by the fake");
+    } catch (IllegalStateException | IllegalArgumentException e) {
+      error(exchange, 400, e.getMessage());
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void resumableStart(HttpExchange exchange, String bucket, Map<String, String> query)
+      throws IOException {
+    StorageObject body = null;
+    byte[] bytes = ByteStreams.toByteArray(exchange.getRequestBody());
+    if (bytes.length > 0) {
+      body = JSON.fromString(new String(bytes, StandardCharsets.UTF_8), StorageObject.class);
+    }
+    String name = query.get("name");
+    if (name == null && body != null) {
+      name = body.getName();
+    }
+    if (name == null) {
+      error(exchange, 400, "object name required");
+      return;
+    }
+    PendingUpload upload = gcs.newUpload(bucket, name, body != null ? body.getContentType() : null);
+    String location =
+        String.format(
+            Locale.US,
+            "%s/upload/storage/v1/b/%s/o?uploadType=resumable&upload_id=%s",
+            gcs.getHttpEndpoint(),
+            bucket,
+            upload.uploadId);
+    exchange.getResponseHeaders().set("Location", location);
+    exchange.sendResponseHeaders(200, -1);
+  }
+
+  private void resumablePut(HttpExchange exchange, String uploadId) throws IOException {
+    PendingUpload upload = gcs.getUpload(uploadId);
+    if (upload == null) {
+      error(exchange, 404, "upload " + uploadId + " not found");
+      return;
+    }
+    String contentRange = exchange.getRequestHeaders().getFirst("Content-Range");
+    Matcher m = contentRange == null ? null : CONTENT_RANGE.matcher(contentRange);
+    if (m == null || !m.matches()) {
+      error(exchange, 400, "invalid Content-Range: " + contentRange);
+      return;
+    }
+    byte[] bytes = ByteStreams.toByteArray(exchange.getRequestBody());
+    long persisted = upload.getPersistedSize();
+    if (m.group(1) != null) {
+      persisted = upload.append(Long.parseLong(m.group(1)), UnsafeByteOperations.unsafeWrap(bytes));
+    }
+    @Nullable StoredObject result = upload.getResult();
+    if (result == null && m.group(3) != null && persisted == Long.parseLong(m.group(3))) {
+      result = gcs.finalizeUpload(upload);
+    }
+
+    if (result != null) {
+      json(exchange, 200, toJson(result));
+    } else {
+      if (persisted > 0) {
+        exchange.getResponseHeaders().set("Range", "bytes=0-" + (persisted - 1));
+      }
+      exchange.sendResponseHeaders(308, -1);
+    }
+  }
+
+  private void media(HttpExchange exchange, String bucket, String name, long generation)
+      throws IOException {
+    StoredObject obj = gcs.get(bucket, name, generation);
+    if (obj == null) {
+      error(exchange, 404, "object " + name + " not found");
+      return;
+    }
+    long size = obj.size();
+    long begin = 0;
+    long end = size;
+    int status = 200;
+    String range = exchange.getRequestHeaders().getFirst("Range");
+    if (range != null) {
+      Matcher m = RANGE.matcher(range);
+      if (!m.matches()) {
+        error(exchange, 400, "invalid Range: " + range);
+        return;
+      }
+      begin = Long.parseLong(m.group(1));
+      if (!m.group(2).isEmpty()) {
+        end = Math.min(size, Long.parseLong(m.group(2)) + 1);
+      }
+      if (begin >= size && size > 0) {
+        error(exchange, 416, "requested range not satisfiable");
+        return;
+      }
+      status = 206;
+    }
+
+    Headers headers = exchange.getResponseHeaders();
+    headers.set(
+        "Content-Type", obj.contentType != null ? obj.contentType : "application/octet-stream");
+    headers.set("x-goog-generation", Long.toString(obj.generation));
+    headers.set("x-goog-metageneration", "1");
+    headers.set("x-goog-stored-content-length", Long.toString(size));
+    headers.set("x-goog-stored-content-encoding", "identity");
+    headers.set("x-goog-hash", "crc32c=" + crc32c(obj.crc32c));
+    if (status == 206) {
+      headers.set(
+          "Content-Range", String.format(Locale.US, "bytes %d-%d/%d", begin, end - 1, size));
+    }
+    long length = end - begin;
+    exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+    if (length > 0) {
+      try (OutputStream out = exchange.getResponseBody()) {
+        ByteString content = obj.data.substring(Ints.checkedCast(begin), Ints.checkedCast(end));
+        content.writeTo(out);
+      }
+    }
+  }
+
+  private static StorageObject toJson(StoredObject obj) {
+    DateTime created = new DateTime(obj.createTimeMillis);
+    return new StorageObject()
+        .setBucket(obj.bucket)
+        .setName(obj.name)
+        .setId(obj.bucket + "/" + obj.name + "/" + obj.generation)
+        .setGeneration(obj.generation)
+        .setMetageneration(1L)
+        .setSize(BigInteger.valueOf(obj.size()))
+        .setCrc32c(crc32c(obj.crc32c))
+        .setContentType(obj.contentType)
+        .setStorageClass("STANDARD")
+        .setTimeCreated(created)
+        .setUpdated(created);
+  }
+
+  private static String crc32c(int value) {
+    return BaseEncoding.base64().encode(Ints.toByteArray(value));
+  }
+
+  private static void json(HttpExchange exchange, int status, Object body) throws IOException {
+    byte[] bytes = JSON.toByteArray(body);
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  private static void error(HttpExchange exchange, int status, String message) throws IOException {
+    Map<String, Object> error = new HashMap<>();
+    error.put("code", status);
+    error.put("message", message);
+    Map<String, Object> body = new HashMap<>();
+    body.put("error", error);
+    // drain anything the client sent, so the connection can be reused
+    try (InputStream in = exchange.getRequestBody()) {
+      ByteStreams.exhaust(in);
+    }
+    json(exchange, status, body);
+  }
+
+  private static Map<String, String> parseQuery(@Nullable String rawQuery) {
+    Map<String, String> query = new HashMap<>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return query;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int idx = pair.indexOf('=');
+      if (idx < 0) {
+        query.put(decode(pair), "");
+      } else {
+        query.put(decode(pair.substring(0, idx)), decode(pair.substring(idx + 1)));
+      }
+    }
+    return query;
+  }
+
+  private static String decode(String s) {
+    try {
+      return URLDecoder.decode(s, StandardCharsets.UTF_8.name());
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
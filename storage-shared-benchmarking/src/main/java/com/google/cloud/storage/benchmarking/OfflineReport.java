@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.benchmarking;
+
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the results of a workload run against {@link FakeGcs} and reports the client side cost
+ * of each GiB transferred.
+ *
+ * <p>The fake server runs in the same JVM as the client, so the CPU time of the threads belonging
+ * to the fake server is subtracted from the CPU time of the process. Allocations are attributed per
+ * thread; allocations made by threads which terminate before the end of the run are not counted,
+ * making the allocation rate a lower bound.
+ */
+final class OfflineReport implements LatencyRecorder {
+  private static final double GIB = 1024 * 1024 * 1024;
+  private static final double MIB = 1024 * 1024;
+
+  private final ConcurrentMap<String, ConcurrentLinkedQueue<Long>> latencyNanosByOp;
+  private final LongAdder bytes;
+  private final ThreadMXBean threads;
+  private final OperatingSystemMXBean os;
+
+  private volatile Snapshot start;
+
+  OfflineReport() {
+    this.latencyNanosByOp = new ConcurrentHashMap<>();
+    this.bytes = new LongAdder();
+    this.threads = ManagementFactory.getThreadMXBean();
+    this.os = ManagementFactory.getOperatingSystemMXBean();
+    this.start = snapshot();
+  }
+
+  /** Discard anything recorded so far (i.e. during warmup) and start measuring from now. */
+  void start() {
+    latencyNanosByOp.clear();
+    bytes.reset();
+    start = snapshot();
+  }
+
+  @Override
+  public void record(String op, long bytes, Duration elapsed) {
+    this.bytes.add(bytes);
+    latencyNanosByOp.computeIfAbsent(op, k -> new ConcurrentLinkedQueue<>()).add(elapsed.toNanos());
+  }
+
+  void print(PrintWriter pw, String api, int workers) {
+    Snapshot end = snapshot();
+    String labels = String.format(Locale.US, "library=java,api=%s,workers=%d", api, workers);
+
+    for (Entry<String, ConcurrentLinkedQueue<Long>> e :
+        new TreeMap<>(latencyNanosByOp).entrySet()) {
+      List<Long> sorted = new ArrayList<>(e.getValue());
+      Collections.sort(sorted);
+      String opLabels = labels + ",op=" + e.getKey();
+      pw.println(metric("latency_p50_ms", opLabels, percentile(sorted, 0.50) / 1_000_000d));
+      pw.println(metric("latency_p99_ms", opLabels, percentile(sorted, 0.99) / 1_000_000d));
+      pw.println(metric("samples", opLabels, sorted.size()));
+    }
+
+    double gib = bytes.sum() / GIB;
+    double seconds = (end.wallNanos - start.wallNanos) / 1_000_000_000d;
+    long serverCpuNanos = delta(start.serverCpuNanos, end.serverCpuNanos);
+    long clientAllocBytes = delta(start.clientAllocBytes, end.clientAllocBytes);
+    if (start.processCpuNanos >= 0 && end.processCpuNanos >= 0 && gib > 0) {
+      long clientCpuNanos = end.processCpuNanos - start.processCpuNanos - serverCpuNanos;
+      pw.println(metric("client_cpu_ms_per_gib", labels, clientCpuNanos / 1_000_000d / gib));
+    }
+    if (clientAllocBytes >= 0 && seconds > 0) {
+      pw.println(metric("client_alloc_mib_per_sec", labels, clientAllocBytes / MIB / seconds));
+    }
+    if (clientAllocBytes >= 0 && gib > 0) {
+      pw.println(metric("client_alloc_mib_per_gib", labels, clientAllocBytes / MIB / gib));
+    }
+  }
+
+  private Snapshot snapshot() {
+    long wallNanos = System.nanoTime();
+    long processCpuNanos = -1;
+    if (os instanceof com.sun.management.OperatingSystemMXBean) {
+      processCpuNanos = ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuTime();
+    }
+
+    Map<Long, Long> serverCpuNanos = new HashMap<>();
+    Map<Long, Long> clientAllocBytes = new HashMap<>();
+    com.sun.management.ThreadMXBean sunThreads =
+        threads instanceof com.sun.management.ThreadMXBean
+            ? (com.sun.management.ThreadMXBean) threads
+            : null;
+    for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+      if (info == null) {
+        continue;
+      }
+      long id = info.getThreadId();
+      if (FakeGcs.isServerThread(info.getThreadName())) {
+        long cpu = threads.getThreadCpuTime(id);
+        if (cpu >= 0) {
+          serverCpuNanos.put(id, cpu);
+        }
+      } else if (sunThreads != null) {
+        long allocated = sunThreads.getThreadAllocatedBytes(id);
+        if (allocated >= 0) {
+          clientAllocBytes.put(id, allocated);
+        }
+      }
+    }
+    if (sunThreads == null) {
+      clientAllocBytes = null;
+    }
+    return new Snapshot(wallNanos, processCpuNanos, serverCpuNanos, clientAllocBytes);
+  }
+
+  private static long delta(Map<Long, Long> begin, Map<Long, Long> end) {
+    if (begin == null || end == null) {
+      return -1;
+    }
+    long total = 0;
+    for (Entry<Long, Long> e : end.entrySet()) {
+      total += e.getValue() - begin.getOrDefault(e.getKey(), 0L);
+    }
+    return total;
+  }
+
+  private static long percentile(List<Long> sorted, double p) {
+    if (sorted.isEmpty()) {
+      return 0;
+    }
+    int idx = (int) Math.ceil(p * sorted.size()) - 1;
+    return sorted.get(Math.max(0, Math.min(idx, sorted.size() - 1)));
+  }
+
+  private static String metric(String name, String labels, double value) {
+    return String.format(Locale.US, "%s{%s}%.1f", name, labels, value);
+  }
+
+  private static final class Snapshot {
+    private final long wallNanos;
+    private final long processCpuNanos;
+    private final Map<Long, Long> serverCpuNanos;
+    private final Map<Long, Long> clientAllocBytes;
+
+    private Snapshot(
+        long wallNanos,
+        long processCpuNanos,
+        Map<Long, Long> serverCpuNanos,
+        Map<Long, Long> clientAllocBytes) {
+      this.wallNanos = wallNanos;
+      this.processCpuNanos = processCpuNanos;
+      this.serverCpuNanos = serverCpuNanos;
+      this.clientAllocBytes = clientAllocBytes;
+    }
+  }
+}
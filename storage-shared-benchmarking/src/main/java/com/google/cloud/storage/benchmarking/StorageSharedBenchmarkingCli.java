@@ -19,13 +19,20 @@ package com.google.cloud.storage.benchmarking;
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ListenableFutureToApiFuture;
 import com.google.api.gax.retrying.RetrySettings;
+import com.google.cloud.NoCredentials;
+import com.google.cloud.http.HttpTransportOptions;
 import com.google.cloud.storage.BlobWriteSessionConfigs;
+import com.google.cloud.storage.GrpcStorageOptions;
+import com.google.cloud.storage.HttpStorageOptions;
+import com.google.cloud.storage.PooledHttpTransportFactory;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Random;
@@ -39,10 +46,14 @@ import picocli.CommandLine.Option;
 @Command(name = "ssb")
 public final class StorageSharedBenchmarkingCli implements Runnable {
   // TODO: check what input validation is needed for option values.
-  @Option(names = "-project", description = "GCP Project Identifier", required = true)
+  @Option(
+      names = "-project",
+      description = "GCP Project Identifier, required unless -offline is specified")
   String project;
 
-  @Option(names = "-bucket", description = "Name of the bucket to use", required = true)
+  @Option(
+      names = "-bucket",
+      description = "Name of the bucket to use, required unless -offline is specified")
   String bucket;
 
   @Option(names = "-samples", defaultValue = "8000", description = "Number of samples to report")
@@ -91,10 +102,32 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
   @Option(names = "-bidi_enabled", description = "If bidi should be enabled")
   boolean bidiEnabled;
 
+  @Option(
+      names = "-http_transport",
+      defaultValue = "default",
+      description =
+          "HTTP transport used by the JSON API, one of default or pooled (a pool of persistent"
+              + " connections sized to -workers)")
+  String httpTransport;
+
+  @Option(
+      names = "-offline",
+      description =
+          "Run the workload against an in-process fake of Cloud Storage serving objects from"
+              + " memory, and report client side cpu per GiB, allocation rate and latency"
+              + " percentiles")
+  boolean offline;
+
   Path tempDir;
 
   PrintWriter printWriter;
 
+  FakeGcs fakeGcs;
+
+  LatencyRecorder recorder = LatencyRecorder.noop();
+
+  OfflineReport offlineReport;
+
   public static void main(String[] args) {
     CommandLine cmd = new CommandLine(StorageSharedBenchmarkingCli.class);
     System.exit(cmd.execute(args));
@@ -107,16 +140,85 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
             ? Paths.get(tempDirLocation)
             : Paths.get(System.getProperty("java.io.tmpdir"));
     printWriter = new PrintWriter(System.out, true);
-    switch (testType) {
-      case "w1r3":
-        runWorkload1();
+    if (offline) {
+      startOffline();
+    } else if (project == null || bucket == null) {
+      throw new IllegalStateException("Specify -project and -bucket, or -offline");
+    }
+    try {
+      switch (testType) {
+        case "w1r3":
+          runWorkload1();
+          break;
+        case "write-only":
+          runWorkloadWriteOnly();
+          break;
+        default:
+          throw new IllegalStateException("Specify a workload to run");
+      }
+      if (offlineReport != null) {
+        offlineReport.print(printWriter, api, workers);
+      }
+    } finally {
+      if (fakeGcs != null) {
+        fakeGcs.close();
+      }
+    }
+  }
+
+  private void startOffline() {
+    try {
+      fakeGcs = FakeGcs.start();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to start fake server", e);
+    }
+    if (project == null) {
+      project = "offline-project";
+    }
+    if (bucket == null) {
+      bucket = "offline-bucket";
+    }
+    offlineReport = new OfflineReport();
+    recorder = offlineReport;
+  }
+
+  /**
+   * Select the {@link #httpTransport}, and when running {@link #offline} direct the client to the
+   * fake rather than real GCS.
+   */
+  private HttpStorageOptions.Builder configure(HttpStorageOptions.Builder builder) {
+    switch (httpTransport) {
+      case "default":
         break;
-      case "write-only":
-        runWorkloadWriteOnly();
+      case "pooled":
+        builder.setTransportOptions(
+            HttpTransportOptions.newBuilder()
+                .setHttpTransportFactory(
+                    PooledHttpTransportFactory.newBuilder()
+                        .setMaxConnections(Math.max(1, workers))
+                        .build())
+                .build());
         break;
       default:
-        throw new IllegalStateException("Specify a workload to run");
+        throw new IllegalStateException("Unknown -http_transport " + httpTransport);
+    }
+    if (fakeGcs != null) {
+      builder.setHost(fakeGcs.getHttpEndpoint()).setCredentials(NoCredentials.getInstance());
+    }
+    return builder;
+  }
+
+  /** When running {@link #offline}, direct the client to the fake rather than real GCS. */
+  private GrpcStorageOptions.Builder configure(GrpcStorageOptions.Builder builder) {
+    if (fakeGcs != null) {
+      builder
+          .setHost(fakeGcs.getGrpcEndpoint())
+          .setProjectId(project)
+          .setCredentials(NoCredentials.getInstance())
+          .setAttemptDirectPath(false)
+          .setEnableGrpcClientMetrics(false);
     }
+    return builder;
   }
 
   private void runWorkload1() {
@@ -136,7 +238,8 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
     RetrySettings retrySettings = StorageOptions.getNoRetrySettings().toBuilder().build();
 
     StorageOptions retryStorageOptions =
-        StorageOptions.newBuilder().setProjectId(project).setRetrySettings(retrySettings).build();
+        configure(StorageOptions.http().setProjectId(project).setRetrySettings(retrySettings))
+            .build();
     Storage storageClient = retryStorageOptions.getService();
     try {
       runW1R3(storageClient);
@@ -149,7 +252,8 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
   private void runWorkload1DirectPath() {
     RetrySettings retrySettings = StorageOptions.getNoRetrySettings().toBuilder().build();
     StorageOptions retryStorageOptions =
-        StorageOptions.grpc().setRetrySettings(retrySettings).setAttemptDirectPath(true).build();
+        configure(StorageOptions.grpc().setRetrySettings(retrySettings).setAttemptDirectPath(true))
+            .build();
     Storage storageClient = retryStorageOptions.getService();
     try {
       runW1R3(storageClient);
@@ -163,17 +267,19 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
     try {
       if (bidiEnabled) {
         StorageOptions options =
-            StorageOptions.grpc()
-                .setProjectId(project)
-                .setBlobWriteSessionConfig(BlobWriteSessionConfigs.bidiWrite())
+            configure(
+                    StorageOptions.grpc()
+                        .setProjectId(project)
+                        .setBlobWriteSessionConfig(BlobWriteSessionConfigs.bidiWrite()))
                 .build();
         Storage storageClient = options.getService();
         runBidi(storageClient);
       } else {
         StorageOptions options =
-            StorageOptions.grpc()
-                .setProjectId(project)
-                .setBlobWriteSessionConfig(BlobWriteSessionConfigs.getDefault())
+            configure(
+                    StorageOptions.grpc()
+                        .setProjectId(project)
+                        .setBlobWriteSessionConfig(BlobWriteSessionConfigs.getDefault()))
                 .build();
         Storage storageClient = options.getService();
         runBidi(storageClient);
@@ -188,6 +294,9 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
     ListeningExecutorService executorService =
         MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(workers));
     runWarmup(storageClient);
+    if (offlineReport != null) {
+      offlineReport.start();
+    }
     for (int i = 0; i < samples; i++) {
       Range objectSizeRange = Range.of(objectSize);
       int objectSize = getRandomInt(objectSizeRange.min, objectSizeRange.max);
@@ -201,7 +310,8 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
                       objectSize,
                       tempDir,
                       bucket,
-                      false)))
+                      false,
+                      recorder)))
           .get();
     }
   }
@@ -209,12 +319,15 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
   private void runBidi(Storage storageClient) throws ExecutionException, InterruptedException {
     ListeningExecutorService executorService =
         MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(workers));
+    if (offlineReport != null) {
+      offlineReport.start();
+    }
     for (int i = 0; i < samples; i++) {
       Range objectSizeRange = Range.of(objectSize);
       int objectSize = getRandomInt(objectSizeRange.min, objectSizeRange.max);
       convert(
               executorService.submit(
-                  new Bidi(storageClient, bucket, objectSize, printWriter, api, workers)))
+                  new Bidi(storageClient, bucket, objectSize, printWriter, api, workers, recorder)))
           .get();
     }
   }
@@ -235,7 +348,15 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
       convert(
               executorService.submit(
                   new W1R3(
-                      storageClient, workers, api, printWriter, objectSize, tempDir, bucket, true)))
+                      storageClient,
+                      workers,
+                      api,
+                      printWriter,
+                      objectSize,
+                      tempDir,
+                      bucket,
+                      true,
+                      recorder)))
           .get();
     }
   }
@@ -40,6 +40,7 @@ final class W1R3 implements Callable<String> {
   private final Path tempDirectory;
   private final String bucketName;
   private final boolean isWarmup;
+  private final LatencyRecorder recorder;
 
   W1R3(
       Storage storage,
@@ -49,7 +50,8 @@ final class W1R3 implements Callable<String> {
       int objectSize,
       Path tempDirectory,
       String bucketName,
-      boolean isWarmup) {
+      boolean isWarmup,
+      LatencyRecorder recorder) {
     this.storage = storage;
     this.workers = workers;
     this.api = api;
@@ -58,6 +60,7 @@ final class W1R3 implements Callable<String> {
     this.tempDirectory = tempDirectory;
     this.bucketName = bucketName;
     this.isWarmup = isWarmup;
+    this.recorder = recorder;
   }
 
   @Override
@@ -72,14 +75,14 @@ final class W1R3 implements Callable<String> {
       Blob created = storage.createFrom(blob, file.getPath());
       Instant endTime = clock.instant();
       Duration elapsedTimeUpload = Duration.between(startTime, endTime);
-      printResult("WRITE", created, elapsedTimeUpload);
+      printResult("WRITE", "WRITE", created, elapsedTimeUpload);
       for (int i = 0; i <= StorageSharedBenchmarkingUtils.DEFAULT_NUMBER_OF_READS; i++) {
         try (TmpFile dest = TmpFile.of(tempDirectory, "prefix", "bin")) {
           startTime = clock.instant();
           storage.downloadTo(created.getBlobId(), dest.getPath());
           endTime = clock.instant();
           Duration elapsedTimeDownload = Duration.between(startTime, endTime);
-          printResult("READ[" + i + "]", created, elapsedTimeDownload);
+          printResult("READ[" + i + "]", "READ", created, elapsedTimeDownload);
         }
       }
       StorageSharedBenchmarkingUtils.cleanupObject(storage, created.asBlobInfo());
@@ -105,8 +108,9 @@ final class W1R3 implements Callable<String> {
     return "OK";
   }
 
-  private void printResult(String op, Blob created, Duration duration) {
+  private void printResult(String op, String recordedOp, Blob created, Duration duration) {
     if (!isWarmup) {
+      recorder.record(recordedOp, created.getSize(), duration);
       printWriter.println(
           generateCloudMonitoringResult(op, duration.toMillis(), created.asBlobInfo(), api, workers)
               .formatAsCustomMetric());